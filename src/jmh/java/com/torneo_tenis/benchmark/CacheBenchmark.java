@@ -0,0 +1,72 @@
+package com.torneo_tenis.benchmark;
+
+import com.torneo_tenis.cache.ConcurrentTenistaCache;
+import com.torneo_tenis.cache.ITenistaCache;
+import com.torneo_tenis.cache.PoliticaCache;
+import com.torneo_tenis.cache.TenistaCache;
+import com.torneo_tenis.model.Tenista1;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * get/put de las cachés con contención: tres hilos leyendo y uno escribiendo
+ * sobre un conjunto de claves cuatro veces mayor que la capacidad
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class CacheBenchmark {
+    private static final int CAPACIDAD = 1_024;
+    private static final int CLAVES = CAPACIDAD * 4;
+
+    @Param({"FIFO", "LRU", "W_TINYLFU"})
+    public String politica;
+
+    private ITenistaCache cache;
+    private List<Tenista1> tenistas;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        cache = politica.equals("FIFO") ? new TenistaCache(CAPACIDAD)
+                                        : new ConcurrentTenistaCache(CAPACIDAD, PoliticaCache.valueOf(politica));
+        tenistas = DatosSinteticos.generar(CLAVES);
+        for (int i = 0; i < CAPACIDAD; i++) {
+            cache.put(tenistas.get(i).getId(), tenistas.get(i));
+        }
+    }
+
+    @Benchmark
+    @Group("mixto")
+    @GroupThreads(3)
+    public Optional<Tenista1> get() {
+        return cache.get((long) 1 + ThreadLocalRandom.current().nextInt(CLAVES));
+    }
+
+    @Benchmark
+    @Group("mixto")
+    @GroupThreads(1)
+    public void put() {
+        Tenista1 tenista = tenistas.get(ThreadLocalRandom.current().nextInt(CLAVES));
+        cache.put(tenista.getId(), tenista);
+    }
+}
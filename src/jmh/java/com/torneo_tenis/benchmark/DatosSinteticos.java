@@ -0,0 +1,73 @@
+package com.torneo_tenis.benchmark;
+
+import com.torneo_tenis.model.Mano;
+import com.torneo_tenis.model.Tenista1;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Generador determinista de tenistas sintéticos que pasan la validación
+ * (nombres solo con letras, medidas y edades dentro de los límites)
+ */
+final class DatosSinteticos {
+    static final String[] PAISES = {
+        "España", "Italia", "Francia", "Alemania", "Suiza", "Serbia", "Argentina", "Australia", "Noruega", "Grecia"
+    };
+    private static final String[] APELLIDOS = {"Martín", "García", "López", "Rossi", "Müller", "Dubois", "Novak", "Silva"};
+
+    private DatosSinteticos() {
+    }
+
+    static List<Tenista1> generar(int filas) {
+        SplittableRandom random = new SplittableRandom(42);
+        LocalDateTime ahora = LocalDateTime.of(2024, 3, 15, 9, 30);
+        List<Tenista1> tenistas = new ArrayList<>(filas);
+        for (int i = 0; i < filas; i++) {
+            tenistas.add(new Tenista1((long) i + 1, nombre(i), PAISES[random.nextInt(PAISES.length)],
+                                      160 + random.nextInt(50), 60 + random.nextInt(40), random.nextInt(15_000),
+                                      random.nextBoolean() ? Mano.DERECHA : Mano.IZQUIERDA,
+                                      LocalDate.of(1975 + random.nextInt(30), 1 + random.nextInt(12), 1 + random.nextInt(28)),
+                                      ahora, ahora));
+        }
+        return tenistas;
+    }
+
+    /**
+     * Nombre único formado solo por letras: el índice en base 26
+     */
+    static String nombre(int indice) {
+        StringBuilder sufijo = new StringBuilder();
+        int n = indice;
+        do {
+            sufijo.append((char) ('a' + n % 26));
+            n /= 26;
+        } while (n > 0);
+        return "Jugador " + APELLIDOS[indice % APELLIDOS.length] + " " + sufijo;
+    }
+
+    /**
+     * Escribe los tenistas en un CSV con la cabecera que espera CsvReader
+     */
+    static Path escribirCsv(List<Tenista1> tenistas) throws IOException {
+        Path archivo = Files.createTempFile("tenistas-jmh", ".csv");
+        archivo.toFile().deleteOnExit();
+        try (BufferedWriter writer = Files.newBufferedWriter(archivo, StandardCharsets.UTF_8)) {
+            writer.write("nombre,pais,altura,peso,puntos,mano,fecha_nacimiento\n");
+            for (Tenista1 t : tenistas) {
+                writer.write(t.getNombre() + "," + t.getPais() + "," + t.getAltura() + "," + t.getPeso() + ","
+                             + t.getPuntos() + "," + (t.getMano() == Mano.DERECHA ? "DIESTRO" : "ZURDO") + ","
+                             + t.getFecha_nacimiento() + "\n");
+            }
+        }
+        return archivo;
+    }
+}
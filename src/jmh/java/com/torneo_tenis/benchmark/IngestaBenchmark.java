@@ -0,0 +1,78 @@
+package com.torneo_tenis.benchmark;
+
+import com.torneo_tenis.io.CsvReader;
+import com.torneo_tenis.model.Tenista1;
+import com.torneo_tenis.validator.ErroresValidacion;
+import com.torneo_tenis.validator.TenistaValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lectura del CSV y validación. El tiempo es por archivo o lista completa;
+ * filas va de 10K (por defecto) a 10M con -p filas=...
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class IngestaBenchmark {
+
+    @Param({"10000"})
+    public int filas;
+
+    private Path csv;
+    private List<Tenista1> tenistas;
+    private final ErroresValidacion errores = new ErroresValidacion();
+
+    @Setup(Level.Trial)
+    public void preparar() throws IOException {
+        tenistas = DatosSinteticos.generar(filas);
+        csv = DatosSinteticos.escribirCsv(tenistas);
+    }
+
+    @Benchmark
+    public List<Tenista1> leerTenistas() throws IOException {
+        return CsvReader.leerTenistas(csv.toString());
+    }
+
+    /**
+     * Validación completa: se borra la marca de validado reasignando un campo
+     */
+    @Benchmark
+    public void validar(Blackhole bh) {
+        for (Tenista1 tenista : tenistas) {
+            tenista.setPuntos(tenista.getPuntos());
+            errores.limpiar();
+            bh.consume(TenistaValidator.validar(tenista, errores));
+        }
+    }
+
+    /**
+     * Segunda validación de registros ya marcados (camino de Main tras el lector)
+     */
+    @Benchmark
+    public void validarMarcados(Blackhole bh) {
+        for (Tenista1 tenista : tenistas) {
+            tenista.marcarValidado();
+            bh.consume(TenistaValidator.validar(tenista));
+        }
+    }
+}
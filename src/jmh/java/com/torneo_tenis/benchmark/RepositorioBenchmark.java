@@ -0,0 +1,101 @@
+package com.torneo_tenis.benchmark;
+
+import com.torneo_tenis.database.ConnectionPool;
+import com.torneo_tenis.model.Tenista1;
+import com.torneo_tenis.repository.TenistaRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Operaciones del repositorio sobre H2 en memoria y en archivo, con la tabla
+ * precargada con filas tenistas
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class RepositorioBenchmark {
+
+    @Param({"memoria", "archivo"})
+    public String almacenamiento;
+
+    @Param({"10000"})
+    public int filas;
+
+    private Path directorio;
+    private TenistaRepository repository;
+    private Tenista1 plantilla;
+    private long primerId;
+
+    @Setup(Level.Trial)
+    public void preparar() throws IOException {
+        String url;
+        if (almacenamiento.equals("archivo")) {
+            directorio = Files.createTempDirectory("tenis-jmh");
+            url = "jdbc:h2:" + directorio.resolve("tenis_db") + ";MODE=MySQL";
+        } else {
+            url = "jdbc:h2:mem:tenis_jmh;DB_CLOSE_DELAY=-1;MODE=MySQL";
+        }
+        repository = new TenistaRepository(new ConnectionPool(url, "sa", "", 2, 8, 60_000, 5_000, "SELECT 1"));
+        repository.deleteAll();
+
+        List<Tenista1> tenistas = DatosSinteticos.generar(filas);
+        repository.saveAll(tenistas);
+        primerId = tenistas.get(0).getId();
+        plantilla = tenistas.get(0).copy();
+    }
+
+    @TearDown(Level.Trial)
+    public void cerrar() throws IOException {
+        repository.deleteAll();
+        repository.close();
+        if (directorio != null) {
+            try (Stream<Path> archivos = Files.walk(directorio)) {
+                for (Path archivo : archivos.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.deleteIfExists(archivo);
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public Tenista1 save() {
+        Tenista1 tenista = plantilla.copy();
+        tenista.setId(null);
+        return repository.save(tenista);
+    }
+
+    @Benchmark
+    public Optional<Tenista1> findById() {
+        return repository.findById(primerId + ThreadLocalRandom.current().nextInt(filas));
+    }
+
+    @Benchmark
+    public List<Tenista1> findByPais() {
+        String[] paises = DatosSinteticos.PAISES;
+        return repository.findByPais(paises[ThreadLocalRandom.current().nextInt(paises.length)]);
+    }
+}
@@ -0,0 +1,75 @@
+package com.torneo_tenis.benchmark;
+
+import com.torneo_tenis.io.CsvWriter;
+import com.torneo_tenis.io.EscrituraTenistas;
+import com.torneo_tenis.io.ITenistaWriter;
+import com.torneo_tenis.io.JsonWriter;
+import com.torneo_tenis.io.ModoCodificacion;
+import com.torneo_tenis.io.TnbWriter;
+import com.torneo_tenis.io.XmlWriter;
+import com.torneo_tenis.model.Tenista1;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Exportación de filas tenistas con cada ITenistaWriter a un flujo de bytes nulo,
+ * para medir la codificación (incluida la de caracteres a bytes) sin la E/S
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class WriterBenchmark {
+
+    @Param({"csv", "json", "xml", "tnb"})
+    public String formato;
+
+    @Param({"BUFFER", "TEXTO"})
+    public String modo;
+
+    @Param({"10000"})
+    public int filas;
+
+    private ITenistaWriter writer;
+    private List<Tenista1> tenistas;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        ModoCodificacion codificacion = ModoCodificacion.valueOf(modo);
+        writer = switch (formato) {
+            case "csv" -> new CsvWriter(codificacion);
+            case "json" -> new JsonWriter(codificacion);
+            case "xml" -> new XmlWriter(codificacion);
+            case "tnb" -> new TnbWriter();
+            default -> throw new IllegalArgumentException("Formato no soportado: " + formato);
+        };
+        tenistas = DatosSinteticos.generar(filas);
+    }
+
+    @Benchmark
+    public long escribir() throws IOException {
+        try (EscrituraTenistas escritura = writer.abrir(OutputStream.nullOutputStream(), "jmh")) {
+            for (Tenista1 tenista : tenistas) {
+                escritura.escribir(tenista);
+            }
+            return escritura.getEscritos();
+        }
+    }
+}
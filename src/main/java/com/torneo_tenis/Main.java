@@ -1,16 +1,50 @@
 package com.torneo_tenis;
 
+import com.torneo_tenis.analytics.ColumnarTenistas;
+import com.torneo_tenis.analytics.EstadisticasTenistas;
+import com.torneo_tenis.analytics.IndiceRanking;
+import com.torneo_tenis.analytics.InformeEstadisticas;
+import com.torneo_tenis.analytics.InformeEstadisticas.Destacado;
+import com.torneo_tenis.analytics.InformeEstadisticas.GrupoPais;
+import com.torneo_tenis.cache.ConcurrentTenistaCache;
+import com.torneo_tenis.cache.ITenistaCache;
+import com.torneo_tenis.cache.PoliticaCache;
 import com.torneo_tenis.cache.TenistaCache;
 import com.torneo_tenis.io.*;
-import com.torneo_tenis.model.Mano;
+import com.torneo_tenis.metrics.ExportadorMetricas;
+import com.torneo_tenis.metrics.Histograma;
+import com.torneo_tenis.metrics.Metricas;
+import com.torneo_tenis.metrics.MetricasJmx;
 import com.torneo_tenis.model.Tenista1;
+import com.torneo_tenis.pipeline.PipelineIngesta;
+import com.torneo_tenis.repository.CachedTenistaRepository;
+import com.torneo_tenis.repository.ITenistaRepository;
+import com.torneo_tenis.repository.ImportacionIncremental;
+import com.torneo_tenis.repository.MetricasTenistaRepository;
+import com.torneo_tenis.repository.RankingTenistaRepository;
 import com.torneo_tenis.repository.TenistaRepository;
+import com.torneo_tenis.repository.VersionadoTenistaRepository;
+import com.torneo_tenis.repository.WriteBehindTenistaRepository;
+import com.torneo_tenis.server.ServidorConsultas;
+import com.torneo_tenis.validator.RecargaReglas;
+import com.torneo_tenis.validator.TenistaValidator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import javax.management.JMException;
 
 public class Main {
     private static final Logger logger = LoggerFactory.getLogger(Main.class);
@@ -29,54 +63,77 @@ public class Main {
         
         try {
             // Inicializar componentes
-            TenistaRepository repository = new TenistaRepository();
-            TenistaCache cache = new TenistaCache(5); // Tamaño de caché: 5
+            Properties config = cargarConfiguracion();
+            ExportadorMetricas exportadorMetricas = crearExportadorMetricas(config);
+            RecargaReglas recargaReglas = crearRecargaReglas(config);
+            TenistaRepository baseDatos = new TenistaRepository();
+            ITenistaCache cache = crearCache(config);
+            registrarMetricasCache(cache);
+            // Latencias medidas directamente sobre JDBC, por debajo de la caché y la escritura diferida
+            ITenistaRepository medido = new MetricasTenistaRepository(baseDatos);
+            // Escritura diferida opcional de los update y lectura/escritura a través de la caché
+            ITenistaRepository persistencia = Boolean.parseBoolean(config.getProperty("db.writebehind.enabled", "false"))
+                    ? WriteBehindTenistaRepository.fromProperties(medido, config)
+                    : medido;
+            // Índice de ranking en memoria mantenido con cada escritura
+            RankingTenistaRepository ranking = new RankingTenistaRepository(persistencia);
+            // Versión de los datos para los ETag, por encima de todas las capas
+            VersionadoTenistaRepository repository = new VersionadoTenistaRepository(new CachedTenistaRepository(ranking, cache));
             
             logger.info("📂 Archivo de entrada: " + archivoEntrada);
             logger.info("📤 Archivo de salida: " + archivoSalida);
             
-            // 1. Limpiar base de datos
-            logger.info("🧹 Limpiando base de datos...");
-            repository.deleteAll();
-            
-            // 2. Leer CSV y cargar en base de datos
-            logger.info("📖 Leyendo archivo CSV...");
-            List<Tenista1> tenistasCSV = CsvReader.leerTenistas(archivoEntrada);
-            
-            logger.info("💾 Insertando " + tenistasCSV.size() + " tenistas en la base de datos...");
-            List<Tenista1> tenistasDB = new ArrayList<>();
-            
-            for (Tenista1 tenista : tenistasCSV) {
-<<<<<<< HEAD
-                // AGREGAR: Usar el validador aquí
-                List<String> errores = TenistaValidator.validar(tenista);
-                if (!errores.isEmpty()) {
-                    logger.error("❌ Tenista inválido {}: {}", tenista.getNombre(), 
-                        String.join(", ", errores));
-                    continue; // Saltar este tenista inválido
-                }
+            // 1-2. Leer CSV y cargar en base de datos (en streaming, por lotes)
+            InformeIngesta informe;
+            if (config.getProperty("import.mode", "merge").equalsIgnoreCase("replace")) {
+                logger.info("🧹 Limpiando base de datos...");
+                repository.deleteAll();
+                
+                logger.info("📖 Leyendo archivo CSV e insertando en la base de datos...");
+                LongAdder insertados = new LongAdder();
+                informe = importarCsv(config, archivoEntrada, baseDatos.getBatchSize(),
+                        lote -> guardarLote(repository, lote, insertados));
+                
+                logger.info("💾 Insertados " + insertados.sum() + " tenistas en la base de datos (" 
+                        + informe.getErrores() + " líneas con errores)");
+            } else {
+                logger.info("📖 Leyendo archivo CSV y fusionando con la base de datos...");
+                ImportacionIncremental importacion = new ImportacionIncremental(repository, baseDatos.getBatchSize());
+                informe = importarCsv(config, archivoEntrada, baseDatos.getBatchSize(), importacion::procesarTodos);
+                ImportacionIncremental.Resultado resultado = importacion.terminar(true);
                 
-=======
->>>>>>> 7a8df23d5f5ba3cfeeb6a5be589de2ffb159e3ce
-                Tenista1 tenistaGuardado = repository.save(tenista);
-                tenistasDB.add(tenistaGuardado);
-                cache.put(tenistaGuardado.getId(), tenistaGuardado);
-                logger.debug("✅ Tenista guardado: " + tenistaGuardado.getNombre());
+                logger.info("💾 " + resultado + " (" + informe.getErrores() + " líneas con errores)");
+                System.out.printf("%n🔀 %s", resultado);
             }
+            System.out.printf("%n⏱️ %s%n", informe);
             
-            // 3. Mostrar consultas con API de colecciones
-            logger.info("📊 Ejecutando consultas con API de colecciones...");
-            mostrarConsultas(tenistasDB);
-            
-            // 4. Generar archivo de salida
+            // 3-4. Consultas y archivo de salida solo leen la base de datos: la exportación
+            // se genera en otro hilo mientras se calculan y muestran las consultas
             logger.info("📝 Generando archivo de salida...");
-            generarArchivoSalida(tenistasDB, archivoSalida);
+            FutureTask<Long> exportacion = new FutureTask<>(() -> generarArchivoSalida(config, repository, archivoSalida));
+            new Thread(exportacion, "exportacion").start();
             
+            logger.info("📊 Ejecutando consultas sobre la instantánea columnar...");
+            mostrarConsultas(EstadisticasTenistas.calcular(ColumnarTenistas.desde(repository)), ranking.getIndice());
+            System.out.printf("\n📤 Archivo generado: %s (%d tenistas)%n", archivoSalida, esperar(exportacion));
+
             // 5. Mostrar estadísticas finales
-            mostrarEstadisticasFinales(repository, cache);
+            mostrarEstadisticasFinales(baseDatos, cache, ranking.getIndice());
+            
+            // 6. Servidor de consultas opcional hasta que se detenga la aplicación
+            if (Boolean.parseBoolean(config.getProperty("server.enabled", "false"))) {
+                servirConsultas(config, repository, ranking.getIndice());
+            }
             
             // Cerrar conexiones
             repository.close();
+            if (recargaReglas != null) {
+                recargaReglas.close();
+            }
+            if (exportadorMetricas != null) {
+                exportadorMetricas.close();
+                logger.info("📏 Instantánea de métricas escrita en " + exportadorMetricas.getArchivo());
+            }
             logger.info("🏁 Aplicación finalizada exitosamente");
             
         } catch (IOException e) {
@@ -91,112 +148,304 @@ public class Main {
     }
     
     /**
-     * Muestra todas las consultas requeridas usando API de colecciones
+     * Atiende consultas HTTP sobre el repositorio hasta que se detiene la aplicación
+     * (Ctrl+C); después main continúa cerrando las conexiones
+     */
+    private static void servirConsultas(Properties config, VersionadoTenistaRepository repository,
+                                        IndiceRanking ranking) throws IOException, InterruptedException {
+        ServidorConsultas servidor = ServidorConsultas.fromProperties(repository, ranking,
+                repository::getVersion, config);
+        CountDownLatch detenido = new CountDownLatch(1);
+        Thread principal = Thread.currentThread();
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            servidor.close();
+            detenido.countDown();
+            try {
+                // Da tiempo a main para cerrar el repositorio antes de que termine la JVM
+                principal.join(10_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, "parada-servidor"));
+        
+        servidor.iniciar();
+        System.out.printf("%n🌐 Servidor de consultas en http://localhost:%d (Ctrl+C para terminar)%n", servidor.getPuerto());
+        detenido.await();
+    }
+    
+    /**
+     * Lee el CSV con el parser indicado en csv.parser (mapped, standard o parallel)
+     * y entrega los tenistas válidos por lotes a guardar. Con pipeline.enabled la lectura,
+     * la validación y el guardado se ejecutan como etapas concurrentes.
+     */
+    private static InformeIngesta importarCsv(Properties config, String archivoEntrada, int batchSize,
+                                              Consumer<List<Tenista1>> guardar) throws IOException {
+        String parser = config.getProperty("csv.parser", "mapped").toLowerCase();
+        logger.debug("Parser CSV: " + parser);
+        
+        if (Boolean.parseBoolean(config.getProperty("pipeline.enabled", "true"))) {
+            return importarEnPipeline(config, parser, archivoEntrada, batchSize, guardar);
+        }
+        
+        if (parser.equals("parallel")) {
+            try (ParallelCsvReader lector = crearLectorParalelo(config, batchSize)) {
+                return lector.leer(archivoEntrada, 
+                        lote -> guardar.accept(filtrarValidos(lote)),
+                        error -> { }, true);
+            }
+        }
+
+        long inicio = System.nanoTime();
+        long[] erroresLectura = {0};
+        long filas = 0;
+        List<Tenista1> lote = new ArrayList<>(batchSize);
+        
+        try (Stream<Tenista1> tenistasCSV = abrirCsv(parser, archivoEntrada, error -> erroresLectura[0]++)) {
+            Iterator<Tenista1> it = tenistasCSV.iterator();
+            while (it.hasNext()) {
+                Tenista1 tenista = it.next();
+                if (!esValido(tenista)) {
+                    continue; // Saltar este tenista inválido
+                }
+                
+                lote.add(tenista);
+                filas++;
+                if (lote.size() >= batchSize) {
+                    guardar.accept(lote);
+                    lote.clear();
+                }
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        if (!lote.isEmpty()) {
+            guardar.accept(lote);
+        }
+        
+        return new InformeIngesta(filas, erroresLectura[0], 
+                Files.size(Paths.get(archivoEntrada)), System.nanoTime() - inicio, 1);
+    }
+    
+    /**
+     * Ingesta por etapas: el parser es la etapa de lectura (el paralelo entrega sus lotes
+     * desde varios hilos, sin orden) y guardar la de persistencia
+     */
+    private static InformeIngesta importarEnPipeline(Properties config, String parser, String archivoEntrada,
+                                                     int batchSize, Consumer<List<Tenista1>> guardar) throws IOException {
+        PipelineIngesta.Fuente fuente;
+        if (parser.equals("parallel")) {
+            fuente = (lotes, errores) -> {
+                try (ParallelCsvReader lector = crearLectorParalelo(config, batchSize)) {
+                    lector.leer(archivoEntrada, lotes, errores, false);
+                }
+            };
+        } else {
+            fuente = (lotes, errores) -> {
+                try (Stream<Tenista1> tenistas = abrirCsv(parser, archivoEntrada, errores)) {
+                    PipelineIngesta.porLotes(tenistas.iterator(), batchSize, lotes);
+                }
+            };
+        }
+        return PipelineIngesta.fromProperties(config, batchSize)
+                .ejecutar(fuente, guardar, Files.size(Paths.get(archivoEntrada)));
+    }
+    
+    private static ParallelCsvReader crearLectorParalelo(Properties config, int batchSize) {
+        int hilos = Integer.parseInt(config.getProperty("csv.parallel.threads", 
+                String.valueOf(Runtime.getRuntime().availableProcessors())));
+        long fragmento = Long.parseLong(config.getProperty("csv.parallel.chunk.mb", "16")) * 1024 * 1024;
+        return new ParallelCsvReader(hilos, fragmento, batchSize);
+    }
+    
+    /**
+     * Abre el CSV en streaming con el parser secuencial indicado
+     */
+    private static Stream<Tenista1> abrirCsv(String parser, String archivoEntrada, 
+                                             Consumer<String> errores) throws IOException {
+        return switch (parser) {
+            case "standard" -> CsvReader.streamTenistas(archivoEntrada, errores);
+            case "mapped" -> MappedCsvReader.streamTenistas(archivoEntrada, errores);
+            default -> {
+                logger.warn("Parser CSV no reconocido: " + parser + ". Usando mapped por defecto.");
+                yield MappedCsvReader.streamTenistas(archivoEntrada, errores);
+            }
+        };
+    }
+    
+    /**
+     * Valida un tenista antes de guardarlo, registrando los errores. Los que ya
+     * validó el lector CSV vienen marcados y no se comprueban de nuevo.
+     */
+    private static boolean esValido(Tenista1 tenista) {
+        List<String> errores = TenistaValidator.validar(tenista);
+        if (!errores.isEmpty()) {
+            logger.error("❌ Tenista inválido {}: {}", tenista.getNombre(), 
+                String.join(", ", errores));
+            return false;
+        }
+        return true;
+    }
+    
+    private static List<Tenista1> filtrarValidos(List<Tenista1> lote) {
+        List<Tenista1> validos = new ArrayList<>(lote.size());
+        for (Tenista1 tenista : lote) {
+            if (esValido(tenista)) {
+                validos.add(tenista);
+            }
+        }
+        return validos;
+    }
+    
+    /**
+     * Si validation.rules.file está definido, carga las reglas de ese archivo y lo vigila
+     * para recargarlas en caliente; si no, se usan las de validacion.properties del classpath
      */
-    private static void mostrarConsultas(List<Tenista1> tenistas) {
+    private static RecargaReglas crearRecargaReglas(Properties config) throws IOException {
+        String archivo = config.getProperty("validation.rules.file", "").trim();
+        if (archivo.isEmpty()) {
+            return null;
+        }
+        long intervalo = Long.parseLong(config.getProperty("validation.rules.reload.ms", "5000"));
+        return new RecargaReglas(Paths.get(archivo), intervalo);
+    }
+    
+    /**
+     * Registra el MBean de métricas si metrics.jmx.enabled y, si metrics.json.file está
+     * definido, arranca la exportación periódica de la instantánea JSON
+     */
+    private static ExportadorMetricas crearExportadorMetricas(Properties config) {
+        if (Boolean.parseBoolean(config.getProperty("metrics.jmx.enabled", "true"))) {
+            try {
+                MetricasJmx.registrar(Metricas.global());
+            } catch (JMException e) {
+                logger.warn("No se pudo registrar el MBean de métricas: " + e.getMessage());
+            }
+        }
+        String archivo = config.getProperty("metrics.json.file", "").trim();
+        if (archivo.isEmpty()) {
+            return null;
+        }
+        long intervalo = Long.parseLong(config.getProperty("metrics.json.interval.ms", "10000"));
+        return new ExportadorMetricas(Metricas.global(), Paths.get(archivo), intervalo);
+    }
+
+    /**
+     * Publica aciertos, fallos, expulsiones y ocupación de la caché como medidores
+     */
+    private static void registrarMetricasCache(ITenistaCache cache) {
+        Metricas metricas = Metricas.global();
+        metricas.medidor("cache.hits", cache::getHits);
+        metricas.medidor("cache.misses", cache::getMisses);
+        metricas.medidor("cache.evictions", cache::getEvictions);
+        metricas.medidor("cache.tamanio", cache::size);
+    }
+
+    /**
+     * Crea la caché según cache.size y cache.politica (FIFO, LRU o W_TINYLFU)
+     */
+    private static ITenistaCache crearCache(Properties config) {
+        int tamanio = Integer.parseInt(config.getProperty("cache.size", "5"));
+        String politica = config.getProperty("cache.politica", "W_TINYLFU").toUpperCase();
+        
+        return switch (politica) {
+            case "FIFO" -> new TenistaCache(tamanio);
+            case "LRU" -> new ConcurrentTenistaCache(tamanio, PoliticaCache.LRU);
+            case "W_TINYLFU" -> new ConcurrentTenistaCache(tamanio, PoliticaCache.W_TINYLFU);
+            default -> {
+                logger.warn("Política de caché no reconocida: " + politica + ". Usando W_TINYLFU por defecto.");
+                yield new ConcurrentTenistaCache(tamanio, PoliticaCache.W_TINYLFU);
+            }
+        };
+    }
+    
+    /**
+     * Carga application.properties del classpath
+     */
+    private static Properties cargarConfiguracion() throws IOException {
+        Properties props = new Properties();
+        try (InputStream input = Main.class.getClassLoader().getResourceAsStream("application.properties")) {
+            if (input != null) {
+                props.load(input);
+            }
+        }
+        return props;
+    }
+    
+    /**
+     * Inserta un lote de tenistas mediante saveAll y suma los guardados al contador,
+     * compartido por los hilos que insertan lotes
+     */
+    private static void guardarLote(ITenistaRepository repository, List<Tenista1> lote, LongAdder insertados) {
+        if (lote.isEmpty()) {
+            return;
+        }
+        
+        List<Tenista1> guardados = repository.saveAll(lote);
+        insertados.add(guardados.size());
+        for (Tenista1 tenistaGuardado : guardados) {
+            logger.debug("✅ Tenista guardado: " + tenistaGuardado.getNombre());
+        }
+    }
+    
+    /**
+     * Muestra todas las consultas requeridas a partir del informe de estadísticas; el
+     * ranking completo sale del índice, que ya lo mantiene ordenado
+     */
+    private static void mostrarConsultas(InformeEstadisticas informe, IndiceRanking ranking) {
         System.out.println("\n" + "=".repeat(60));
-        System.out.println("📊 CONSULTAS CON API DE COLECCIONES");
+        System.out.println("📊 CONSULTAS SOBRE LA INSTANTÁNEA COLUMNAR");
         System.out.println("=".repeat(60));
         
         // 1. Tenistas ordenados por ranking (puntos de mayor a menor)
         System.out.println("\n1️⃣ Tenistas ordenados por ranking (puntos desc):");
-        tenistas.stream()
-                .sorted((t1, t2) -> Integer.compare(t2.getPuntos(), t1.getPuntos()))
-                .forEach(t -> System.out.printf("   %s - %d puntos%n", t.getNombre(), t.getPuntos()));
+        ranking.top(ranking.size()).forEach(t -> System.out.printf("   %s - %d puntos%n", t.getNombre(), t.getPuntos()));
         
         // 2. Media de altura
-        double mediaAltura = tenistas.stream()
-                .mapToInt(Tenista1::getAltura)
-                .average()
-                .orElse(0.0);
-        System.out.printf("\n2️⃣ Media de altura: %.2f cm%n", mediaAltura);
+        System.out.printf("\n2️⃣ Media de altura: %.2f cm%n", informe.mediaAltura());
         
         // 3. Media de peso
-        double mediaPeso = tenistas.stream()
-                .mapToInt(Tenista1::getPeso)
-                .average()
-                .orElse(0.0);
-        System.out.printf("\n3️⃣ Media de peso: %.2f kg%n", mediaPeso);
+        System.out.printf("\n3️⃣ Media de peso: %.2f kg%n", informe.mediaPeso());
         
         // 4. Tenista más alto
-        Optional<Tenista1> masAlto = tenistas.stream()
-                .max(Comparator.comparing(Tenista1::getAltura));
         System.out.printf("\n4️⃣ Tenista más alto: %s (%d cm)%n", 
-                masAlto.map(Tenista1::getNombre).orElse("N/A"),
-                masAlto.map(Tenista1::getAltura).orElse(0));
+                informe.masAlto().map(Destacado::nombre).orElse("N/A"),
+                informe.masAlto().map(Destacado::valor).orElse(0));
         
         // 5. Tenistas de España
-        System.out.println("\n5️⃣ Tenistas de España:");
-        tenistas.stream()
-                .filter(t -> t.getPais().equalsIgnoreCase("España"))
-                .forEach(t -> System.out.printf("   %s%n", t.getNombre()));
+        System.out.printf("\n5️⃣ Tenistas de %s:%n", informe.paisDestacado());
+        informe.tenistasPaisDestacado().forEach(nombre -> System.out.printf("   %s%n", nombre));
         
         // 6. Tenistas agrupados por país
         System.out.println("\n6️⃣ Tenistas agrupados por país:");
-        Map<String, List<Tenista1>> porPais = tenistas.stream()
-                .collect(Collectors.groupingBy(Tenista1::getPais));
-        porPais.forEach((pais, lista) -> {
-            System.out.printf("   %s:%n", pais);
-            lista.forEach(t -> System.out.printf("     - %s%n", t.getNombre()));
+        informe.porPais().forEach(grupo -> {
+            System.out.printf("   %s:%n", grupo.pais());
+            grupo.nombres().forEach(nombre -> System.out.printf("     - %s%n", nombre));
         });
         
-<<<<<<< HEAD
-        // 7. Número de tenistas agrupados por país y ordenados por número de tenistas desc
-        System.out.println("\n7️⃣ Número de tenistas por país (ordenado por número de tenistas desc):");
-        porPais.entrySet().stream()
-                .sorted((e1, e2) -> Integer.compare(e2.getValue().size(), e1.getValue().size()))
-=======
         // 7. Número de tenistas agrupados por país y ordenados por puntos desc
         System.out.println("\n7️⃣ Número de tenistas por país (ordenado por puntos desc):");
-        porPais.entrySet().stream()
-                .sorted((e1, e2) -> {
-                    int puntosE1 = e1.getValue().stream().mapToInt(Tenista1::getPuntos).sum();
-                    int puntosE2 = e2.getValue().stream().mapToInt(Tenista1::getPuntos).sum();
-                    return Integer.compare(puntosE2, puntosE1);
-                })
->>>>>>> 7a8df23d5f5ba3cfeeb6a5be589de2ffb159e3ce
-                .forEach(entry -> {
-                    int totalPuntos = entry.getValue().stream().mapToInt(Tenista1::getPuntos).sum();
-                    System.out.printf("   %s: %d tenistas (%d puntos total)%n", 
-                            entry.getKey(), entry.getValue().size(), totalPuntos);
-                });
+        List<GrupoPais> paisesPorPuntos = informe.paisesPorPuntos();
+        paisesPorPuntos.forEach(grupo -> System.out.printf("   %s: %d tenistas (%d puntos total)%n", 
+                grupo.pais(), grupo.tenistas(), grupo.puntos()));
         
         // 8. Número de tenistas agrupados por mano dominante y puntuación media
         System.out.println("\n8️⃣ Tenistas por mano dominante y puntuación media:");
-        Map<Mano, List<Tenista1>> porMano = tenistas.stream()
-                .collect(Collectors.groupingBy(Tenista1::getMano));
-        porMano.forEach((mano, lista) -> {
-            double mediaPuntos = lista.stream().mapToInt(Tenista1::getPuntos).average().orElse(0.0);
-            System.out.printf("   %s: %d tenistas (%.2f puntos promedio)%n", 
-                    mano.name(), lista.size(), mediaPuntos);
-        });
+        informe.porMano().values().forEach(grupo -> System.out.printf("   %s: %d tenistas (%.2f puntos promedio)%n", 
+                grupo.mano().name(), grupo.tenistas(), grupo.mediaPuntos()));
         
         // 9. Puntuación total agrupada por país
         System.out.println("\n9️⃣ Puntuación total por país:");
-        Map<String, Integer> puntosPorPais = tenistas.stream()
-                .collect(Collectors.groupingBy(
-                        Tenista1::getPais,
-                        Collectors.summingInt(Tenista1::getPuntos)
-                ));
-        puntosPorPais.entrySet().stream()
-                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
-                .forEach(entry -> System.out.printf("   %s: %d puntos%n", 
-                        entry.getKey(), entry.getValue()));
+        paisesPorPuntos.forEach(grupo -> System.out.printf("   %s: %d puntos%n", grupo.pais(), grupo.puntos()));
         
         // 10. País con más puntuación total
-        Optional<Map.Entry<String, Integer>> paisConMasPuntos = puntosPorPais.entrySet().stream()
-                .max(Map.Entry.comparingByValue());
         System.out.printf("\n🔟 País con más puntuación total: %s (%d puntos)%n",
-                paisConMasPuntos.map(Map.Entry::getKey).orElse("N/A"),
-                paisConMasPuntos.map(Map.Entry::getValue).orElse(0));
+                informe.paisConMasPuntos().map(GrupoPais::pais).orElse("N/A"),
+                informe.paisConMasPuntos().map(GrupoPais::puntos).orElse(0L));
         
         // 11. Tenista con mejor ranking de España
-        Optional<Tenista1> mejorEspanol = tenistas.stream()
-                .filter(t -> t.getPais().equalsIgnoreCase("España"))
-                .max(Comparator.comparing(Tenista1::getPuntos));
         System.out.printf("\n1️⃣1️⃣ Mejor tenista español: %s (%d puntos)%n",
-                mejorEspanol.map(Tenista1::getNombre).orElse("N/A"),
-                mejorEspanol.map(Tenista1::getPuntos).orElse(0));
+                informe.mejorPaisDestacado().map(Destacado::nombre).orElse("N/A"),
+                informe.mejorPaisDestacado().map(Destacado::valor).orElse(0));
         
         System.out.println("\n" + "=".repeat(60));
     }
@@ -204,21 +453,43 @@ public class Main {
     /**
      * Genera el archivo de salida según la extensión
      */
-    private static void generarArchivoSalida(List<Tenista1> tenistas, String archivoSalida) throws IOException {
+    private static long generarArchivoSalida(Properties config, ITenistaRepository repository,
+                                             String archivoSalida) throws IOException {
         String extension = obtenerExtension(archivoSalida).toLowerCase();
+        ModoCodificacion modo = ModoCodificacion.valueOf(config.getProperty("output.encoding", "BUFFER").toUpperCase());
         
         ITenistaWriter writer = switch (extension) {
-            case "csv" -> new CsvWriter();
-            case "json" -> new JsonWriter();
-            case "xml" -> new XmlWriter();
+            case "csv" -> new CsvWriter(modo);
+            case "json" -> new JsonWriter(modo);
+            case "xml" -> new XmlWriter(modo);
+            case "tnb" -> new TnbWriter();
             default -> {
                 logger.warn("Extensión no reconocida: " + extension + ". Usando JSON por defecto.");
-                yield new JsonWriter();
+                yield new JsonWriter(modo);
             }
         };
         
-        writer.escribir(tenistas, archivoSalida);
-        System.out.printf("\n📤 Archivo generado: %s (%d tenistas)%n", archivoSalida, tenistas.size());
+        // Se exporta directamente desde la base de datos con un cursor, sin cargar la tabla en memoria
+        try (Stream<Tenista1> tenistas = repository.streamAll()) {
+            return writer.escribir(tenistas, archivoSalida);
+        }
+    }
+    
+    /**
+     * Espera a una tarea en segundo plano y relanza su error
+     */
+    private static <T> T esperar(FutureTask<T> tarea) throws IOException, InterruptedException {
+        try {
+            return tarea.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException io) {
+                throw io;
+            }
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
     }
     
     /**
@@ -232,15 +503,27 @@ public class Main {
     /**
      * Muestra estadísticas finales
      */
-    private static void mostrarEstadisticasFinales(TenistaRepository repository, TenistaCache cache) {
+    private static void mostrarEstadisticasFinales(TenistaRepository repository, ITenistaCache cache,
+                                                   IndiceRanking ranking) {
         System.out.println("\n" + "=".repeat(40));
         System.out.println("📈 ESTADÍSTICAS FINALES");
         System.out.println("=".repeat(40));
         System.out.printf("💾 Tenistas en BD: %d%n", repository.count());
         System.out.printf("🗃️ Elementos en caché: %s%n", cache.getStats());
+        System.out.printf("🔌 %s%n", repository.getPool().getStats());
+        System.out.printf("🧾 Registro de cambios: última secuencia %d%n", repository.getUltimaSecuenciaCambios());
+        ranking.enPosicion(1).ifPresent(lider -> System.out.printf("🏆 Líder del ranking indexado (%d tenistas): %s (%d puntos)%n",
+                ranking.size(), lider.getNombre(), lider.getPuntos()));
+        System.out.println("📏 Latencias (ms):");
+        Metricas.global().resumenTemporizadores().forEach(Main::mostrarLatencia);
         System.out.println("=".repeat(40));
     }
     
+    private static void mostrarLatencia(String nombre, Histograma.Resumen resumen) {
+        System.out.printf("   %-32s %6d llamadas  p50 %8.3f  p99 %8.3f  máx %8.3f%n", nombre, resumen.cuenta(),
+                resumen.p50() / 1e6, resumen.p99() / 1e6, resumen.maximo() / 1e6);
+    }
+
     /**
      * Muestra la ayuda de uso
      */
@@ -250,8 +533,10 @@ public class Main {
         System.out.println("Uso: java -jar torneo_tenis.jar <archivo_entrada.csv> [archivo_salida]");
         System.out.println("\nParámetros:");
         System.out.println("  archivo_entrada.csv  - Archivo CSV con datos de tenistas (OBLIGATORIO)");
-        System.out.println("  archivo_salida       - Archivo de salida (.csv, .json, .xml)");
+        System.out.println("  archivo_salida       - Archivo de salida (.csv, .json, .xml, .tnb binario)");
         System.out.println("                        Por defecto: torneo_tenis.json");
+        System.out.println("\nCon server.enabled=true en application.properties, al terminar la carga se");
+        System.out.println("atienden consultas HTTP (/tenistas, /ranking, /estadisticas) en server.port.");
         System.out.println("\nEjemplos:");
         System.out.println("  java -jar torneo_tenis.jar tenistas.csv");
         System.out.println("  java -jar torneo_tenis.jar tenistas.csv salida.json");
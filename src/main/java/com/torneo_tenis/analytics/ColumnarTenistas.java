@@ -0,0 +1,391 @@
+package com.torneo_tenis.analytics;
+
+import com.torneo_tenis.model.Mano;
+import com.torneo_tenis.model.Tenista1;
+import com.torneo_tenis.repository.ITenistaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Instantánea de solo lectura de los tenistas organizada por columnas para análisis.
+ * altura, peso y puntos se guardan en int[] primitivos, el país como código de diccionario,
+ * la mano en un bitset (1 = IZQUIERDA) y la fecha de nacimiento en días desde 1970-01-01.
+ * Las agregaciones recorren arrays contiguos sin boxing, lo que permite al JIT vectorizar
+ * las sumas y máximos.
+ */
+public final class ColumnarTenistas {
+    private static final Logger logger = LoggerFactory.getLogger(ColumnarTenistas.class);
+
+    /**
+     * Columnas numéricas agregables
+     */
+    public enum Columna { ALTURA, PESO, PUNTOS }
+
+    private final int filas;
+    private final long[] ids;
+    private final String[] nombres;
+    private final int[] altura;
+    private final int[] peso;
+    private final int[] puntos;
+    private final int[] pais;
+    private final String[] diccionarioPaises;
+    private final long[] zurdos;
+    private final int[] fechaNacimiento;
+
+    private ColumnarTenistas(Builder builder) {
+        this.filas = builder.filas;
+        this.ids = Arrays.copyOf(builder.ids, filas);
+        this.nombres = Arrays.copyOf(builder.nombres, filas);
+        this.altura = Arrays.copyOf(builder.altura, filas);
+        this.peso = Arrays.copyOf(builder.peso, filas);
+        this.puntos = Arrays.copyOf(builder.puntos, filas);
+        this.pais = Arrays.copyOf(builder.pais, filas);
+        this.diccionarioPaises = new String[builder.diccionario.size()];
+        for (Map.Entry<String, Integer> entrada : builder.diccionario.entrySet()) {
+            diccionarioPaises[entrada.getValue()] = entrada.getKey();
+        }
+        this.zurdos = Arrays.copyOf(builder.zurdos, (filas + 63) >>> 6);
+        this.fechaNacimiento = Arrays.copyOf(builder.fechaNacimiento, filas);
+    }
+
+    /**
+     * Construye la instantánea recorriendo el repositorio en streaming (sin lista intermedia)
+     */
+    public static ColumnarTenistas desde(ITenistaRepository repository) {
+        long inicio = System.nanoTime();
+        try (Stream<Tenista1> tenistas = repository.streamAll()) {
+            ColumnarTenistas columnar = desde(tenistas);
+            logger.info("Instantánea columnar de " + columnar.size() + " tenistas construida en "
+                        + (System.nanoTime() - inicio) / 1_000_000 + " ms");
+            return columnar;
+        }
+    }
+
+    public static ColumnarTenistas desde(Stream<Tenista1> tenistas) {
+        Builder builder = new Builder();
+        tenistas.forEachOrdered(builder::agregar);
+        return builder.construir();
+    }
+
+    public static ColumnarTenistas desde(Iterable<Tenista1> tenistas) {
+        Builder builder = new Builder();
+        tenistas.forEach(builder::agregar);
+        return builder.construir();
+    }
+
+    public int size() {
+        return filas;
+    }
+
+    // ---- Acceso por fila ----
+
+    public long id(int fila) {
+        return ids[fila];
+    }
+
+    public String nombre(int fila) {
+        return nombres[fila];
+    }
+
+    public int valor(Columna columna, int fila) {
+        return columna(columna)[fila];
+    }
+
+    public int codigoPais(int fila) {
+        return pais[fila];
+    }
+
+    public String pais(int fila) {
+        return diccionarioPaises[pais[fila]];
+    }
+
+    public Mano mano(int fila) {
+        return esZurdo(fila) ? Mano.IZQUIERDA : Mano.DERECHA;
+    }
+
+    public boolean esZurdo(int fila) {
+        return (zurdos[fila >>> 6] & (1L << fila)) != 0;
+    }
+
+    public LocalDate fechaNacimiento(int fila) {
+        return LocalDate.ofEpochDay(fechaNacimiento[fila]);
+    }
+
+    // ---- Diccionario de países ----
+
+    public int numeroPaises() {
+        return diccionarioPaises.length;
+    }
+
+    public String paisDeCodigo(int codigo) {
+        return diccionarioPaises[codigo];
+    }
+
+    /**
+     * Código del país o -1 si no aparece
+     */
+    public int codigoDePais(String nombrePais) {
+        for (int codigo = 0; codigo < diccionarioPaises.length; codigo++) {
+            if (diccionarioPaises[codigo].equals(nombrePais)) {
+                return codigo;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Filas cuyo país coincide ignorando mayúsculas, en orden
+     */
+    public int[] filasDePais(String nombrePais) {
+        boolean[] coincide = new boolean[diccionarioPaises.length];
+        for (int codigo = 0; codigo < coincide.length; codigo++) {
+            coincide[codigo] = diccionarioPaises[codigo].equalsIgnoreCase(nombrePais);
+        }
+        int[] resultado = new int[filas];
+        int n = 0;
+        for (int i = 0; i < filas; i++) {
+            if (coincide[pais[i]]) {
+                resultado[n++] = i;
+            }
+        }
+        return Arrays.copyOf(resultado, n);
+    }
+
+    // ---- Agregados ----
+    // Las variantes con [desde, hasta) recorren solo ese rango de filas, para repartir
+    // un agregado entre varias tareas y sumar después los parciales
+
+    public long suma(Columna columna) {
+        return suma(columna, 0, filas);
+    }
+
+    public long suma(Columna columna, int desde, int hasta) {
+        int[] valores = columna(columna);
+        long suma = 0;
+        for (int i = desde; i < hasta; i++) {
+            suma += valores[i];
+        }
+        return suma;
+    }
+
+    public double media(Columna columna) {
+        return filas == 0 ? 0.0 : (double) suma(columna) / filas;
+    }
+
+    public int max(Columna columna) {
+        int[] valores = columna(columna);
+        int max = Integer.MIN_VALUE;
+        for (int i = 0; i < filas; i++) {
+            max = Math.max(max, valores[i]);
+        }
+        return max;
+    }
+
+    /**
+     * Fila con el valor máximo (la primera si hay empate) o -1 si no hay filas
+     */
+    public int filaDelMaximo(Columna columna) {
+        return filaDelMaximo(columna, 0, filas);
+    }
+
+    public int filaDelMaximo(Columna columna, int desde, int hasta) {
+        int[] valores = columna(columna);
+        int mejor = -1;
+        for (int i = desde; i < hasta; i++) {
+            if (mejor < 0 || valores[i] > valores[mejor]) {
+                mejor = i;
+            }
+        }
+        return mejor;
+    }
+
+    /**
+     * Fila con el valor máximo entre las indicadas (la primera si hay empate) o -1
+     */
+    public int filaDelMaximo(Columna columna, int[] entreFilas) {
+        int[] valores = columna(columna);
+        int mejor = -1;
+        for (int fila : entreFilas) {
+            if (mejor < 0 || valores[fila] > valores[mejor]) {
+                mejor = fila;
+            }
+        }
+        return mejor;
+    }
+
+    /**
+     * Número de tenistas por código de país
+     */
+    public int[] cuentaPorPais() {
+        return cuentaPorPais(0, filas);
+    }
+
+    public int[] cuentaPorPais(int desde, int hasta) {
+        int[] cuenta = new int[diccionarioPaises.length];
+        for (int i = desde; i < hasta; i++) {
+            cuenta[pais[i]]++;
+        }
+        return cuenta;
+    }
+
+    /**
+     * Suma de la columna por código de país
+     */
+    public long[] sumaPorPais(Columna columna) {
+        return sumaPorPais(columna, 0, filas);
+    }
+
+    public long[] sumaPorPais(Columna columna, int desde, int hasta) {
+        int[] valores = columna(columna);
+        long[] suma = new long[diccionarioPaises.length];
+        for (int i = desde; i < hasta; i++) {
+            suma[pais[i]] += valores[i];
+        }
+        return suma;
+    }
+
+    /**
+     * Filas de cada país, indexadas por código y en orden de fila
+     */
+    public int[][] filasPorPais() {
+        int[] cuenta = cuentaPorPais();
+        int[][] grupos = new int[cuenta.length][];
+        for (int codigo = 0; codigo < cuenta.length; codigo++) {
+            grupos[codigo] = new int[cuenta[codigo]];
+        }
+        int[] llenas = new int[cuenta.length];
+        for (int i = 0; i < filas; i++) {
+            grupos[pais[i]][llenas[pais[i]]++] = i;
+        }
+        return grupos;
+    }
+
+    /**
+     * Número de tenistas por mano, indexado por Mano.ordinal()
+     */
+    public int[] cuentaPorMano() {
+        int zurdosTotal = 0;
+        for (long palabra : zurdos) {
+            zurdosTotal += Long.bitCount(palabra);
+        }
+        return repartoPorMano(zurdosTotal, filas);
+    }
+
+    public int[] cuentaPorMano(int desde, int hasta) {
+        int zurdosTotal = 0;
+        for (int i = desde; i < hasta; i++) {
+            if (esZurdo(i)) {
+                zurdosTotal++;
+            }
+        }
+        return repartoPorMano(zurdosTotal, hasta - desde);
+    }
+
+    private static int[] repartoPorMano(int zurdosTotal, int filas) {
+        int[] cuenta = new int[Mano.values().length];
+        cuenta[Mano.IZQUIERDA.ordinal()] = zurdosTotal;
+        cuenta[Mano.DERECHA.ordinal()] = filas - zurdosTotal;
+        return cuenta;
+    }
+
+    /**
+     * Suma de la columna por mano, indexada por Mano.ordinal()
+     */
+    public long[] sumaPorMano(Columna columna) {
+        return sumaPorMano(columna, 0, filas);
+    }
+
+    public long[] sumaPorMano(Columna columna, int desde, int hasta) {
+        int[] valores = columna(columna);
+        long total = 0;
+        long izquierda = 0;
+        for (int i = desde; i < hasta; i++) {
+            // Máscara sin saltos: todo unos si la fila es zurda
+            long mascara = -((zurdos[i >>> 6] >>> i) & 1L);
+            total += valores[i];
+            izquierda += valores[i] & mascara;
+        }
+        long[] suma = new long[Mano.values().length];
+        suma[Mano.IZQUIERDA.ordinal()] = izquierda;
+        suma[Mano.DERECHA.ordinal()] = total - izquierda;
+        return suma;
+    }
+
+    /**
+     * Filas ordenadas por puntos descendentes; a igualdad se conserva el orden de las filas
+     */
+    public int[] rankingPorPuntos() {
+        // Clave primitiva: ~puntos en la parte alta (orden descendente) y la fila en la baja
+        long[] claves = new long[filas];
+        for (int i = 0; i < filas; i++) {
+            claves[i] = ((long) ~puntos[i] << 32) | i;
+        }
+        Arrays.parallelSort(claves);
+        int[] ranking = new int[filas];
+        for (int i = 0; i < filas; i++) {
+            ranking[i] = (int) claves[i];
+        }
+        return ranking;
+    }
+
+    private int[] columna(Columna columna) {
+        return switch (columna) {
+            case ALTURA -> altura;
+            case PESO -> peso;
+            case PUNTOS -> puntos;
+        };
+    }
+
+    /**
+     * Acumula tenistas en columnas ampliables
+     */
+    public static final class Builder {
+        private int filas;
+        private long[] ids = new long[64];
+        private String[] nombres = new String[64];
+        private int[] altura = new int[64];
+        private int[] peso = new int[64];
+        private int[] puntos = new int[64];
+        private int[] pais = new int[64];
+        private long[] zurdos = new long[1];
+        private int[] fechaNacimiento = new int[64];
+        private final Map<String, Integer> diccionario = new HashMap<>();
+
+        public Builder agregar(Tenista1 tenista) {
+            if (filas == ids.length) {
+                int capacidad = ids.length * 2;
+                ids = Arrays.copyOf(ids, capacidad);
+                nombres = Arrays.copyOf(nombres, capacidad);
+                altura = Arrays.copyOf(altura, capacidad);
+                peso = Arrays.copyOf(peso, capacidad);
+                puntos = Arrays.copyOf(puntos, capacidad);
+                pais = Arrays.copyOf(pais, capacidad);
+                zurdos = Arrays.copyOf(zurdos, capacidad >>> 6);
+                fechaNacimiento = Arrays.copyOf(fechaNacimiento, capacidad);
+            }
+
+            int i = filas++;
+            ids[i] = tenista.getId() != null ? tenista.getId() : -1;
+            nombres[i] = tenista.getNombre();
+            altura[i] = tenista.getAltura();
+            peso[i] = tenista.getPeso();
+            puntos[i] = tenista.getPuntos();
+            pais[i] = diccionario.computeIfAbsent(tenista.getPais(), p -> diccionario.size());
+            if (tenista.getMano() == Mano.IZQUIERDA) {
+                zurdos[i >>> 6] |= 1L << i;
+            }
+            fechaNacimiento[i] = (int) tenista.getFecha_nacimiento().toEpochDay();
+            return this;
+        }
+
+        public ColumnarTenistas construir() {
+            return new ColumnarTenistas(this);
+        }
+    }
+}
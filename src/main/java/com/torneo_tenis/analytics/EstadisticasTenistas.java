@@ -0,0 +1,315 @@
+package com.torneo_tenis.analytics;
+
+import com.torneo_tenis.analytics.ColumnarTenistas.Columna;
+import com.torneo_tenis.analytics.InformeEstadisticas.Destacado;
+import com.torneo_tenis.analytics.InformeEstadisticas.GrupoMano;
+import com.torneo_tenis.analytics.InformeEstadisticas.GrupoPais;
+import com.torneo_tenis.model.Mano;
+import com.torneo_tenis.model.Tenista1;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
+
+/**
+ * Acumulador combinable de las estadísticas del informe. Cada tenista se procesa una
+ * sola vez y actualiza todos los agregados a la vez; dos acumuladores parciales se
+ * combinan con combinar() respetando el orden (el de la izquierda va primero), de modo
+ * que el cálculo en paralelo da exactamente el mismo informe que el secuencial.
+ * No es thread-safe: cada hilo trabaja con su propio acumulador.
+ *
+ * Sobre la instantánea columnar no se usa este acumulador: las tareas ForkJoin suman
+ * agregados primitivos por rangos de filas y el informe se construye una sola vez al
+ * final. El ranking completo por puntos no forma parte del informe; lo mantiene
+ * IndiceRanking.
+ */
+public final class EstadisticasTenistas {
+    public static final String PAIS_DESTACADO = "España";
+    // Filas por tarea hoja en el cálculo en paralelo sobre la instantánea columnar
+    private static final int UMBRAL_FILAS = 16 * 1024;
+
+    private final String paisDestacado;
+
+    private long total;
+    private long sumaAltura;
+    private long sumaPeso;
+    private Destacado masAlto;
+    private final Map<String, Grupo> porPais = new LinkedHashMap<>();
+    private final long[] tenistasPorMano = new long[Mano.values().length];
+    private final long[] puntosPorMano = new long[Mano.values().length];
+    private final List<String> tenistasPaisDestacado = new ArrayList<>();
+    private Destacado mejorPaisDestacado;
+
+    public EstadisticasTenistas() {
+        this(PAIS_DESTACADO);
+    }
+
+    public EstadisticasTenistas(String paisDestacado) {
+        this.paisDestacado = paisDestacado;
+    }
+
+    /**
+     * Grupo mutable de un país mientras se acumula
+     */
+    private static final class Grupo {
+        final List<String> nombres = new ArrayList<>();
+        long puntos;
+    }
+
+    public EstadisticasTenistas agregar(Tenista1 tenista) {
+        return agregar(tenista.getId(), tenista.getNombre(), tenista.getPais(), tenista.getAltura(),
+                       tenista.getPeso(), tenista.getPuntos(), tenista.getMano());
+    }
+
+    private EstadisticasTenistas agregar(Long id, String nombre, String pais, int altura, int peso,
+                                         int puntos, Mano mano) {
+        total++;
+        sumaAltura += altura;
+        sumaPeso += peso;
+        if (masAlto == null || altura > masAlto.valor()) {
+            masAlto = new Destacado(id, nombre, altura);
+        }
+
+        Grupo grupo = porPais.computeIfAbsent(pais, p -> new Grupo());
+        grupo.nombres.add(nombre);
+        grupo.puntos += puntos;
+
+        tenistasPorMano[mano.ordinal()]++;
+        puntosPorMano[mano.ordinal()] += puntos;
+
+        if (pais.equalsIgnoreCase(paisDestacado)) {
+            tenistasPaisDestacado.add(nombre);
+            if (mejorPaisDestacado == null || puntos > mejorPaisDestacado.valor()) {
+                mejorPaisDestacado = new Destacado(id, nombre, puntos);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Añade a este acumulador los resultados de otro que procesó tenistas posteriores
+     */
+    public EstadisticasTenistas combinar(EstadisticasTenistas otro) {
+        total += otro.total;
+        sumaAltura += otro.sumaAltura;
+        sumaPeso += otro.sumaPeso;
+        masAlto = mayor(masAlto, otro.masAlto);
+
+        otro.porPais.forEach((pais, suyo) -> {
+            Grupo grupo = porPais.computeIfAbsent(pais, p -> new Grupo());
+            grupo.nombres.addAll(suyo.nombres);
+            grupo.puntos += suyo.puntos;
+        });
+
+        for (int i = 0; i < tenistasPorMano.length; i++) {
+            tenistasPorMano[i] += otro.tenistasPorMano[i];
+            puntosPorMano[i] += otro.puntosPorMano[i];
+        }
+
+        tenistasPaisDestacado.addAll(otro.tenistasPaisDestacado);
+        mejorPaisDestacado = mayor(mejorPaisDestacado, otro.mejorPaisDestacado);
+        return this;
+    }
+
+    /**
+     * El de mayor valor; a igualdad se queda el primero (izquierda)
+     */
+    private static Destacado mayor(Destacado izquierda, Destacado derecha) {
+        if (izquierda == null) {
+            return derecha;
+        }
+        if (derecha == null) {
+            return izquierda;
+        }
+        return derecha.valor() > izquierda.valor() ? derecha : izquierda;
+    }
+
+    /**
+     * Genera el informe inmutable con lo acumulado hasta ahora
+     */
+    public InformeEstadisticas informe() {
+        List<GrupoPais> grupos = new ArrayList<>(porPais.size());
+        porPais.forEach((pais, grupo) -> grupos.add(new GrupoPais(pais, List.copyOf(grupo.nombres), grupo.puntos)));
+
+        return new InformeEstadisticas(
+                total,
+                total == 0 ? 0.0 : (double) sumaAltura / total,
+                total == 0 ? 0.0 : (double) sumaPeso / total,
+                Optional.ofNullable(masAlto),
+                List.copyOf(grupos),
+                porMano(tenistasPorMano, puntosPorMano),
+                paisDestacado,
+                List.copyOf(tenistasPaisDestacado),
+                Optional.ofNullable(mejorPaisDestacado));
+    }
+
+    private static Map<Mano, GrupoMano> porMano(long[] tenistasPorMano, long[] puntosPorMano) {
+        Map<Mano, GrupoMano> manos = new EnumMap<>(Mano.class);
+        for (Mano mano : Mano.values()) {
+            if (tenistasPorMano[mano.ordinal()] > 0) {
+                manos.put(mano, new GrupoMano(mano, tenistasPorMano[mano.ordinal()], puntosPorMano[mano.ordinal()]));
+            }
+        }
+        return manos;
+    }
+
+    /**
+     * Collector para cualquier Stream de tenistas; en un Stream paralelo cada fragmento
+     * del Spliterator usa su propio acumulador y se combinan en orden
+     */
+    public static Collector<Tenista1, EstadisticasTenistas, InformeEstadisticas> collector() {
+        return Collector.of(EstadisticasTenistas::new, EstadisticasTenistas::agregar,
+                            EstadisticasTenistas::combinar, EstadisticasTenistas::informe);
+    }
+
+    /**
+     * Calcula el informe en una pasada sobre un Stream (p. ej. el cursor del repositorio)
+     */
+    public static InformeEstadisticas calcular(Stream<Tenista1> tenistas) {
+        return tenistas.collect(collector());
+    }
+
+    /**
+     * Calcula el informe sobre la instantánea columnar dividiendo las filas en tareas
+     * ForkJoin que suman agregados primitivos; los nombres de los grupos se leen de la
+     * instantánea al construir el informe
+     */
+    public static InformeEstadisticas calcular(ColumnarTenistas tenistas) {
+        return calcular(tenistas, ForkJoinPool.commonPool());
+    }
+
+    public static InformeEstadisticas calcular(ColumnarTenistas tenistas, ForkJoinPool pool) {
+        return calcular(tenistas, PAIS_DESTACADO, pool);
+    }
+
+    public static InformeEstadisticas calcular(ColumnarTenistas tenistas, String paisDestacado, ForkJoinPool pool) {
+        Parcial parcial = pool.invoke(new TareaFilas(tenistas, 0, tenistas.size()));
+
+        int[][] filasPorPais = tenistas.filasPorPais();
+        List<GrupoPais> grupos = new ArrayList<>(filasPorPais.length);
+        for (int codigo = 0; codigo < filasPorPais.length; codigo++) {
+            grupos.add(new GrupoPais(tenistas.paisDeCodigo(codigo), nombres(tenistas, filasPorPais[codigo]),
+                                     parcial.puntosPorPais[codigo]));
+        }
+
+        int[] filasPaisDestacado = tenistas.filasDePais(paisDestacado);
+        long total = parcial.total;
+        return new InformeEstadisticas(
+                total,
+                total == 0 ? 0.0 : (double) parcial.sumaAltura / total,
+                total == 0 ? 0.0 : (double) parcial.sumaPeso / total,
+                destacado(tenistas, parcial.filaMasAlto, Columna.ALTURA),
+                List.copyOf(grupos),
+                porMano(Arrays.stream(parcial.tenistasPorMano).asLongStream().toArray(), parcial.puntosPorMano),
+                paisDestacado,
+                nombres(tenistas, filasPaisDestacado),
+                destacado(tenistas, tenistas.filaDelMaximo(Columna.PUNTOS, filasPaisDestacado), Columna.PUNTOS));
+    }
+
+    private static Optional<Destacado> destacado(ColumnarTenistas tenistas, int fila, Columna columna) {
+        if (fila < 0) {
+            return Optional.empty();
+        }
+        long id = tenistas.id(fila);
+        return Optional.of(new Destacado(id >= 0 ? id : null, tenistas.nombre(fila), tenistas.valor(columna, fila)));
+    }
+
+    /**
+     * Vista inmutable de los nombres de las filas indicadas, sin copiarlos
+     */
+    private static List<String> nombres(ColumnarTenistas tenistas, int[] filas) {
+        return new AbstractList<>() {
+            @Override
+            public String get(int index) {
+                return tenistas.nombre(filas[index]);
+            }
+
+            @Override
+            public int size() {
+                return filas.length;
+            }
+        };
+    }
+
+    /**
+     * Agregados primitivos de un rango de filas
+     */
+    private static final class Parcial {
+        long total;
+        long sumaAltura;
+        long sumaPeso;
+        int filaMasAlto;
+        long[] puntosPorPais;
+        int[] tenistasPorMano;
+        long[] puntosPorMano;
+
+        Parcial(ColumnarTenistas tenistas, int inicio, int fin) {
+            total = fin - inicio;
+            sumaAltura = tenistas.suma(Columna.ALTURA, inicio, fin);
+            sumaPeso = tenistas.suma(Columna.PESO, inicio, fin);
+            filaMasAlto = tenistas.filaDelMaximo(Columna.ALTURA, inicio, fin);
+            puntosPorPais = tenistas.sumaPorPais(Columna.PUNTOS, inicio, fin);
+            tenistasPorMano = tenistas.cuentaPorMano(inicio, fin);
+            puntosPorMano = tenistas.sumaPorMano(Columna.PUNTOS, inicio, fin);
+        }
+
+        /**
+         * Añade los agregados de las filas siguientes; a igualdad de altura se queda la
+         * fila anterior, como en el recorrido secuencial
+         */
+        Parcial combinar(Parcial otro, ColumnarTenistas tenistas) {
+            total += otro.total;
+            sumaAltura += otro.sumaAltura;
+            sumaPeso += otro.sumaPeso;
+            if (filaMasAlto < 0 || (otro.filaMasAlto >= 0
+                    && tenistas.valor(Columna.ALTURA, otro.filaMasAlto) > tenistas.valor(Columna.ALTURA, filaMasAlto))) {
+                filaMasAlto = otro.filaMasAlto;
+            }
+            for (int i = 0; i < puntosPorPais.length; i++) {
+                puntosPorPais[i] += otro.puntosPorPais[i];
+            }
+            for (int i = 0; i < tenistasPorMano.length; i++) {
+                tenistasPorMano[i] += otro.tenistasPorMano[i];
+                puntosPorMano[i] += otro.puntosPorMano[i];
+            }
+            return this;
+        }
+    }
+
+    /**
+     * Agrega el rango de filas [inicio, fin), partiéndolo mientras supere el umbral
+     */
+    private static final class TareaFilas extends RecursiveTask<Parcial> {
+        private final ColumnarTenistas tenistas;
+        private final int inicio;
+        private final int fin;
+
+        TareaFilas(ColumnarTenistas tenistas, int inicio, int fin) {
+            this.tenistas = tenistas;
+            this.inicio = inicio;
+            this.fin = fin;
+        }
+
+        @Override
+        protected Parcial compute() {
+            if (fin - inicio <= UMBRAL_FILAS) {
+                return new Parcial(tenistas, inicio, fin);
+            }
+
+            int medio = (inicio + fin) >>> 1;
+            TareaFilas derecha = new TareaFilas(tenistas, medio, fin);
+            derecha.fork();
+            Parcial izquierda = new TareaFilas(tenistas, inicio, medio).compute();
+            return izquierda.combinar(derecha.join(), tenistas);
+        }
+    }
+}
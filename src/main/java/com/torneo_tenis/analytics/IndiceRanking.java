@@ -0,0 +1,395 @@
+package com.torneo_tenis.analytics;
+
+import com.torneo_tenis.model.Tenista1;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.SplittableRandom;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Índice de ranking mantenido de forma incremental. Los tenistas se ordenan por
+ * (puntos desc, id asc) en un árbol de estadísticos de orden (treap con tamaño de
+ * subárbol), uno global y otro por país, de modo que altas, cambios de puntos y bajas
+ * cuestan O(log n) y no hace falta reordenar la lista completa en cada consulta:
+ * posición de un tenista en O(log n), top-K en O(log n + K) y rangos de puntos en
+ * O(log n + resultados). Lecturas concurrentes; las escrituras se serializan.
+ *
+ * El índice guarda su propia copia de cada tenista y las consultas devuelven copias:
+ * Tenista1 es mutable y ni quien lo indexó ni quien lo consulta debe poder cambiar lo
+ * que ven los demás lectores.
+ */
+public class IndiceRanking {
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final SplittableRandom prioridades = new SplittableRandom(0x5EED);
+
+    private final Arbol global = new Arbol();
+    private final Map<String, Arbol> porPais = new HashMap<>();
+    // Entrada actual de cada ID, para localizar la clave anterior al actualizar
+    private final Map<Long, Nodo> porId = new HashMap<>();
+
+    /**
+     * Inserta el tenista o lo recoloca si ya estaba (cambio de puntos o de país)
+     */
+    public void actualizar(Tenista1 tenista) {
+        if (tenista.getId() == null) {
+            throw new IllegalArgumentException("No se puede indexar un tenista sin ID");
+        }
+
+        lock.writeLock().lock();
+        try {
+            quitar(tenista.getId());
+            Tenista1 copia = tenista.copy();
+            Nodo nodo = new Nodo(copia, prioridades.nextInt());
+            Nodo nodoPais = new Nodo(copia, prioridades.nextInt());
+            global.insertar(nodo);
+            porPais.computeIfAbsent(tenista.getPais(), p -> new Arbol()).insertar(nodoPais);
+            porId.put(tenista.getId(), nodo);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void actualizarTodos(Iterable<Tenista1> tenistas) {
+        lock.writeLock().lock();
+        try {
+            for (Tenista1 tenista : tenistas) {
+                actualizar(tenista);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean eliminar(long id) {
+        lock.writeLock().lock();
+        try {
+            return quitar(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private boolean quitar(long id) {
+        Nodo actual = porId.remove(id);
+        if (actual == null) {
+            return false;
+        }
+        global.eliminar(actual.puntos, actual.id);
+        Arbol arbolPais = porPais.get(actual.pais);
+        arbolPais.eliminar(actual.puntos, actual.id);
+        if (arbolPais.raiz == null) {
+            porPais.remove(actual.pais);
+        }
+        return true;
+    }
+
+    public void limpiar() {
+        lock.writeLock().lock();
+        try {
+            global.raiz = null;
+            porPais.clear();
+            porId.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return Arbol.tamanio(global.raiz);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Posición en el ranking global (1 = líder)
+     */
+    public OptionalInt posicion(long id) {
+        lock.readLock().lock();
+        try {
+            Nodo nodo = porId.get(id);
+            return nodo == null ? OptionalInt.empty() : OptionalInt.of(global.menoresQue(nodo.puntos, nodo.id) + 1);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Posición dentro del ranking de su país (1 = mejor del país)
+     */
+    public OptionalInt posicionEnPais(long id) {
+        lock.readLock().lock();
+        try {
+            Nodo nodo = porId.get(id);
+            if (nodo == null) {
+                return OptionalInt.empty();
+            }
+            Arbol arbolPais = porPais.get(nodo.pais);
+            return OptionalInt.of(arbolPais.menoresQue(nodo.puntos, nodo.id) + 1);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Tenista en la posición indicada del ranking global (1 = líder)
+     */
+    public Optional<Tenista1> enPosicion(int posicion) {
+        lock.readLock().lock();
+        try {
+            return Optional.ofNullable(global.kEsimo(posicion - 1)).map(nodo -> nodo.tenista.copy());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Los k primeros del ranking global
+     */
+    public List<Tenista1> top(int k) {
+        lock.readLock().lock();
+        try {
+            return global.rango(Integer.MIN_VALUE, Integer.MAX_VALUE, k);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Los k primeros del ranking de un país
+     */
+    public List<Tenista1> top(String pais, int k) {
+        lock.readLock().lock();
+        try {
+            Arbol arbolPais = porPais.get(pais);
+            return arbolPais == null ? List.of() : arbolPais.rango(Integer.MIN_VALUE, Integer.MAX_VALUE, k);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Tenistas con puntos en [min, max], en orden de ranking
+     */
+    public List<Tenista1> entrePuntos(int min, int max) {
+        lock.readLock().lock();
+        try {
+            return global.rango(min, max, Integer.MAX_VALUE);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Tenistas de un país con puntos en [min, max], en orden de ranking
+     */
+    public List<Tenista1> entrePuntos(String pais, int min, int max) {
+        lock.readLock().lock();
+        try {
+            Arbol arbolPais = porPais.get(pais);
+            return arbolPais == null ? List.of() : arbolPais.rango(min, max, Integer.MAX_VALUE);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Entrada del árbol; guarda la clave y el país aparte para localizarla sin tocar
+     * el tenista, que es una copia privada del índice y nunca sale de él
+     */
+    private static final class Nodo {
+        final int puntos;
+        final long id;
+        final String pais;
+        final Tenista1 tenista;
+        final int prioridad;
+        Nodo izquierdo;
+        Nodo derecho;
+        int tamanio = 1;
+
+        Nodo(Tenista1 tenista, int prioridad) {
+            this.puntos = tenista.getPuntos();
+            this.id = tenista.getId();
+            this.pais = tenista.getPais();
+            this.tenista = tenista;
+            this.prioridad = prioridad;
+        }
+    }
+
+    /**
+     * Treap ordenado por (puntos desc, id asc) con el tamaño de cada subárbol
+     */
+    private static final class Arbol {
+        Nodo raiz;
+
+        static int tamanio(Nodo nodo) {
+            return nodo == null ? 0 : nodo.tamanio;
+        }
+
+        static void recalcular(Nodo nodo) {
+            nodo.tamanio = 1 + tamanio(nodo.izquierdo) + tamanio(nodo.derecho);
+        }
+
+        /**
+         * Orden del ranking: negativo si (puntos, id) va antes que el nodo
+         */
+        static int comparar(int puntos, long id, Nodo nodo) {
+            if (puntos != nodo.puntos) {
+                return puntos > nodo.puntos ? -1 : 1;
+            }
+            return Long.compare(id, nodo.id);
+        }
+
+        void insertar(Nodo nuevo) {
+            raiz = insertar(raiz, nuevo);
+        }
+
+        private static Nodo insertar(Nodo nodo, Nodo nuevo) {
+            if (nodo == null) {
+                return nuevo;
+            }
+            if (comparar(nuevo.puntos, nuevo.id, nodo) < 0) {
+                nodo.izquierdo = insertar(nodo.izquierdo, nuevo);
+                if (nodo.izquierdo.prioridad > nodo.prioridad) {
+                    nodo = rotarDerecha(nodo);
+                }
+            } else {
+                nodo.derecho = insertar(nodo.derecho, nuevo);
+                if (nodo.derecho.prioridad > nodo.prioridad) {
+                    nodo = rotarIzquierda(nodo);
+                }
+            }
+            recalcular(nodo);
+            return nodo;
+        }
+
+        void eliminar(int puntos, long id) {
+            raiz = eliminar(raiz, puntos, id);
+        }
+
+        private static Nodo eliminar(Nodo nodo, int puntos, long id) {
+            if (nodo == null) {
+                return null;
+            }
+            int cmp = comparar(puntos, id, nodo);
+            if (cmp < 0) {
+                nodo.izquierdo = eliminar(nodo.izquierdo, puntos, id);
+            } else if (cmp > 0) {
+                nodo.derecho = eliminar(nodo.derecho, puntos, id);
+            } else {
+                return unir(nodo.izquierdo, nodo.derecho);
+            }
+            recalcular(nodo);
+            return nodo;
+        }
+
+        /**
+         * Une dos treaps donde todas las claves de a van antes que las de b
+         */
+        private static Nodo unir(Nodo a, Nodo b) {
+            if (a == null) {
+                return b;
+            }
+            if (b == null) {
+                return a;
+            }
+            if (a.prioridad > b.prioridad) {
+                a.derecho = unir(a.derecho, b);
+                recalcular(a);
+                return a;
+            }
+            b.izquierdo = unir(a, b.izquierdo);
+            recalcular(b);
+            return b;
+        }
+
+        private static Nodo rotarDerecha(Nodo nodo) {
+            Nodo hijo = nodo.izquierdo;
+            nodo.izquierdo = hijo.derecho;
+            hijo.derecho = nodo;
+            recalcular(nodo);
+            recalcular(hijo);
+            return hijo;
+        }
+
+        private static Nodo rotarIzquierda(Nodo nodo) {
+            Nodo hijo = nodo.derecho;
+            nodo.derecho = hijo.izquierdo;
+            hijo.izquierdo = nodo;
+            recalcular(nodo);
+            recalcular(hijo);
+            return hijo;
+        }
+
+        /**
+         * Número de entradas que van antes que (puntos, id) en el ranking
+         */
+        int menoresQue(int puntos, long id) {
+            int cuenta = 0;
+            Nodo nodo = raiz;
+            while (nodo != null) {
+                if (comparar(puntos, id, nodo) <= 0) {
+                    nodo = nodo.izquierdo;
+                } else {
+                    cuenta += tamanio(nodo.izquierdo) + 1;
+                    nodo = nodo.derecho;
+                }
+            }
+            return cuenta;
+        }
+
+        /**
+         * Entrada en la posición k (desde 0) o null si no existe
+         */
+        Nodo kEsimo(int k) {
+            if (k < 0 || k >= tamanio(raiz)) {
+                return null;
+            }
+            Nodo nodo = raiz;
+            while (true) {
+                int izquierda = tamanio(nodo.izquierdo);
+                if (k < izquierda) {
+                    nodo = nodo.izquierdo;
+                } else if (k == izquierda) {
+                    return nodo;
+                } else {
+                    k -= izquierda + 1;
+                    nodo = nodo.derecho;
+                }
+            }
+        }
+
+        /**
+         * Hasta limite tenistas con puntos en [min, max], en orden de ranking
+         */
+        List<Tenista1> rango(int min, int max, int limite) {
+            List<Tenista1> resultado = new ArrayList<>(Math.min(limite, tamanio(raiz)));
+            recorrer(raiz, min, max, limite, resultado);
+            return resultado;
+        }
+
+        private static void recorrer(Nodo nodo, int min, int max, int limite, List<Tenista1> resultado) {
+            if (nodo == null || resultado.size() >= limite) {
+                return;
+            }
+            // A la izquierda están los de más puntos: solo interesan si el nodo no supera ya el máximo
+            if (nodo.puntos <= max) {
+                recorrer(nodo.izquierdo, min, max, limite, resultado);
+            }
+            if (resultado.size() < limite && nodo.puntos >= min && nodo.puntos <= max) {
+                resultado.add(nodo.tenista.copy());
+            }
+            if (nodo.puntos >= min) {
+                recorrer(nodo.derecho, min, max, limite, resultado);
+            }
+        }
+    }
+}
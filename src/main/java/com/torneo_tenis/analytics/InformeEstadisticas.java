@@ -0,0 +1,73 @@
+package com.torneo_tenis.analytics;
+
+import com.torneo_tenis.model.Mano;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Resultado inmutable de EstadisticasTenistas: todo lo que muestra el informe de consola,
+ * calculado en una sola pasada sobre los tenistas
+ *
+ * @param total Número de tenistas
+ * @param mediaAltura Altura media en cm (0 si no hay tenistas)
+ * @param mediaPeso Peso medio en kg (0 si no hay tenistas)
+ * @param masAlto Tenista más alto (valor = altura); el primero si hay empate
+ * @param porPais Grupos por país en orden de primera aparición
+ * @param porMano Número de tenistas y puntos por mano (solo las manos presentes)
+ * @param paisDestacado País cuyos tenistas se listan aparte (comparado sin mayúsculas)
+ * @param tenistasPaisDestacado Nombres de los tenistas del país destacado
+ * @param mejorPaisDestacado Tenista con más puntos del país destacado (valor = puntos)
+ */
+public record InformeEstadisticas(
+        long total,
+        double mediaAltura,
+        double mediaPeso,
+        Optional<Destacado> masAlto,
+        List<GrupoPais> porPais,
+        Map<Mano, GrupoMano> porMano,
+        String paisDestacado,
+        List<String> tenistasPaisDestacado,
+        Optional<Destacado> mejorPaisDestacado) {
+
+    /**
+     * Tenista con el valor por el que destaca (altura o puntos, según el campo)
+     */
+    public record Destacado(Long id, String nombre, int valor) { }
+
+    public record GrupoPais(String pais, List<String> nombres, long puntos) {
+        public int tenistas() {
+            return nombres.size();
+        }
+    }
+
+    public record GrupoMano(Mano mano, long tenistas, long puntos) {
+        public double mediaPuntos() {
+            return tenistas == 0 ? 0.0 : (double) puntos / tenistas;
+        }
+    }
+
+    /**
+     * Grupos por país ordenados por puntos totales descendentes
+     */
+    public List<GrupoPais> paisesPorPuntos() {
+        return porPais.stream()
+                .sorted(Comparator.comparingLong(GrupoPais::puntos).reversed())
+                .toList();
+    }
+
+    /**
+     * País con más puntos totales (el primero en aparecer si hay empate)
+     */
+    public Optional<GrupoPais> paisConMasPuntos() {
+        GrupoPais mejor = null;
+        for (GrupoPais grupo : porPais) {
+            if (mejor == null || grupo.puntos() > mejor.puntos()) {
+                mejor = grupo;
+            }
+        }
+        return Optional.ofNullable(mejor);
+    }
+}
@@ -0,0 +1,457 @@
+package com.torneo_tenis.cache;
+
+import com.torneo_tenis.model.Tenista1;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Caché concurrente de tenistas con política LRU o W-TinyLFU
+ * Divide las entradas en segmentos con su propio lock para que hilos
+ * distintos no compitan salvo que accedan al mismo segmento
+ */
+public class ConcurrentTenistaCache implements ITenistaCache {
+    private static final Logger logger = LoggerFactory.getLogger(ConcurrentTenistaCache.class);
+
+    private static final int MAX_SEGMENTOS = 16;
+    // Capacidad mínima por segmento para que la política tenga sentido
+    private static final int MIN_POR_SEGMENTO = 8;
+
+    private final int maxSize;
+    private final PoliticaCache politica;
+    private final Segmento[] segmentos;
+    private final int mascara;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Constructor con política W-TinyLFU
+     */
+    public ConcurrentTenistaCache(int maxSize) {
+        this(maxSize, PoliticaCache.W_TINYLFU);
+    }
+
+    /**
+     * Constructor con tamaño máximo y política personalizados
+     */
+    public ConcurrentTenistaCache(int maxSize, PoliticaCache politica) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("El tamaño máximo debe ser mayor que 0");
+        }
+        if (politica != PoliticaCache.LRU && politica != PoliticaCache.W_TINYLFU) {
+            throw new IllegalArgumentException("Política no soportada por la caché concurrente: " + politica);
+        }
+
+        this.maxSize = maxSize;
+        this.politica = politica;
+
+        int numSegmentos = Integer.highestOneBit(Math.max(1, Math.min(MAX_SEGMENTOS, maxSize / MIN_POR_SEGMENTO)));
+        this.segmentos = new Segmento[numSegmentos];
+        this.mascara = numSegmentos - 1;
+        for (int i = 0; i < numSegmentos; i++) {
+            // Repartir el resto para que la suma de capacidades sea exactamente maxSize
+            int capacidad = maxSize / numSegmentos + (i < maxSize % numSegmentos ? 1 : 0);
+            segmentos[i] = politica == PoliticaCache.LRU ? new SegmentoLru(capacidad) : new SegmentoTinyLfu(capacidad);
+        }
+
+        logger.info("Caché " + nombrePolitica() + " inicializado con tamaño máximo: " + maxSize +
+                    " (" + numSegmentos + " segmentos)");
+    }
+
+    private Segmento segmento(Long id) {
+        int h = id.hashCode();
+        h ^= h >>> 16;
+        return segmentos[h & mascara];
+    }
+
+    /**
+     * Obtiene un tenista del caché
+     */
+    @Override
+    public Optional<Tenista1> get(Long id) {
+        if (id == null) {
+            return Optional.empty();
+        }
+
+        Segmento segmento = segmento(id);
+        Tenista1 tenista;
+        segmento.lock.lock();
+        try {
+            tenista = segmento.get(id);
+        } finally {
+            segmento.lock.unlock();
+        }
+
+        if (tenista != null) {
+            hits.increment();
+            return Optional.of(tenista);
+        }
+        misses.increment();
+        return Optional.empty();
+    }
+
+    /**
+     * Almacena un tenista en el caché
+     */
+    @Override
+    public void put(Long id, Tenista1 tenista) {
+        if (id == null || tenista == null) {
+            logger.warn("Intento de almacenar en caché con ID o tenista nulo");
+            return;
+        }
+
+        Segmento segmento = segmento(id);
+        segmento.lock.lock();
+        try {
+            segmento.put(id, tenista);
+        } finally {
+            segmento.lock.unlock();
+        }
+    }
+
+    /**
+     * Elimina un tenista del caché
+     */
+    @Override
+    public boolean remove(Long id) {
+        if (id == null) {
+            return false;
+        }
+
+        Segmento segmento = segmento(id);
+        segmento.lock.lock();
+        try {
+            return segmento.remove(id) != null;
+        } finally {
+            segmento.lock.unlock();
+        }
+    }
+
+    /**
+     * Actualiza un tenista en el caché (si existe)
+     */
+    @Override
+    public boolean update(Long id, Tenista1 tenista) {
+        if (id == null || tenista == null) {
+            return false;
+        }
+
+        Segmento segmento = segmento(id);
+        segmento.lock.lock();
+        try {
+            return segmento.replace(id, tenista);
+        } finally {
+            segmento.lock.unlock();
+        }
+    }
+
+    /**
+     * Limpia todo el caché
+     */
+    @Override
+    public void clear() {
+        for (Segmento segmento : segmentos) {
+            segmento.lock.lock();
+            try {
+                segmento.clear();
+            } finally {
+                segmento.lock.unlock();
+            }
+        }
+        logger.info("Caché limpiado completamente");
+    }
+
+    @Override
+    public boolean contains(Long id) {
+        if (id == null) {
+            return false;
+        }
+
+        Segmento segmento = segmento(id);
+        segmento.lock.lock();
+        try {
+            return segmento.contains(id);
+        } finally {
+            segmento.lock.unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        int total = 0;
+        for (Segmento segmento : segmentos) {
+            segmento.lock.lock();
+            try {
+                total += segmento.size();
+            } finally {
+                segmento.lock.unlock();
+            }
+        }
+        return total;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public boolean isFull() {
+        return size() >= maxSize;
+    }
+
+    @Override
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public PoliticaCache getPolitica() {
+        return politica;
+    }
+
+    @Override
+    public long getHits() {
+        return hits.sum();
+    }
+
+    @Override
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    @Override
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * Obtiene información del estado del caché
+     */
+    @Override
+    public String getStats() {
+        return String.format("Caché %s - Tamaño: %d/%d, Aciertos: %d, Fallos: %d, Ratio: %.2f, Expulsiones: %d",
+                             nombrePolitica(), size(), maxSize, getHits(), getMisses(), getHitRatio(), getEvictions());
+    }
+
+    private String nombrePolitica() {
+        return politica == PoliticaCache.LRU ? "LRU" : "W-TinyLFU";
+    }
+
+    @Override
+    public String toString() {
+        return "ConcurrentTenistaCache{" +
+                "politica=" + politica +
+                ", maxSize=" + maxSize +
+                ", segmentos=" + segmentos.length +
+                ", currentSize=" + size() +
+                '}';
+    }
+
+    /**
+     * Porción de la caché protegida por su propio lock
+     */
+    private abstract static class Segmento {
+        final ReentrantLock lock = new ReentrantLock();
+
+        abstract Tenista1 get(Long id);
+        abstract void put(Long id, Tenista1 tenista);
+        abstract Tenista1 remove(Long id);
+        abstract boolean replace(Long id, Tenista1 tenista);
+        abstract boolean contains(Long id);
+        abstract int size();
+        abstract void clear();
+    }
+
+    /**
+     * Segmento LRU: LinkedHashMap en orden de acceso que expulsa el menos reciente
+     */
+    private final class SegmentoLru extends Segmento {
+        private final LinkedHashMap<Long, Tenista1> mapa;
+
+        SegmentoLru(int capacidad) {
+            this.mapa = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, Tenista1> eldest) {
+                    if (size() > capacidad) {
+                        evictions.increment();
+                        logger.debug("Expulsando entrada LRU del caché: " + eldest.getKey());
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+
+        @Override
+        Tenista1 get(Long id) {
+            return mapa.get(id);
+        }
+
+        @Override
+        void put(Long id, Tenista1 tenista) {
+            mapa.put(id, tenista);
+        }
+
+        @Override
+        Tenista1 remove(Long id) {
+            return mapa.remove(id);
+        }
+
+        @Override
+        boolean replace(Long id, Tenista1 tenista) {
+            return mapa.replace(id, tenista) != null;
+        }
+
+        @Override
+        boolean contains(Long id) {
+            return mapa.containsKey(id);
+        }
+
+        @Override
+        int size() {
+            return mapa.size();
+        }
+
+        @Override
+        void clear() {
+            mapa.clear();
+        }
+    }
+
+    /**
+     * Segmento W-TinyLFU: una ventana LRU pequeña (1%) delante de una zona
+     * principal SLRU (20% probatoria, 80% protegida). Lo que sale de la ventana
+     * solo entra en la zona principal si su frecuencia estimada supera la de la
+     * víctima, de modo que los tenistas consultados a menudo no se expulsan
+     * por una ráfaga de accesos únicos.
+     */
+    private final class SegmentoTinyLfu extends Segmento {
+        private final int capacidadVentana;
+        private final int capacidadPrincipal;
+        private final int capacidadProtegida;
+        private final LinkedHashMap<Long, Tenista1> ventana = new LinkedHashMap<>(16, 0.75f, true);
+        private final LinkedHashMap<Long, Tenista1> probatoria = new LinkedHashMap<>(16, 0.75f, true);
+        private final LinkedHashMap<Long, Tenista1> protegida = new LinkedHashMap<>(16, 0.75f, true);
+        private final FrequencySketch sketch;
+
+        SegmentoTinyLfu(int capacidad) {
+            this.capacidadVentana = Math.max(1, capacidad / 100);
+            this.capacidadPrincipal = Math.max(0, capacidad - capacidadVentana);
+            this.capacidadProtegida = capacidadPrincipal * 8 / 10;
+            this.sketch = new FrequencySketch(capacidad);
+        }
+
+        @Override
+        Tenista1 get(Long id) {
+            sketch.increment(id);
+
+            Tenista1 tenista = ventana.get(id);
+            if (tenista != null) {
+                return tenista;
+            }
+            tenista = protegida.get(id);
+            if (tenista != null) {
+                return tenista;
+            }
+            tenista = probatoria.remove(id);
+            if (tenista != null) {
+                promover(id, tenista);
+            }
+            return tenista;
+        }
+
+        /**
+         * Pasa una entrada probatoria a la zona protegida, degradando si hace falta
+         * la menos reciente de la protegida
+         */
+        private void promover(Long id, Tenista1 tenista) {
+            protegida.put(id, tenista);
+            if (protegida.size() > capacidadProtegida) {
+                Map.Entry<Long, Tenista1> degradada = eldest(protegida);
+                protegida.remove(degradada.getKey());
+                probatoria.put(degradada.getKey(), degradada.getValue());
+            }
+        }
+
+        @Override
+        void put(Long id, Tenista1 tenista) {
+            sketch.increment(id);
+            if (replace(id, tenista)) {
+                return;
+            }
+
+            ventana.put(id, tenista);
+            if (ventana.size() <= capacidadVentana) {
+                return;
+            }
+
+            Map.Entry<Long, Tenista1> candidata = eldest(ventana);
+            ventana.remove(candidata.getKey());
+
+            if (probatoria.size() + protegida.size() < capacidadPrincipal) {
+                probatoria.put(candidata.getKey(), candidata.getValue());
+                return;
+            }
+
+            LinkedHashMap<Long, Tenista1> zonaVictima = probatoria.isEmpty() ? protegida : probatoria;
+            Map.Entry<Long, Tenista1> victima = eldest(zonaVictima);
+            if (victima != null && sketch.frequency(candidata.getKey()) > sketch.frequency(victima.getKey())) {
+                zonaVictima.remove(victima.getKey());
+                probatoria.put(candidata.getKey(), candidata.getValue());
+                logger.debug("Expulsando entrada W-TinyLFU del caché: " + victima.getKey());
+            } else {
+                logger.debug("Candidata rechazada por W-TinyLFU: " + candidata.getKey());
+            }
+            evictions.increment();
+        }
+
+        private Map.Entry<Long, Tenista1> eldest(LinkedHashMap<Long, Tenista1> zona) {
+            Iterator<Map.Entry<Long, Tenista1>> it = zona.entrySet().iterator();
+            return it.hasNext() ? it.next() : null;
+        }
+
+        @Override
+        Tenista1 remove(Long id) {
+            Tenista1 tenista = ventana.remove(id);
+            if (tenista == null) {
+                tenista = probatoria.remove(id);
+            }
+            if (tenista == null) {
+                tenista = protegida.remove(id);
+            }
+            return tenista;
+        }
+
+        @Override
+        boolean replace(Long id, Tenista1 tenista) {
+            return ventana.replace(id, tenista) != null
+                    || probatoria.replace(id, tenista) != null
+                    || protegida.replace(id, tenista) != null;
+        }
+
+        @Override
+        boolean contains(Long id) {
+            return ventana.containsKey(id) || probatoria.containsKey(id) || protegida.containsKey(id);
+        }
+
+        @Override
+        int size() {
+            return ventana.size() + probatoria.size() + protegida.size();
+        }
+
+        @Override
+        void clear() {
+            ventana.clear();
+            probatoria.clear();
+            protegida.clear();
+        }
+    }
+}
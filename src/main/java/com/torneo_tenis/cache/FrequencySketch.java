@@ -0,0 +1,72 @@
+package com.torneo_tenis.cache;
+
+/**
+ * Estimador aproximado de frecuencia de acceso (Count-Min Sketch de 4 filas)
+ * con contadores saturados en 15 y envejecimiento periódico a la mitad,
+ * usado por la política W-TinyLFU para decidir admisiones.
+ * No es seguro para hilos: cada segmento de la caché tiene el suyo.
+ */
+final class FrequencySketch {
+    private static final int PROFUNDIDAD = 4;
+    private static final int MAX_CONTADOR = 15;
+    private static final long[] SEMILLAS = {
+        0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L
+    };
+
+    private final byte[] tabla;
+    private final int mascara;
+    private final int periodoEnvejecimiento;
+    private int muestras;
+
+    /**
+     * @param capacidad Número máximo de elementos de la caché asociada
+     */
+    FrequencySketch(int capacidad) {
+        int ancho = Integer.highestOneBit(Math.max(16, capacidad * 4 - 1)) << 1;
+        this.tabla = new byte[ancho * PROFUNDIDAD];
+        this.mascara = ancho - 1;
+        this.periodoEnvejecimiento = Math.max(10 * capacidad, 64);
+    }
+
+    /**
+     * Registra un acceso al ID
+     */
+    void increment(long id) {
+        boolean incrementado = false;
+        for (int fila = 0; fila < PROFUNDIDAD; fila++) {
+            int indice = indice(id, fila);
+            if (tabla[indice] < MAX_CONTADOR) {
+                tabla[indice]++;
+                incrementado = true;
+            }
+        }
+
+        if (incrementado && ++muestras >= periodoEnvejecimiento) {
+            envejecer();
+        }
+    }
+
+    /**
+     * Frecuencia estimada del ID (mínimo de sus contadores)
+     */
+    int frequency(long id) {
+        int minimo = MAX_CONTADOR;
+        for (int fila = 0; fila < PROFUNDIDAD; fila++) {
+            minimo = Math.min(minimo, tabla[indice(id, fila)]);
+        }
+        return minimo;
+    }
+
+    private void envejecer() {
+        for (int i = 0; i < tabla.length; i++) {
+            tabla[i] >>= 1;
+        }
+        muestras /= 2;
+    }
+
+    private int indice(long id, int fila) {
+        long h = (id + SEMILLAS[fila]) * SEMILLAS[fila];
+        h ^= h >>> 32;
+        return fila * (mascara + 1) + ((int) h & mascara);
+    }
+}
@@ -0,0 +1,36 @@
+package com.torneo_tenis.cache;
+
+import com.torneo_tenis.model.Tenista1;
+
+import java.util.Optional;
+
+/**
+ * Interfaz para cachés de tenistas indexadas por ID
+ */
+public interface ITenistaCache {
+    Optional<Tenista1> get(Long id);
+    void put(Long id, Tenista1 tenista);
+    boolean remove(Long id);
+    boolean update(Long id, Tenista1 tenista);
+    void clear();
+    boolean contains(Long id);
+    int size();
+    boolean isEmpty();
+    boolean isFull();
+    int getMaxSize();
+    
+    // Estadísticas
+    long getHits();
+    long getMisses();
+    long getEvictions();
+    
+    /**
+     * Proporción de aciertos sobre el total de lecturas (0 si no hubo lecturas)
+     */
+    default double getHitRatio() {
+        long total = getHits() + getMisses();
+        return total == 0 ? 0.0 : (double) getHits() / total;
+    }
+    
+    String getStats();
+}
@@ -0,0 +1,10 @@
+package com.torneo_tenis.cache;
+
+/**
+ * Políticas de expulsión disponibles para las cachés de tenistas
+ */
+public enum PoliticaCache {
+    FIFO,
+    LRU,
+    W_TINYLFU
+}
@@ -10,13 +10,17 @@ import java.util.Optional;
 
 /**
  * Implementación de caché FIFO (First In, First Out) para tenistas
- * Usa LinkedHashMap para mantener el orden de inserción
+ * Usa LinkedHashMap para mantener el orden de inserción. Todos los métodos están
+ * sincronizados: CachedTenistaRepository la usa desde varios hilos a la vez.
  */
-public class TenistaCache {
+public class TenistaCache implements ITenistaCache {
     private static final Logger logger = LoggerFactory.getLogger(TenistaCache.class);
     
     private final int maxSize;
     private final LinkedHashMap<Long, Tenista1> cache;
+    private long hits;
+    private long misses;
+    private long evictions;
 
     /**
      * Constructor con tamaño máximo por defecto
@@ -42,16 +46,19 @@ public class TenistaCache {
     /**
      * Obtiene un tenista del caché
      */
-    public Optional<Tenista1> get(Long id) {
+    @Override
+    public synchronized Optional<Tenista1> get(Long id) {
         if (id == null) {
             return Optional.empty();
         }
         
         Tenista1 tenista = cache.get(id);
         if (tenista != null) {
+            hits++;
             logger.debug("Cache HIT para ID: " + id);
             return Optional.of(tenista);
         } else {
+            misses++;
             logger.debug("Cache MISS para ID: " + id);
             return Optional.empty();
         }
@@ -60,7 +67,8 @@ public class TenistaCache {
     /**
      * Almacena un tenista en el caché
      */
-    public void put(Long id, Tenista1 tenista) {
+    @Override
+    public synchronized void put(Long id, Tenista1 tenista) {
         if (id == null || tenista == null) {
             logger.warn("Intento de almacenar en caché con ID o tenista nulo");
             return;
@@ -78,6 +86,7 @@ public class TenistaCache {
             // Obtener la primera entrada (más antigua)
             Long oldestKey = cache.keySet().iterator().next();
             cache.remove(oldestKey);
+            evictions++;
             logger.debug("Eliminando entrada más antigua del caché: " + oldestKey);
         }
         
@@ -89,7 +98,8 @@ public class TenistaCache {
     /**
      * Elimina un tenista del caché
      */
-    public boolean remove(Long id) {
+    @Override
+    public synchronized boolean remove(Long id) {
         if (id == null) {
             return false;
         }
@@ -105,7 +115,8 @@ public class TenistaCache {
     /**
      * Limpia todo el caché
      */
-    public void clear() {
+    @Override
+    public synchronized void clear() {
         cache.clear();
         logger.info("Caché limpiado completamente");
     }
@@ -113,50 +124,72 @@ public class TenistaCache {
     /**
      * Verifica si un tenista está en el caché
      */
-    public boolean contains(Long id) {
+    @Override
+    public synchronized boolean contains(Long id) {
         return id != null && cache.containsKey(id);
     }
 
     /**
      * Obtiene el tamaño actual del caché
      */
-    public int size() {
+    @Override
+    public synchronized int size() {
         return cache.size();
     }
 
     /**
      * Verifica si el caché está vacío
      */
-    public boolean isEmpty() {
+    @Override
+    public synchronized boolean isEmpty() {
         return cache.isEmpty();
     }
 
     /**
      * Verifica si el caché está lleno
      */
-    public boolean isFull() {
+    @Override
+    public synchronized boolean isFull() {
         return cache.size() >= maxSize;
     }
 
     /**
      * Obtiene el tamaño máximo del caché
      */
+    @Override
     public int getMaxSize() {
         return maxSize;
     }
 
+    @Override
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    @Override
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    @Override
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
     /**
      * Obtiene información del estado del caché
      */
-    public String getStats() {
-        return String.format("Caché FIFO - Tamaño: %d/%d, Vacío: %b, Lleno: %b", 
-                           size(), maxSize, isEmpty(), isFull());
+    @Override
+    public synchronized String getStats() {
+        return String.format("Caché FIFO - Tamaño: %d/%d, Aciertos: %d, Fallos: %d, Ratio: %.2f, Expulsiones: %d", 
+                           size(), maxSize, hits, misses, getHitRatio(), evictions);
     }
 
     /**
      * Actualiza un tenista en el caché (si existe)
      */
-    public boolean update(Long id, Tenista1 tenista) {
+    @Override
+    public synchronized boolean update(Long id, Tenista1 tenista) {
         if (id == null || tenista == null) {
             return false;
         }
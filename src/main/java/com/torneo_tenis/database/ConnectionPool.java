@@ -0,0 +1,325 @@
+package com.torneo_tenis.database;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Iterator;
+import java.util.Properties;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pool de conexiones JDBC seguro para hilos
+ * Las conexiones prestadas se devuelven al pool al llamar a close()
+ */
+public class ConnectionPool implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(ConnectionPool.class);
+
+    private static final int DEFAULT_MIN_SIZE = 2;
+    private static final int DEFAULT_MAX_SIZE = 10;
+    private static final long DEFAULT_IDLE_TIMEOUT_MS = 60_000;
+    private static final long DEFAULT_MAX_WAIT_MS = 5_000;
+    // Solo se revalidan las conexiones que llevan un tiempo ociosas
+    private static final long VALIDATION_INTERVAL_MS = 5_000;
+
+    private final String url;
+    private final String user;
+    private final String password;
+    private final int minSize;
+    private final int maxSize;
+    private final long idleTimeoutMs;
+    private final long maxWaitMs;
+    private final String validationQuery;
+
+    private final LinkedBlockingDeque<PooledConnection> idle = new LinkedBlockingDeque<>();
+    private final Semaphore permits;
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger total = new AtomicInteger();
+    private final AtomicLong borrows = new AtomicLong();
+    private final AtomicLong waitNanos = new AtomicLong();
+    private final AtomicLong timeouts = new AtomicLong();
+    private volatile boolean closed;
+
+    /**
+     * Constructor con configuración completa
+     */
+    public ConnectionPool(String url, String user, String password, int minSize, int maxSize,
+                          long idleTimeoutMs, long maxWaitMs, String validationQuery) {
+        if (minSize < 0 || maxSize <= 0 || minSize > maxSize) {
+            throw new IllegalArgumentException("Tamaños de pool inválidos: min=" + minSize + ", max=" + maxSize);
+        }
+
+        this.url = url;
+        this.user = user;
+        this.password = password;
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+        this.idleTimeoutMs = idleTimeoutMs;
+        this.maxWaitMs = maxWaitMs;
+        this.validationQuery = validationQuery == null || validationQuery.isBlank() ? null : validationQuery;
+        this.permits = new Semaphore(maxSize, true);
+
+        try {
+            for (int i = 0; i < minSize; i++) {
+                idle.offer(new PooledConnection(openConnection()));
+            }
+        } catch (SQLException e) {
+            close();
+            throw new RuntimeException("No se pudo inicializar el pool de conexiones", e);
+        }
+
+        logger.info("Pool de conexiones inicializado (min=" + minSize + ", max=" + maxSize + ")");
+    }
+
+    /**
+     * Crea el pool a partir de las propiedades db.* de application.properties
+     */
+    public static ConnectionPool fromProperties(Properties props) {
+        return new ConnectionPool(
+            props.getProperty("db.url"),
+            props.getProperty("db.user"),
+            props.getProperty("db.password"),
+            Integer.parseInt(props.getProperty("db.pool.min", String.valueOf(DEFAULT_MIN_SIZE))),
+            Integer.parseInt(props.getProperty("db.pool.max", String.valueOf(DEFAULT_MAX_SIZE))),
+            Long.parseLong(props.getProperty("db.pool.idle.timeout.ms", String.valueOf(DEFAULT_IDLE_TIMEOUT_MS))),
+            Long.parseLong(props.getProperty("db.pool.max.wait.ms", String.valueOf(DEFAULT_MAX_WAIT_MS))),
+            props.getProperty("db.pool.validation.query")
+        );
+    }
+
+    /**
+     * Presta una conexión del pool, esperando como máximo db.pool.max.wait.ms
+     *
+     * @return Conexión cuyo close() la devuelve al pool
+     * @throws SQLException Si el pool está cerrado o se agota el tiempo de espera
+     */
+    public Connection getConnection() throws SQLException {
+        if (closed) {
+            throw new SQLException("El pool de conexiones está cerrado");
+        }
+
+        long inicio = System.nanoTime();
+        boolean adquirido;
+        try {
+            adquirido = permits.tryAcquire(maxWaitMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrumpido esperando una conexión", e);
+        }
+        waitNanos.addAndGet(System.nanoTime() - inicio);
+
+        if (!adquirido) {
+            timeouts.incrementAndGet();
+            throw new SQLException("Tiempo de espera agotado (" + maxWaitMs + " ms) obteniendo una conexión");
+        }
+
+        try {
+            PooledConnection pooled = takeIdle();
+            if (pooled == null) {
+                pooled = new PooledConnection(openConnection());
+            }
+            active.incrementAndGet();
+            borrows.incrementAndGet();
+            return pooled.proxy();
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Obtiene una conexión ociosa válida, descartando las caducadas o rotas
+     */
+    private PooledConnection takeIdle() {
+        long ahora = System.currentTimeMillis();
+        PooledConnection pooled;
+        while ((pooled = idle.pollFirst()) != null) {
+            long ociosa = ahora - pooled.lastUsed;
+            if (ociosa > idleTimeoutMs && total.get() > minSize) {
+                discard(pooled);
+            } else if (ociosa > VALIDATION_INTERVAL_MS && !isValid(pooled.raw)) {
+                discard(pooled);
+            } else {
+                return pooled;
+            }
+        }
+        return null;
+    }
+
+    private void release(PooledConnection pooled) {
+        active.decrementAndGet();
+        try {
+            if (closed || pooled.raw.isClosed()) {
+                discard(pooled);
+                return;
+            }
+            if (!pooled.raw.getAutoCommit()) {
+                pooled.raw.rollback();
+                pooled.raw.setAutoCommit(true);
+            }
+            pooled.lastUsed = System.currentTimeMillis();
+            idle.offerFirst(pooled);
+        } catch (SQLException e) {
+            logger.warn("Conexión descartada al devolverla al pool", e);
+            discard(pooled);
+        } finally {
+            permits.release();
+        }
+        evictIdle();
+    }
+
+    /**
+     * Cierra las conexiones ociosas que superan el tiempo máximo de inactividad
+     */
+    private void evictIdle() {
+        long ahora = System.currentTimeMillis();
+        Iterator<PooledConnection> it = idle.descendingIterator();
+        while (it.hasNext() && total.get() > minSize) {
+            PooledConnection pooled = it.next();
+            if (ahora - pooled.lastUsed > idleTimeoutMs && idle.remove(pooled)) {
+                discard(pooled);
+            }
+        }
+    }
+
+    private boolean isValid(Connection connection) {
+        if (validationQuery == null) {
+            try {
+                return connection.isValid(1);
+            } catch (SQLException e) {
+                return false;
+            }
+        }
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute(validationQuery);
+            return true;
+        } catch (SQLException e) {
+            logger.debug("Validación de conexión fallida: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private Connection openConnection() throws SQLException {
+        Connection connection = DriverManager.getConnection(url, user, password);
+        total.incrementAndGet();
+        return connection;
+    }
+
+    private void discard(PooledConnection pooled) {
+        total.decrementAndGet();
+        try {
+            pooled.raw.close();
+        } catch (SQLException e) {
+            logger.debug("Error al cerrar conexión descartada", e);
+        }
+    }
+
+    /**
+     * Número de conexiones prestadas en este momento
+     */
+    public int getActive() {
+        return active.get();
+    }
+
+    /**
+     * Número de conexiones ociosas disponibles
+     */
+    public int getIdle() {
+        return idle.size();
+    }
+
+    /**
+     * Tiempo medio de espera para obtener una conexión, en milisegundos
+     */
+    public double getAverageWaitMillis() {
+        long n = borrows.get() + timeouts.get();
+        return n == 0 ? 0.0 : waitNanos.get() / 1_000_000.0 / n;
+    }
+
+    /**
+     * Tiempo total acumulado esperando conexiones, en milisegundos
+     */
+    public long getTotalWaitMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(waitNanos.get());
+    }
+
+    /**
+     * Número de peticiones que agotaron el tiempo de espera
+     */
+    public long getTimeouts() {
+        return timeouts.get();
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Obtiene información del estado del pool
+     */
+    public String getStats() {
+        return String.format("Pool - Activas: %d, Ociosas: %d, Máx: %d, Espera media: %.3f ms, Timeouts: %d",
+                             getActive(), getIdle(), maxSize, getAverageWaitMillis(), getTimeouts());
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        PooledConnection pooled;
+        while ((pooled = idle.pollFirst()) != null) {
+            discard(pooled);
+        }
+        logger.info("Pool de conexiones cerrado");
+    }
+
+    /**
+     * Conexión física junto con su instante de último uso
+     */
+    private final class PooledConnection {
+        private final Connection raw;
+        private volatile long lastUsed = System.currentTimeMillis();
+
+        private PooledConnection(Connection raw) {
+            this.raw = raw;
+        }
+
+        /**
+         * Envoltorio que intercepta close() para devolver la conexión al pool
+         */
+        private Connection proxy() {
+            AtomicInteger devuelta = new AtomicInteger();
+            return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "close":
+                            if (devuelta.compareAndSet(0, 1)) {
+                                release(this);
+                            }
+                            return null;
+                        case "isClosed":
+                            return devuelta.get() == 1 || raw.isClosed();
+                        default:
+                            if (devuelta.get() == 1) {
+                                throw new SQLException("La conexión ya fue devuelta al pool");
+                            }
+                            try {
+                                return method.invoke(raw, args);
+                            } catch (InvocationTargetException e) {
+                                throw e.getCause();
+                            }
+                    }
+                });
+        }
+    }
+}
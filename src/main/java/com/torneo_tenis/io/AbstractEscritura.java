@@ -0,0 +1,88 @@
+package com.torneo_tenis.io;
+
+import com.torneo_tenis.model.Tenista1;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Base de las escrituras incrementales: escribe la cabecera del formato,
+ * cada registro y el pie al cerrar, a través de un buffer reutilizable
+ */
+abstract class AbstractEscritura implements EscrituraTenistas {
+    private static final Logger logger = LoggerFactory.getLogger(AbstractEscritura.class);
+
+    protected final SalidaTexto salida;
+    private final String formato;
+    private final String destino;
+    private long escritos;
+    private boolean cerrado;
+
+    /**
+     * @param formato Nombre del formato, para los mensajes de log
+     * @param destino Descripción del destino (ruta del archivo), para los mensajes de log
+     * @param writer Writer de destino; se cierra al cerrar la escritura
+     */
+    protected AbstractEscritura(String formato, String destino, Writer writer) throws IOException {
+        this.formato = formato;
+        this.destino = destino;
+        logger.debug("Escribiendo tenistas a archivo " + formato + ": " + destino);
+
+        this.salida = new SalidaTexto(writer);
+        try {
+            escribirCabecera();
+        } catch (IOException e) {
+            writer.close();
+            throw e;
+        }
+    }
+
+    protected abstract void escribirCabecera() throws IOException;
+
+    /**
+     * @param primero Si es el primer registro del archivo (para separadores)
+     */
+    protected abstract void escribirRegistro(Tenista1 tenista, boolean primero) throws IOException;
+
+    protected abstract void escribirPie() throws IOException;
+
+    /**
+     * Escribe el ID o "null" si el tenista aún no tiene
+     */
+    protected void escribirId(Long id) throws IOException {
+        if (id == null) {
+            salida.append("null");
+        } else {
+            salida.appendLong(id);
+        }
+    }
+
+    @Override
+    public void escribir(Tenista1 tenista) throws IOException {
+        if (cerrado) {
+            throw new IOException("El archivo ya está cerrado: " + destino);
+        }
+        escribirRegistro(tenista, escritos == 0);
+        escritos++;
+    }
+
+    @Override
+    public long getEscritos() {
+        return escritos;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (cerrado) {
+            return;
+        }
+        cerrado = true;
+        try (salida) {
+            escribirPie();
+            salida.flush();
+        }
+        logger.debug("Archivo " + formato + " escrito correctamente: " + destino + " (" + escritos + " tenistas)");
+    }
+}
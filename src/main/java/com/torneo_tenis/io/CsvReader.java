@@ -1,7 +1,11 @@
 package com.torneo_tenis.io;
 
+import com.torneo_tenis.metrics.Contador;
+import com.torneo_tenis.metrics.Metricas;
+import com.torneo_tenis.metrics.Temporizador;
 import com.torneo_tenis.model.Tenista1;
 import com.torneo_tenis.model.Mano;
+import com.torneo_tenis.validator.ErroresValidacion;
 import com.torneo_tenis.validator.TenistaValidator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -9,6 +13,7 @@ import org.slf4j.LoggerFactory;
 import java.io.BufferedReader;
 import java.io.FileReader;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -17,6 +22,11 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Lector de archivos CSV para tenistas
@@ -27,6 +37,11 @@ public class CsvReader {
     private static final String CSV_SEPARATOR = ",";
     private static final int EXPECTED_COLUMNS = 7;
 
+    // Métricas compartidas por los tres lectores CSV: filas válidas, líneas con error y tiempo por archivo
+    static final Contador FILAS = Metricas.global().contador("csv.filas");
+    static final Contador ERRORES = Metricas.global().contador("csv.errores");
+    static final Temporizador LECTURA = Metricas.global().temporizador("csv.lectura");
+
     /**
      * Lee tenistas desde un archivo CSV
      * 
@@ -35,14 +50,43 @@ public class CsvReader {
      * @throws IOException Si hay problemas al leer el archivo
      */
     public static List<Tenista1> leerTenistas(String filePath) throws IOException {
+        List<Tenista1> tenistas = new ArrayList<>();
+        List<String> erroresGlobales = new ArrayList<>();
+        
+        try (Stream<Tenista1> stream = streamTenistas(filePath, erroresGlobales::add)) {
+            stream.forEach(tenistas::add);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        
+        if (!erroresGlobales.isEmpty()) {
+            logger.warn("Se encontraron " + erroresGlobales.size() + " errores durante la lectura:");
+            erroresGlobales.forEach(logger::warn);
+        }
+        
+        logger.info("Lectura completada. Tenistas válidos: " + tenistas.size());
+        return tenistas;
+    }
+
+    /**
+     * Lee tenistas desde un archivo CSV de forma perezosa, línea a línea.
+     * Solo se mantiene en memoria la línea actual; las líneas inválidas se
+     * envían al sumidero de errores en lugar de acumularse.
+     * El stream debe cerrarse para liberar el archivo.
+     * 
+     * @param filePath Ruta del archivo CSV
+     * @param errores Sumidero que recibe un mensaje por cada línea inválida
+     * @return Stream secuencial de tenistas válidos
+     * @throws IOException Si el archivo no es válido o su header es incorrecto
+     */
+    public static Stream<Tenista1> streamTenistas(String filePath, Consumer<String> errores) throws IOException {
         logger.info("Iniciando lectura del archivo CSV: " + filePath);
         
         validateFilePath(filePath);
         
-        List<Tenista1> tenistas = new ArrayList<>();
-        List<String> erroresGlobales = new ArrayList<>();
-        
-        try (BufferedReader reader = new BufferedReader(new FileReader(filePath))) {
+        long inicio = System.nanoTime();
+        BufferedReader reader = new BufferedReader(new FileReader(filePath));
+        try {
             String headerLine = reader.readLine();
             
             if (headerLine == null) {
@@ -50,46 +94,65 @@ public class CsvReader {
             }
             
             validateHeader(headerLine);
+        } catch (IOException e) {
+            reader.close();
+            throw e;
+        }
+        
+        Spliterator<Tenista1> spliterator = new Spliterators.AbstractSpliterator<>(
+                Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+            private int lineNumber = 2; // Empezamos desde la línea 2 (después del header)
+            // Un solo colector por lector: validar una fila correcta no reserva memoria
+            private final ErroresValidacion erroresValidacion = new ErroresValidacion();
             
-            String line;
-            int lineNumber = 2; // Empezamos desde la línea 2 (después del header)
-            
-            while ((line = reader.readLine()) != null) {
-                if (line.trim().isEmpty()) {
-                    logger.debug("Saltando línea vacía: " + lineNumber);
-                    lineNumber++;
-                    continue;
-                }
-                
+            @Override
+            public boolean tryAdvance(Consumer<? super Tenista1> action) {
                 try {
-                    Tenista1 tenista = parsearLineaTenista(line, lineNumber);
-                    if (tenista != null) {
-                        tenistas.add(tenista);
-                        logger.debug("Tenista parseado correctamente: " + tenista.getNombre());
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        int actual = lineNumber++;
+                        
+                        if (line.trim().isEmpty()) {
+                            logger.debug("Saltando línea vacía: " + actual);
+                            continue;
+                        }
+                        
+                        try {
+                            Tenista1 tenista = parsearLineaTenista(line, actual, erroresValidacion);
+                            if (tenista != null) {
+                                logger.debug("Tenista parseado correctamente: " + tenista.getNombre());
+                                FILAS.incrementar();
+                                action.accept(tenista);
+                                return true;
+                            }
+                        } catch (Exception e) {
+                            String error = "Error en línea " + actual + ": " + e.getMessage();
+                            logger.error(error, e);
+                            ERRORES.incrementar();
+                            errores.accept(error);
+                        }
                     }
-                } catch (Exception e) {
-                    String error = "Error en línea " + lineNumber + ": " + e.getMessage();
-                    erroresGlobales.add(error);
-                    logger.error(error, e);
+                    return false;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
                 }
-                
-                lineNumber++;
             }
-        }
-        
-        if (!erroresGlobales.isEmpty()) {
-            logger.warn("Se encontraron " + erroresGlobales.size() + " errores durante la lectura:");
-            erroresGlobales.forEach(logger::warn);
-        }
+        };
         
-        logger.info("Lectura completada. Tenistas válidos: " + tenistas.size());
-        return tenistas;
+        return StreamSupport.stream(spliterator, false).onClose(() -> {
+            LECTURA.registrarDesde(inicio);
+            try {
+                reader.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
     }
 
     /**
      * Valida que la ruta del archivo sea correcta
      */
-    private static void validateFilePath(String filePath) throws IOException {
+    static void validateFilePath(String filePath) throws IOException {
         if (filePath == null || filePath.trim().isEmpty()) {
             throw new IOException("La ruta del archivo no puede estar vacía");
         }
@@ -114,7 +177,7 @@ public class CsvReader {
     /**
      * Valida el header del CSV
      */
-    private static void validateHeader(String headerLine) throws IOException {
+    static void validateHeader(String headerLine) throws IOException {
         if (headerLine == null || headerLine.trim().isEmpty()) {
             throw new IOException("El header del CSV no puede estar vacío");
         }
@@ -143,8 +206,10 @@ public class CsvReader {
 
     /**
      * Parsea una línea del CSV a un objeto Tenista
+     * 
+     * @param errores Colector reutilizable del lector; se limpia antes de validar
      */
-    private static Tenista1 parsearLineaTenista(String line, int lineNumber) throws Exception {
+    private static Tenista1 parsearLineaTenista(String line, int lineNumber, ErroresValidacion errores) throws Exception {
         String[] campos = line.split(CSV_SEPARATOR);
         
         if (campos.length != EXPECTED_COLUMNS) {
@@ -187,9 +252,9 @@ public class CsvReader {
             );
             
             // Validar tenista completo
-            List<String> errores = TenistaValidator.validar(tenista);
-            if (!errores.isEmpty()) {
-                throw new IllegalArgumentException("Datos inválidos: " + String.join(", ", errores));
+            errores.limpiar();
+            if (!TenistaValidator.validar(tenista, errores)) {
+                throw new IllegalArgumentException("Datos inválidos: " + errores.unir());
             }
             
             return tenista;
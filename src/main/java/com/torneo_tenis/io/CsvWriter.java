@@ -1,49 +1,71 @@
 package com.torneo_tenis.io;
 
 import com.torneo_tenis.model.Tenista1;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
-import java.io.BufferedWriter;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.io.Writer;
 import java.time.format.DateTimeFormatter;
-import java.util.List;
 
 /**
  * Escritor de tenistas en formato CSV
  */
-public class CsvWriter implements ITenistaWriter {
-    private static final Logger logger = LoggerFactory.getLogger(CsvWriter.class);
-    
+public class CsvWriter implements ITenistaTextWriter {
     private static final String CSV_SEPARATOR = ",";
     private static final String CSV_HEADER = "id,nombre,pais,altura,peso,puntos,mano,fecha_nacimiento,created_at,updated_at";
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
     private static final DateTimeFormatter DATETIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSSSS");
 
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+
+    private final ModoCodificacion modo;
+
+    public CsvWriter() {
+        this(ModoCodificacion.BUFFER);
+    }
+
+    public CsvWriter(ModoCodificacion modo) {
+        this.modo = modo;
+    }
+
     @Override
-    public void escribir(List<Tenista1> tenistas, String filePath) throws IOException {
-        logger.info("Escribiendo " + tenistas.size() + " tenistas a archivo CSV: " + filePath);
-        
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter(filePath))) {
-            // Escribir header
-            writer.write(CSV_HEADER);
-            writer.newLine();
-            
-            // Escribir cada tenista
-            for (Tenista1 tenista : tenistas) {
-                writer.write(formatearTenistaCSV(tenista));
-                writer.newLine();
+    public String getFormato() {
+        return "csv";
+    }
+
+    @Override
+    public EscrituraTenistas abrir(Writer destino, String nombre) throws IOException {
+        return new AbstractEscritura("CSV", nombre, destino) {
+            @Override
+            protected void escribirCabecera() throws IOException {
+                salida.append(CSV_HEADER).append(LINE_SEPARATOR);
             }
-            
-            writer.flush();
-        }
-        
-        logger.info("Archivo CSV escrito correctamente: " + filePath);
+
+            @Override
+            protected void escribirRegistro(Tenista1 tenista, boolean primero) throws IOException {
+                if (modo == ModoCodificacion.TEXTO) {
+                    salida.append(formatearTenistaCSV(tenista));
+                } else {
+                    escribirId(tenista.getId());
+                    salida.append(',').appendCsv(tenista.getNombre())
+                          .append(',').appendCsv(tenista.getPais())
+                          .append(',').appendInt(tenista.getAltura())
+                          .append(',').appendInt(tenista.getPeso())
+                          .append(',').appendInt(tenista.getPuntos())
+                          .append(',').append(tenista.getMano().name())
+                          .append(',').appendFecha(tenista.getFecha_nacimiento())
+                          .append(',').appendFechaHora(tenista.getCreated_at())
+                          .append(',').appendFechaHora(tenista.getUpdated_at());
+                }
+                salida.append(LINE_SEPARATOR);
+            }
+
+            @Override
+            protected void escribirPie() {
+            }
+        };
     }
     
     /**
-     * Formatea un tenista como línea CSV
+     * Formatea un tenista como línea CSV (modo TEXTO)
      */
     private String formatearTenistaCSV(Tenista1 tenista) {
         return String.join(CSV_SEPARATOR,
@@ -0,0 +1,25 @@
+package com.torneo_tenis.io;
+
+import com.torneo_tenis.model.Tenista1;
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Escritura incremental de tenistas en un archivo abierto con ITenistaWriter.abrir().
+ * Cada registro se vuelca al escribirse, sin necesidad de tener la lista completa;
+ * close() escribe el cierre del formato y libera el archivo.
+ */
+public interface EscrituraTenistas extends Closeable {
+    /**
+     * Escribe un tenista a continuación de los anteriores
+     *
+     * @param tenista Tenista a escribir
+     * @throws IOException Si hay problemas al escribir el archivo
+     */
+    void escribir(Tenista1 tenista) throws IOException;
+
+    /**
+     * Número de tenistas escritos hasta el momento
+     */
+    long getEscritos();
+}
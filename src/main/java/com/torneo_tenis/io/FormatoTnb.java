@@ -0,0 +1,133 @@
+package com.torneo_tenis.io;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+/**
+ * Formato binario .tnb de tenistas (versión 1).
+ *
+ * Cabecera: "TNB" + byte de versión. Después, cada registro como varint con su longitud
+ * seguido del cuerpo; una longitud 0 marca el final y va seguida del número de registros.
+ * Cuerpo del registro:
+ * flags (bit 0 = mano IZQUIERDA, bit 1 = tiene ID), ID como delta zigzag respecto al anterior,
+ * nombre (varint longitud + UTF-8), país como índice en un diccionario que se construye
+ * sobre la marcha (si el índice es igual al tamaño del diccionario, le sigue el texto del
+ * nuevo país), altura, peso y puntos en varint zigzag, fecha de nacimiento en días desde
+ * 1970-01-01, created_at en microsegundos UTC desde la época y updated_at como diferencia
+ * en microsegundos respecto a created_at.
+ */
+final class FormatoTnb {
+    static final byte[] MAGIC = {'T', 'N', 'B'};
+    static final int VERSION = 1;
+
+    static final int FLAG_IZQUIERDA = 1;
+    static final int FLAG_ID = 1 << 1;
+
+    // Longitud máxima del cuerpo de un registro: un prefijo mayor solo puede venir de un
+    // archivo corrupto y no debe provocar una reserva de memoria desmedida al leerlo
+    static final int MAX_REGISTRO = 1 << 20;
+
+    private FormatoTnb() {
+    }
+
+    static long zigzag(long valor) {
+        return (valor << 1) ^ (valor >> 63);
+    }
+
+    static long unzigzag(long valor) {
+        return (valor >>> 1) ^ -(valor & 1);
+    }
+
+    static long aMicros(LocalDateTime fechaHora) {
+        return Math.addExact(Math.multiplyExact(fechaHora.toEpochSecond(ZoneOffset.UTC), 1_000_000L),
+                             fechaHora.getNano() / 1000);
+    }
+
+    static LocalDateTime desdeMicros(long micros) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+                                           (int) Math.floorMod(micros, 1_000_000L) * 1000, ZoneOffset.UTC);
+    }
+
+    /**
+     * Buffer de bytes ampliable donde se codifica cada registro antes de escribir su longitud
+     */
+    static final class Bytes {
+        private byte[] datos = new byte[256];
+        private int longitud;
+
+        void reiniciar() {
+            longitud = 0;
+        }
+
+        int longitud() {
+            return longitud;
+        }
+
+        byte[] datos() {
+            return datos;
+        }
+
+        private void reservar(int n) {
+            if (longitud + n > datos.length) {
+                datos = Arrays.copyOf(datos, Math.max(datos.length * 2, longitud + n));
+            }
+        }
+
+        void escribirByte(int valor) {
+            reservar(1);
+            datos[longitud++] = (byte) valor;
+        }
+
+        void escribirVarint(long valor) {
+            reservar(10);
+            while ((valor & ~0x7FL) != 0) {
+                datos[longitud++] = (byte) ((valor & 0x7F) | 0x80);
+                valor >>>= 7;
+            }
+            datos[longitud++] = (byte) valor;
+        }
+
+        void escribirZigzag(long valor) {
+            escribirVarint(zigzag(valor));
+        }
+
+        /**
+         * Longitud en bytes (varint) y texto en UTF-8
+         */
+        void escribirTexto(String texto) {
+            // Cota superior: 3 bytes por char en UTF-8
+            reservar(5 + texto.length() * 3);
+            int inicio = longitud + 5;
+            int pos = inicio;
+            for (int i = 0; i < texto.length(); i++) {
+                char c = texto.charAt(i);
+                if (c < 0x80) {
+                    datos[pos++] = (byte) c;
+                } else if (c < 0x800) {
+                    datos[pos++] = (byte) (0xC0 | (c >> 6));
+                    datos[pos++] = (byte) (0x80 | (c & 0x3F));
+                } else if (Character.isHighSurrogate(c) && i + 1 < texto.length()
+                           && Character.isLowSurrogate(texto.charAt(i + 1))) {
+                    int cp = Character.toCodePoint(c, texto.charAt(++i));
+                    datos[pos++] = (byte) (0xF0 | (cp >> 18));
+                    datos[pos++] = (byte) (0x80 | ((cp >> 12) & 0x3F));
+                    datos[pos++] = (byte) (0x80 | ((cp >> 6) & 0x3F));
+                    datos[pos++] = (byte) (0x80 | (cp & 0x3F));
+                } else {
+                    if (Character.isSurrogate(c)) {
+                        c = '?';
+                    }
+                    datos[pos++] = (byte) (0xE0 | (c >> 12));
+                    datos[pos++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                    datos[pos++] = (byte) (0x80 | (c & 0x3F));
+                }
+            }
+            int bytes = pos - inicio;
+            // Coloca el prefijo de longitud justo antes del texto ya codificado
+            escribirVarint(bytes);
+            System.arraycopy(datos, inicio, datos, longitud, bytes);
+            longitud += bytes;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.torneo_tenis.io;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+
+/**
+ * Escritor de tenistas en un formato de texto (CSV, JSON, XML), que además de sobre
+ * bytes puede escribir sobre un Writer de caracteres
+ */
+public interface ITenistaTextWriter extends ITenistaWriter {
+    /**
+     * Abre una escritura de tenistas de uno en uno sobre un Writer ya abierto
+     * 
+     * @param destino Writer de salida; se cierra al cerrar la escritura
+     * @param nombre Descripción del destino para los mensajes de log
+     * @return Escritura abierta; debe cerrarse para completar la salida
+     * @throws IOException Si hay problemas al escribir la cabecera
+     */
+    EscrituraTenistas abrir(Writer destino, String nombre) throws IOException;
+
+    /**
+     * Codifica el texto con el juego de caracteres por defecto, como los archivos de salida
+     */
+    @Override
+    default EscrituraTenistas abrir(OutputStream destino, String nombre) throws IOException {
+        return abrir(new OutputStreamWriter(destino), nombre);
+    }
+}
@@ -1,13 +1,48 @@
 package com.torneo_tenis.io;
 
 import com.torneo_tenis.model.Tenista1;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
- * Interfaz para escritores de tenistas en diferentes formatos
+ * Interfaz para escritores de tenistas en diferentes formatos. Todos escriben sobre
+ * un flujo de bytes; los formatos de texto implementan ITenistaTextWriter, que añade
+ * la escritura sobre un Writer.
  */
 public interface ITenistaWriter {
+    /**
+     * Abre una escritura de tenistas de uno en uno sobre un OutputStream ya abierto
+     * 
+     * @param destino Flujo de salida; se cierra al cerrar la escritura
+     * @param nombre Descripción del destino para los mensajes de log
+     * @return Escritura abierta; debe cerrarse para completar la salida
+     * @throws IOException Si hay problemas al escribir la cabecera
+     */
+    EscrituraTenistas abrir(OutputStream destino, String nombre) throws IOException;
+
+    /**
+     * Nombre corto del formato, usado en las métricas de escritura (escritura.<formato>)
+     */
+    default String getFormato() {
+        return getClass().getSimpleName();
+    }
+
+    /**
+     * Abre el archivo para escribir tenistas de uno en uno. Los bytes escritos y el
+     * tiempo de escritura se registran en las métricas del formato.
+     * 
+     * @param filePath Ruta del archivo de salida
+     * @return Escritura abierta; debe cerrarse para completar el archivo
+     * @throws IOException Si hay problemas al crear el archivo
+     */
+    default EscrituraTenistas abrir(String filePath) throws IOException {
+        return abrir(new SalidaMedida(new FileOutputStream(filePath), getFormato()), filePath);
+    }
+
     /**
      * Escribe una lista de tenistas a un archivo
      * 
@@ -15,5 +50,36 @@ public interface ITenistaWriter {
      * @param filePath Ruta del archivo de salida
      * @throws IOException Si hay problemas al escribir el archivo
      */
-    void escribir(List<Tenista1> tenistas, String filePath) throws IOException;
-}
\ No newline at end of file
+    default void escribir(List<Tenista1> tenistas, String filePath) throws IOException {
+        escribir(tenistas.iterator(), filePath);
+    }
+
+    /**
+     * Escribe los tenistas de un Stream a medida que se consumen, sin materializarlos
+     * 
+     * @param tenistas Stream de tenistas (no se cierra aquí)
+     * @param filePath Ruta del archivo de salida
+     * @return Número de tenistas escritos
+     * @throws IOException Si hay problemas al escribir el archivo
+     */
+    default long escribir(Stream<Tenista1> tenistas, String filePath) throws IOException {
+        return escribir(tenistas.iterator(), filePath);
+    }
+
+    /**
+     * Escribe los tenistas de un Iterator a medida que se recorren
+     * 
+     * @param tenistas Iterador de tenistas
+     * @param filePath Ruta del archivo de salida
+     * @return Número de tenistas escritos
+     * @throws IOException Si hay problemas al escribir el archivo
+     */
+    default long escribir(Iterator<Tenista1> tenistas, String filePath) throws IOException {
+        try (EscrituraTenistas escritura = abrir(filePath)) {
+            while (tenistas.hasNext()) {
+                escritura.escribir(tenistas.next());
+            }
+            return escritura.getEscritos();
+        }
+    }
+}
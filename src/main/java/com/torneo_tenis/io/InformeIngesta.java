@@ -0,0 +1,61 @@
+package com.torneo_tenis.io;
+
+/**
+ * Resultado y rendimiento de una ejecución de ingesta CSV
+ */
+public class InformeIngesta {
+    private final long filas;
+    private final long errores;
+    private final long bytes;
+    private final long nanos;
+    private final int fragmentos;
+
+    public InformeIngesta(long filas, long errores, long bytes, long nanos, int fragmentos) {
+        this.filas = filas;
+        this.errores = errores;
+        this.bytes = bytes;
+        this.nanos = nanos;
+        this.fragmentos = fragmentos;
+    }
+
+    public long getFilas() {
+        return filas;
+    }
+
+    public long getErrores() {
+        return errores;
+    }
+
+    public long getBytes() {
+        return bytes;
+    }
+
+    public long getNanos() {
+        return nanos;
+    }
+
+    public int getFragmentos() {
+        return fragmentos;
+    }
+
+    /**
+     * Filas válidas procesadas por segundo
+     */
+    public double getFilasPorSegundo() {
+        return nanos == 0 ? 0.0 : filas * 1_000_000_000.0 / nanos;
+    }
+
+    /**
+     * Megabytes de entrada procesados por segundo
+     */
+    public double getMBPorSegundo() {
+        return nanos == 0 ? 0.0 : bytes / (1024.0 * 1024.0) * 1_000_000_000.0 / nanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Ingesta - Filas: %d, Errores: %d, Fragmentos: %d, Tiempo: %.1f ms, %.0f filas/s, %.2f MB/s",
+                             filas, errores, fragmentos, nanos / 1_000_000.0,
+                             getFilasPorSegundo(), getMBPorSegundo());
+    }
+}
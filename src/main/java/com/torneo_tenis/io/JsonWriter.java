@@ -1,49 +1,80 @@
 package com.torneo_tenis.io;
 
 import com.torneo_tenis.model.Tenista1;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
-import java.io.BufferedWriter;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.io.Writer;
 import java.time.format.DateTimeFormatter;
-import java.util.List;
 
 /**
  * Escritor de tenistas en formato JSON
  */
-public class JsonWriter implements ITenistaWriter {
-    private static final Logger logger = LoggerFactory.getLogger(JsonWriter.class);
-    
+public class JsonWriter implements ITenistaTextWriter {
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
     private static final DateTimeFormatter DATETIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSSSS");
 
+    private final ModoCodificacion modo;
+
+    public JsonWriter() {
+        this(ModoCodificacion.BUFFER);
+    }
+
+    public JsonWriter(ModoCodificacion modo) {
+        this.modo = modo;
+    }
+
     @Override
-    public void escribir(List<Tenista1> tenistas, String filePath) throws IOException {
-        logger.info("Escribiendo " + tenistas.size() + " tenistas a archivo JSON: " + filePath);
-        
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter(filePath))) {
-            writer.write("{\n");
-            writer.write("  \"tenistas\": [\n");
-            
-            for (int i = 0; i < tenistas.size(); i++) {
-                writer.write(formatearTenistaJSON(tenistas.get(i), i == tenistas.size() - 1));
+    public String getFormato() {
+        return "json";
+    }
+
+    @Override
+    public EscrituraTenistas abrir(Writer destino, String nombre) throws IOException {
+        return new AbstractEscritura("JSON", nombre, destino) {
+            @Override
+            protected void escribirCabecera() throws IOException {
+                salida.append("{\n");
+                salida.append("  \"tenistas\": [\n");
             }
-            
-            writer.write("  ]\n");
-            writer.write("}\n");
-            
-            writer.flush();
-        }
-        
-        logger.info("Archivo JSON escrito correctamente: " + filePath);
+
+            @Override
+            protected void escribirRegistro(Tenista1 tenista, boolean primero) throws IOException {
+                // La coma separa del registro anterior, así no hace falta saber cuál es el último
+                if (!primero) {
+                    salida.append(",\n");
+                }
+                if (modo == ModoCodificacion.TEXTO) {
+                    salida.append(formatearTenistaJSON(tenista));
+                    return;
+                }
+                salida.append("    {\n      \"id\": ");
+                escribirId(tenista.getId());
+                salida.append(",\n      \"nombre\": \"").appendJson(tenista.getNombre())
+                      .append("\",\n      \"pais\": \"").appendJson(tenista.getPais())
+                      .append("\",\n      \"altura\": ").appendInt(tenista.getAltura())
+                      .append(",\n      \"peso\": ").appendInt(tenista.getPeso())
+                      .append(",\n      \"puntos\": ").appendInt(tenista.getPuntos())
+                      .append(",\n      \"mano\": \"").append(tenista.getMano().name())
+                      .append("\",\n      \"fecha_nacimiento\": \"").appendFecha(tenista.getFecha_nacimiento())
+                      .append("\",\n      \"created_at\": \"").appendFechaHora(tenista.getCreated_at())
+                      .append("\",\n      \"updated_at\": \"").appendFechaHora(tenista.getUpdated_at())
+                      .append("\"\n    }");
+            }
+
+            @Override
+            protected void escribirPie() throws IOException {
+                if (getEscritos() > 0) {
+                    salida.append("\n");
+                }
+                salida.append("  ]\n");
+                salida.append("}\n");
+            }
+        };
     }
     
     /**
-     * Formatea un tenista como objeto JSON
+     * Formatea un tenista como objeto JSON, sin separador ni salto de línea final (modo TEXTO)
      */
-    private String formatearTenistaJSON(Tenista1 tenista, boolean esUltimo) {
+    private String formatearTenistaJSON(Tenista1 tenista) {
         StringBuilder json = new StringBuilder();
         json.append("    {\n");
         json.append("      \"id\": ").append(tenista.getId()).append(",\n");
@@ -57,12 +88,6 @@ public class JsonWriter implements ITenistaWriter {
         json.append("      \"created_at\": \"").append(tenista.getCreated_at().format(DATETIME_FORMATTER)).append("\",\n");
         json.append("      \"updated_at\": \"").append(tenista.getUpdated_at().format(DATETIME_FORMATTER)).append("\"\n");
         json.append("    }");
-        
-        if (!esUltimo) {
-            json.append(",");
-        }
-        
-        json.append("\n");
         return json.toString();
     }
     
@@ -0,0 +1,494 @@
+package com.torneo_tenis.io;
+
+import com.torneo_tenis.model.Mano;
+import com.torneo_tenis.model.Tenista1;
+import com.torneo_tenis.validator.ErroresValidacion;
+import com.torneo_tenis.validator.ReglasValidacion;
+import com.torneo_tenis.validator.TenistaValidator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Parser de registros CSV de tenistas que trabaja directamente sobre bytes.
+ * Localiza los delimitadores sin crear Strings intermedios, convierte enteros,
+ * fechas yyyy-MM-dd y la mano desde el buffer y solo decodifica nombre y país.
+ * Soporta campos entrecomillados según RFC-4180 (comillas dobladas y saltos
+ * de línea dentro de comillas), que es lo que produce CsvWriter.
+ * No es seguro para hilos: se usa una instancia por hilo o por fragmento.
+ */
+final class MappedCsvParser {
+    private static final Logger logger = LoggerFactory.getLogger(MappedCsvParser.class);
+
+    static final int EXPECTED_COLUMNS = 7;
+
+    private static final byte COMA = ',';
+    private static final byte COMILLA = '"';
+    private static final byte LF = '\n';
+    private static final byte CR = '\r';
+
+    private final ByteBuffer buffer;
+    private final int limit;
+    private final boolean ultimoSegmento;
+    private final Consumer<String> errores;
+    private final StringTable paises;
+    // Alias de mano de las reglas activas al crear el parser
+    private final byte[][] aliasDerecha;
+    private final byte[][] aliasIzquierda;
+
+    private int pos;
+    private int lineNumber;
+    private boolean necesitaMas;
+
+    // Resultado del último escaneo
+    private int numCampos;
+    private boolean registroVacio;
+
+    // Límites del registro actual: [inicio, fin) de cada campo ya sin espacios ni comillas
+    private final int[] inicios = new int[EXPECTED_COLUMNS];
+    private final int[] fines = new int[EXPECTED_COLUMNS];
+    private final boolean[] escapados = new boolean[EXPECTED_COLUMNS];
+    private byte[] scratch = new byte[128];
+    private final ErroresValidacion erroresValidacion = new ErroresValidacion();
+
+    /**
+     * @param buffer Buffer con los datos (normalmente un MappedByteBuffer)
+     * @param inicio Posición del primer byte a parsear
+     * @param limit Posición tras el último byte a parsear
+     * @param ultimoSegmento true si tras limit no hay más datos del archivo
+     * @param primeraLinea Número de línea del primer registro (para mensajes de error)
+     * @param errores Sumidero de mensajes de error por línea
+     */
+    MappedCsvParser(ByteBuffer buffer, int inicio, int limit, boolean ultimoSegmento,
+                    int primeraLinea, Consumer<String> errores) {
+        this.buffer = buffer;
+        this.pos = inicio;
+        this.limit = limit;
+        this.ultimoSegmento = ultimoSegmento;
+        this.lineNumber = primeraLinea;
+        this.errores = errores;
+        this.paises = new StringTable();
+
+        ReglasValidacion reglas = TenistaValidator.getReglas();
+        this.aliasDerecha = utf8(reglas.aliasDe(Mano.DERECHA));
+        this.aliasIzquierda = utf8(reglas.aliasDe(Mano.IZQUIERDA));
+    }
+
+    /**
+     * Devuelve el siguiente tenista válido, o null si no quedan registros completos.
+     * Si el segmento no es el último y el registro final está cortado,
+     * needsMore() pasa a true y position() apunta al inicio de ese registro.
+     */
+    Tenista1 next() {
+        while (pos < limit) {
+            int inicioRegistro = pos;
+            int lineaRegistro = lineNumber;
+            int fin = escanearRegistro();
+
+            if (fin < 0) {
+                pos = inicioRegistro;
+                lineNumber = lineaRegistro;
+                necesitaMas = true;
+                return null;
+            }
+
+            int campos = numCampos;
+            pos = fin;
+
+            if (registroVacio) {
+                logger.debug("Saltando línea vacía: " + lineaRegistro);
+                continue;
+            }
+
+            try {
+                if (campos != EXPECTED_COLUMNS) {
+                    throw new IllegalArgumentException("La línea debe tener exactamente " + EXPECTED_COLUMNS +
+                                                       " campos, pero tiene " + campos);
+                }
+                Tenista1 tenista = convertirRegistro();
+                logger.debug("Tenista parseado correctamente: " + tenista.getNombre());
+                return tenista;
+            } catch (Exception e) {
+                String error = "Error en línea " + lineaRegistro + ": " + e.getMessage();
+                logger.error(error);
+                errores.accept(error);
+            }
+        }
+        return null;
+    }
+
+    boolean needsMore() {
+        return necesitaMas;
+    }
+
+    int position() {
+        return pos;
+    }
+
+    int lineNumber() {
+        return lineNumber;
+    }
+
+    /**
+     * Recorre un registro desde pos hasta su salto de línea (fuera de comillas)
+     * anotando los límites de cada campo.
+     *
+     * @return Posición tras el terminador, o -1 si el registro está incompleto
+     */
+    private int escanearRegistro() {
+        int campo = 0;
+        int inicioCampo = pos;
+        boolean entreComillas = false;
+        boolean conComillas = false;
+        boolean escapado = false;
+        boolean soloEspacios = true;
+        boolean vacio = true;
+        int i = pos;
+
+        while (i < limit) {
+            byte b = buffer.get(i);
+
+            if (entreComillas) {
+                if (b == COMILLA) {
+                    if (i + 1 < limit && buffer.get(i + 1) == COMILLA) {
+                        escapado = true;
+                        i += 2;
+                        continue;
+                    }
+                    if (i + 1 >= limit && !ultimoSegmento) {
+                        return -1;
+                    }
+                    entreComillas = false;
+                } else if (b == LF) {
+                    lineNumber++;
+                }
+                i++;
+                continue;
+            }
+
+            if (b == COMA || b == LF) {
+                cerrarCampo(campo, inicioCampo, i, conComillas, escapado);
+                campo++;
+                if (b == LF) {
+                    lineNumber++;
+                    numCampos = campo;
+                    registroVacio = vacio && campo == 1;
+                    return i + 1;
+                }
+                vacio = false;
+                inicioCampo = i + 1;
+                conComillas = false;
+                escapado = false;
+                soloEspacios = true;
+            } else if (b == COMILLA && soloEspacios) {
+                entreComillas = true;
+                conComillas = true;
+                soloEspacios = false;
+                vacio = false;
+            } else if (!esEspacio(b) && b != CR) {
+                soloEspacios = false;
+                vacio = false;
+            }
+            i++;
+        }
+
+        if (!ultimoSegmento) {
+            return -1;
+        }
+
+        // Último registro sin salto de línea final
+        cerrarCampo(campo, inicioCampo, limit, conComillas, escapado);
+        numCampos = campo + 1;
+        registroVacio = vacio && campo == 0;
+        return limit;
+    }
+
+    private void cerrarCampo(int campo, int inicio, int fin, boolean conComillas, boolean escapado) {
+        if (campo >= EXPECTED_COLUMNS) {
+            return;
+        }
+
+        // Recortar espacios y el \r de los finales de línea CRLF
+        while (inicio < fin && esEspacio(buffer.get(inicio))) {
+            inicio++;
+        }
+        while (fin > inicio && (esEspacio(buffer.get(fin - 1)) || buffer.get(fin - 1) == CR)) {
+            fin--;
+        }
+
+        if (conComillas && fin - inicio >= 2 && buffer.get(inicio) == COMILLA && buffer.get(fin - 1) == COMILLA) {
+            inicio++;
+            fin--;
+        }
+
+        inicios[campo] = inicio;
+        fines[campo] = fin;
+        escapados[campo] = escapado;
+    }
+
+    private Tenista1 convertirRegistro() {
+        String nombre = decodificar(0, false);
+        String pais = decodificar(1, true);
+        int altura = parsearEntero(2, "altura");
+        int peso = parsearEntero(3, "peso");
+        int puntos = parsearEntero(4, "puntos");
+        Mano mano = parsearMano(5);
+        LocalDate fechaNacimiento = parsearFecha(6);
+
+        LocalDateTime ahora = LocalDateTime.now();
+        Tenista1 tenista = new Tenista1(0L, nombre, pais, altura, peso, puntos, mano,
+                                        fechaNacimiento, ahora, ahora);
+
+        erroresValidacion.limpiar();
+        if (!TenistaValidator.validar(tenista, erroresValidacion)) {
+            throw new IllegalArgumentException("Error de validación: Datos inválidos: " +
+                                               erroresValidacion.unir());
+        }
+        return tenista;
+    }
+
+    /**
+     * Decodifica un campo de texto UTF-8, deshaciendo las comillas dobladas.
+     * Los valores repetidos (país) se reutilizan desde una tabla interna.
+     */
+    private String decodificar(int campo, boolean reutilizar) {
+        int inicio = inicios[campo];
+        int len = fines[campo] - inicio;
+        if (len > scratch.length) {
+            scratch = new byte[Math.max(len, scratch.length * 2)];
+        }
+
+        if (escapados[campo]) {
+            int n = 0;
+            for (int i = inicio; i < fines[campo]; i++) {
+                byte b = buffer.get(i);
+                scratch[n++] = b;
+                if (b == COMILLA && i + 1 < fines[campo] && buffer.get(i + 1) == COMILLA) {
+                    i++;
+                }
+            }
+            len = n;
+        } else {
+            buffer.get(inicio, scratch, 0, len);
+        }
+
+        return reutilizar ? paises.get(scratch, len) : new String(scratch, 0, len, StandardCharsets.UTF_8);
+    }
+
+    private int parsearEntero(int campo, String fieldName) {
+        int i = inicios[campo];
+        int fin = fines[campo];
+        if (i >= fin) {
+            throw new IllegalArgumentException("Error al convertir número: El campo '" + fieldName +
+                                               "' no puede estar vacío");
+        }
+
+        boolean negativo = false;
+        byte primero = buffer.get(i);
+        if (primero == '-' || primero == '+') {
+            negativo = primero == '-';
+            i++;
+        }
+
+        if (i >= fin) {
+            throw numeroInvalido(campo, fieldName);
+        }
+
+        long valor = 0;
+        for (; i < fin; i++) {
+            int d = buffer.get(i) - '0';
+            if (d < 0 || d > 9) {
+                throw numeroInvalido(campo, fieldName);
+            }
+            valor = valor * 10 + d;
+            if (valor > (long) Integer.MAX_VALUE + 1) {
+                throw numeroInvalido(campo, fieldName);
+            }
+        }
+
+        valor = negativo ? -valor : valor;
+        if (valor > Integer.MAX_VALUE) {
+            throw numeroInvalido(campo, fieldName);
+        }
+        return (int) valor;
+    }
+
+    private IllegalArgumentException numeroInvalido(int campo, String fieldName) {
+        return new IllegalArgumentException("Error al convertir número: El campo '" + fieldName +
+                                            "' debe ser un número entero válido: " + decodificar(campo, false));
+    }
+
+    /**
+     * Convierte una fecha yyyy-MM-dd leyendo los dígitos directamente del buffer
+     */
+    private LocalDate parsearFecha(int campo) {
+        int i = inicios[campo];
+        if (fines[campo] - i != 10 || buffer.get(i + 4) != '-' || buffer.get(i + 7) != '-') {
+            throw fechaInvalida(campo);
+        }
+
+        int anio = digitos(i, 4);
+        int mes = digitos(i + 5, 2);
+        int dia = digitos(i + 8, 2);
+        if (anio < 0 || mes < 0 || dia < 0) {
+            throw fechaInvalida(campo);
+        }
+
+        try {
+            return LocalDate.of(anio, mes, dia);
+        } catch (DateTimeException e) {
+            throw fechaInvalida(campo);
+        }
+    }
+
+    private int digitos(int inicio, int n) {
+        int valor = 0;
+        for (int i = inicio; i < inicio + n; i++) {
+            int d = buffer.get(i) - '0';
+            if (d < 0 || d > 9) {
+                return -1;
+            }
+            valor = valor * 10 + d;
+        }
+        return valor;
+    }
+
+    private IllegalArgumentException fechaInvalida(int campo) {
+        if (inicios[campo] >= fines[campo]) {
+            return new IllegalArgumentException("Error al convertir fecha: La fecha no puede estar vacía");
+        }
+        return new IllegalArgumentException("Error al convertir fecha: Formato de fecha inválido. Use yyyy-MM-dd");
+    }
+
+    /**
+     * Reconoce los alias de mano sin distinguir mayúsculas; los valores
+     * desconocidos se delegan al validador para obtener su mensaje de error
+     */
+    private Mano parsearMano(int campo) {
+        if (coincideAlguno(campo, aliasDerecha)) {
+            return Mano.DERECHA;
+        }
+        if (coincideAlguno(campo, aliasIzquierda)) {
+            return Mano.IZQUIERDA;
+        }
+        try {
+            return TenistaValidator.validarYConvertirMano(decodificar(campo, false));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Error de validación: " + e.getMessage());
+        }
+    }
+
+    private boolean coincideAlguno(int campo, byte[][] alias) {
+        int inicio = inicios[campo];
+        int len = fines[campo] - inicio;
+        for (byte[] candidato : alias) {
+            if (candidato.length != len) {
+                continue;
+            }
+            boolean iguales = true;
+            for (int i = 0; i < len && iguales; i++) {
+                byte b = buffer.get(inicio + i);
+                if (b >= 'a' && b <= 'z') {
+                    b -= 32;
+                }
+                iguales = b == candidato[i];
+            }
+            if (iguales) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean esEspacio(byte b) {
+        return b == ' ' || b == '\t';
+    }
+
+    /**
+     * Alias en mayúsculas como bytes UTF-8; los no ASCII no coinciden aquí y los
+     * resuelve el validador
+     */
+    private static byte[][] utf8(List<String> valores) {
+        byte[][] bytes = new byte[valores.size()][];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = valores.get(i).getBytes(StandardCharsets.UTF_8);
+        }
+        return bytes;
+    }
+
+    /**
+     * Tabla abierta de Strings indexada por sus bytes UTF-8, para no volver a
+     * decodificar valores de baja cardinalidad como el país
+     */
+    private static final class StringTable {
+        private byte[][] claves = new byte[64][];
+        private String[] valores = new String[64];
+        private int size;
+
+        String get(byte[] bytes, int len) {
+            int mask = claves.length - 1;
+            int h = hash(bytes, len) & mask;
+            while (claves[h] != null) {
+                if (iguales(claves[h], bytes, len)) {
+                    return valores[h];
+                }
+                h = (h + 1) & mask;
+            }
+
+            byte[] clave = Arrays.copyOf(bytes, len);
+            String valor = new String(clave, StandardCharsets.UTF_8);
+            claves[h] = clave;
+            valores[h] = valor;
+            if (++size * 2 > claves.length) {
+                redimensionar();
+            }
+            return valor;
+        }
+
+        private void redimensionar() {
+            byte[][] viejasClaves = claves;
+            String[] viejosValores = valores;
+            claves = new byte[viejasClaves.length * 2][];
+            valores = new String[viejasClaves.length * 2];
+            int mask = claves.length - 1;
+            for (int i = 0; i < viejasClaves.length; i++) {
+                if (viejasClaves[i] != null) {
+                    int h = hash(viejasClaves[i], viejasClaves[i].length) & mask;
+                    while (claves[h] != null) {
+                        h = (h + 1) & mask;
+                    }
+                    claves[h] = viejasClaves[i];
+                    valores[h] = viejosValores[i];
+                }
+            }
+        }
+
+        private static int hash(byte[] bytes, int len) {
+            int h = 1;
+            for (int i = 0; i < len; i++) {
+                h = 31 * h + bytes[i];
+            }
+            return h ^ (h >>> 16);
+        }
+
+        private static boolean iguales(byte[] clave, byte[] bytes, int len) {
+            if (clave.length != len) {
+                return false;
+            }
+            for (int i = 0; i < len; i++) {
+                if (clave[i] != bytes[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.torneo_tenis.io;
+
+import com.torneo_tenis.model.Tenista1;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Lector de archivos CSV de tenistas mediante memoria mapeada (FileChannel.map).
+ * Es equivalente a CsvReader pero parsea directamente los bytes del archivo,
+ * sin crear una String por línea ni usar split(), y entiende campos entrecomillados.
+ */
+public class MappedCsvReader {
+    private static final Logger logger = LoggerFactory.getLogger(MappedCsvReader.class);
+
+    // Tamaño máximo de cada ventana mapeada (un mapeo no puede superar 2 GB)
+    static final long MAX_WINDOW = 256L * 1024 * 1024;
+
+    /**
+     * Lee tenistas desde un archivo CSV mapeado en memoria
+     *
+     * @param filePath Ruta del archivo CSV
+     * @return Lista de tenistas válidos
+     * @throws IOException Si hay problemas al leer el archivo
+     */
+    public static List<Tenista1> leerTenistas(String filePath) throws IOException {
+        List<Tenista1> tenistas = new ArrayList<>();
+        List<String> erroresGlobales = new ArrayList<>();
+
+        try (Stream<Tenista1> stream = streamTenistas(filePath, erroresGlobales::add)) {
+            stream.forEach(tenistas::add);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        if (!erroresGlobales.isEmpty()) {
+            logger.warn("Se encontraron " + erroresGlobales.size() + " errores durante la lectura:");
+            erroresGlobales.forEach(logger::warn);
+        }
+
+        logger.info("Lectura completada. Tenistas válidos: " + tenistas.size());
+        return tenistas;
+    }
+
+    /**
+     * Lee tenistas de forma perezosa recorriendo el archivo por ventanas mapeadas.
+     * El stream debe cerrarse para liberar el archivo.
+     *
+     * @param filePath Ruta del archivo CSV
+     * @param sumidero Sumidero que recibe un mensaje por cada línea inválida
+     * @return Stream secuencial de tenistas válidos
+     * @throws IOException Si el archivo no es válido o su header es incorrecto
+     */
+    public static Stream<Tenista1> streamTenistas(String filePath, Consumer<String> sumidero) throws IOException {
+        return streamTenistas(filePath, sumidero, MAX_WINDOW);
+    }
+
+    /**
+     * Como streamTenistas(filePath, sumidero) con un tamaño de ventana dado, para poder
+     * probar los cambios de ventana con archivos pequeños
+     */
+    static Stream<Tenista1> streamTenistas(String filePath, Consumer<String> sumidero, long ventana) throws IOException {
+        if (ventana <= 0 || ventana > MAX_WINDOW) {
+            throw new IllegalArgumentException("El tamaño de ventana debe estar entre 1 y " + MAX_WINDOW);
+        }
+        logger.info("Iniciando lectura mapeada del archivo CSV: " + filePath);
+
+        CsvReader.validateFilePath(filePath);
+
+        long inicio = System.nanoTime();
+        Consumer<String> errores = error -> {
+            CsvReader.ERRORES.incrementar();
+            sumidero.accept(error);
+        };
+
+        FileChannel channel = FileChannel.open(Paths.get(filePath), StandardOpenOption.READ);
+        long inicioDatos;
+        try {
+            inicioDatos = leerHeader(channel);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+
+        Spliterator<Tenista1> spliterator = new Spliterators.AbstractSpliterator<>(
+                Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+            private final long tamanio = channel.size();
+            private long offsetVentana = inicioDatos;
+            private MappedCsvParser parser;
+
+            @Override
+            public boolean tryAdvance(Consumer<? super Tenista1> action) {
+                try {
+                    while (true) {
+                        if (parser == null) {
+                            if (offsetVentana >= tamanio) {
+                                return false;
+                            }
+                            parser = mapearVentana(channel, offsetVentana, tamanio, ventana, 2, errores);
+                        }
+
+                        Tenista1 tenista = parser.next();
+                        if (tenista != null) {
+                            CsvReader.FILAS.incrementar();
+                            action.accept(tenista);
+                            return true;
+                        }
+
+                        // Ventana agotada: si quedan bytes se mapea la siguiente desde el primer
+                        // registro sin procesar, tanto si la ventana acabó justo en un fin de
+                        // registro como si el último quedó cortado
+                        long siguiente = offsetVentana + parser.position();
+                        if (!parser.needsMore() && siguiente >= tamanio) {
+                            return false;
+                        }
+                        if (parser.needsMore() && parser.position() == 0) {
+                            throw new IOException("Registro mayor que la ventana de mapeo en el byte " + offsetVentana);
+                        }
+                        int linea = parser.lineNumber();
+                        offsetVentana = siguiente;
+                        parser = mapearVentana(channel, siguiente, tamanio, ventana, linea, errores);
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        };
+
+        return StreamSupport.stream(spliterator, false).onClose(() -> {
+            CsvReader.LECTURA.registrarDesde(inicio);
+            try {
+                channel.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private static MappedCsvParser mapearVentana(FileChannel channel, long offset, long tamanio, long ventana,
+                                                 int primeraLinea, Consumer<String> errores) throws IOException {
+        long longitud = Math.min(ventana, tamanio - offset);
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, offset, longitud);
+        return new MappedCsvParser(buffer, 0, (int) longitud, offset + longitud >= tamanio,
+                                   primeraLinea, errores);
+    }
+
+    /**
+     * Lee y valida el header (saltando un posible BOM UTF-8)
+     *
+     * @return Offset del primer byte tras el header
+     */
+    static long leerHeader(FileChannel channel) throws IOException {
+        long tamanio = channel.size();
+        if (tamanio == 0) {
+            throw new IOException("El archivo CSV está vacío");
+        }
+
+        ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, Math.min(tamanio, 64 * 1024));
+        int inicio = 0;
+        if (buffer.limit() >= 3 && buffer.get(0) == (byte) 0xEF && buffer.get(1) == (byte) 0xBB
+                && buffer.get(2) == (byte) 0xBF) {
+            inicio = 3;
+        }
+
+        int fin = inicio;
+        while (fin < buffer.limit() && buffer.get(fin) != '\n') {
+            fin++;
+        }
+
+        byte[] bytes = new byte[fin - inicio];
+        buffer.get(inicio, bytes);
+        String headerLine = new String(bytes, StandardCharsets.UTF_8).replace("\r", "");
+        CsvReader.validateHeader(headerLine);
+
+        return Math.min(fin + 1L, tamanio);
+    }
+}
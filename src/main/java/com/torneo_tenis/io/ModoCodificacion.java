@@ -0,0 +1,11 @@
+package com.torneo_tenis.io;
+
+/**
+ * Forma en que los escritores generan cada registro
+ */
+public enum ModoCodificacion {
+    /** Un String por registro (StringBuilder, DateTimeFormatter y String.replace) */
+    TEXTO,
+    /** Escritura directa en un buffer reutilizable, sin objetos intermedios por registro */
+    BUFFER
+}
@@ -0,0 +1,349 @@
+package com.torneo_tenis.io;
+
+import com.torneo_tenis.model.Tenista1;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Lector CSV que divide el archivo en rangos de bytes alineados a inicio de
+ * registro y los parsea y valida en paralelo sobre un ForkJoinPool.
+ * Conserva los números de línea en los mensajes de error y entrega los
+ * tenistas en lotes, en el orden del archivo o según van terminando.
+ * Solo hay un número acotado de fragmentos en curso a la vez, de modo que la
+ * memoria no crece con el tamaño del archivo.
+ */
+public class ParallelCsvReader implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(ParallelCsvReader.class);
+
+    private static final long DEFAULT_CHUNK_SIZE = 16L * 1024 * 1024;
+    private static final int DEFAULT_BATCH_SIZE = 1000;
+    private static final int SCAN_BUFFER = 64 * 1024;
+
+    private final ForkJoinPool pool;
+    private final long chunkSize;
+    private final int batchSize;
+    private final int maxEnCurso;
+
+    /**
+     * Constructor con un hilo por núcleo y valores por defecto
+     */
+    public ParallelCsvReader() {
+        this(Runtime.getRuntime().availableProcessors(), DEFAULT_CHUNK_SIZE, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * @param paralelismo Número de hilos de parseo
+     * @param chunkSize Tamaño aproximado en bytes de cada fragmento
+     * @param batchSize Número de tenistas por lote entregado
+     */
+    public ParallelCsvReader(int paralelismo, long chunkSize, int batchSize) {
+        this(paralelismo, chunkSize, batchSize, 2 * paralelismo);
+    }
+
+    /**
+     * @param maxEnCurso Máximo de fragmentos enviados al pool y aún no entregados; en modo
+     *                   ordenado acota los lotes retenidos a la espera de fragmentos anteriores
+     */
+    public ParallelCsvReader(int paralelismo, long chunkSize, int batchSize, int maxEnCurso) {
+        if (paralelismo <= 0 || batchSize <= 0 || maxEnCurso <= 0) {
+            throw new IllegalArgumentException("El paralelismo, el tamaño de lote y los fragmentos en curso deben ser mayores que 0");
+        }
+        if (chunkSize <= 0 || chunkSize > MappedCsvReader.MAX_WINDOW) {
+            throw new IllegalArgumentException("El tamaño de fragmento debe estar entre 1 y " + MappedCsvReader.MAX_WINDOW);
+        }
+
+        this.pool = new ForkJoinPool(paralelismo);
+        this.chunkSize = chunkSize;
+        this.batchSize = batchSize;
+        this.maxEnCurso = maxEnCurso;
+    }
+
+    /**
+     * Lee el archivo en paralelo entregando los tenistas válidos por lotes.
+     * En modo ordenado los lotes y errores se entregan en el hilo llamante y en
+     * el orden del archivo: el fragmento k se entrega en cuanto terminan 0..k, y solo
+     * entonces se lanza uno nuevo. Si no, se entregan desde los hilos del pool en cuanto
+     * cada fragmento termina, por lo que los consumidores deben ser seguros para hilos.
+     *
+     * @param filePath Ruta del archivo CSV
+     * @param lotes Consumidor de lotes de tenistas válidos
+     * @param errores Sumidero de mensajes de error por línea
+     * @param ordenado true para conservar el orden del archivo
+     * @return Informe con filas, errores y rendimiento de la ejecución
+     * @throws IOException Si el archivo no es válido o falla la lectura
+     */
+    public InformeIngesta leer(String filePath, Consumer<List<Tenista1>> lotes,
+                               Consumer<String> errores, boolean ordenado) throws IOException {
+        logger.info("Iniciando lectura paralela del archivo CSV: " + filePath);
+        long inicio = System.nanoTime();
+
+        CsvReader.validateFilePath(filePath);
+
+        try (FileChannel channel = FileChannel.open(Paths.get(filePath), StandardOpenOption.READ)) {
+            long tamanio = channel.size();
+            long inicioDatos = MappedCsvReader.leerHeader(channel);
+
+            List<Fragmento> fragmentos = dividir(channel, inicioDatos, tamanio);
+            logger.debug("Archivo dividido en " + fragmentos.size() + " fragmentos");
+
+            AtomicLong filas = new AtomicLong();
+            AtomicLong numErrores = new AtomicLong();
+            Consumer<String> sumidero = ordenado ? errores : error -> {
+                synchronized (errores) {
+                    errores.accept(error);
+                }
+            };
+
+            // Ventana deslizante: se esperan los fragmentos en orden y cada uno que termina
+            // deja sitio para el siguiente, así nunca hay más de maxEnCurso en memoria
+            ArrayDeque<Future<Resultado>> enCurso = new ArrayDeque<>(maxEnCurso);
+            int siguiente = 0;
+            try {
+                while (siguiente < fragmentos.size() && enCurso.size() < maxEnCurso) {
+                    enCurso.add(lanzar(channel, fragmentos.get(siguiente++), ordenado, lotes, sumidero));
+                }
+                while (!enCurso.isEmpty()) {
+                    Resultado resultado = obtener(enCurso.poll());
+                    if (siguiente < fragmentos.size()) {
+                        enCurso.add(lanzar(channel, fragmentos.get(siguiente++), ordenado, lotes, sumidero));
+                    }
+                    filas.addAndGet(resultado.filas);
+                    numErrores.addAndGet(resultado.errores.size() + resultado.erroresEntregados);
+                    if (ordenado) {
+                        resultado.errores.forEach(sumidero);
+                        resultado.lotes.forEach(lotes);
+                    }
+                }
+            } finally {
+                // Tras un error no se sigue parseando lo que ya no se va a entregar
+                enCurso.forEach(futuro -> futuro.cancel(true));
+            }
+
+            long nanos = System.nanoTime() - inicio;
+            CsvReader.LECTURA.registrar(nanos);
+            InformeIngesta informe = new InformeIngesta(filas.get(), numErrores.get(), tamanio,
+                                                        nanos, fragmentos.size());
+            logger.info(informe.toString());
+            return informe;
+        }
+    }
+
+    /**
+     * Divide [inicioDatos, tamanio) en fragmentos que empiezan en inicio de registro.
+     * Primero cuenta en paralelo saltos de línea y comillas de cada rango nominal;
+     * con la paridad acumulada de comillas se sabe si cada frontera cae dentro de
+     * un campo entrecomillado y se avanza hasta el siguiente salto de línea real.
+     */
+    private List<Fragmento> dividir(FileChannel channel, long inicioDatos, long tamanio) throws IOException {
+        List<Fragmento> fragmentos = new ArrayList<>();
+        if (inicioDatos >= tamanio) {
+            return fragmentos;
+        }
+
+        int n = (int) ((tamanio - inicioDatos + chunkSize - 1) / chunkSize);
+        List<Callable<long[]>> conteos = new ArrayList<>(n);
+        for (int k = 0; k < n; k++) {
+            long desde = inicioDatos + k * chunkSize;
+            long hasta = Math.min(tamanio, desde + chunkSize);
+            conteos.add(() -> contar(channel, desde, hasta));
+        }
+        List<Future<long[]>> resultados = pool.invokeAll(conteos);
+
+        long lineasPrevias = 0;
+        long comillasPrevias = 0;
+        long inicioFragmento = inicioDatos;
+        long lineaFragmento = 2; // La línea 1 es el header
+
+        for (int k = 1; k <= n; k++) {
+            long[] conteo = obtener(resultados.get(k - 1));
+            lineasPrevias += conteo[0];
+            comillasPrevias += conteo[1];
+            if (k == n) {
+                break;
+            }
+
+            long frontera = inicioDatos + k * chunkSize;
+            if (frontera <= inicioFragmento) {
+                continue;
+            }
+
+            long[] alineado = alinear(channel, frontera, tamanio, (comillasPrevias & 1) == 1);
+            long inicioSiguiente = alineado[0];
+            long lineaSiguiente = 2 + lineasPrevias + alineado[1];
+
+            if (inicioSiguiente > inicioFragmento && inicioSiguiente < tamanio) {
+                fragmentos.add(new Fragmento(inicioFragmento, inicioSiguiente, (int) lineaFragmento));
+                inicioFragmento = inicioSiguiente;
+                lineaFragmento = lineaSiguiente;
+            }
+        }
+
+        fragmentos.add(new Fragmento(inicioFragmento, tamanio, (int) lineaFragmento));
+        return fragmentos;
+    }
+
+    /**
+     * Cuenta saltos de línea y comillas en [desde, hasta)
+     */
+    private static long[] contar(FileChannel channel, long desde, long hasta) throws IOException {
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, desde, hasta - desde);
+        long lineas = 0;
+        long comillas = 0;
+        int limite = buffer.limit();
+        for (int i = 0; i < limite; i++) {
+            byte b = buffer.get(i);
+            if (b == '\n') {
+                lineas++;
+            } else if (b == '"') {
+                comillas++;
+            }
+        }
+        return new long[]{lineas, comillas};
+    }
+
+    /**
+     * Avanza desde la frontera hasta el byte siguiente al primer salto de línea
+     * fuera de comillas
+     *
+     * @return {offset alineado, saltos de línea recorridos}
+     */
+    private static long[] alinear(FileChannel channel, long frontera, long tamanio,
+                                  boolean entreComillas) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(SCAN_BUFFER);
+        long offset = frontera;
+        long lineas = 0;
+
+        while (offset < tamanio) {
+            buffer.clear();
+            int leidos = channel.read(buffer, offset);
+            if (leidos <= 0) {
+                break;
+            }
+            for (int i = 0; i < leidos; i++) {
+                byte b = buffer.get(i);
+                if (b == '"') {
+                    entreComillas = !entreComillas;
+                } else if (b == '\n') {
+                    lineas++;
+                    if (!entreComillas) {
+                        return new long[]{offset + i + 1, lineas};
+                    }
+                }
+            }
+            offset += leidos;
+        }
+        return new long[]{tamanio, lineas};
+    }
+
+    private Future<Resultado> lanzar(FileChannel channel, Fragmento fragmento, boolean ordenado,
+                                     Consumer<List<Tenista1>> lotes, Consumer<String> sumidero) {
+        return pool.submit(() -> parsear(channel, fragmento, ordenado ? null : lotes, ordenado ? null : sumidero));
+    }
+
+    private Resultado parsear(FileChannel channel, Fragmento fragmento,
+                              Consumer<List<Tenista1>> lotes, Consumer<String> errores) throws IOException {
+        Resultado resultado = new Resultado();
+        Consumer<String> sumidero = errores == null ? resultado.errores::add : error -> {
+            resultado.erroresEntregados++;
+            errores.accept(error);
+        };
+
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, fragmento.inicio,
+                                              fragmento.fin - fragmento.inicio);
+        MappedCsvParser parser = new MappedCsvParser(buffer, 0, buffer.limit(), true,
+                                                     fragmento.primeraLinea, sumidero);
+
+        List<Tenista1> lote = new ArrayList<>(batchSize);
+        Tenista1 tenista;
+        while ((tenista = parser.next()) != null) {
+            lote.add(tenista);
+            resultado.filas++;
+            if (lote.size() >= batchSize) {
+                entregar(resultado, lotes, lote);
+                lote = new ArrayList<>(batchSize);
+            }
+        }
+        if (!lote.isEmpty()) {
+            entregar(resultado, lotes, lote);
+        }
+        CsvReader.FILAS.sumar(resultado.filas);
+        CsvReader.ERRORES.sumar(resultado.errores.size() + resultado.erroresEntregados);
+        return resultado;
+    }
+
+    private static void entregar(Resultado resultado, Consumer<List<Tenista1>> lotes, List<Tenista1> lote) {
+        if (lotes == null) {
+            resultado.lotes.add(lote);
+        } else {
+            lotes.accept(lote);
+        }
+    }
+
+    private static <T> T obtener(Future<T> futuro) throws IOException {
+        try {
+            return futuro.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Lectura paralela interrumpida", e);
+        } catch (ExecutionException e) {
+            Throwable causa = e.getCause();
+            if (causa instanceof IOException io) {
+                throw io;
+            }
+            if (causa instanceof UncheckedIOException io) {
+                throw io.getCause();
+            }
+            if (causa instanceof RuntimeException re) {
+                throw re;
+            }
+            throw new IOException(causa);
+        }
+    }
+
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+
+    /**
+     * Rango de bytes [inicio, fin) alineado a registros completos
+     */
+    private static final class Fragmento {
+        private final long inicio;
+        private final long fin;
+        private final int primeraLinea;
+
+        private Fragmento(long inicio, long fin, int primeraLinea) {
+            this.inicio = inicio;
+            this.fin = fin;
+            this.primeraLinea = primeraLinea;
+        }
+    }
+
+    /**
+     * Resultado del parseo de un fragmento
+     */
+    private static final class Resultado {
+        private final List<List<Tenista1>> lotes = new ArrayList<>();
+        private final List<String> errores = new ArrayList<>();
+        private long filas;
+        private long erroresEntregados;
+    }
+}
@@ -0,0 +1,52 @@
+package com.torneo_tenis.io;
+
+import com.torneo_tenis.metrics.Contador;
+import com.torneo_tenis.metrics.Metricas;
+import com.torneo_tenis.metrics.Temporizador;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * OutputStream que suma los bytes escritos a escritura.<formato>.bytes y, al cerrarse,
+ * registra en escritura.<formato> el tiempo que ha estado abierto; con ambos se
+ * obtienen los bytes por segundo de cada formato de salida
+ */
+final class SalidaMedida extends FilterOutputStream {
+    private final Contador bytes;
+    private final Temporizador duracion;
+    private final long inicio = System.nanoTime();
+    private boolean cerrado;
+
+    SalidaMedida(OutputStream destino, String formato) {
+        super(destino);
+        this.bytes = Metricas.global().contador("escritura." + formato + ".bytes");
+        this.duracion = Metricas.global().temporizador("escritura." + formato);
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        out.write(b);
+        bytes.incrementar();
+    }
+
+    @Override
+    public void write(byte[] datos, int desde, int longitud) throws IOException {
+        out.write(datos, desde, longitud);
+        bytes.sumar(longitud);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (cerrado) {
+            return;
+        }
+        cerrado = true;
+        try {
+            super.close();
+        } finally {
+            duracion.registrarDesde(inicio);
+        }
+    }
+}
@@ -0,0 +1,256 @@
+package com.torneo_tenis.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Buffer de caracteres reutilizable delante de un Writer. Además de texto, escribe
+ * números, fechas y valores escapados (CSV, JSON, XML) directamente en el buffer,
+ * sin crear Strings intermedios por registro.
+ */
+final class SalidaTexto implements Closeable {
+    private static final int DEFAULT_CAPACIDAD = 64 * 1024;
+    // Solo para años fuera de 0000-9999, que el formato rápido no cubre
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private static final DateTimeFormatter DATETIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSSSS");
+
+    private final Writer destino;
+    private final char[] buffer;
+    private int posicion;
+
+    SalidaTexto(Writer destino) {
+        this(destino, DEFAULT_CAPACIDAD);
+    }
+
+    SalidaTexto(Writer destino, int capacidad) {
+        // Cabe siempre un valor numérico o una fecha completa
+        this.buffer = new char[Math.max(capacidad, 64)];
+        this.destino = destino;
+    }
+
+    private void reservar(int caracteres) throws IOException {
+        if (posicion + caracteres > buffer.length) {
+            volcar();
+        }
+    }
+
+    SalidaTexto append(char c) throws IOException {
+        reservar(1);
+        buffer[posicion++] = c;
+        return this;
+    }
+
+    SalidaTexto append(String texto) throws IOException {
+        return append(texto, 0, texto.length());
+    }
+
+    /**
+     * Copia texto[inicio, fin) en el buffer, volcando tantas veces como haga falta
+     */
+    SalidaTexto append(String texto, int inicio, int fin) throws IOException {
+        while (inicio < fin) {
+            if (posicion == buffer.length) {
+                volcar();
+            }
+            int n = Math.min(fin - inicio, buffer.length - posicion);
+            texto.getChars(inicio, inicio + n, buffer, posicion);
+            posicion += n;
+            inicio += n;
+        }
+        return this;
+    }
+
+    SalidaTexto appendInt(int valor) throws IOException {
+        return appendLong(valor);
+    }
+
+    SalidaTexto appendLong(long valor) throws IOException {
+        if (valor == Long.MIN_VALUE) {
+            return append(Long.toString(valor));
+        }
+        reservar(20);
+        if (valor < 0) {
+            buffer[posicion++] = '-';
+            valor = -valor;
+        }
+        int digitos = contarDigitos(valor);
+        int i = posicion + digitos;
+        do {
+            buffer[--i] = (char) ('0' + valor % 10);
+            valor /= 10;
+        } while (valor != 0);
+        posicion += digitos;
+        return this;
+    }
+
+    private static int contarDigitos(long valor) {
+        int digitos = 1;
+        while (valor >= 10) {
+            valor /= 10;
+            digitos++;
+        }
+        return digitos;
+    }
+
+    /**
+     * Escribe un entero con ceros a la izquierda hasta el ancho indicado (valor >= 0)
+     */
+    private void appendRelleno(int valor, int ancho) {
+        for (int i = posicion + ancho - 1; i >= posicion; i--) {
+            buffer[i] = (char) ('0' + valor % 10);
+            valor /= 10;
+        }
+        posicion += ancho;
+    }
+
+    /**
+     * Fecha en formato yyyy-MM-dd
+     */
+    SalidaTexto appendFecha(LocalDate fecha) throws IOException {
+        if (fecha.getYear() < 0 || fecha.getYear() > 9999) {
+            return append(fecha.format(DATE_FORMATTER));
+        }
+        reservar(10);
+        appendFechaSinComprobar(fecha.getYear(), fecha.getMonthValue(), fecha.getDayOfMonth());
+        return this;
+    }
+
+    /**
+     * Fecha y hora en formato yyyy-MM-dd'T'HH:mm:ss.SSSSSS
+     */
+    SalidaTexto appendFechaHora(LocalDateTime fechaHora) throws IOException {
+        if (fechaHora.getYear() < 0 || fechaHora.getYear() > 9999) {
+            return append(fechaHora.format(DATETIME_FORMATTER));
+        }
+        reservar(26);
+        appendFechaSinComprobar(fechaHora.getYear(), fechaHora.getMonthValue(), fechaHora.getDayOfMonth());
+        buffer[posicion++] = 'T';
+        appendRelleno(fechaHora.getHour(), 2);
+        buffer[posicion++] = ':';
+        appendRelleno(fechaHora.getMinute(), 2);
+        buffer[posicion++] = ':';
+        appendRelleno(fechaHora.getSecond(), 2);
+        buffer[posicion++] = '.';
+        appendRelleno(fechaHora.getNano() / 1000, 6);
+        return this;
+    }
+
+    private void appendFechaSinComprobar(int anio, int mes, int dia) {
+        appendRelleno(anio, 4);
+        buffer[posicion++] = '-';
+        appendRelleno(mes, 2);
+        buffer[posicion++] = '-';
+        appendRelleno(dia, 2);
+    }
+
+    /**
+     * Valor CSV: entre comillas (duplicando las internas) solo si contiene coma, comilla o salto de línea
+     */
+    SalidaTexto appendCsv(String valor) throws IOException {
+        if (valor == null) {
+            return this;
+        }
+        int longitud = valor.length();
+        boolean citar = false;
+        for (int i = 0; i < longitud && !citar; i++) {
+            char c = valor.charAt(i);
+            citar = c == ',' || c == '"' || c == '\n';
+        }
+        if (!citar) {
+            return append(valor);
+        }
+
+        append('"');
+        int inicio = 0;
+        for (int i = 0; i < longitud; i++) {
+            if (valor.charAt(i) == '"') {
+                append(valor, inicio, i + 1);
+                inicio = i;
+            }
+        }
+        append(valor, inicio, longitud);
+        return append('"');
+    }
+
+    /**
+     * Cadena JSON escapada en una sola pasada (\\, ", \n, \r, \t), sin las comillas
+     */
+    SalidaTexto appendJson(String valor) throws IOException {
+        if (valor == null) {
+            return this;
+        }
+        int inicio = 0;
+        int longitud = valor.length();
+        for (int i = 0; i < longitud; i++) {
+            char escape = switch (valor.charAt(i)) {
+                case '\\' -> '\\';
+                case '"' -> '"';
+                case '\n' -> 'n';
+                case '\r' -> 'r';
+                case '\t' -> 't';
+                default -> 0;
+            };
+            if (escape != 0) {
+                append(valor, inicio, i);
+                reservar(2);
+                buffer[posicion++] = '\\';
+                buffer[posicion++] = escape;
+                inicio = i + 1;
+            }
+        }
+        return append(valor, inicio, longitud);
+    }
+
+    /**
+     * Texto XML escapado en una sola pasada (&, <, >, ", ')
+     */
+    SalidaTexto appendXml(String valor) throws IOException {
+        if (valor == null) {
+            return this;
+        }
+        int inicio = 0;
+        int longitud = valor.length();
+        for (int i = 0; i < longitud; i++) {
+            String entidad = switch (valor.charAt(i)) {
+                case '&' -> "&amp;";
+                case '<' -> "&lt;";
+                case '>' -> "&gt;";
+                case '"' -> "&quot;";
+                case '\'' -> "&apos;";
+                default -> null;
+            };
+            if (entidad != null) {
+                append(valor, inicio, i);
+                append(entidad);
+                inicio = i + 1;
+            }
+        }
+        return append(valor, inicio, longitud);
+    }
+
+    /**
+     * Pasa el contenido del buffer al Writer de destino
+     */
+    void volcar() throws IOException {
+        if (posicion > 0) {
+            destino.write(buffer, 0, posicion);
+            posicion = 0;
+        }
+    }
+
+    void flush() throws IOException {
+        volcar();
+        destino.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try (destino) {
+            volcar();
+        }
+    }
+}
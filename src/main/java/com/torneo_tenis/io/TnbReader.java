@@ -0,0 +1,235 @@
+package com.torneo_tenis.io;
+
+import com.torneo_tenis.model.Mano;
+import com.torneo_tenis.model.Tenista1;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Lector del formato binario compacto .tnb (ver FormatoTnb)
+ */
+public class TnbReader {
+    private static final Logger logger = LoggerFactory.getLogger(TnbReader.class);
+
+    /**
+     * Lee todos los tenistas de un archivo .tnb
+     *
+     * @param filePath Ruta del archivo
+     * @return Lista de tenistas en el orden en que se escribieron
+     * @throws IOException Si el archivo no existe o no tiene un formato TNB válido
+     */
+    public static List<Tenista1> leerTenistas(String filePath) throws IOException {
+        List<Tenista1> tenistas = new ArrayList<>();
+        try (Stream<Tenista1> stream = streamTenistas(filePath)) {
+            stream.forEach(tenistas::add);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        logger.info("Leídos " + tenistas.size() + " tenistas del archivo TNB: " + filePath);
+        return tenistas;
+    }
+
+    /**
+     * Lee tenistas de forma perezosa. El stream debe cerrarse para liberar el archivo.
+     */
+    public static Stream<Tenista1> streamTenistas(String filePath) throws IOException {
+        logger.info("Iniciando lectura del archivo TNB: " + filePath);
+        return streamTenistas(new FileInputStream(filePath), filePath);
+    }
+
+    /**
+     * Lee tenistas de forma perezosa de un InputStream, que se cierra al cerrar el stream
+     */
+    public static Stream<Tenista1> streamTenistas(InputStream entrada, String nombre) throws IOException {
+        Lector lector = new Lector(new BufferedInputStream(entrada, 64 * 1024), nombre);
+        try {
+            lector.leerCabecera();
+        } catch (IOException e) {
+            lector.entrada.close();
+            throw e;
+        }
+
+        return StreamSupport.stream(lector, false).onClose(() -> {
+            try {
+                lector.entrada.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /**
+     * Decodifica registro a registro reutilizando el buffer del cuerpo
+     */
+    private static final class Lector extends Spliterators.AbstractSpliterator<Tenista1> {
+        private final InputStream entrada;
+        private final String nombre;
+        private final List<String> paises = new ArrayList<>();
+        private byte[] registro = new byte[256];
+        private int pos;
+        private int fin;
+        private long ultimoId;
+        private long leidos;
+        private boolean terminado;
+
+        Lector(InputStream entrada, String nombre) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.entrada = entrada;
+            this.nombre = nombre;
+        }
+
+        void leerCabecera() throws IOException {
+            byte[] magic = entrada.readNBytes(FormatoTnb.MAGIC.length);
+            if (!Arrays.equals(magic, FormatoTnb.MAGIC)) {
+                throw new IOException("El archivo no tiene formato TNB: " + nombre);
+            }
+            int version = entrada.read();
+            if (version != FormatoTnb.VERSION) {
+                throw new IOException("Versión de TNB no soportada (" + version + "): " + nombre);
+            }
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Tenista1> action) {
+            if (terminado) {
+                return false;
+            }
+            try {
+                long prefijo = leerVarintEntrada();
+                if (prefijo < 0 || prefijo > FormatoTnb.MAX_REGISTRO) {
+                    throw new IOException("Longitud de registro TNB no válida (" + Long.toUnsignedString(prefijo)
+                                          + ") tras " + leidos + " registros");
+                }
+                int longitud = (int) prefijo;
+                if (longitud == 0) {
+                    long total = leerVarintEntrada();
+                    if (total != leidos) {
+                        throw new IOException("Archivo TNB incompleto: " + leidos + " de " + total + " registros");
+                    }
+                    terminado = true;
+                    return false;
+                }
+
+                if (longitud > registro.length) {
+                    registro = new byte[Math.max(longitud, registro.length * 2)];
+                }
+                if (entrada.readNBytes(registro, 0, longitud) != longitud) {
+                    throw new EOFException("Registro TNB truncado tras " + leidos + " registros");
+                }
+                pos = 0;
+                fin = longitud;
+
+                action.accept(decodificar());
+                leidos++;
+                return true;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private Tenista1 decodificar() throws IOException {
+            int flags = leerByte();
+            Long id = null;
+            if ((flags & FormatoTnb.FLAG_ID) != 0) {
+                ultimoId += leerZigzag();
+                id = ultimoId;
+            }
+            String nombreTenista = leerTexto();
+            String pais = leerPais();
+            int altura = (int) leerZigzag();
+            int peso = (int) leerZigzag();
+            int puntos = (int) leerZigzag();
+            LocalDate fechaNacimiento = LocalDate.ofEpochDay(leerZigzag());
+            long creado = leerZigzag();
+            long actualizado = creado + leerZigzag();
+            if (pos != fin) {
+                throw new IOException("Registro TNB con " + (fin - pos) + " bytes sobrantes");
+            }
+
+            return new Tenista1(id, nombreTenista, pais, altura, peso, puntos,
+                                (flags & FormatoTnb.FLAG_IZQUIERDA) != 0 ? Mano.IZQUIERDA : Mano.DERECHA,
+                                fechaNacimiento, FormatoTnb.desdeMicros(creado), FormatoTnb.desdeMicros(actualizado));
+        }
+
+        private String leerPais() throws IOException {
+            long indice = leerVarint();
+            if (indice >= 0 && indice < paises.size()) {
+                return paises.get((int) indice);
+            }
+            if (indice != paises.size()) {
+                throw new IOException("Índice de país fuera del diccionario: " + indice);
+            }
+            String pais = leerTexto();
+            paises.add(pais);
+            return pais;
+        }
+
+        private int leerByte() throws IOException {
+            if (pos >= fin) {
+                throw new EOFException("Registro TNB truncado");
+            }
+            return registro[pos++] & 0xFF;
+        }
+
+        private long leerVarint() throws IOException {
+            long valor = 0;
+            for (int desplazamiento = 0; desplazamiento < 64; desplazamiento += 7) {
+                int b = leerByte();
+                valor |= (long) (b & 0x7F) << desplazamiento;
+                if ((b & 0x80) == 0) {
+                    return valor;
+                }
+            }
+            throw new IOException("Varint mal formado en registro TNB");
+        }
+
+        private long leerZigzag() throws IOException {
+            return FormatoTnb.unzigzag(leerVarint());
+        }
+
+        private String leerTexto() throws IOException {
+            long bytes = leerVarint();
+            if (bytes < 0 || bytes > fin - pos) {
+                throw new EOFException("Texto TNB truncado");
+            }
+            String texto = new String(registro, pos, (int) bytes, StandardCharsets.UTF_8);
+            pos += (int) bytes;
+            return texto;
+        }
+
+        /**
+         * Varint leído directamente del flujo (prefijos de longitud y total final)
+         */
+        private long leerVarintEntrada() throws IOException {
+            long valor = 0;
+            for (int desplazamiento = 0; desplazamiento < 64; desplazamiento += 7) {
+                int b = entrada.read();
+                if (b < 0) {
+                    throw new EOFException("Archivo TNB truncado tras " + leidos + " registros");
+                }
+                valor |= (long) (b & 0x7F) << desplazamiento;
+                if ((b & 0x80) == 0) {
+                    return valor;
+                }
+            }
+            throw new IOException("Varint mal formado en archivo TNB");
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.torneo_tenis.io;
+
+import com.torneo_tenis.model.Mano;
+import com.torneo_tenis.model.Tenista1;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Escritor de tenistas en el formato binario compacto .tnb (ver FormatoTnb)
+ */
+public class TnbWriter implements ITenistaWriter {
+    private static final Logger logger = LoggerFactory.getLogger(TnbWriter.class);
+
+    @Override
+    public String getFormato() {
+        return "tnb";
+    }
+
+    /**
+     * Abre una escritura binaria sobre un OutputStream, que se cierra al cerrar la escritura
+     */
+    @Override
+    public EscrituraTenistas abrir(OutputStream destino, String nombre) throws IOException {
+        logger.info("Escribiendo tenistas a archivo TNB: " + nombre);
+        OutputStream salida = new BufferedOutputStream(destino, 64 * 1024);
+        try {
+            salida.write(FormatoTnb.MAGIC);
+            salida.write(FormatoTnb.VERSION);
+        } catch (IOException e) {
+            salida.close();
+            throw e;
+        }
+        return new EscrituraTnb(salida, nombre);
+    }
+
+    private static final class EscrituraTnb implements EscrituraTenistas {
+        private final OutputStream salida;
+        private final String nombre;
+        private final FormatoTnb.Bytes registro = new FormatoTnb.Bytes();
+        private final FormatoTnb.Bytes prefijo = new FormatoTnb.Bytes();
+        private final Map<String, Integer> paises = new HashMap<>();
+        private long ultimoId;
+        private long escritos;
+        private boolean cerrado;
+
+        EscrituraTnb(OutputStream salida, String nombre) {
+            this.salida = salida;
+            this.nombre = nombre;
+        }
+
+        @Override
+        public void escribir(Tenista1 tenista) throws IOException {
+            if (cerrado) {
+                throw new IOException("El archivo ya está cerrado: " + nombre);
+            }
+
+            registro.reiniciar();
+            int flags = (tenista.getMano() == Mano.IZQUIERDA ? FormatoTnb.FLAG_IZQUIERDA : 0)
+                      | (tenista.getId() != null ? FormatoTnb.FLAG_ID : 0);
+            registro.escribirByte(flags);
+            if (tenista.getId() != null) {
+                registro.escribirZigzag(tenista.getId() - ultimoId);
+                ultimoId = tenista.getId();
+            }
+            registro.escribirTexto(tenista.getNombre());
+            escribirPais(tenista.getPais());
+            registro.escribirZigzag(tenista.getAltura());
+            registro.escribirZigzag(tenista.getPeso());
+            registro.escribirZigzag(tenista.getPuntos());
+            registro.escribirZigzag(tenista.getFecha_nacimiento().toEpochDay());
+            long creado = FormatoTnb.aMicros(tenista.getCreated_at());
+            registro.escribirZigzag(creado);
+            registro.escribirZigzag(FormatoTnb.aMicros(tenista.getUpdated_at()) - creado);
+            if (registro.longitud() > FormatoTnb.MAX_REGISTRO) {
+                throw new IOException("Registro TNB de " + registro.longitud() + " bytes, máximo "
+                                      + FormatoTnb.MAX_REGISTRO + ": " + nombre);
+            }
+
+            escribirLongitud(registro.longitud());
+            salida.write(registro.datos(), 0, registro.longitud());
+            escritos++;
+        }
+
+        /**
+         * Índice del país en el diccionario; la primera aparición incluye el texto
+         */
+        private void escribirPais(String pais) {
+            Integer indice = paises.get(pais);
+            if (indice != null) {
+                registro.escribirVarint(indice);
+                return;
+            }
+            int nuevo = paises.size();
+            paises.put(pais, nuevo);
+            registro.escribirVarint(nuevo);
+            registro.escribirTexto(pais);
+        }
+
+        private void escribirLongitud(long valor) throws IOException {
+            prefijo.reiniciar();
+            prefijo.escribirVarint(valor);
+            salida.write(prefijo.datos(), 0, prefijo.longitud());
+        }
+
+        @Override
+        public long getEscritos() {
+            return escritos;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (cerrado) {
+                return;
+            }
+            cerrado = true;
+            try (salida) {
+                // Longitud 0 = fin de registros, seguido del total para verificar la lectura
+                escribirLongitud(0);
+                escribirLongitud(escritos);
+                salida.flush();
+            }
+            logger.info("Archivo TNB escrito correctamente: " + nombre + " (" + escritos + " tenistas, "
+                        + paises.size() + " países)");
+        }
+    }
+}
@@ -1,49 +1,71 @@
 package com.torneo_tenis.io;
 
 import com.torneo_tenis.model.Tenista1;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
-import java.io.BufferedWriter;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.io.Writer;
 import java.time.format.DateTimeFormatter;
-import java.util.List;
 
 /**
  * Escritor de tenistas en formato XML
  */
-public class XmlWriter implements ITenistaWriter {
-    private static final Logger logger = LoggerFactory.getLogger(XmlWriter.class);
-    
+public class XmlWriter implements ITenistaTextWriter {
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
     private static final DateTimeFormatter DATETIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSSSS");
 
+    private final ModoCodificacion modo;
+
+    public XmlWriter() {
+        this(ModoCodificacion.BUFFER);
+    }
+
+    public XmlWriter(ModoCodificacion modo) {
+        this.modo = modo;
+    }
+
     @Override
-    public void escribir(List<Tenista1> tenistas, String filePath) throws IOException {
-        logger.info("Escribiendo " + tenistas.size() + " tenistas a archivo XML: " + filePath);
-        
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter(filePath))) {
-            // Escribir cabecera XML
-            writer.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
-            writer.write("<tenistas>\n");
-            
-            // Escribir cada tenista
-            for (Tenista1 tenista : tenistas) {
-                writer.write(formatearTenistaXML(tenista));
+    public String getFormato() {
+        return "xml";
+    }
+
+    @Override
+    public EscrituraTenistas abrir(Writer destino, String nombre) throws IOException {
+        return new AbstractEscritura("XML", nombre, destino) {
+            @Override
+            protected void escribirCabecera() throws IOException {
+                salida.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+                salida.append("<tenistas>\n");
             }
-            
-            // Cerrar elemento raíz
-            writer.write("</tenistas>\n");
-            
-            writer.flush();
-        }
-        
-        logger.info("Archivo XML escrito correctamente: " + filePath);
+
+            @Override
+            protected void escribirRegistro(Tenista1 tenista, boolean primero) throws IOException {
+                if (modo == ModoCodificacion.TEXTO) {
+                    salida.append(formatearTenistaXML(tenista));
+                    return;
+                }
+                salida.append("  <tenista>\n    <id>");
+                escribirId(tenista.getId());
+                salida.append("</id>\n    <nombre>").appendXml(tenista.getNombre())
+                      .append("</nombre>\n    <pais>").appendXml(tenista.getPais())
+                      .append("</pais>\n    <altura>").appendInt(tenista.getAltura())
+                      .append("</altura>\n    <peso>").appendInt(tenista.getPeso())
+                      .append("</peso>\n    <puntos>").appendInt(tenista.getPuntos())
+                      .append("</puntos>\n    <mano>").append(tenista.getMano().name())
+                      .append("</mano>\n    <fecha_nacimiento>").appendFecha(tenista.getFecha_nacimiento())
+                      .append("</fecha_nacimiento>\n    <created_at>").appendFechaHora(tenista.getCreated_at())
+                      .append("</created_at>\n    <updated_at>").appendFechaHora(tenista.getUpdated_at())
+                      .append("</updated_at>\n  </tenista>\n");
+            }
+
+            @Override
+            protected void escribirPie() throws IOException {
+                // Cerrar elemento raíz
+                salida.append("</tenistas>\n");
+            }
+        };
     }
     
     /**
-     * Formatea un tenista como elemento XML
+     * Formatea un tenista como elemento XML (modo TEXTO)
      */
     private String formatearTenistaXML(Tenista1 tenista) {
         StringBuilder xml = new StringBuilder();
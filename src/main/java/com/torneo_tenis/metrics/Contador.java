@@ -0,0 +1,22 @@
+package com.torneo_tenis.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Contador monótono seguro entre hilos; los incrementos no compiten entre sí
+ */
+public final class Contador {
+    private final LongAdder valor = new LongAdder();
+
+    public void incrementar() {
+        valor.increment();
+    }
+
+    public void sumar(long cantidad) {
+        valor.add(cantidad);
+    }
+
+    public long getValor() {
+        return valor.sum();
+    }
+}
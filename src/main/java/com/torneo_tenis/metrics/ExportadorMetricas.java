@@ -0,0 +1,107 @@
+package com.torneo_tenis.metrics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Escribe periódicamente una instantánea JSON de un registro de métricas en un archivo,
+ * con las tasas por segundo calculadas respecto a la instantánea anterior. El archivo
+ * se sustituye entero en cada escritura (temporal + renombrado), de modo que quien lo
+ * lea nunca ve una instantánea a medias. Al cerrar se escribe una última instantánea.
+ */
+public class ExportadorMetricas implements Closeable {
+    private static final Logger logger = LoggerFactory.getLogger(ExportadorMetricas.class);
+
+    private final Metricas metricas;
+    private final Path archivo;
+    private final long intervaloMs;
+    private final Thread exportador;
+    private volatile boolean cerrado;
+
+    private Map<String, Long> anteriores;
+    private long instanteAnterior;
+
+    /**
+     * @param intervaloMs Cada cuánto se escribe la instantánea; 0 para escribirla solo al cerrar
+     */
+    public ExportadorMetricas(Metricas metricas, Path archivo, long intervaloMs) {
+        if (intervaloMs < 0) {
+            throw new IllegalArgumentException("Intervalo de exportación inválido: " + intervaloMs);
+        }
+        this.metricas = Objects.requireNonNull(metricas);
+        this.archivo = Objects.requireNonNull(archivo);
+        this.intervaloMs = intervaloMs;
+        this.anteriores = metricas.valores();
+        this.instanteAnterior = System.nanoTime();
+
+        if (intervaloMs > 0) {
+            this.exportador = new Thread(this::bucleExportacion, "metricas-export");
+            this.exportador.setDaemon(true);
+            this.exportador.start();
+            logger.info("Exportación de métricas a " + archivo + " cada " + intervaloMs + " ms");
+        } else {
+            this.exportador = null;
+        }
+    }
+
+    private void bucleExportacion() {
+        while (!cerrado) {
+            try {
+                Thread.sleep(intervaloMs);
+            } catch (InterruptedException e) {
+                return;
+            }
+            exportar();
+        }
+    }
+
+    /**
+     * Escribe la instantánea actual. Devuelve false si no se pudo escribir
+     */
+    public synchronized boolean exportar() {
+        long ahora = System.nanoTime();
+        Map<String, Long> valores = metricas.valores();
+        String json = metricas.aJson(anteriores, (ahora - instanteAnterior) / 1e9);
+        anteriores = valores;
+        instanteAnterior = ahora;
+
+        try {
+            Path directorio = archivo.toAbsolutePath().getParent();
+            Files.createDirectories(directorio);
+            Path temporal = Files.createTempFile(directorio, archivo.getFileName().toString(), ".tmp");
+            Files.writeString(temporal, json, StandardCharsets.UTF_8);
+            Files.move(temporal, archivo, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return true;
+        } catch (IOException e) {
+            logger.warn("No se pudo escribir la instantánea de métricas en " + archivo + ": " + e.getMessage());
+            return false;
+        }
+    }
+
+    public Path getArchivo() {
+        return archivo;
+    }
+
+    @Override
+    public void close() {
+        cerrado = true;
+        if (exportador != null) {
+            exportador.interrupt();
+            try {
+                exportador.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        exportar();
+    }
+}
@@ -0,0 +1,116 @@
+package com.torneo_tenis.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histograma de valores enteros no negativos con cubetas log-lineales, al estilo de
+ * HdrHistogram: los valores hasta 127 tienen cubeta propia y por encima cada potencia
+ * de dos se divide en 64 cubetas, de modo que los percentiles tienen un error
+ * relativo menor del 1,6 % con memoria fija (unos 29 KB) y registrar no bloquea.
+ */
+public final class Histograma {
+    private static final int SUBCUBETAS = 64;
+    private static final int LINEALES = 2 * SUBCUBETAS;
+    private static final int CUBETAS = LINEALES + (Long.SIZE - 8) * SUBCUBETAS;
+
+    private final AtomicLongArray cubetas = new AtomicLongArray(CUBETAS);
+    private final LongAdder cuenta = new LongAdder();
+    private final LongAdder suma = new LongAdder();
+    private final LongAccumulator maximo = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Registra un valor; los negativos cuentan como 0
+     */
+    public void registrar(long valor) {
+        long v = Math.max(valor, 0);
+        cubetas.incrementAndGet(indice(v));
+        cuenta.increment();
+        suma.add(v);
+        maximo.accumulate(v);
+    }
+
+    static int indice(long valor) {
+        if (valor < LINEALES) {
+            return (int) valor;
+        }
+        int desplazamiento = (Long.SIZE - 1 - Long.numberOfLeadingZeros(valor)) - 6;
+        int sub = (int) (valor >>> desplazamiento) - SUBCUBETAS;
+        return LINEALES + (desplazamiento - 1) * SUBCUBETAS + sub;
+    }
+
+    /**
+     * Mayor valor que cae en la misma cubeta que el índice indicado
+     */
+    static long limiteSuperior(int indice) {
+        if (indice < LINEALES) {
+            return indice;
+        }
+        int desplazamiento = (indice - LINEALES) / SUBCUBETAS + 1;
+        long sub = (indice - LINEALES) % SUBCUBETAS + SUBCUBETAS;
+        return ((sub + 1) << desplazamiento) - 1;
+    }
+
+    public long getCuenta() {
+        return cuenta.sum();
+    }
+
+    public long getSuma() {
+        return suma.sum();
+    }
+
+    public long getMaximo() {
+        return maximo.get();
+    }
+
+    public double getMedia() {
+        long n = cuenta.sum();
+        return n == 0 ? 0.0 : (double) suma.sum() / n;
+    }
+
+    /**
+     * Valor por debajo del cual queda el percentil indicado (0-100) de los registros
+     */
+    public long percentil(double percentil) {
+        return resumen(percentil)[0];
+    }
+
+    /**
+     * Resumen con cuenta, media, p50, p90, p99, p99.9 y máximo en una sola pasada
+     */
+    public Resumen resumen() {
+        long[] p = resumen(50, 90, 99, 99.9);
+        return new Resumen(getCuenta(), getMedia(), p[0], p[1], p[2], p[3], getMaximo());
+    }
+
+    private long[] resumen(double... percentiles) {
+        long[] copia = new long[CUBETAS];
+        long total = 0;
+        for (int i = 0; i < CUBETAS; i++) {
+            copia[i] = cubetas.get(i);
+            total += copia[i];
+        }
+        long max = getMaximo();
+        long[] valores = new long[percentiles.length];
+        if (total == 0) {
+            return valores;
+        }
+
+        int p = 0;
+        long acumulado = 0;
+        for (int i = 0; i < CUBETAS && p < percentiles.length; i++) {
+            acumulado += copia[i];
+            while (p < percentiles.length && acumulado >= Math.ceil(total * percentiles[p] / 100.0)) {
+                valores[p++] = Math.min(limiteSuperior(i), max);
+            }
+        }
+        while (p < percentiles.length) {
+            valores[p++] = max;
+        }
+        return valores;
+    }
+
+    public record Resumen(long cuenta, double media, long p50, long p90, long p99, long p999, long maximo) {
+    }
+}
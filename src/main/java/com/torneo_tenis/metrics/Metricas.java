@@ -0,0 +1,133 @@
+package com.torneo_tenis.metrics;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Registro de métricas por nombre: contadores, histogramas, temporizadores y medidores
+ * (valores leídos bajo demanda de otro componente). Pedir dos veces el mismo nombre
+ * devuelve la misma métrica, así que los componentes la resuelven una vez y la guardan.
+ * Los nombres siguen el esquema componente.métrica (csv.filas, repositorio.findById).
+ */
+public final class Metricas {
+    private static final Metricas GLOBAL = new Metricas();
+
+    private final Map<String, Contador> contadores = new ConcurrentHashMap<>();
+    private final Map<String, Histograma> histogramas = new ConcurrentHashMap<>();
+    private final Map<String, Temporizador> temporizadores = new ConcurrentHashMap<>();
+    private final Map<String, LongSupplier> medidores = new ConcurrentHashMap<>();
+
+    /**
+     * Registro compartido por toda la aplicación
+     */
+    public static Metricas global() {
+        return GLOBAL;
+    }
+
+    public Contador contador(String nombre) {
+        return contadores.computeIfAbsent(nombre, n -> new Contador());
+    }
+
+    public Histograma histograma(String nombre) {
+        return histogramas.computeIfAbsent(nombre, n -> new Histograma());
+    }
+
+    public Temporizador temporizador(String nombre) {
+        return temporizadores.computeIfAbsent(nombre, n -> new Temporizador());
+    }
+
+    /**
+     * Registra (o sustituye) un medidor cuyo valor se lee al tomar cada instantánea
+     */
+    public void medidor(String nombre, LongSupplier valor) {
+        medidores.put(nombre, valor);
+    }
+
+    public void eliminarMedidor(String nombre) {
+        medidores.remove(nombre);
+    }
+
+    /**
+     * Valores actuales de contadores y medidores, ordenados por nombre
+     */
+    public Map<String, Long> valores() {
+        Map<String, Long> valores = new TreeMap<>();
+        contadores.forEach((nombre, contador) -> valores.put(nombre, contador.getValor()));
+        medidores.forEach((nombre, medidor) -> valores.put(nombre, medidor.getAsLong()));
+        return valores;
+    }
+
+    /**
+     * Resúmenes de histogramas, ordenados por nombre
+     */
+    public Map<String, Histograma.Resumen> resumenHistogramas() {
+        Map<String, Histograma.Resumen> resumenes = new TreeMap<>();
+        histogramas.forEach((nombre, histograma) -> resumenes.put(nombre, histograma.resumen()));
+        return resumenes;
+    }
+
+    /**
+     * Resúmenes de temporizadores en nanosegundos, ordenados por nombre
+     */
+    public Map<String, Histograma.Resumen> resumenTemporizadores() {
+        Map<String, Histograma.Resumen> resumenes = new TreeMap<>();
+        temporizadores.forEach((nombre, t) -> resumenes.put(nombre, t.getHistograma().resumen()));
+        return resumenes;
+    }
+
+    /**
+     * Instantánea en JSON. Los contadores y medidores van con su valor y, si se indican
+     * los valores de la instantánea anterior y los segundos transcurridos, con su tasa
+     * por segundo; las latencias de los temporizadores, en milisegundos.
+     */
+    public String aJson(Map<String, Long> anteriores, double segundos) {
+        StringBuilder json = new StringBuilder(1024);
+        json.append("{\n  \"timestamp\": \"").append(Instant.now()).append("\",\n");
+
+        json.append("  \"contadores\": {");
+        String separador = "\n";
+        for (Map.Entry<String, Long> valor : valores().entrySet()) {
+            json.append(separador).append("    \"").append(valor.getKey()).append("\": {\"valor\": ").append(valor.getValue());
+            Long anterior = anteriores == null ? null : anteriores.get(valor.getKey());
+            if (anterior != null && segundos > 0) {
+                json.append(", \"porSegundo\": ").append(redondear((valor.getValue() - anterior) / segundos));
+            }
+            json.append('}');
+            separador = ",\n";
+        }
+        json.append("\n  },\n");
+
+        json.append("  \"histogramas\": {");
+        escribirResumenes(json, resumenHistogramas(), 1);
+        json.append("\n  },\n");
+
+        json.append("  \"temporizadoresMs\": {");
+        escribirResumenes(json, resumenTemporizadores(), 1_000_000);
+        json.append("\n  }\n}\n");
+        return json.toString();
+    }
+
+    private static void escribirResumenes(StringBuilder json, Map<String, Histograma.Resumen> resumenes, double escala) {
+        String separador = "\n";
+        for (Map.Entry<String, Histograma.Resumen> entrada : resumenes.entrySet()) {
+            Histograma.Resumen r = entrada.getValue();
+            json.append(separador).append("    \"").append(entrada.getKey()).append("\": {")
+                .append("\"cuenta\": ").append(r.cuenta())
+                .append(", \"media\": ").append(redondear(r.media() / escala))
+                .append(", \"p50\": ").append(redondear(r.p50() / escala))
+                .append(", \"p90\": ").append(redondear(r.p90() / escala))
+                .append(", \"p99\": ").append(redondear(r.p99() / escala))
+                .append(", \"p999\": ").append(redondear(r.p999() / escala))
+                .append(", \"max\": ").append(redondear(r.maximo() / escala))
+                .append('}');
+            separador = ",\n";
+        }
+    }
+
+    private static double redondear(double valor) {
+        return Math.round(valor * 1000) / 1000.0;
+    }
+}
@@ -0,0 +1,111 @@
+package com.torneo_tenis.metrics;
+
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.DynamicMBean;
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanInfo;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Publica un registro de métricas como MBean dinámico de solo lectura. Cada contador
+ * o medidor es un atributo Long con su nombre, y cada histograma o temporizador se
+ * expande en nombre.cuenta, nombre.p50, nombre.p99 y nombre.max (los temporizadores,
+ * en milisegundos). Las métricas nuevas aparecen al volver a consultar el MBean.
+ */
+public class MetricasJmx implements DynamicMBean {
+    public static final String NOMBRE = "com.torneo_tenis:type=Metricas";
+
+    private final Metricas metricas;
+
+    public MetricasJmx(Metricas metricas) {
+        this.metricas = metricas;
+    }
+
+    /**
+     * Registra el MBean en el servidor de la plataforma (sustituyendo uno anterior)
+     */
+    public static ObjectName registrar(Metricas metricas) throws JMException {
+        MBeanServer servidor = ManagementFactory.getPlatformMBeanServer();
+        ObjectName nombre = new ObjectName(NOMBRE);
+        try {
+            servidor.registerMBean(new MetricasJmx(metricas), nombre);
+        } catch (InstanceAlreadyExistsException e) {
+            servidor.unregisterMBean(nombre);
+            servidor.registerMBean(new MetricasJmx(metricas), nombre);
+        }
+        return nombre;
+    }
+
+    private Map<String, Object> atributos() {
+        Map<String, Object> atributos = new LinkedHashMap<>(metricas.valores());
+        metricas.resumenHistogramas().forEach((nombre, r) -> expandir(atributos, nombre, r, 1));
+        metricas.resumenTemporizadores().forEach((nombre, r) -> expandir(atributos, nombre + ".ms", r, 1_000_000));
+        return atributos;
+    }
+
+    private static void expandir(Map<String, Object> atributos, String nombre, Histograma.Resumen r, double escala) {
+        atributos.put(nombre + ".cuenta", r.cuenta());
+        atributos.put(nombre + ".media", r.media() / escala);
+        atributos.put(nombre + ".p50", r.p50() / escala);
+        atributos.put(nombre + ".p99", r.p99() / escala);
+        atributos.put(nombre + ".max", r.maximo() / escala);
+    }
+
+    @Override
+    public Object getAttribute(String atributo) throws AttributeNotFoundException {
+        Object valor = atributos().get(atributo);
+        if (valor == null) {
+            throw new AttributeNotFoundException("Métrica no encontrada: " + atributo);
+        }
+        return valor;
+    }
+
+    @Override
+    public AttributeList getAttributes(String[] nombres) {
+        Map<String, Object> atributos = atributos();
+        AttributeList lista = new AttributeList();
+        for (String nombre : nombres) {
+            Object valor = atributos.get(nombre);
+            if (valor != null) {
+                lista.add(new Attribute(nombre, valor));
+            }
+        }
+        return lista;
+    }
+
+    @Override
+    public void setAttribute(Attribute atributo) {
+        throw new UnsupportedOperationException("Las métricas son de solo lectura");
+    }
+
+    @Override
+    public AttributeList setAttributes(AttributeList atributos) {
+        return new AttributeList();
+    }
+
+    @Override
+    public Object invoke(String accion, Object[] parametros, String[] firma) {
+        throw new UnsupportedOperationException("Operación no soportada: " + accion);
+    }
+
+    @Override
+    public MBeanInfo getMBeanInfo() {
+        Map<String, Object> atributos = atributos();
+        MBeanAttributeInfo[] info = new MBeanAttributeInfo[atributos.size()];
+        int i = 0;
+        for (Map.Entry<String, Object> atributo : atributos.entrySet()) {
+            info[i++] = new MBeanAttributeInfo(atributo.getKey(), atributo.getValue().getClass().getName(),
+                                               atributo.getKey(), true, false, false);
+        }
+        return new MBeanInfo(getClass().getName(), "Métricas de la aplicación Torneo de Tenis",
+                             info, null, null, null);
+    }
+}
@@ -0,0 +1,32 @@
+package com.torneo_tenis.metrics;
+
+/**
+ * Latencias en nanosegundos sobre un Histograma. Uso:
+ * {@code long inicio = System.nanoTime(); ...; temporizador.registrarDesde(inicio);}
+ */
+public final class Temporizador {
+    private final Histograma histograma = new Histograma();
+
+    public void registrarDesde(long inicioNanos) {
+        histograma.registrar(System.nanoTime() - inicioNanos);
+    }
+
+    public void registrar(long nanos) {
+        histograma.registrar(nanos);
+    }
+
+    public Histograma getHistograma() {
+        return histograma;
+    }
+
+    public long getCuenta() {
+        return histograma.getCuenta();
+    }
+
+    /**
+     * Tiempo acumulado de todas las mediciones, en nanosegundos
+     */
+    public long getTotalNanos() {
+        return histograma.getSuma();
+    }
+}
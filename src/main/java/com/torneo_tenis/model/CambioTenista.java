@@ -0,0 +1,11 @@
+package com.torneo_tenis.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Evento del registro de cambios de tenistas. La secuencia crece en orden de confirmación;
+ * tenista es la fila tal como quedó tras el cambio (la borrada, en un DELETE), o null en
+ * DELETE_ALL, cuyo tenistaId es 0.
+ */
+public record CambioTenista(long secuencia, TipoCambio tipo, long tenistaId, LocalDateTime fecha, Tenista1 tenista) {
+}
@@ -18,6 +18,8 @@ public class Tenista1 {
     private LocalDate fecha_nacimiento;
     private LocalDateTime created_at;
     private LocalDateTime updated_at;
+    // Marca de validación superada; cualquier cambio en los datos validados la borra
+    private boolean validado;
 
     /**
      * Constructor por defecto
@@ -91,30 +93,37 @@ public class Tenista1 {
 
     public void setNombre(String nombre) {
         this.nombre = nombre;
+        this.validado = false;
     }
 
     public void setPais(String pais) {
         this.pais = pais;
+        this.validado = false;
     }
 
     public void setAltura(int altura) {
         this.altura = altura;
+        this.validado = false;
     }
 
     public void setPeso(int peso) {
         this.peso = peso;
+        this.validado = false;
     }
 
     public void setPuntos(int puntos) {
         this.puntos = puntos;
+        this.validado = false;
     }
 
     public void setMano(Mano mano) {
         this.mano = mano;
+        this.validado = false;
     }
 
     public void setFecha_nacimiento(LocalDate fecha_nacimiento) {
         this.fecha_nacimiento = fecha_nacimiento;
+        this.validado = false;
     }
 
     public void setCreated_at(LocalDateTime created_at) {
@@ -159,8 +168,24 @@ public class Tenista1 {
      * Crea una copia del tenista
      */
     public Tenista1 copy() {
-        return new Tenista1(id, nombre, pais, altura, peso, puntos, mano, 
-                           fecha_nacimiento, created_at, updated_at);
+        Tenista1 copia = new Tenista1(id, nombre, pais, altura, peso, puntos, mano, 
+                                      fecha_nacimiento, created_at, updated_at);
+        copia.validado = validado;
+        return copia;
+    }
+
+    /**
+     * Indica si el tenista ya pasó la validación y no ha cambiado desde entonces
+     */
+    public boolean isValidado() {
+        return validado;
+    }
+
+    /**
+     * Marca el tenista como validado para que no se vuelva a comprobar
+     */
+    public void marcarValidado() {
+        this.validado = true;
     }
 
     /**
@@ -0,0 +1,9 @@
+package com.torneo_tenis.model;
+
+public enum TipoCambio {
+    INSERT,
+    UPDATE,
+    DELETE,
+    // Vaciado de la tabla completa, anotado como un solo evento
+    DELETE_ALL
+}
@@ -0,0 +1,273 @@
+package com.torneo_tenis.pipeline;
+
+import com.torneo_tenis.io.InformeIngesta;
+import com.torneo_tenis.metrics.Metricas;
+import com.torneo_tenis.metrics.Temporizador;
+import com.torneo_tenis.model.Tenista1;
+import com.torneo_tenis.validator.ErroresValidacion;
+import com.torneo_tenis.validator.TenistaValidator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Ingesta por etapas concurrentes: lectura → validación → persistencia, cada una en sus
+ * propios hilos y unidas por colas acotadas de lotes. Mientras la persistencia espera a
+ * la base de datos la lectura sigue parseando, así que el tiempo total se acerca al de
+ * la etapa más lenta en lugar de a la suma de todas. Si una etapa se retrasa, su cola se
+ * llena y las anteriores se bloquean (contrapresión), de modo que la memoria en vuelo
+ * está limitada a capacidadCola lotes por cola.
+ *
+ * El fin de la entrada se propaga con un lote marcador por hilo consumidor. El primer
+ * error de cualquier etapa interrumpe las demás y se relanza desde ejecutar().
+ * Con un hilo por etapa los lotes se guardan en el orden del archivo; con más, no.
+ */
+public class PipelineIngesta {
+    private static final Logger logger = LoggerFactory.getLogger(PipelineIngesta.class);
+
+    // Marca de fin de entrada; se compara por identidad, así que no puede ser List.of()
+    private static final List<Tenista1> FIN = new ArrayList<>(0);
+
+    private final int hilosValidacion;
+    private final int hilosPersistencia;
+    private final int capacidadCola;
+    private final int tamanioLote;
+
+    private final Temporizador tiempoValidacion = Metricas.global().temporizador("pipeline.validacion");
+    private final Temporizador tiempoPersistencia = Metricas.global().temporizador("pipeline.persistencia");
+    private final Temporizador esperaLectura = Metricas.global().temporizador("pipeline.espera.lectura");
+    private final Temporizador esperaValidacion = Metricas.global().temporizador("pipeline.espera.validacion");
+
+    /**
+     * Origen de los tenistas: entrega lotes y mensajes de error, posiblemente desde varios
+     * hilos. Cada lote entregado pasa al pipeline y la fuente no debe volver a usarlo.
+     */
+    @FunctionalInterface
+    public interface Fuente {
+        void leer(Consumer<List<Tenista1>> lotes, Consumer<String> errores) throws IOException;
+    }
+
+    /**
+     * @param hilosValidacion Hilos de la etapa de validación
+     * @param hilosPersistencia Hilos de la etapa de persistencia (cada uno escribe sus propios lotes)
+     * @param capacidadCola Lotes que caben en cada cola entre etapas
+     * @param tamanioLote Tenistas por lote a guardar
+     */
+    public PipelineIngesta(int hilosValidacion, int hilosPersistencia, int capacidadCola, int tamanioLote) {
+        if (hilosValidacion <= 0 || hilosPersistencia <= 0 || capacidadCola <= 0 || tamanioLote <= 0) {
+            throw new IllegalArgumentException("Pipeline inválido: validación=" + hilosValidacion + ", persistencia="
+                                               + hilosPersistencia + ", cola=" + capacidadCola + ", lote=" + tamanioLote);
+        }
+        this.hilosValidacion = hilosValidacion;
+        this.hilosPersistencia = hilosPersistencia;
+        this.capacidadCola = capacidadCola;
+        this.tamanioLote = tamanioLote;
+    }
+
+    /**
+     * Crea el pipeline con pipeline.validate.threads, pipeline.persist.threads y pipeline.queue.capacity
+     */
+    public static PipelineIngesta fromProperties(Properties props, int tamanioLote) {
+        return new PipelineIngesta(
+                Integer.parseInt(props.getProperty("pipeline.validate.threads", "1")),
+                Integer.parseInt(props.getProperty("pipeline.persist.threads", "1")),
+                Integer.parseInt(props.getProperty("pipeline.queue.capacity", "4")),
+                tamanioLote);
+    }
+
+    /**
+     * Agrupa los tenistas de un iterador en lotes de tamanioLote y los entrega
+     */
+    public static void porLotes(Iterator<Tenista1> tenistas, int tamanioLote, Consumer<List<Tenista1>> lotes) {
+        List<Tenista1> lote = new ArrayList<>(tamanioLote);
+        while (tenistas.hasNext()) {
+            lote.add(tenistas.next());
+            if (lote.size() >= tamanioLote) {
+                lotes.accept(lote);
+                lote = new ArrayList<>(tamanioLote);
+            }
+        }
+        if (!lote.isEmpty()) {
+            lotes.accept(lote);
+        }
+    }
+
+    /**
+     * Ejecuta el pipeline hasta agotar la fuente y guardar todos los lotes válidos.
+     *
+     * @param fuente Etapa de lectura
+     * @param guardar Etapa de persistencia; se llama a la vez desde hilosPersistencia hilos
+     * @param bytes Tamaño de la entrada, para el informe
+     * @return Informe con las filas guardadas, las líneas con error y el tiempo total
+     * @throws IOException Si falla la lectura
+     */
+    public InformeIngesta ejecutar(Fuente fuente, Consumer<List<Tenista1>> guardar, long bytes) throws IOException {
+        long inicio = System.nanoTime();
+        BlockingQueue<List<Tenista1>> leidos = new ArrayBlockingQueue<>(capacidadCola);
+        BlockingQueue<List<Tenista1>> validos = new ArrayBlockingQueue<>(capacidadCola);
+        AtomicLong filas = new AtomicLong();
+        AtomicLong errores = new AtomicLong();
+        AtomicInteger validadoresActivos = new AtomicInteger(hilosValidacion);
+
+        int total = 1 + hilosValidacion + hilosPersistencia;
+        AtomicInteger numero = new AtomicInteger();
+        ExecutorService hilos = Executors.newFixedThreadPool(total, tarea -> {
+            Thread hilo = new Thread(tarea, "pipeline-" + numero.incrementAndGet());
+            hilo.setDaemon(true);
+            return hilo;
+        });
+        CompletionService<Void> etapas = new ExecutorCompletionService<>(hilos);
+        List<Future<Void>> futuros = new ArrayList<>(total);
+
+        try {
+            futuros.add(etapas.submit(() -> {
+                try {
+                    fuente.leer(lote -> poner(leidos, lote, esperaLectura), error -> errores.incrementAndGet());
+                } finally {
+                    // También si la lectura falla, para que ninguna etapa quede esperando
+                    for (int i = 0; i < hilosValidacion; i++) {
+                        leidos.put(FIN);
+                    }
+                }
+                return null;
+            }));
+            for (int i = 0; i < hilosValidacion; i++) {
+                futuros.add(etapas.submit(() -> validar(leidos, validos, validadoresActivos)));
+            }
+            for (int i = 0; i < hilosPersistencia; i++) {
+                futuros.add(etapas.submit(() -> persistir(validos, guardar, filas)));
+            }
+
+            for (int i = 0; i < total; i++) {
+                esperar(etapas.take());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Ingesta interrumpida", e);
+        } finally {
+            // Si una etapa falló, el resto se interrumpe (las colas llenas o vacías no bloquean)
+            futuros.forEach(f -> f.cancel(true));
+            hilos.shutdownNow();
+        }
+
+        InformeIngesta informe = new InformeIngesta(filas.get(), errores.get(), bytes, System.nanoTime() - inicio, 1);
+        logger.info("Pipeline de ingesta (" + hilosValidacion + " validación, " + hilosPersistencia
+                    + " persistencia, cola " + capacidadCola + "): " + informe);
+        return informe;
+    }
+
+    private Void validar(BlockingQueue<List<Tenista1>> entrada, BlockingQueue<List<Tenista1>> salida,
+                         AtomicInteger activos) throws InterruptedException {
+        ErroresValidacion errores = new ErroresValidacion();
+        try {
+            List<Tenista1> lote;
+            while ((lote = entrada.take()) != FIN) {
+                long inicio = System.nanoTime();
+                List<Tenista1> validos = new ArrayList<>(lote.size());
+                for (Tenista1 tenista : lote) {
+                    errores.limpiar();
+                    if (TenistaValidator.validar(tenista, errores)) {
+                        validos.add(tenista);
+                    } else {
+                        logger.error("❌ Tenista inválido " + tenista.getNombre() + ": " + String.join(", ", errores.getErrores()));
+                    }
+                }
+                tiempoValidacion.registrarDesde(inicio);
+                poner(salida, validos, esperaValidacion);
+            }
+        } finally {
+            // El último validador en terminar avisa a la persistencia
+            if (activos.decrementAndGet() == 0) {
+                for (int i = 0; i < hilosPersistencia; i++) {
+                    salida.put(FIN);
+                }
+            }
+        }
+        return null;
+    }
+
+    private Void persistir(BlockingQueue<List<Tenista1>> entrada, Consumer<List<Tenista1>> guardar,
+                           AtomicLong filas) throws InterruptedException {
+        List<Tenista1> pendientes = new ArrayList<>(tamanioLote);
+        List<Tenista1> lote;
+        while ((lote = entrada.take()) != FIN) {
+            pendientes.addAll(lote);
+            if (pendientes.size() >= tamanioLote) {
+                guardar(pendientes, guardar, filas);
+                pendientes = new ArrayList<>(tamanioLote);
+            }
+        }
+        if (!pendientes.isEmpty()) {
+            guardar(pendientes, guardar, filas);
+        }
+        return null;
+    }
+
+    private void guardar(List<Tenista1> lote, Consumer<List<Tenista1>> guardar, AtomicLong filas) {
+        long inicio = System.nanoTime();
+        guardar.accept(lote);
+        tiempoPersistencia.registrarDesde(inicio);
+        filas.addAndGet(lote.size());
+    }
+
+    /**
+     * Encola un lote bloqueando mientras la cola esté llena; el tiempo bloqueado se mide
+     * como espera de la etapa productora
+     */
+    private static void poner(BlockingQueue<List<Tenista1>> cola, List<Tenista1> lote, Temporizador espera) {
+        if (lote.isEmpty() || cola.offer(lote)) {
+            return;
+        }
+        long inicio = System.nanoTime();
+        try {
+            cola.put(lote);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Ingesta cancelada", e);
+        } finally {
+            espera.registrarDesde(inicio);
+        }
+    }
+
+    /**
+     * Relanza el error de una etapa terminada
+     */
+    private static void esperar(Future<Void> etapa) throws IOException, InterruptedException {
+        try {
+            etapa.get();
+        } catch (ExecutionException e) {
+            Throwable causa = e.getCause();
+            if (causa instanceof IOException io) {
+                throw io;
+            }
+            if (causa instanceof UncheckedIOException io) {
+                throw io.getCause();
+            }
+            if (causa instanceof RuntimeException re) {
+                throw re;
+            }
+            if (causa instanceof Error error) {
+                throw error;
+            }
+            throw new IOException(causa);
+        }
+    }
+}
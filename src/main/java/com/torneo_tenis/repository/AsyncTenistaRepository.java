@@ -0,0 +1,188 @@
+package com.torneo_tenis.repository;
+
+import com.torneo_tenis.model.Mano;
+import com.torneo_tenis.model.Tenista1;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Fachada asíncrona sobre ITenistaRepository para servicios con muchas consultas
+ * pequeñas concurrentes. Cada operación se ejecuta en su propio hilo virtual (JDK 21+)
+ * y devuelve un CompletableFuture; un semáforo limita las operaciones simultáneas al
+ * tamaño del pool de conexiones, de modo que las demás esperan aquí, sin ocupar hilos
+ * de plataforma ni agotar el tiempo de espera del pool. El límite también acota los
+ * hilos portadores que H2 puede bloquear en sus secciones synchronized.
+ *
+ * En un JDK sin hilos virtuales se usa un pool fijo de hilos de plataforma del tamaño
+ * del límite. Cerrar la fachada espera a las operaciones en curso, pero no cierra el
+ * repositorio.
+ */
+public class AsyncTenistaRepository implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(AsyncTenistaRepository.class);
+
+    private final ITenistaRepository repository;
+    private final ExecutorService executor;
+    private final Semaphore limitador;
+    private final int maxConcurrencia;
+    private final boolean hilosVirtuales;
+
+    /**
+     * Límite de concurrencia igual al máximo del pool de conexiones del repositorio
+     */
+    public AsyncTenistaRepository(TenistaRepository repository) {
+        this(repository, repository.getPool().getMaxSize());
+    }
+
+    /**
+     * @param maxConcurrencia Operaciones que pueden estar en la base de datos a la vez
+     */
+    public AsyncTenistaRepository(ITenistaRepository repository, int maxConcurrencia) {
+        if (maxConcurrencia <= 0) {
+            throw new IllegalArgumentException("La concurrencia máxima debe ser mayor que 0");
+        }
+        this.repository = repository;
+        this.maxConcurrencia = maxConcurrencia;
+        this.limitador = new Semaphore(maxConcurrencia, true);
+
+        ExecutorService virtual = crearEjecutorVirtual();
+        this.hilosVirtuales = virtual != null;
+        this.executor = virtual != null ? virtual : crearEjecutorPlataforma(maxConcurrencia);
+        logger.info("Repositorio asíncrono sobre " + (hilosVirtuales ? "hilos virtuales" : "hilos de plataforma")
+                    + " (concurrencia máxima " + maxConcurrencia + ")");
+    }
+
+    /**
+     * Executors.newVirtualThreadPerTaskExecutor() si el JDK lo tiene (se busca por
+     * reflexión para seguir compilando con release 17), o null
+     */
+    private static ExecutorService crearEjecutorVirtual() {
+        try {
+            Method fabrica = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) fabrica.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    private static ExecutorService crearEjecutorPlataforma(int hilos) {
+        AtomicInteger numero = new AtomicInteger();
+        return Executors.newFixedThreadPool(hilos, tarea -> {
+            Thread hilo = new Thread(tarea, "repositorio-async-" + numero.incrementAndGet());
+            hilo.setDaemon(true);
+            return hilo;
+        });
+    }
+
+    /**
+     * Ejecuta una operación cualquiera sobre el repositorio con el límite de concurrencia.
+     * Los errores del repositorio completan el futuro de forma excepcional.
+     */
+    public <T> CompletableFuture<T> ejecutar(Function<ITenistaRepository, T> operacion) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                limitador.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CancellationException("Interrumpido esperando turno en el repositorio");
+            }
+            try {
+                return operacion.apply(repository);
+            } finally {
+                limitador.release();
+            }
+        }, executor);
+    }
+
+    public CompletableFuture<Optional<Tenista1>> findById(Long id) {
+        return ejecutar(r -> r.findById(id));
+    }
+
+    public CompletableFuture<List<Tenista1>> findByPais(String pais) {
+        return ejecutar(r -> r.findByPais(pais));
+    }
+
+    public CompletableFuture<List<Tenista1>> findByMano(Mano mano) {
+        return ejecutar(r -> r.findByMano(mano));
+    }
+
+    public CompletableFuture<List<Tenista1>> findByPuntosGreaterThan(int puntos) {
+        return ejecutar(r -> r.findByPuntosGreaterThan(puntos));
+    }
+
+    public CompletableFuture<List<Tenista1>> findPageAfterId(long ultimoId, int limite) {
+        return ejecutar(r -> r.findPageAfterId(ultimoId, limite));
+    }
+
+    public CompletableFuture<Long> count() {
+        return ejecutar(ITenistaRepository::count);
+    }
+
+    public CompletableFuture<Tenista1> save(Tenista1 tenista) {
+        return ejecutar(r -> r.save(tenista));
+    }
+
+    public CompletableFuture<List<Tenista1>> saveAll(Collection<Tenista1> tenistas) {
+        return ejecutar(r -> r.saveAll(tenistas));
+    }
+
+    public CompletableFuture<Tenista1> update(Tenista1 tenista) {
+        return ejecutar(r -> r.update(tenista));
+    }
+
+    public CompletableFuture<Boolean> deleteById(Long id) {
+        return ejecutar(r -> r.deleteById(id));
+    }
+
+    /**
+     * Si las operaciones se ejecutan en hilos virtuales
+     */
+    public boolean isHilosVirtuales() {
+        return hilosVirtuales;
+    }
+
+    public int getMaxConcurrencia() {
+        return maxConcurrencia;
+    }
+
+    /**
+     * Operaciones en la base de datos en este momento
+     */
+    public int getEnCurso() {
+        return maxConcurrencia - limitador.availablePermits();
+    }
+
+    /**
+     * Operaciones esperando turno (estimación)
+     */
+    public int getEnEspera() {
+        return limitador.getQueueLength();
+    }
+
+    /**
+     * Deja de aceptar operaciones y espera a que terminen las pendientes
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+                logger.warn("Quedan operaciones asíncronas sin terminar al cerrar el repositorio");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
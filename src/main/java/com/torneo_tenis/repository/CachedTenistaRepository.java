@@ -0,0 +1,243 @@
+package com.torneo_tenis.repository;
+
+import com.torneo_tenis.cache.ITenistaCache;
+import com.torneo_tenis.model.Mano;
+import com.torneo_tenis.model.CambioTenista;
+import com.torneo_tenis.model.Tenista1;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * Decorador de ITenistaRepository con caché de tenistas por ID.
+ * Lee a través de la caché en findById, escribe a través de ella en
+ * save/saveAll/update e invalida en los borrados. Los fallos concurrentes
+ * sobre el mismo ID se agrupan en una única consulta a la base de datos.
+ */
+public class CachedTenistaRepository implements ITenistaRepository {
+    private static final Logger logger = LoggerFactory.getLogger(CachedTenistaRepository.class);
+
+    private final ITenistaRepository delegate;
+    private final ITenistaCache cache;
+
+    // Cargas en curso por ID; sus claves también serializan carga y escritura del mismo ID
+    private final ConcurrentHashMap<Long, CompletableFuture<Optional<Tenista1>>> cargando = new ConcurrentHashMap<>();
+    private final LongAdder consultasAgrupadas = new LongAdder();
+
+    public CachedTenistaRepository(ITenistaRepository delegate, ITenistaCache cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public Optional<Tenista1> findById(Long id) {
+        if (id == null) {
+            return Optional.empty();
+        }
+
+        Optional<Tenista1> enCache = cache.get(id);
+        if (enCache.isPresent()) {
+            return enCache;
+        }
+
+        CompletableFuture<Optional<Tenista1>> nuevo = new CompletableFuture<>();
+        CompletableFuture<Optional<Tenista1>> existente = cargando.putIfAbsent(id, nuevo);
+        if (existente != null) {
+            consultasAgrupadas.increment();
+            logger.debug("Esperando carga en curso para ID: " + id);
+            return esperar(existente);
+        }
+
+        try {
+            Optional<Tenista1> cargado = delegate.findById(id);
+            // Solo se publica en caché si ninguna escritura invalidó la carga mientras tanto
+            cargando.computeIfPresent(id, (clave, actual) -> {
+                if (actual == nuevo) {
+                    cargado.ifPresent(tenista -> cache.put(clave, tenista));
+                    return null;
+                }
+                return actual;
+            });
+            nuevo.complete(cargado);
+            return cargado;
+        } catch (RuntimeException e) {
+            cargando.remove(id, nuevo);
+            nuevo.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private Optional<Tenista1> esperar(CompletableFuture<Optional<Tenista1>> futuro) {
+        try {
+            return futuro.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public Tenista1 save(Tenista1 tenista) {
+        Tenista1 guardado = delegate.save(tenista);
+        escribirEnCache(guardado);
+        return guardado;
+    }
+
+    @Override
+    public List<Tenista1> saveAll(Collection<Tenista1> tenistas) {
+        List<Tenista1> guardados = delegate.saveAll(tenistas);
+        guardados.forEach(this::escribirEnCache);
+        return guardados;
+    }
+
+    @Override
+    public Tenista1 update(Tenista1 tenista) {
+        Tenista1 actualizado = delegate.update(tenista);
+        escribirEnCache(actualizado);
+        return actualizado;
+    }
+
+    @Override
+    public List<Tenista1> updateAll(Collection<Tenista1> tenistas) {
+        List<Tenista1> actualizados = delegate.updateAll(tenistas);
+        actualizados.forEach(this::escribirEnCache);
+        return actualizados;
+    }
+
+    @Override
+    public boolean deleteById(Long id) {
+        boolean eliminado = delegate.deleteById(id);
+        invalidar(id);
+        return eliminado;
+    }
+
+    @Override
+    public List<Tenista1> upsertAll(Collection<Tenista1> tenistas) {
+        List<Tenista1> fusionados = delegate.upsertAll(tenistas);
+        fusionados.forEach(this::escribirEnCache);
+        return fusionados;
+    }
+
+    @Override
+    public int deleteAllById(Collection<Long> ids) {
+        int eliminados = delegate.deleteAllById(ids);
+        ids.forEach(this::invalidar);
+        return eliminados;
+    }
+
+    @Override
+    public void deleteAll() {
+        delegate.deleteAll();
+        cargando.clear();
+        cache.clear();
+    }
+
+    /**
+     * Actualiza la caché descartando cualquier carga en curso del mismo ID
+     */
+    private void escribirEnCache(Tenista1 tenista) {
+        if (tenista == null || tenista.getId() == null) {
+            return;
+        }
+        cargando.compute(tenista.getId(), (id, actual) -> {
+            cache.put(id, tenista);
+            return null;
+        });
+    }
+
+    private void invalidar(Long id) {
+        if (id == null) {
+            return;
+        }
+        cargando.compute(id, (clave, actual) -> {
+            cache.remove(clave);
+            return null;
+        });
+    }
+
+    @Override
+    public List<Tenista1> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<Tenista1> findByPais(String pais) {
+        return delegate.findByPais(pais);
+    }
+
+    @Override
+    public List<Tenista1> findByMano(Mano mano) {
+        return delegate.findByMano(mano);
+    }
+
+    @Override
+    public List<Tenista1> findByPuntosGreaterThan(int puntos) {
+        return delegate.findByPuntosGreaterThan(puntos);
+    }
+
+    @Override
+    public long count() {
+        return delegate.count();
+    }
+
+    @Override
+    public List<Tenista1> findPageAfterId(long ultimoId, int limite) {
+        return delegate.findPageAfterId(ultimoId, limite);
+    }
+
+    @Override
+    public List<Tenista1> findPageByPuntos(int ultimosPuntos, long ultimoId, int limite) {
+        return delegate.findPageByPuntos(ultimosPuntos, ultimoId, limite);
+    }
+
+    @Override
+    public List<CambioTenista> findCambiosDesde(long secuencia, int limite) {
+        return delegate.findCambiosDesde(secuencia, limite);
+    }
+
+    @Override
+    public Stream<Tenista1> streamAll() {
+        return delegate.streamAll();
+    }
+
+    @Override
+    public Stream<Tenista1> streamByPais(String pais) {
+        return delegate.streamByPais(pais);
+    }
+
+    @Override
+    public Stream<Tenista1> streamByMano(Mano mano) {
+        return delegate.streamByMano(mano);
+    }
+
+    @Override
+    public Stream<Tenista1> streamByPuntosGreaterThan(int puntos) {
+        return delegate.streamByPuntosGreaterThan(puntos);
+    }
+
+    /**
+     * Número de findById que esperaron la carga de otro hilo en lugar de consultar la BD
+     */
+    public long getConsultasAgrupadas() {
+        return consultasAgrupadas.sum();
+    }
+
+    public ITenistaCache getCache() {
+        return cache;
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+}
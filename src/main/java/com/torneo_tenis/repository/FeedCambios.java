@@ -0,0 +1,118 @@
+package com.torneo_tenis.repository;
+
+import com.torneo_tenis.model.CambioTenista;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Consumidor del registro de cambios de un repositorio. Recuerda la última secuencia
+ * entregada, de modo que cada lote contiene solo los cambios posteriores; para reanudar
+ * tras un reinicio basta con crear el feed con la última secuencia procesada.
+ *
+ * Las secuencias se asignan en el commit y crecen en orden de confirmación, así que
+ * reanudar desde la última leída no pierde eventos aunque las escrituras vayan en paralelo,
+ * siempre que se confirmen con TenistaRepository (desde cualquier instancia o proceso).
+ */
+public class FeedCambios implements Closeable {
+    private static final Logger logger = LoggerFactory.getLogger(FeedCambios.class);
+
+    private final ITenistaRepository repository;
+    private final int tamanioLote;
+    private volatile long ultimaSecuencia;
+    private volatile boolean cerrado;
+    private Thread escucha;
+
+    /**
+     * @param desdeSecuencia Última secuencia ya procesada (0 para leer desde el principio)
+     * @param tamanioLote Máximo de eventos por lote
+     */
+    public FeedCambios(ITenistaRepository repository, long desdeSecuencia, int tamanioLote) {
+        if (desdeSecuencia < 0 || tamanioLote <= 0) {
+            throw new IllegalArgumentException("Feed de cambios inválido: desde=" + desdeSecuencia
+                                               + ", lote=" + tamanioLote);
+        }
+        this.repository = repository;
+        this.ultimaSecuencia = desdeSecuencia;
+        this.tamanioLote = tamanioLote;
+    }
+
+    /**
+     * Siguiente lote de cambios (vacío si no hay nuevos) y avanza la posición
+     */
+    public synchronized List<CambioTenista> siguienteLote() {
+        List<CambioTenista> lote = repository.findCambiosDesde(ultimaSecuencia, tamanioLote);
+        if (!lote.isEmpty()) {
+            ultimaSecuencia = lote.get(lote.size() - 1).secuencia();
+        }
+        return lote;
+    }
+
+    /**
+     * Entrega todos los cambios pendientes por lotes; devuelve el número de eventos
+     */
+    public long procesarPendientes(Consumer<List<CambioTenista>> consumidor) {
+        long total = 0;
+        List<CambioTenista> lote;
+        while (!(lote = siguienteLote()).isEmpty()) {
+            consumidor.accept(lote);
+            total += lote.size();
+            if (lote.size() < tamanioLote) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Consulta el registro en segundo plano cada intervaloMs y entrega los lotes nuevos
+     */
+    public synchronized void escuchar(Consumer<List<CambioTenista>> consumidor, long intervaloMs) {
+        if (escucha != null) {
+            throw new IllegalStateException("El feed de cambios ya tiene un consumidor");
+        }
+        escucha = new Thread(() -> {
+            while (!cerrado) {
+                try {
+                    procesarPendientes(consumidor);
+                } catch (RuntimeException e) {
+                    logger.error("Error al leer el feed de cambios tras la secuencia " + ultimaSecuencia, e);
+                }
+                try {
+                    Thread.sleep(intervaloMs);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        }, "feed-cambios");
+        escucha.setDaemon(true);
+        escucha.start();
+    }
+
+    /**
+     * Secuencia del último evento entregado, para reanudar más tarde
+     */
+    public long getUltimaSecuencia() {
+        return ultimaSecuencia;
+    }
+
+    @Override
+    public void close() {
+        cerrado = true;
+        Thread hilo;
+        synchronized (this) {
+            hilo = escucha;
+        }
+        if (hilo != null) {
+            hilo.interrupt();
+            try {
+                hilo.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
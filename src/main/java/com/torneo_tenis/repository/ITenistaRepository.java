@@ -1,21 +1,47 @@
 package com.torneo_tenis.repository;
 
+import com.torneo_tenis.model.CambioTenista;
 import com.torneo_tenis.model.Tenista1;
 import com.torneo_tenis.model.Mano;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface ITenistaRepository {
+public interface ITenistaRepository extends AutoCloseable {
     List<Tenista1> findAll();
     Optional<Tenista1> findById(Long id);
     Tenista1 save(Tenista1 tenista);
+    List<Tenista1> saveAll(Collection<Tenista1> tenistas);
     Tenista1 update(Tenista1 tenista);
+    List<Tenista1> updateAll(Collection<Tenista1> tenistas);
     boolean deleteById(Long id);
     void deleteAll();
     
+    // Importación incremental: MERGE por clave natural (nombre + fecha_nacimiento), asignando el ID de cada fila
+    List<Tenista1> upsertAll(Collection<Tenista1> tenistas);
+    int deleteAllById(Collection<Long> ids);
+    
     // Consultas específicas
     List<Tenista1> findByPais(String pais);
     List<Tenista1> findByMano(Mano mano);
     List<Tenista1> findByPuntosGreaterThan(int puntos);
     long count();
+    
+    // Paginación por clave (keyset): la siguiente página empieza tras el último elemento recibido
+    List<Tenista1> findPageAfterId(long ultimoId, int limite);
+    List<Tenista1> findPageByPuntos(int ultimosPuntos, long ultimoId, int limite);
+    
+    // Registro de cambios: eventos con secuencia mayor que la indicada, en orden
+    List<CambioTenista> findCambiosDesde(long secuencia, int limite);
+    
+    // Consultas en streaming: el Stream mantiene una conexión abierta y debe cerrarse
+    Stream<Tenista1> streamAll();
+    Stream<Tenista1> streamByPais(String pais);
+    Stream<Tenista1> streamByMano(Mano mano);
+    Stream<Tenista1> streamByPuntosGreaterThan(int puntos);
+    
+    // Libera los recursos (conexiones, colas pendientes)
+    @Override
+    void close();
 }
\ No newline at end of file
@@ -0,0 +1,195 @@
+package com.torneo_tenis.repository;
+
+import com.torneo_tenis.model.Tenista1;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Importación incremental sobre un repositorio existente. Los tenistas se emparejan
+ * por su clave natural (nombre + fecha de nacimiento) con las filas ya guardadas y se
+ * compara una huella del resto de campos: los que no cambian se omiten y los nuevos o
+ * modificados se escriben por lotes con upsertAll. Al terminar se pueden eliminar las
+ * filas que no aparecieron en la importación. Así los IDs se conservan y solo se
+ * invalidan en caché las filas que realmente cambian.
+ */
+public class ImportacionIncremental {
+    private static final Logger logger = LoggerFactory.getLogger(ImportacionIncremental.class);
+
+    private final ITenistaRepository repository;
+    private final int batchSize;
+    private final Map<ClaveNatural, Existente> existentes = new HashMap<>();
+    private final List<Tenista1> pendientes = new ArrayList<>();
+
+    private long insertados;
+    private long actualizados;
+    private long sinCambios;
+    private boolean terminada;
+
+    /**
+     * Lee en streaming la clave, el ID y la huella de todas las filas del repositorio
+     */
+    public ImportacionIncremental(ITenistaRepository repository, int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("El tamaño de lote debe ser mayor que 0");
+        }
+        this.repository = repository;
+        this.batchSize = batchSize;
+
+        try (Stream<Tenista1> tenistas = repository.streamAll()) {
+            tenistas.forEach(t -> existentes.put(ClaveNatural.de(t),
+                    new Existente(t.getId(), huella(t), t.getCreated_at())));
+        }
+        logger.info("Importación incremental: " + existentes.size() + " tenistas existentes");
+    }
+
+    /**
+     * Clasifica el tenista y lo encola si es nuevo o ha cambiado. A los existentes se
+     * les asigna su ID y su fecha de creación.
+     */
+    public synchronized void procesar(Tenista1 tenista) {
+        if (terminada) {
+            throw new IllegalStateException("La importación ya ha terminado");
+        }
+
+        ClaveNatural clave = ClaveNatural.de(tenista);
+        long huella = huella(tenista);
+        Existente existente = existentes.get(clave);
+
+        if (existente == null) {
+            existentes.put(clave, new Existente(null, huella, tenista.getCreated_at(), true));
+            insertados++;
+        } else {
+            boolean repetido = existente.visto;
+            existente.visto = true;
+            if (existente.huella == huella) {
+                sinCambios++;
+                return;
+            }
+            existente.huella = huella;
+            if (existente.id != null) {
+                tenista.setId(existente.id);
+                tenista.setCreated_at(existente.creado);
+            }
+            // Una clave repetida en la entrada que se insertó antes cuenta como actualización
+            if (repetido || existente.id != null) {
+                actualizados++;
+            }
+        }
+
+        pendientes.add(tenista);
+        if (pendientes.size() >= batchSize) {
+            volcar();
+        }
+    }
+
+    public synchronized void procesarTodos(Collection<Tenista1> tenistas) {
+        for (Tenista1 tenista : tenistas) {
+            procesar(tenista);
+        }
+    }
+
+    private void volcar() {
+        if (pendientes.isEmpty()) {
+            return;
+        }
+        for (Tenista1 fusionado : repository.upsertAll(pendientes)) {
+            Existente existente = existentes.get(ClaveNatural.de(fusionado));
+            if (existente != null && existente.id == null) {
+                existente.id = fusionado.getId();
+            }
+        }
+        pendientes.clear();
+    }
+
+    /**
+     * Escribe lo pendiente y, si se indica, elimina las filas que no aparecieron
+     * en la importación
+     */
+    public synchronized Resultado terminar(boolean eliminarAusentes) {
+        volcar();
+        terminada = true;
+
+        long eliminados = 0;
+        if (eliminarAusentes) {
+            List<Long> ausentes = new ArrayList<>();
+            for (Existente existente : existentes.values()) {
+                if (!existente.visto && existente.id != null) {
+                    ausentes.add(existente.id);
+                }
+            }
+            eliminados = repository.deleteAllById(ausentes);
+        }
+
+        Resultado resultado = new Resultado(insertados, actualizados, sinCambios, eliminados);
+        logger.info("Importación incremental terminada: " + resultado);
+        return resultado;
+    }
+
+    /**
+     * Huella de 64 bits de los campos que no forman parte de la clave natural
+     * (ni del ID ni de las marcas de tiempo)
+     */
+    static long huella(Tenista1 tenista) {
+        long h = 0xcbf29ce484222325L;
+        String pais = tenista.getPais();
+        for (int i = 0; i < pais.length(); i++) {
+            h = (h ^ pais.charAt(i)) * 0x100000001b3L;
+        }
+        h = (h ^ tenista.getAltura()) * 0x100000001b3L;
+        h = (h ^ tenista.getPeso()) * 0x100000001b3L;
+        h = (h ^ tenista.getPuntos()) * 0x100000001b3L;
+        h = (h ^ tenista.getMano().ordinal()) * 0x100000001b3L;
+        // Mezcla final para repartir los bits de los últimos campos
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        return h ^ (h >>> 33);
+    }
+
+    private record ClaveNatural(String nombre, LocalDate fechaNacimiento) {
+        static ClaveNatural de(Tenista1 tenista) {
+            return new ClaveNatural(tenista.getNombre(), tenista.getFecha_nacimiento());
+        }
+    }
+
+    /**
+     * Estado de una clave: ID en la base de datos (null hasta que se inserta),
+     * huella del último contenido escrito y si ha aparecido en esta importación
+     */
+    private static final class Existente {
+        Long id;
+        long huella;
+        final LocalDateTime creado;
+        boolean visto;
+
+        Existente(Long id, long huella, LocalDateTime creado) {
+            this(id, huella, creado, false);
+        }
+
+        Existente(Long id, long huella, LocalDateTime creado, boolean visto) {
+            this.id = id;
+            this.huella = huella;
+            this.creado = creado;
+            this.visto = visto;
+        }
+    }
+
+    /**
+     * Recuento de filas de la importación
+     */
+    public record Resultado(long insertados, long actualizados, long sinCambios, long eliminados) {
+        @Override
+        public String toString() {
+            return "Importación incremental - Insertados: " + insertados + ", Actualizados: " + actualizados
+                   + ", Sin cambios: " + sinCambios + ", Eliminados: " + eliminados;
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.torneo_tenis.repository;
+
+import com.torneo_tenis.metrics.Histograma;
+import com.torneo_tenis.metrics.Metricas;
+import com.torneo_tenis.metrics.Temporizador;
+import com.torneo_tenis.model.CambioTenista;
+import com.torneo_tenis.model.Mano;
+import com.torneo_tenis.model.Tenista1;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Decorador de ITenistaRepository que mide la latencia de cada método
+ * (repositorio.<método>) y el número de filas de cada consulta o escritura por lotes
+ * (repositorio.<método>.filas). Para medir la base de datos y no las capas de caché,
+ * debe envolver directamente al repositorio JDBC. En los métodos de streaming se mide
+ * desde la apertura hasta el cierre del Stream.
+ */
+public class MetricasTenistaRepository implements ITenistaRepository {
+    private static final String PREFIJO = "repositorio.";
+
+    private final ITenistaRepository delegate;
+    private final Metricas metricas;
+    private final Map<String, Temporizador> temporizadores = new ConcurrentHashMap<>();
+    private final Map<String, Histograma> filas = new ConcurrentHashMap<>();
+
+    public MetricasTenistaRepository(ITenistaRepository delegate) {
+        this(delegate, Metricas.global());
+    }
+
+    public MetricasTenistaRepository(ITenistaRepository delegate, Metricas metricas) {
+        this.delegate = delegate;
+        this.metricas = metricas;
+    }
+
+    private <T> T medir(String metodo, Supplier<T> operacion) {
+        long inicio = System.nanoTime();
+        try {
+            return operacion.get();
+        } finally {
+            temporizador(metodo).registrarDesde(inicio);
+        }
+    }
+
+    private <T> List<T> medirFilas(String metodo, Supplier<List<T>> operacion) {
+        List<T> resultado = medir(metodo, operacion);
+        filas(metodo).registrar(resultado.size());
+        return resultado;
+    }
+
+    private Stream<Tenista1> medirStream(String metodo, Supplier<Stream<Tenista1>> apertura) {
+        long inicio = System.nanoTime();
+        Stream<Tenista1> stream = apertura.get();
+        long[] leidas = {0};
+        return stream.peek(t -> leidas[0]++).onClose(() -> {
+            temporizador(metodo).registrarDesde(inicio);
+            filas(metodo).registrar(leidas[0]);
+        });
+    }
+
+    private Temporizador temporizador(String metodo) {
+        return temporizadores.computeIfAbsent(metodo, m -> metricas.temporizador(PREFIJO + m));
+    }
+
+    private Histograma filas(String metodo) {
+        return filas.computeIfAbsent(metodo, m -> metricas.histograma(PREFIJO + m + ".filas"));
+    }
+
+    @Override
+    public List<Tenista1> findAll() {
+        return medirFilas("findAll", delegate::findAll);
+    }
+
+    @Override
+    public Optional<Tenista1> findById(Long id) {
+        return medir("findById", () -> delegate.findById(id));
+    }
+
+    @Override
+    public Tenista1 save(Tenista1 tenista) {
+        return medir("save", () -> delegate.save(tenista));
+    }
+
+    @Override
+    public List<Tenista1> saveAll(Collection<Tenista1> tenistas) {
+        return medirFilas("saveAll", () -> delegate.saveAll(tenistas));
+    }
+
+    @Override
+    public Tenista1 update(Tenista1 tenista) {
+        return medir("update", () -> delegate.update(tenista));
+    }
+
+    @Override
+    public List<Tenista1> updateAll(Collection<Tenista1> tenistas) {
+        return medirFilas("updateAll", () -> delegate.updateAll(tenistas));
+    }
+
+    @Override
+    public boolean deleteById(Long id) {
+        return medir("deleteById", () -> delegate.deleteById(id));
+    }
+
+    @Override
+    public void deleteAll() {
+        medir("deleteAll", () -> {
+            delegate.deleteAll();
+            return null;
+        });
+    }
+
+    @Override
+    public List<Tenista1> upsertAll(Collection<Tenista1> tenistas) {
+        return medirFilas("upsertAll", () -> delegate.upsertAll(tenistas));
+    }
+
+    @Override
+    public int deleteAllById(Collection<Long> ids) {
+        int eliminadas = medir("deleteAllById", () -> delegate.deleteAllById(ids));
+        filas("deleteAllById").registrar(eliminadas);
+        return eliminadas;
+    }
+
+    @Override
+    public List<Tenista1> findByPais(String pais) {
+        return medirFilas("findByPais", () -> delegate.findByPais(pais));
+    }
+
+    @Override
+    public List<Tenista1> findByMano(Mano mano) {
+        return medirFilas("findByMano", () -> delegate.findByMano(mano));
+    }
+
+    @Override
+    public List<Tenista1> findByPuntosGreaterThan(int puntos) {
+        return medirFilas("findByPuntosGreaterThan", () -> delegate.findByPuntosGreaterThan(puntos));
+    }
+
+    @Override
+    public long count() {
+        return medir("count", delegate::count);
+    }
+
+    @Override
+    public List<Tenista1> findPageAfterId(long ultimoId, int limite) {
+        return medirFilas("findPageAfterId", () -> delegate.findPageAfterId(ultimoId, limite));
+    }
+
+    @Override
+    public List<Tenista1> findPageByPuntos(int ultimosPuntos, long ultimoId, int limite) {
+        return medirFilas("findPageByPuntos", () -> delegate.findPageByPuntos(ultimosPuntos, ultimoId, limite));
+    }
+
+    @Override
+    public List<CambioTenista> findCambiosDesde(long secuencia, int limite) {
+        return medirFilas("findCambiosDesde", () -> delegate.findCambiosDesde(secuencia, limite));
+    }
+
+    @Override
+    public Stream<Tenista1> streamAll() {
+        return medirStream("streamAll", delegate::streamAll);
+    }
+
+    @Override
+    public Stream<Tenista1> streamByPais(String pais) {
+        return medirStream("streamByPais", () -> delegate.streamByPais(pais));
+    }
+
+    @Override
+    public Stream<Tenista1> streamByMano(Mano mano) {
+        return medirStream("streamByMano", () -> delegate.streamByMano(mano));
+    }
+
+    @Override
+    public Stream<Tenista1> streamByPuntosGreaterThan(int puntos) {
+        return medirStream("streamByPuntosGreaterThan", () -> delegate.streamByPuntosGreaterThan(puntos));
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+}
@@ -0,0 +1,188 @@
+package com.torneo_tenis.repository;
+
+import com.torneo_tenis.analytics.IndiceRanking;
+import com.torneo_tenis.model.Mano;
+import com.torneo_tenis.model.CambioTenista;
+import com.torneo_tenis.model.Tenista1;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Decorador de ITenistaRepository que mantiene un IndiceRanking al día con cada
+ * save/update/delete, y responde findByPuntosGreaterThan desde el índice en lugar de
+ * ordenar en la base de datos. El índice se carga una vez al crear el decorador,
+ * por lo que todas las escrituras deben pasar por él.
+ *
+ * La escritura en la base de datos y la del índice no son atómicas: el índice se
+ * actualiza después de que el delegado confirme, sin bloqueo entre ambas. Un lector
+ * puede ver durante ese intervalo el índice anterior a una escritura ya confirmada, y
+ * dos escrituras concurrentes sobre el mismo tenista pueden aplicarse al índice en
+ * orden distinto al de la base de datos y dejarlo con la versión perdedora. Por eso
+ * las escrituras de un mismo tenista deben serializarse fuera de este decorador;
+ * escrituras sobre tenistas distintos pueden ir en paralelo.
+ */
+public class RankingTenistaRepository implements ITenistaRepository {
+    private static final Logger logger = LoggerFactory.getLogger(RankingTenistaRepository.class);
+
+    private final ITenistaRepository delegate;
+    private final IndiceRanking indice;
+
+    public RankingTenistaRepository(ITenistaRepository delegate) {
+        this(delegate, new IndiceRanking());
+    }
+
+    public RankingTenistaRepository(ITenistaRepository delegate, IndiceRanking indice) {
+        this.delegate = delegate;
+        this.indice = indice;
+
+        long inicio = System.nanoTime();
+        indice.limpiar();
+        try (Stream<Tenista1> tenistas = delegate.streamAll()) {
+            tenistas.forEach(indice::actualizar);
+        }
+        logger.info("Índice de ranking cargado con " + indice.size() + " tenistas en "
+                    + (System.nanoTime() - inicio) / 1_000_000 + " ms");
+    }
+
+    @Override
+    public Tenista1 save(Tenista1 tenista) {
+        Tenista1 guardado = delegate.save(tenista);
+        indice.actualizar(guardado);
+        return guardado;
+    }
+
+    @Override
+    public List<Tenista1> saveAll(Collection<Tenista1> tenistas) {
+        List<Tenista1> guardados = delegate.saveAll(tenistas);
+        indice.actualizarTodos(guardados);
+        return guardados;
+    }
+
+    @Override
+    public Tenista1 update(Tenista1 tenista) {
+        Tenista1 actualizado = delegate.update(tenista);
+        indice.actualizar(actualizado);
+        return actualizado;
+    }
+
+    @Override
+    public List<Tenista1> updateAll(Collection<Tenista1> tenistas) {
+        List<Tenista1> actualizados = delegate.updateAll(tenistas);
+        indice.actualizarTodos(actualizados);
+        return actualizados;
+    }
+
+    @Override
+    public boolean deleteById(Long id) {
+        boolean eliminado = delegate.deleteById(id);
+        if (id != null) {
+            indice.eliminar(id);
+        }
+        return eliminado;
+    }
+
+    @Override
+    public List<Tenista1> upsertAll(Collection<Tenista1> tenistas) {
+        List<Tenista1> fusionados = delegate.upsertAll(tenistas);
+        indice.actualizarTodos(fusionados);
+        return fusionados;
+    }
+
+    @Override
+    public int deleteAllById(Collection<Long> ids) {
+        int eliminados = delegate.deleteAllById(ids);
+        ids.forEach(indice::eliminar);
+        return eliminados;
+    }
+
+    @Override
+    public void deleteAll() {
+        delegate.deleteAll();
+        indice.limpiar();
+    }
+
+    /**
+     * Se resuelve con el índice: recorrido en orden de ranking sin ordenar nada
+     */
+    @Override
+    public List<Tenista1> findByPuntosGreaterThan(int puntos) {
+        if (puntos == Integer.MAX_VALUE) {
+            return List.of();
+        }
+        return indice.entrePuntos(puntos + 1, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public Optional<Tenista1> findById(Long id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public List<Tenista1> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<Tenista1> findByPais(String pais) {
+        return delegate.findByPais(pais);
+    }
+
+    @Override
+    public List<Tenista1> findByMano(Mano mano) {
+        return delegate.findByMano(mano);
+    }
+
+    @Override
+    public long count() {
+        return delegate.count();
+    }
+
+    @Override
+    public List<Tenista1> findPageAfterId(long ultimoId, int limite) {
+        return delegate.findPageAfterId(ultimoId, limite);
+    }
+
+    @Override
+    public List<Tenista1> findPageByPuntos(int ultimosPuntos, long ultimoId, int limite) {
+        return delegate.findPageByPuntos(ultimosPuntos, ultimoId, limite);
+    }
+
+    @Override
+    public List<CambioTenista> findCambiosDesde(long secuencia, int limite) {
+        return delegate.findCambiosDesde(secuencia, limite);
+    }
+
+    @Override
+    public Stream<Tenista1> streamAll() {
+        return delegate.streamAll();
+    }
+
+    @Override
+    public Stream<Tenista1> streamByPais(String pais) {
+        return delegate.streamByPais(pais);
+    }
+
+    @Override
+    public Stream<Tenista1> streamByMano(Mano mano) {
+        return delegate.streamByMano(mano);
+    }
+
+    @Override
+    public Stream<Tenista1> streamByPuntosGreaterThan(int puntos) {
+        return delegate.streamByPuntosGreaterThan(puntos);
+    }
+
+    public IndiceRanking getIndice() {
+        return indice;
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+}
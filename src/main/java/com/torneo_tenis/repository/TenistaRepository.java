@@ -1,6 +1,9 @@
 package com.torneo_tenis.repository;
 
+import com.torneo_tenis.database.ConnectionPool;
+import com.torneo_tenis.model.CambioTenista;
 import com.torneo_tenis.model.Tenista1;
+import com.torneo_tenis.model.TipoCambio;
 import com.torneo_tenis.model.Mano;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -8,32 +11,177 @@ import org.slf4j.LoggerFactory;
 import java.sql.*;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import java.io.InputStream;
 
 public class TenistaRepository implements ITenistaRepository {
     private static final Logger logger = LoggerFactory.getLogger(TenistaRepository.class);
-    private Connection connection;
+    private static final int DEFAULT_BATCH_SIZE = 1000;
+    private static final int DEFAULT_FETCH_SIZE = 500;
+    // El ID sale de seq_tenistas de forma explícita (ver la migración 17)
+    private static final String INSERT_SQL = """
+        INSERT INTO tenistas (id, nombre, pais, altura, peso, puntos, mano, fecha_nacimiento, created_at, updated_at)
+        VALUES (NEXT VALUE FOR seq_tenistas, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+    """;
+    private static final String UPDATE_SQL = """
+        UPDATE tenistas SET nombre = ?, pais = ?, altura = ?, peso = ?, puntos = ?,
+        mano = ?, fecha_nacimiento = ?, updated_at = ? WHERE id = ?
+    """;
+    // Sin created_at: las filas nuevas toman el valor por defecto y las existentes conservan el suyo.
+    // Las existentes conservan también su ID; las nuevas lo toman de seq_tenistas
+    private static final String MERGE_SQL = """
+        MERGE INTO tenistas (id, nombre, fecha_nacimiento, pais, altura, peso, puntos, mano, updated_at)
+        KEY (nombre, fecha_nacimiento)
+        VALUES (COALESCE((SELECT id FROM tenistas WHERE nombre = ?1 AND fecha_nacimiento = ?2), NEXT VALUE FOR seq_tenistas),
+                ?1, ?2, ?3, ?4, ?5, ?6, ?7, ?8)
+    """;
+    private static final String[] COLUMNA_ID = {"id"};
+    private static final String DELETE_BY_ID_SQL = "DELETE FROM tenistas WHERE id = ?";
+    private static final String FIND_BY_PAIS_SQL = "SELECT * FROM tenistas WHERE pais = ? ORDER BY nombre";
+    private static final String FIND_BY_MANO_SQL = "SELECT * FROM tenistas WHERE mano = ? ORDER BY nombre";
+    private static final String FIND_BY_PUNTOS_SQL = "SELECT * FROM tenistas WHERE puntos > ? ORDER BY puntos DESC";
+    private static final String FIND_ALL_SQL = "SELECT * FROM tenistas ORDER BY id";
+    private static final String PAGE_BY_ID_SQL = "SELECT * FROM tenistas WHERE id > ? ORDER BY id LIMIT ?";
+    // Cada evento trae la fila tal como quedó al cambiar; los anteriores a la v8 del esquema, sin nombre, no la traen
+    private static final String FIND_CAMBIOS_SQL = """
+        SELECT orden, tipo, fecha, tenista_id AS id, nombre, pais, altura, peso, puntos, mano,
+               fecha_nacimiento, created_at, updated_at
+        FROM tenistas_cambios WHERE orden > ? ORDER BY orden LIMIT ?
+    """;
+    // Eventos de la transacción en curso: los de esta sesión aún sin número de orden
+    private static final String RANGO_CAMBIOS_PENDIENTES_SQL =
+        "SELECT MIN(secuencia), MAX(secuencia) FROM tenistas_cambios WHERE sesion = SESSION_ID() AND orden IS NULL";
+    private static final String NUMERAR_CAMBIOS_PENDIENTES_SQL =
+        "UPDATE tenistas_cambios SET orden = secuencia + ? WHERE sesion = SESSION_ID() AND orden IS NULL";
+    private static final String DELETE_CAMBIOS_PENDIENTES_SQL =
+        "DELETE FROM tenistas_cambios WHERE sesion = SESSION_ID() AND orden IS NULL";
+    // Reserva un tramo del contador; el bloqueo de su única fila dura hasta el commit
+    private static final String RESERVAR_ORDEN_SQL =
+        "SELECT valor FROM FINAL TABLE (UPDATE tenistas_cambios_contador SET valor = valor + ?)";
+    private static final String INSERT_DELETE_ALL_SQL = "INSERT INTO tenistas_cambios (secuencia, tipo, tenista_id) "
+        + "VALUES (NEXT VALUE FOR seq_tenistas_cambios, '" + TipoCambio.DELETE_ALL.name() + "', 0)";
+    private static final String PAGE_BY_PUNTOS_SQL = """
+        SELECT * FROM tenistas WHERE puntos < ? OR (puntos = ? AND id > ?)
+        ORDER BY puntos DESC, id LIMIT ?
+    """;
+
+    // Migraciones del esquema en orden de versión; cada una se aplica una sola vez
+    private static final String[][] MIGRACIONES = {
+        {"1", "Índice para findByPais", "CREATE INDEX IF NOT EXISTS idx_tenistas_pais_nombre ON tenistas (pais, nombre)"},
+        {"2", "Índice para findByMano", "CREATE INDEX IF NOT EXISTS idx_tenistas_mano_nombre ON tenistas (mano, nombre)"},
+        {"3", "Índice para findByPuntosGreaterThan", "CREATE INDEX IF NOT EXISTS idx_tenistas_puntos ON tenistas (puntos DESC)"},
+        {"4", "Índice para findPageByPuntos", "CREATE INDEX IF NOT EXISTS idx_tenistas_puntos_id ON tenistas (puntos DESC, id)"},
+        {"5", "Índice de clave natural para upsertAll", "CREATE INDEX IF NOT EXISTS idx_tenistas_nombre_fecha ON tenistas (nombre, fecha_nacimiento)"},
+        {"6", "Registro de cambios (CDC)", """
+            CREATE TABLE IF NOT EXISTS tenistas_cambios (
+                secuencia BIGINT AUTO_INCREMENT PRIMARY KEY,
+                tipo VARCHAR(10) NOT NULL,
+                tenista_id BIGINT NOT NULL,
+                fecha TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+            )
+        """},
+        {"7", "Trigger del registro de cambios", "CREATE TRIGGER IF NOT EXISTS trg_tenistas_cambios AFTER INSERT, UPDATE, DELETE "
+              + "ON tenistas FOR EACH ROW CALL '" + TriggerCambios.class.getName() + "'"},
+        {"8", "Imagen de la fila en el registro de cambios", """
+            ALTER TABLE tenistas_cambios ADD (
+                nombre VARCHAR(255),
+                pais VARCHAR(100),
+                altura INT,
+                peso INT,
+                puntos INT,
+                mano VARCHAR(20),
+                fecha_nacimiento DATE,
+                created_at TIMESTAMP,
+                updated_at TIMESTAMP
+            )
+        """},
+        {"9", "Sesión y orden de confirmación en el registro de cambios",
+              "ALTER TABLE tenistas_cambios ADD (sesion INT DEFAULT SESSION_ID(), orden BIGINT)"},
+        {"10", "Orden de los cambios ya registrados", "UPDATE tenistas_cambios SET orden = secuencia"},
+        {"11", "Contador del orden de confirmación", "CREATE TABLE IF NOT EXISTS tenistas_cambios_contador AS "
+              + "SELECT COALESCE(MAX(secuencia), 0) AS valor FROM tenistas_cambios"},
+        {"12", "Índice para findCambiosDesde", "CREATE UNIQUE INDEX IF NOT EXISTS idx_cambios_orden ON tenistas_cambios (orden)"},
+        {"13", "Índice de cambios pendientes por sesión",
+              "CREATE INDEX IF NOT EXISTS idx_cambios_sesion_orden ON tenistas_cambios (sesion, orden)"},
+        // H2 2.2 puede repetir valores de una columna identidad con inserciones concurrentes;
+        // el trigger y las inserciones toman sus claves de forma explícita con NEXT VALUE FOR
+        {"14", "Secuencia explícita del registro de cambios", "ALTER TABLE tenistas_cambios ALTER COLUMN secuencia DROP IDENTITY"},
+        {"15", "Generador de la secuencia de cambios", "CREATE SEQUENCE IF NOT EXISTS seq_tenistas_cambios"},
+        {"16", "Continuar tras la última secuencia de cambios", "ALTER SEQUENCE seq_tenistas_cambios RESTART WITH "
+              + "(SELECT COALESCE(MAX(secuencia), 0) + 1 FROM tenistas_cambios)"},
+        {"17", "ID explícito de tenistas", "ALTER TABLE tenistas ALTER COLUMN id DROP IDENTITY"},
+        {"18", "Generador de IDs de tenistas", "CREATE SEQUENCE IF NOT EXISTS seq_tenistas"},
+        {"19", "Continuar tras el último ID de tenistas", "ALTER SEQUENCE seq_tenistas RESTART WITH "
+              + "(SELECT COALESCE(MAX(id), 0) + 1 FROM tenistas)"},
+        // MERGE ... KEY (nombre, fecha_nacimiento) necesita que la clave natural sea única:
+        // de cada grupo repetido se conserva la fila más antigua (menor ID)
+        {"20", "Eliminar duplicados de la clave natural", """
+            DELETE FROM tenistas t WHERE EXISTS (
+                SELECT 1 FROM tenistas o
+                WHERE o.nombre = t.nombre AND o.fecha_nacimiento = t.fecha_nacimiento AND o.id < t.id
+            )
+        """},
+        {"21", "Clave natural única para upsertAll",
+              "CREATE UNIQUE INDEX IF NOT EXISTS uk_tenistas_nombre_fecha ON tenistas (nombre, fecha_nacimiento)"},
+        {"22", "Índice de clave natural sustituido por el único", "DROP INDEX IF EXISTS idx_tenistas_nombre_fecha"},
+        // (puntos DESC, id) ya sirve a findByPuntosGreaterThan: el índice solo por puntos
+        // únicamente encarecía cada escritura
+        {"23", "Índice de puntos sustituido por el de puntos e ID", "DROP INDEX IF EXISTS idx_tenistas_puntos"},
+    };
+    // Hasta esta versión el registro de cambios no está completo y las migraciones se confirman sin numerarlo
+    private static final int ULTIMA_MIGRACION_SIN_ORDEN = 19;
+
+    private final ConnectionPool pool;
+    private volatile int batchSize = DEFAULT_BATCH_SIZE;
+    private volatile int fetchSize = DEFAULT_FETCH_SIZE;
 
     public TenistaRepository() {
-        initDatabase();
+        this(cargarPropiedades());
+    }
+
+    /**
+     * Constructor a partir de propiedades db.* (pool, tamaño de lote y de fetch)
+     */
+    public TenistaRepository(Properties props) {
+        this(ConnectionPool.fromProperties(props));
+        setBatchSize(Integer.parseInt(props.getProperty("db.batch.size", String.valueOf(DEFAULT_BATCH_SIZE))));
+        setFetchSize(Integer.parseInt(props.getProperty("db.fetch.size", String.valueOf(DEFAULT_FETCH_SIZE))));
     }
 
-    private void initDatabase() {
+    /**
+     * Constructor con un pool ya configurado (compartido o de pruebas)
+     */
+    public TenistaRepository(ConnectionPool pool) {
+        this.pool = pool;
         try {
-            Properties props = new Properties();
-            InputStream input = getClass().getClassLoader().getResourceAsStream("application.properties");
-            props.load(input);
-            
-            String url = props.getProperty("db.url");
-            String user = props.getProperty("db.user");
-            String password = props.getProperty("db.password");
-            
-            connection = DriverManager.getConnection(url, user, password);
             createTableIfNotExists();
+            migrarEsquema();
             logger.info("Base de datos inicializada correctamente");
+        } catch (SQLException e) {
+            logger.error("Error al inicializar la base de datos", e);
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Carga la configuración de application.properties
+     */
+    private static Properties cargarPropiedades() {
+        try (InputStream input = TenistaRepository.class.getClassLoader().getResourceAsStream("application.properties")) {
+            Properties props = new Properties();
+            props.load(input);
+            return props;
         } catch (Exception e) {
             logger.error("Error al inicializar la base de datos", e);
             throw new RuntimeException(e);
@@ -56,18 +204,104 @@ public class TenistaRepository implements ITenistaRepository {
             )
         """;
         
-        try (Statement stmt = connection.createStatement()) {
+        try (Connection connection = pool.getConnection();
+             Statement stmt = connection.createStatement()) {
             stmt.execute(sql);
             logger.debug("Tabla tenistas creada o ya existe");
         }
     }
 
+    /**
+     * Aplica las migraciones pendientes (índices secundarios) registrándolas en schema_version
+     */
+    private void migrarEsquema() throws SQLException {
+        try (Connection connection = pool.getConnection();
+             Statement stmt = connection.createStatement()) {
+            stmt.execute("""
+                CREATE TABLE IF NOT EXISTS schema_version (
+                    version INT PRIMARY KEY,
+                    descripcion VARCHAR(255) NOT NULL,
+                    applied_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+                )
+            """);
+            
+            int actual = 0;
+            try (ResultSet rs = stmt.executeQuery("SELECT COALESCE(MAX(version), 0) FROM schema_version")) {
+                if (rs.next()) {
+                    actual = rs.getInt(1);
+                }
+            }
+            
+            for (String[] migracion : MIGRACIONES) {
+                int version = Integer.parseInt(migracion[0]);
+                if (version <= actual) {
+                    continue;
+                }
+                
+                connection.setAutoCommit(false);
+                try (PreparedStatement registro = connection.prepareStatement(
+                        "INSERT INTO schema_version (version, descripcion) VALUES (?, ?)")) {
+                    stmt.execute(migracion[2]);
+                    registro.setInt(1, version);
+                    registro.setString(2, migracion[1]);
+                    registro.executeUpdate();
+                    if (version > ULTIMA_MIGRACION_SIN_ORDEN) {
+                        confirmar(connection);
+                    } else {
+                        connection.commit();
+                    }
+                    logger.info("Migración de esquema aplicada: v" + version + " - " + migracion[1]);
+                } catch (SQLException e) {
+                    rollbackQuietly(connection);
+                    throw e;
+                } finally {
+                    connection.setAutoCommit(true);
+                }
+            }
+        }
+    }
+
+    /**
+     * Obtiene el plan de ejecución de H2 (EXPLAIN) de cada consulta específica,
+     * para comprobar qué índice utiliza
+     */
+    public Map<String, String> explainFinders() {
+        Map<String, String> planes = new LinkedHashMap<>();
+        planes.put("findByPais", explain(FIND_BY_PAIS_SQL, "España"));
+        planes.put("findByMano", explain(FIND_BY_MANO_SQL, Mano.DERECHA.name()));
+        planes.put("findByPuntosGreaterThan", explain(FIND_BY_PUNTOS_SQL, 0));
+        return planes;
+    }
+
+    /**
+     * Obtiene el plan de ejecución de H2 para una consulta con parámetros
+     */
+    public String explain(String sql, Object... parametros) {
+        try (Connection connection = pool.getConnection();
+             PreparedStatement stmt = connection.prepareStatement("EXPLAIN " + sql)) {
+            for (int i = 0; i < parametros.length; i++) {
+                stmt.setObject(i + 1, parametros[i]);
+            }
+            
+            StringBuilder plan = new StringBuilder();
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    plan.append(rs.getString(1));
+                }
+            }
+            return plan.toString();
+        } catch (SQLException e) {
+            logger.error("Error al obtener el plan de: " + sql, e);
+            throw new RuntimeException(e);
+        }
+    }
+
     @Override
     public List<Tenista1> findAll() {
         List<Tenista1> tenistas = new ArrayList<>();
-        String sql = "SELECT * FROM tenistas ORDER BY id";
         
-        try (PreparedStatement stmt = connection.prepareStatement(sql);
+        try (Connection connection = pool.getConnection();
+             PreparedStatement stmt = connection.prepareStatement(FIND_ALL_SQL);
              ResultSet rs = stmt.executeQuery()) {
             
             while (rs.next()) {
@@ -84,7 +318,8 @@ public class TenistaRepository implements ITenistaRepository {
     public Optional<Tenista1> findById(Long id) {
         String sql = "SELECT * FROM tenistas WHERE id = ?";
         
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+        try (Connection connection = pool.getConnection();
+             PreparedStatement stmt = connection.prepareStatement(sql)) {
             stmt.setLong(1, id);
             ResultSet rs = stmt.executeQuery();
             
@@ -100,21 +335,10 @@ public class TenistaRepository implements ITenistaRepository {
 
     @Override
     public Tenista1 save(Tenista1 tenista) {
-        String sql = """
-            INSERT INTO tenistas (nombre, pais, altura, peso, puntos, mano, fecha_nacimiento, created_at, updated_at)
-            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
-        """;
-        
-        try (PreparedStatement stmt = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
-            stmt.setString(1, tenista.getNombre());
-            stmt.setString(2, tenista.getPais());
-            stmt.setInt(3, tenista.getAltura());
-            stmt.setInt(4, tenista.getPeso());
-            stmt.setInt(5, tenista.getPuntos());
-            stmt.setString(6, tenista.getMano().name());
-            stmt.setDate(7, Date.valueOf(tenista.getFecha_nacimiento()));
-            stmt.setTimestamp(8, Timestamp.valueOf(tenista.getCreated_at()));
-            stmt.setTimestamp(9, Timestamp.valueOf(tenista.getUpdated_at()));
+        try (Connection connection = pool.getConnection();
+             PreparedStatement stmt = connection.prepareStatement(INSERT_SQL, COLUMNA_ID)) {
+            connection.setAutoCommit(false);
+            bindInsert(stmt, tenista);
             
             int affectedRows = stmt.executeUpdate();
             if (affectedRows > 0) {
@@ -123,6 +347,7 @@ public class TenistaRepository implements ITenistaRepository {
                     tenista.setId(generatedKeys.getLong(1));
                 }
             }
+            confirmar(connection);
             
             logger.debug("Tenista guardado: " + tenista.getNombre());
             return tenista;
@@ -132,25 +357,162 @@ public class TenistaRepository implements ITenistaRepository {
         }
     }
 
+    /**
+     * Inserta tenistas por lotes reutilizando una única sentencia preparada.
+     * Cada lote se confirma en su propia transacción y los IDs generados
+     * se asignan de vuelta a cada tenista.
+     */
     @Override
-    public Tenista1 update(Tenista1 tenista) {
-        String sql = """
-            UPDATE tenistas SET nombre = ?, pais = ?, altura = ?, peso = ?, puntos = ?, 
-            mano = ?, fecha_nacimiento = ?, updated_at = ? WHERE id = ?
-        """;
+    public List<Tenista1> saveAll(Collection<Tenista1> tenistas) {
+        List<Tenista1> guardados = new ArrayList<>(tenistas.size());
+        if (tenistas.isEmpty()) {
+            return guardados;
+        }
         
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
-            stmt.setString(1, tenista.getNombre());
-            stmt.setString(2, tenista.getPais());
-            stmt.setInt(3, tenista.getAltura());
-            stmt.setInt(4, tenista.getPeso());
-            stmt.setInt(5, tenista.getPuntos());
-            stmt.setString(6, tenista.getMano().name());
-            stmt.setDate(7, Date.valueOf(tenista.getFecha_nacimiento()));
-            stmt.setTimestamp(8, Timestamp.valueOf(LocalDateTime.now()));
-            stmt.setLong(9, tenista.getId());
+        try (Connection connection = pool.getConnection()) {
+            connection.setAutoCommit(false);
+            
+            try (PreparedStatement stmt = connection.prepareStatement(INSERT_SQL, COLUMNA_ID)) {
+                List<Tenista1> lote = new ArrayList<>(Math.min(batchSize, tenistas.size()));
+                Iterator<Tenista1> it = tenistas.iterator();
+                
+                while (it.hasNext()) {
+                    Tenista1 tenista = it.next();
+                    bindInsert(stmt, tenista);
+                    stmt.addBatch();
+                    lote.add(tenista);
+                    
+                    if (lote.size() >= batchSize || !it.hasNext()) {
+                        ejecutarLote(connection, stmt, lote);
+                        guardados.addAll(lote);
+                        lote.clear();
+                    }
+                }
+            } catch (SQLException e) {
+                rollbackQuietly(connection);
+                throw e;
+            }
+            
+            logger.debug("Tenistas guardados por lotes: " + guardados.size());
+            return guardados;
+        } catch (SQLException e) {
+            logger.error("Error al guardar tenistas por lotes", e);
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Ejecuta y confirma un lote, asignando los IDs generados en orden
+     */
+    private void ejecutarLote(Connection connection, PreparedStatement stmt, List<Tenista1> lote) throws SQLException {
+        stmt.executeBatch();
+        
+        try (ResultSet generatedKeys = stmt.getGeneratedKeys()) {
+            for (Tenista1 tenista : lote) {
+                if (!generatedKeys.next()) {
+                    throw new SQLException("No se recibieron IDs generados para todo el lote");
+                }
+                tenista.setId(generatedKeys.getLong(1));
+            }
+        }
+        
+        confirmar(connection);
+        logger.debug("Lote de " + lote.size() + " tenistas confirmado");
+    }
+
+    private void bindInsert(PreparedStatement stmt, Tenista1 tenista) throws SQLException {
+        stmt.setString(1, tenista.getNombre());
+        stmt.setString(2, tenista.getPais());
+        stmt.setInt(3, tenista.getAltura());
+        stmt.setInt(4, tenista.getPeso());
+        stmt.setInt(5, tenista.getPuntos());
+        stmt.setString(6, tenista.getMano().name());
+        stmt.setDate(7, Date.valueOf(tenista.getFecha_nacimiento()));
+        stmt.setTimestamp(8, Timestamp.valueOf(tenista.getCreated_at()));
+        stmt.setTimestamp(9, Timestamp.valueOf(tenista.getUpdated_at()));
+    }
+
+    /**
+     * Confirma la transacción numerando antes sus eventos del registro de cambios.
+     * La secuencia se asigna al insertar, así que una transacción lenta
+     * podría confirmar una secuencia menor que otra ya leída. El orden, en cambio, sale
+     * de un contador cuya única fila queda bloqueada hasta el commit: los números crecen
+     * en orden de confirmación aunque las escrituras vayan en paralelo, y solo este tramo
+     * final se serializa, entre todas las instancias y procesos que usen la base de datos.
+     * Cada evento recibe secuencia + desplazamiento, único y mayor que cualquier orden ya
+     * confirmado.
+     */
+    void confirmar(Connection connection) throws SQLException {
+        long minimo;
+        long maximo;
+        try (Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery(RANGO_CAMBIOS_PENDIENTES_SQL)) {
+            rs.next();
+            minimo = rs.getLong(1);
+            maximo = rs.getLong(2);
+            if (rs.wasNull()) {
+                connection.commit();
+                return;
+            }
+        }
+
+        long tope;
+        try (PreparedStatement reservar = connection.prepareStatement(RESERVAR_ORDEN_SQL)) {
+            reservar.setLong(1, maximo - minimo + 1);
+            try (ResultSet rs = reservar.executeQuery()) {
+                rs.next();
+                tope = rs.getLong(1);
+            }
+        }
+        try (PreparedStatement numerar = connection.prepareStatement(NUMERAR_CAMBIOS_PENDIENTES_SQL)) {
+            numerar.setLong(1, tope - maximo);
+            numerar.executeUpdate();
+        }
+        connection.commit();
+    }
+
+    private void rollbackQuietly(Connection connection) {
+        try {
+            connection.rollback();
+        } catch (SQLException e) {
+            logger.error("Error al hacer rollback", e);
+        }
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("El tamaño de lote debe ser mayor que 0");
+        }
+        this.batchSize = batchSize;
+    }
+
+    public int getFetchSize() {
+        return fetchSize;
+    }
+
+    /**
+     * Filas que el driver trae por viaje en las consultas en streaming
+     */
+    public void setFetchSize(int fetchSize) {
+        if (fetchSize <= 0) {
+            throw new IllegalArgumentException("El tamaño de fetch debe ser mayor que 0");
+        }
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public Tenista1 update(Tenista1 tenista) {
+        try (Connection connection = pool.getConnection();
+             PreparedStatement stmt = connection.prepareStatement(UPDATE_SQL)) {
+            connection.setAutoCommit(false);
+            bindUpdate(stmt, tenista, Timestamp.valueOf(LocalDateTime.now()));
             
             stmt.executeUpdate();
+            confirmar(connection);
             logger.debug("Tenista actualizado: " + tenista.getNombre());
             return tenista;
         } catch (SQLException e) {
@@ -159,13 +521,167 @@ public class TenistaRepository implements ITenistaRepository {
         }
     }
 
+    /**
+     * Actualiza tenistas por lotes reutilizando una única sentencia preparada,
+     * confirmando cada lote en su propia transacción
+     */
     @Override
-    public boolean deleteById(Long id) {
-        String sql = "DELETE FROM tenistas WHERE id = ?";
+    public List<Tenista1> updateAll(Collection<Tenista1> tenistas) {
+        List<Tenista1> actualizados = new ArrayList<>(tenistas.size());
+        if (tenistas.isEmpty()) {
+            return actualizados;
+        }
         
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+        try (Connection connection = pool.getConnection()) {
+            connection.setAutoCommit(false);
+            Timestamp ahora = Timestamp.valueOf(LocalDateTime.now());
+            
+            try (PreparedStatement stmt = connection.prepareStatement(UPDATE_SQL)) {
+                int enLote = 0;
+                Iterator<Tenista1> it = tenistas.iterator();
+                
+                while (it.hasNext()) {
+                    Tenista1 tenista = it.next();
+                    bindUpdate(stmt, tenista, ahora);
+                    stmt.addBatch();
+                    actualizados.add(tenista);
+                    
+                    if (++enLote >= batchSize || !it.hasNext()) {
+                        stmt.executeBatch();
+                        confirmar(connection);
+                        enLote = 0;
+                    }
+                }
+            } catch (SQLException e) {
+                rollbackQuietly(connection);
+                throw e;
+            }
+            
+            logger.debug("Tenistas actualizados por lotes: " + actualizados.size());
+            return actualizados;
+        } catch (SQLException e) {
+            logger.error("Error al actualizar tenistas por lotes", e);
+            throw new RuntimeException(e);
+        }
+    }
+
+    private void bindUpdate(PreparedStatement stmt, Tenista1 tenista, Timestamp updatedAt) throws SQLException {
+        stmt.setString(1, tenista.getNombre());
+        stmt.setString(2, tenista.getPais());
+        stmt.setInt(3, tenista.getAltura());
+        stmt.setInt(4, tenista.getPeso());
+        stmt.setInt(5, tenista.getPuntos());
+        stmt.setString(6, tenista.getMano().name());
+        stmt.setDate(7, Date.valueOf(tenista.getFecha_nacimiento()));
+        stmt.setTimestamp(8, updatedAt);
+        stmt.setLong(9, tenista.getId());
+    }
+
+    /**
+     * Inserta o actualiza por lotes con MERGE ... KEY (nombre, fecha_nacimiento).
+     * H2 devuelve el ID de cada fila afectada, sea nueva o existente, y se asigna en orden.
+     */
+    @Override
+    public List<Tenista1> upsertAll(Collection<Tenista1> tenistas) {
+        List<Tenista1> fusionados = new ArrayList<>(tenistas.size());
+        if (tenistas.isEmpty()) {
+            return fusionados;
+        }
+        
+        try (Connection connection = pool.getConnection()) {
+            connection.setAutoCommit(false);
+            Timestamp ahora = Timestamp.valueOf(LocalDateTime.now());
+            
+            try (PreparedStatement stmt = connection.prepareStatement(MERGE_SQL, COLUMNA_ID)) {
+                List<Tenista1> lote = new ArrayList<>(Math.min(batchSize, tenistas.size()));
+                Iterator<Tenista1> it = tenistas.iterator();
+                
+                while (it.hasNext()) {
+                    Tenista1 tenista = it.next();
+                    bindMerge(stmt, tenista, ahora);
+                    stmt.addBatch();
+                    lote.add(tenista);
+                    
+                    if (lote.size() >= batchSize || !it.hasNext()) {
+                        ejecutarLote(connection, stmt, lote);
+                        fusionados.addAll(lote);
+                        lote.clear();
+                    }
+                }
+            } catch (SQLException e) {
+                rollbackQuietly(connection);
+                throw e;
+            }
+            
+            logger.debug("Tenistas fusionados por lotes: " + fusionados.size());
+            return fusionados;
+        } catch (SQLException e) {
+            logger.error("Error al fusionar tenistas por lotes", e);
+            throw new RuntimeException(e);
+        }
+    }
+
+    private void bindMerge(PreparedStatement stmt, Tenista1 tenista, Timestamp updatedAt) throws SQLException {
+        stmt.setString(1, tenista.getNombre());
+        stmt.setDate(2, Date.valueOf(tenista.getFecha_nacimiento()));
+        stmt.setString(3, tenista.getPais());
+        stmt.setInt(4, tenista.getAltura());
+        stmt.setInt(5, tenista.getPeso());
+        stmt.setInt(6, tenista.getPuntos());
+        stmt.setString(7, tenista.getMano().name());
+        stmt.setTimestamp(8, updatedAt);
+    }
+
+    /**
+     * Elimina por lotes los IDs indicados; devuelve el número de filas borradas
+     */
+    @Override
+    public int deleteAllById(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        
+        try (Connection connection = pool.getConnection()) {
+            connection.setAutoCommit(false);
+            int eliminados = 0;
+            
+            try (PreparedStatement stmt = connection.prepareStatement(DELETE_BY_ID_SQL)) {
+                int enLote = 0;
+                Iterator<Long> it = ids.iterator();
+                
+                while (it.hasNext()) {
+                    stmt.setLong(1, it.next());
+                    stmt.addBatch();
+                    
+                    if (++enLote >= batchSize || !it.hasNext()) {
+                        for (int filas : stmt.executeBatch()) {
+                            eliminados += Math.max(filas, 0);
+                        }
+                        confirmar(connection);
+                        enLote = 0;
+                    }
+                }
+            } catch (SQLException e) {
+                rollbackQuietly(connection);
+                throw e;
+            }
+            
+            logger.debug("Tenistas eliminados por lotes: " + eliminados);
+            return eliminados;
+        } catch (SQLException e) {
+            logger.error("Error al eliminar tenistas por lotes", e);
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public boolean deleteById(Long id) {
+        try (Connection connection = pool.getConnection();
+             PreparedStatement stmt = connection.prepareStatement(DELETE_BY_ID_SQL)) {
+            connection.setAutoCommit(false);
             stmt.setLong(1, id);
             int affectedRows = stmt.executeUpdate();
+            confirmar(connection);
             logger.debug("Tenista eliminado con ID: " + id);
             return affectedRows > 0;
         } catch (SQLException e) {
@@ -174,12 +690,24 @@ public class TenistaRepository implements ITenistaRepository {
         }
     }
 
+    /**
+     * Vacía la tabla y lo anota en el registro como un único evento DELETE_ALL: en la
+     * misma transacción se sustituyen los DELETE por fila que ha anotado el trigger
+     */
     @Override
     public void deleteAll() {
-        String sql = "DELETE FROM tenistas";
-        
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
-            stmt.executeUpdate();
+        try (Connection connection = pool.getConnection();
+             Statement stmt = connection.createStatement()) {
+            connection.setAutoCommit(false);
+            try {
+                stmt.executeUpdate("DELETE FROM tenistas");
+                stmt.executeUpdate(DELETE_CAMBIOS_PENDIENTES_SQL);
+                stmt.executeUpdate(INSERT_DELETE_ALL_SQL);
+                confirmar(connection);
+            } catch (SQLException e) {
+                rollbackQuietly(connection);
+                throw e;
+            }
             logger.debug("Todos los tenistas eliminados");
         } catch (SQLException e) {
             logger.error("Error al eliminar todos los tenistas", e);
@@ -189,9 +717,10 @@ public class TenistaRepository implements ITenistaRepository {
     @Override
     public List<Tenista1> findByPais(String pais) {
         List<Tenista1> tenistas = new ArrayList<>();
-        String sql = "SELECT * FROM tenistas WHERE pais = ? ORDER BY nombre";
+        String sql = FIND_BY_PAIS_SQL;
         
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+        try (Connection connection = pool.getConnection();
+             PreparedStatement stmt = connection.prepareStatement(sql)) {
             stmt.setString(1, pais);
             ResultSet rs = stmt.executeQuery();
             
@@ -208,9 +737,10 @@ public class TenistaRepository implements ITenistaRepository {
     @Override
     public List<Tenista1> findByMano(Mano mano) {
         List<Tenista1> tenistas = new ArrayList<>();
-        String sql = "SELECT * FROM tenistas WHERE mano = ? ORDER BY nombre";
+        String sql = FIND_BY_MANO_SQL;
         
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+        try (Connection connection = pool.getConnection();
+             PreparedStatement stmt = connection.prepareStatement(sql)) {
             stmt.setString(1, mano.name());
             ResultSet rs = stmt.executeQuery();
             
@@ -227,9 +757,10 @@ public class TenistaRepository implements ITenistaRepository {
     @Override
     public List<Tenista1> findByPuntosGreaterThan(int puntos) {
         List<Tenista1> tenistas = new ArrayList<>();
-        String sql = "SELECT * FROM tenistas WHERE puntos > ? ORDER BY puntos DESC";
+        String sql = FIND_BY_PUNTOS_SQL;
         
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+        try (Connection connection = pool.getConnection();
+             PreparedStatement stmt = connection.prepareStatement(sql)) {
             stmt.setInt(1, puntos);
             ResultSet rs = stmt.executeQuery();
             
@@ -247,7 +778,8 @@ public class TenistaRepository implements ITenistaRepository {
     public long count() {
         String sql = "SELECT COUNT(*) FROM tenistas";
         
-        try (PreparedStatement stmt = connection.prepareStatement(sql);
+        try (Connection connection = pool.getConnection();
+             PreparedStatement stmt = connection.prepareStatement(sql);
              ResultSet rs = stmt.executeQuery()) {
             
             if (rs.next()) {
@@ -260,6 +792,229 @@ public class TenistaRepository implements ITenistaRepository {
         return 0;
     }
 
+    /**
+     * Página de tenistas ordenada por ID. Para la primera página se usa ultimoId = 0
+     */
+    @Override
+    public List<Tenista1> findPageAfterId(long ultimoId, int limite) {
+        return consultarPagina(PAGE_BY_ID_SQL, stmt -> {
+            stmt.setLong(1, ultimoId);
+            stmt.setInt(2, limite);
+        }, "Error al paginar tenistas tras ID: " + ultimoId);
+    }
+
+    /**
+     * Página de tenistas ordenada por puntos descendentes y, a igualdad, por ID.
+     * Para la primera página se usa ultimosPuntos = Integer.MAX_VALUE y ultimoId = 0
+     */
+    @Override
+    public List<Tenista1> findPageByPuntos(int ultimosPuntos, long ultimoId, int limite) {
+        return consultarPagina(PAGE_BY_PUNTOS_SQL, stmt -> {
+            stmt.setInt(1, ultimosPuntos);
+            stmt.setInt(2, ultimosPuntos);
+            stmt.setLong(3, ultimoId);
+            stmt.setInt(4, limite);
+        }, "Error al paginar tenistas tras puntos: " + ultimosPuntos + ", ID: " + ultimoId);
+    }
+
+    /**
+     * Siguiente lote del registro de cambios tras la secuencia indicada (0 para el principio).
+     * Cada evento trae la fila tal como quedó tras el cambio (antes de borrarse, en los DELETE).
+     * La secuencia de cada evento es su orden de confirmación (ver confirmar), así que
+     * reanudar desde la última leída no pierde eventos.
+     */
+    @Override
+    public List<CambioTenista> findCambiosDesde(long secuencia, int limite) {
+        List<CambioTenista> cambios = new ArrayList<>();
+        
+        try (Connection connection = pool.getConnection();
+             PreparedStatement stmt = connection.prepareStatement(FIND_CAMBIOS_SQL)) {
+            stmt.setLong(1, secuencia);
+            stmt.setInt(2, limite);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    Tenista1 tenista = rs.getString("nombre") == null ? null : mapResultSetToTenista(rs);
+                    cambios.add(new CambioTenista(rs.getLong("orden"), TipoCambio.valueOf(rs.getString("tipo")),
+                            rs.getLong("id"), rs.getTimestamp("fecha").toLocalDateTime(), tenista));
+                }
+            }
+        } catch (SQLException e) {
+            logger.error("Error al leer el registro de cambios tras la secuencia: " + secuencia, e);
+            throw new RuntimeException(e);
+        }
+        
+        return cambios;
+    }
+
+    /**
+     * Última secuencia del registro de cambios (0 si está vacío)
+     */
+    public long getUltimaSecuenciaCambios() {
+        try (Connection connection = pool.getConnection();
+             Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT COALESCE(MAX(orden), 0) FROM tenistas_cambios")) {
+            return rs.next() ? rs.getLong(1) : 0;
+        } catch (SQLException e) {
+            logger.error("Error al consultar la última secuencia de cambios", e);
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Elimina del registro los cambios hasta la secuencia indicada, ya consumidos por todos
+     */
+    public int purgarCambiosHasta(long secuencia) {
+        try (Connection connection = pool.getConnection();
+             PreparedStatement stmt = connection.prepareStatement("DELETE FROM tenistas_cambios WHERE orden <= ?")) {
+            stmt.setLong(1, secuencia);
+            int eliminados = stmt.executeUpdate();
+            logger.debug("Cambios purgados hasta la secuencia " + secuencia + ": " + eliminados);
+            return eliminados;
+        } catch (SQLException e) {
+            logger.error("Error al purgar el registro de cambios", e);
+            throw new RuntimeException(e);
+        }
+    }
+
+    private List<Tenista1> consultarPagina(String sql, Parametros parametros, String mensajeError) {
+        List<Tenista1> tenistas = new ArrayList<>();
+        
+        try (Connection connection = pool.getConnection();
+             PreparedStatement stmt = connection.prepareStatement(sql)) {
+            parametros.aplicar(stmt);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    tenistas.add(mapResultSetToTenista(rs));
+                }
+            }
+        } catch (SQLException e) {
+            logger.error(mensajeError, e);
+            throw new RuntimeException(e);
+        }
+        
+        return tenistas;
+    }
+
+    @Override
+    public Stream<Tenista1> streamAll() {
+        return abrirStream(FIND_ALL_SQL, stmt -> { });
+    }
+
+    @Override
+    public Stream<Tenista1> streamByPais(String pais) {
+        return abrirStream(FIND_BY_PAIS_SQL, stmt -> stmt.setString(1, pais));
+    }
+
+    @Override
+    public Stream<Tenista1> streamByMano(Mano mano) {
+        return abrirStream(FIND_BY_MANO_SQL, stmt -> stmt.setString(1, mano.name()));
+    }
+
+    @Override
+    public Stream<Tenista1> streamByPuntosGreaterThan(int puntos) {
+        return abrirStream(FIND_BY_PUNTOS_SQL, stmt -> stmt.setInt(1, puntos));
+    }
+
+    /**
+     * Abre un cursor de solo avance y lo expone como Stream perezoso. La conexión
+     * queda ocupada hasta que se cierra el Stream o se consume entero
+     */
+    private Stream<Tenista1> abrirStream(String sql, Parametros parametros) {
+        Connection connection;
+        try {
+            connection = pool.getConnection();
+        } catch (SQLException e) {
+            logger.error("Error al abrir el stream de: " + sql, e);
+            throw new RuntimeException(e);
+        }
+        
+        Cursor cursor = new Cursor(connection);
+        try {
+            cursor.abrir(sql, parametros);
+        } catch (SQLException e) {
+            cursor.close();
+            logger.error("Error al abrir el stream de: " + sql, e);
+            throw new RuntimeException(e);
+        }
+        return StreamSupport.stream(cursor, false).onClose(cursor::close);
+    }
+
+    /**
+     * Recorre un ResultSet fila a fila; libera sentencia y conexión al agotarse o al cerrarse
+     */
+    private final class Cursor extends Spliterators.AbstractSpliterator<Tenista1> {
+        private final Connection connection;
+        private PreparedStatement stmt;
+        private ResultSet rs;
+        private boolean cerrado;
+
+        Cursor(Connection connection) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.connection = connection;
+        }
+
+        void abrir(String sql, Parametros parametros) throws SQLException {
+            // Sin ejecución perezosa H2 materializa el resultado completo antes de devolverlo
+            try (Statement lazy = connection.createStatement()) {
+                lazy.execute("SET LAZY_QUERY_EXECUTION TRUE");
+            }
+            stmt = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            stmt.setFetchSize(fetchSize);
+            parametros.aplicar(stmt);
+            rs = stmt.executeQuery();
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Tenista1> action) {
+            if (cerrado) {
+                return false;
+            }
+            try {
+                if (!rs.next()) {
+                    close();
+                    return false;
+                }
+                action.accept(mapResultSetToTenista(rs));
+                return true;
+            } catch (SQLException e) {
+                close();
+                logger.error("Error al leer el stream de tenistas", e);
+                throw new RuntimeException(e);
+            }
+        }
+
+        void close() {
+            if (cerrado) {
+                return;
+            }
+            cerrado = true;
+            try {
+                if (stmt != null) {
+                    stmt.close();
+                }
+                try (Statement lazy = connection.createStatement()) {
+                    lazy.execute("SET LAZY_QUERY_EXECUTION FALSE");
+                }
+            } catch (SQLException e) {
+                logger.error("Error al cerrar el stream de tenistas", e);
+            } finally {
+                try {
+                    connection.close();
+                } catch (SQLException e) {
+                    logger.error("Error al devolver la conexión del stream", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Asigna los parámetros de una sentencia preparada
+     */
+    @FunctionalInterface
+    private interface Parametros {
+        void aplicar(PreparedStatement stmt) throws SQLException;
+    }
+
     private Tenista1 mapResultSetToTenista(ResultSet rs) throws SQLException {
         return new Tenista1(
             rs.getLong("id"),
@@ -275,14 +1030,18 @@ public class TenistaRepository implements ITenistaRepository {
         );
     }
 
+    /**
+     * Pool de conexiones usado por el repositorio (para consultar métricas)
+     */
+    public ConnectionPool getPool() {
+        return pool;
+    }
+
+    @Override
     public void close() {
-        try {
-            if (connection != null && !connection.isClosed()) {
-                connection.close();
-                logger.info("Conexión a la base de datos cerrada");
-            }
-        } catch (SQLException e) {
-            logger.error("Error al cerrar la conexión", e);
+        if (pool != null) {
+            pool.close();
+            logger.info("Conexión a la base de datos cerrada");
         }
     }
 }
\ No newline at end of file
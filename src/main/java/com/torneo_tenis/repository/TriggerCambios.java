@@ -0,0 +1,41 @@
+package com.torneo_tenis.repository;
+
+import com.torneo_tenis.model.TipoCambio;
+import org.h2.api.Trigger;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * Trigger de H2 que anota cada INSERT, UPDATE y DELETE de tenistas en tenistas_cambios,
+ * dentro de la misma transacción que la escritura. Así se capturan todos los caminos
+ * (save, saveAll, update, upsertAll, borrados) sin tocar cada sentencia.
+ *
+ * Cada evento guarda la fila tal como quedó (la anterior, en los borrados), de modo que
+ * el consumidor no depende del estado actual de la tabla al leerlo. Los eventos quedan
+ * sin número de orden hasta que TenistaRepository los numera al confirmar.
+ */
+public class TriggerCambios implements Trigger {
+    private static final String INSERT_CAMBIO_SQL = """
+        INSERT INTO tenistas_cambios (secuencia, tipo, tenista_id, nombre, pais, altura, peso, puntos, mano,
+                                      fecha_nacimiento, created_at, updated_at)
+        VALUES (NEXT VALUE FOR seq_tenistas_cambios, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+    """;
+    // Las filas que recibe el trigger siguen el orden de columnas de tenistas, empezando por id
+    private static final int COLUMNAS_TENISTA = 10;
+
+    @Override
+    public void fire(Connection connection, Object[] anterior, Object[] nueva) throws SQLException {
+        TipoCambio tipo = anterior == null ? TipoCambio.INSERT : nueva == null ? TipoCambio.DELETE : TipoCambio.UPDATE;
+        Object[] fila = nueva != null ? nueva : anterior;
+
+        try (PreparedStatement stmt = connection.prepareStatement(INSERT_CAMBIO_SQL)) {
+            stmt.setString(1, tipo.name());
+            for (int i = 0; i < COLUMNAS_TENISTA; i++) {
+                stmt.setObject(i + 2, fila[i]);
+            }
+            stmt.executeUpdate();
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.torneo_tenis.repository;
+
+import com.torneo_tenis.model.CambioTenista;
+import com.torneo_tenis.model.Mano;
+import com.torneo_tenis.model.Tenista1;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Decorador de ITenistaRepository que lleva la versión de los datos: un contador que
+ * avanza tras cada escritura. Debe ser el decorador más externo, por encima de la caché
+ * y del índice de ranking, para que la versión avance solo cuando todas las capas ya
+ * reflejan la escritura (incluidas las que una escritura diferida aún no ha volcado).
+ */
+public class VersionadoTenistaRepository implements ITenistaRepository {
+    private final ITenistaRepository delegate;
+    private final AtomicLong version = new AtomicLong();
+
+    public VersionadoTenistaRepository(ITenistaRepository delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Tenista1 save(Tenista1 tenista) {
+        try {
+            return delegate.save(tenista);
+        } finally {
+            version.incrementAndGet();
+        }
+    }
+
+    @Override
+    public List<Tenista1> saveAll(Collection<Tenista1> tenistas) {
+        try {
+            return delegate.saveAll(tenistas);
+        } finally {
+            version.incrementAndGet();
+        }
+    }
+
+    @Override
+    public Tenista1 update(Tenista1 tenista) {
+        try {
+            return delegate.update(tenista);
+        } finally {
+            version.incrementAndGet();
+        }
+    }
+
+    @Override
+    public List<Tenista1> updateAll(Collection<Tenista1> tenistas) {
+        try {
+            return delegate.updateAll(tenistas);
+        } finally {
+            version.incrementAndGet();
+        }
+    }
+
+    @Override
+    public boolean deleteById(Long id) {
+        try {
+            return delegate.deleteById(id);
+        } finally {
+            version.incrementAndGet();
+        }
+    }
+
+    @Override
+    public List<Tenista1> upsertAll(Collection<Tenista1> tenistas) {
+        try {
+            return delegate.upsertAll(tenistas);
+        } finally {
+            version.incrementAndGet();
+        }
+    }
+
+    @Override
+    public int deleteAllById(Collection<Long> ids) {
+        try {
+            return delegate.deleteAllById(ids);
+        } finally {
+            version.incrementAndGet();
+        }
+    }
+
+    @Override
+    public void deleteAll() {
+        try {
+            delegate.deleteAll();
+        } finally {
+            version.incrementAndGet();
+        }
+    }
+
+    @Override
+    public Optional<Tenista1> findById(Long id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public List<Tenista1> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<Tenista1> findByPais(String pais) {
+        return delegate.findByPais(pais);
+    }
+
+    @Override
+    public List<Tenista1> findByMano(Mano mano) {
+        return delegate.findByMano(mano);
+    }
+
+    @Override
+    public List<Tenista1> findByPuntosGreaterThan(int puntos) {
+        return delegate.findByPuntosGreaterThan(puntos);
+    }
+
+    @Override
+    public long count() {
+        return delegate.count();
+    }
+
+    @Override
+    public List<Tenista1> findPageAfterId(long ultimoId, int limite) {
+        return delegate.findPageAfterId(ultimoId, limite);
+    }
+
+    @Override
+    public List<Tenista1> findPageByPuntos(int ultimosPuntos, long ultimoId, int limite) {
+        return delegate.findPageByPuntos(ultimosPuntos, ultimoId, limite);
+    }
+
+    @Override
+    public List<CambioTenista> findCambiosDesde(long secuencia, int limite) {
+        return delegate.findCambiosDesde(secuencia, limite);
+    }
+
+    @Override
+    public Stream<Tenista1> streamAll() {
+        return delegate.streamAll();
+    }
+
+    @Override
+    public Stream<Tenista1> streamByPais(String pais) {
+        return delegate.streamByPais(pais);
+    }
+
+    @Override
+    public Stream<Tenista1> streamByMano(Mano mano) {
+        return delegate.streamByMano(mano);
+    }
+
+    @Override
+    public Stream<Tenista1> streamByPuntosGreaterThan(int puntos) {
+        return delegate.streamByPuntosGreaterThan(puntos);
+    }
+
+    /**
+     * Versión de los datos. Avanza cuando la escritura ha terminado en todas las capas
+     * por debajo, así que quien la lee antes de consultar puede obtener datos más nuevos
+     * que la versión, pero nunca asocia datos antiguos a una versión nueva. Con escrituras
+     * en curso dos lectores pueden ver contenidos distintos con la misma versión; el
+     * siguiente cambio de versión los invalida a ambos.
+     */
+    public long getVersion() {
+        return version.get();
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+}
@@ -0,0 +1,540 @@
+package com.torneo_tenis.repository;
+
+import com.torneo_tenis.model.Mano;
+import com.torneo_tenis.model.CambioTenista;
+import com.torneo_tenis.model.Tenista1;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * Decorador de ITenistaRepository con escritura diferida (write-behind) de los update.
+ * Las actualizaciones se acumulan en memoria agrupando las repetidas del mismo ID
+ * (solo se escribe la última) y un hilo en segundo plano las vuelca con updateAll
+ * al alcanzar el tamaño de lote o el intervalo máximo. Si la cola está llena,
+ * update() bloquea hasta que haya sitio. close() vuelca todo lo pendiente.
+ *
+ * Si un lote falla se reintenta fila a fila: las filas rechazadas por sus datos se
+ * descartan y se registran, y ante cualquier otro error (base de datos no disponible)
+ * el resto vuelve a la cola, sin superar la capacidad, para el siguiente volcado.
+ */
+public class WriteBehindTenistaRepository implements ITenistaRepository {
+    private static final Logger logger = LoggerFactory.getLogger(WriteBehindTenistaRepository.class);
+
+    private static final int DEFAULT_BATCH_SIZE = 500;
+    private static final long DEFAULT_FLUSH_INTERVAL_MS = 1000;
+    private static final int DEFAULT_CAPACIDAD = 10_000;
+
+    private final ITenistaRepository delegate;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final int capacidad;
+
+    // Actualizaciones pendientes por ID, en orden de llegada
+    private final LinkedHashMap<Long, Tenista1> pendientes = new LinkedHashMap<>();
+    // Lote que se está escribiendo, visible para findById hasta que llega a la base de datos
+    private Map<Long, Tenista1> enVuelo = Map.of();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition hayTrabajo = lock.newCondition();
+    private final Condition hayEspacio = lock.newCondition();
+    // Serializa los volcados para que un lote antiguo nunca se escriba después de uno nuevo
+    private final ReentrantLock volcando = new ReentrantLock();
+
+    private final Thread flusher;
+    private volatile boolean cerrado;
+
+    private final LongAdder encoladas = new LongAdder();
+    private final LongAdder agrupadas = new LongAdder();
+    private final LongAdder escritas = new LongAdder();
+    private final LongAdder volcados = new LongAdder();
+    private final LongAdder descartadas = new LongAdder();
+
+    public WriteBehindTenistaRepository(ITenistaRepository delegate) {
+        this(delegate, DEFAULT_BATCH_SIZE, DEFAULT_FLUSH_INTERVAL_MS, DEFAULT_CAPACIDAD);
+    }
+
+    /**
+     * @param delegate Repositorio donde se escriben los lotes
+     * @param batchSize Número de actualizaciones pendientes que dispara un volcado
+     * @param flushIntervalMs Tiempo máximo que una actualización permanece en memoria
+     * @param capacidad Máximo de IDs pendientes antes de bloquear a los productores
+     */
+    public WriteBehindTenistaRepository(ITenistaRepository delegate, int batchSize,
+                                        long flushIntervalMs, int capacidad) {
+        if (batchSize <= 0 || flushIntervalMs <= 0 || capacidad < batchSize) {
+            throw new IllegalArgumentException("Configuración write-behind inválida: batch=" + batchSize +
+                                               ", intervalo=" + flushIntervalMs + ", capacidad=" + capacidad);
+        }
+
+        this.delegate = delegate;
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+        this.capacidad = capacidad;
+
+        this.flusher = new Thread(this::bucleVolcado, "write-behind-flusher");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+
+        logger.info("Write-behind inicializado (lote=" + batchSize + ", intervalo=" + flushIntervalMs +
+                    " ms, capacidad=" + capacidad + ")");
+    }
+
+    /**
+     * Crea el decorador a partir de las propiedades db.writebehind.*
+     */
+    public static WriteBehindTenistaRepository fromProperties(ITenistaRepository delegate, Properties props) {
+        return new WriteBehindTenistaRepository(
+            delegate,
+            Integer.parseInt(props.getProperty("db.writebehind.batch.size", String.valueOf(DEFAULT_BATCH_SIZE))),
+            Long.parseLong(props.getProperty("db.writebehind.flush.interval.ms", String.valueOf(DEFAULT_FLUSH_INTERVAL_MS))),
+            Integer.parseInt(props.getProperty("db.writebehind.capacity", String.valueOf(DEFAULT_CAPACIDAD)))
+        );
+    }
+
+    /**
+     * Encola la actualización; se escribirá en la base de datos de forma asíncrona
+     */
+    @Override
+    public Tenista1 update(Tenista1 tenista) {
+        if (tenista.getId() == null) {
+            throw new IllegalArgumentException("No se puede actualizar un tenista sin ID");
+        }
+
+        lock.lock();
+        try {
+            comprobarAbierto();
+            if (pendientes.containsKey(tenista.getId())) {
+                pendientes.put(tenista.getId(), tenista);
+                agrupadas.increment();
+                return tenista;
+            }
+
+            while (pendientes.size() >= capacidad) {
+                hayEspacio.awaitUninterruptibly();
+                comprobarAbierto();
+            }
+
+            pendientes.put(tenista.getId(), tenista);
+            encoladas.increment();
+            if (pendientes.size() >= batchSize) {
+                hayTrabajo.signal();
+            }
+            return tenista;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public List<Tenista1> updateAll(Collection<Tenista1> tenistas) {
+        List<Tenista1> actualizados = new ArrayList<>(tenistas.size());
+        for (Tenista1 tenista : tenistas) {
+            actualizados.add(update(tenista));
+        }
+        return actualizados;
+    }
+
+    private void comprobarAbierto() {
+        if (cerrado) {
+            throw new IllegalStateException("El repositorio write-behind está cerrado");
+        }
+    }
+
+    /**
+     * Bucle del hilo de volcado: espera a completar un lote o a que venza el intervalo
+     */
+    private void bucleVolcado() {
+        while (true) {
+            lock.lock();
+            try {
+                long restante = TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+                while (!cerrado && pendientes.size() < batchSize && restante > 0) {
+                    restante = hayTrabajo.awaitNanos(restante);
+                }
+                if (cerrado) {
+                    return;
+                }
+            } catch (InterruptedException e) {
+                return;
+            } finally {
+                lock.unlock();
+            }
+
+            try {
+                flush();
+            } catch (RuntimeException e) {
+                logger.error("Error en el volcado write-behind; se reintentará", e);
+                try {
+                    Thread.sleep(flushIntervalMs);
+                } catch (InterruptedException ie) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Vuelca de inmediato todas las actualizaciones pendientes
+     */
+    public void flush() {
+        volcando.lock();
+        try {
+            List<Tenista1> lote;
+            lock.lock();
+            try {
+                if (pendientes.isEmpty()) {
+                    return;
+                }
+                lote = new ArrayList<>(pendientes.values());
+                enVuelo = new HashMap<>(pendientes);
+                pendientes.clear();
+                hayEspacio.signalAll();
+            } finally {
+                lock.unlock();
+            }
+
+            try {
+                delegate.updateAll(lote);
+                escritas.add(lote.size());
+                volcados.increment();
+                logger.debug("Volcadas " + lote.size() + " actualizaciones write-behind");
+            } catch (RuntimeException e) {
+                logger.warn("Falló el volcado de " + lote.size() + " actualizaciones write-behind; "
+                            + "se reintentan una a una: " + e.getMessage());
+                volcarUnaAUna(lote);
+            } finally {
+                lock.lock();
+                try {
+                    enVuelo = Map.of();
+                } finally {
+                    lock.unlock();
+                }
+            }
+        } finally {
+            volcando.unlock();
+        }
+    }
+
+    /**
+     * Escribe una a una las actualizaciones de un lote fallido. Las que fallan por sus datos
+     * no se escribirán nunca y se descartan; ante otro error la fallida y las siguientes
+     * vuelven a la cola y el error se propaga para que el volcado se reintente más tarde
+     */
+    private void volcarUnaAUna(List<Tenista1> lote) {
+        int escritasAhora = 0;
+        try {
+            for (int i = 0; i < lote.size(); i++) {
+                Tenista1 tenista = lote.get(i);
+                try {
+                    delegate.update(tenista);
+                    escritasAhora++;
+                } catch (RuntimeException e) {
+                    if (!esErrorDeDatos(e)) {
+                        reencolar(lote.subList(i, lote.size()));
+                        throw e;
+                    }
+                    descartar(tenista, e.getMessage());
+                }
+            }
+            volcados.increment();
+        } finally {
+            escritas.add(escritasAhora);
+        }
+    }
+
+    /**
+     * Si la causa es un SQLException de datos (clase 22) o de restricciones (clase 23),
+     * que se repetiría en cada reintento
+     */
+    private static boolean esErrorDeDatos(Throwable e) {
+        for (Throwable causa = e; causa != null; causa = causa.getCause()) {
+            if (causa instanceof SQLException sql && sql.getSQLState() != null) {
+                return sql.getSQLState().startsWith("22") || sql.getSQLState().startsWith("23");
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Devuelve a la cola un lote fallido sin pisar actualizaciones más recientes. Mientras
+     * se escribía la cola ha podido llenarse: lo que no cabe en la capacidad se descarta
+     */
+    private void reencolar(List<Tenista1> lote) {
+        lock.lock();
+        try {
+            LinkedHashMap<Long, Tenista1> nuevas = new LinkedHashMap<>(pendientes);
+            pendientes.clear();
+            int hueco = capacidad - nuevas.size();
+            for (Tenista1 tenista : lote) {
+                if (nuevas.containsKey(tenista.getId())) {
+                    continue;
+                }
+                if (pendientes.size() >= hueco) {
+                    descartar(tenista, "la cola está llena (capacidad " + capacidad + ")");
+                    continue;
+                }
+                pendientes.put(tenista.getId(), tenista);
+            }
+            pendientes.putAll(nuevas);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void descartar(Tenista1 tenista, String motivo) {
+        descartadas.increment();
+        logger.error("Actualización write-behind descartada, ID " + tenista.getId() + " ("
+                     + tenista.getNombre() + ", " + tenista.getPuntos() + " puntos): " + motivo);
+    }
+
+    /**
+     * Devuelve primero la actualización pendiente, si la hay (lectura de lo propio escrito)
+     */
+    @Override
+    public Optional<Tenista1> findById(Long id) {
+        lock.lock();
+        try {
+            Tenista1 pendiente = pendientes.get(id);
+            if (pendiente == null) {
+                pendiente = enVuelo.get(id);
+            }
+            if (pendiente != null) {
+                return Optional.of(pendiente);
+            }
+        } finally {
+            lock.unlock();
+        }
+        return delegate.findById(id);
+    }
+
+    @Override
+    public List<Tenista1> findAll() {
+        flush();
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<Tenista1> findByPais(String pais) {
+        flush();
+        return delegate.findByPais(pais);
+    }
+
+    @Override
+    public List<Tenista1> findByMano(Mano mano) {
+        flush();
+        return delegate.findByMano(mano);
+    }
+
+    @Override
+    public List<Tenista1> findByPuntosGreaterThan(int puntos) {
+        flush();
+        return delegate.findByPuntosGreaterThan(puntos);
+    }
+
+    @Override
+    public List<Tenista1> findPageAfterId(long ultimoId, int limite) {
+        flush();
+        return delegate.findPageAfterId(ultimoId, limite);
+    }
+
+    @Override
+    public List<Tenista1> findPageByPuntos(int ultimosPuntos, long ultimoId, int limite) {
+        flush();
+        return delegate.findPageByPuntos(ultimosPuntos, ultimoId, limite);
+    }
+
+    @Override
+    public List<CambioTenista> findCambiosDesde(long secuencia, int limite) {
+        flush();
+        return delegate.findCambiosDesde(secuencia, limite);
+    }
+
+    @Override
+    public Stream<Tenista1> streamAll() {
+        flush();
+        return delegate.streamAll();
+    }
+
+    @Override
+    public Stream<Tenista1> streamByPais(String pais) {
+        flush();
+        return delegate.streamByPais(pais);
+    }
+
+    @Override
+    public Stream<Tenista1> streamByMano(Mano mano) {
+        flush();
+        return delegate.streamByMano(mano);
+    }
+
+    @Override
+    public Stream<Tenista1> streamByPuntosGreaterThan(int puntos) {
+        flush();
+        return delegate.streamByPuntosGreaterThan(puntos);
+    }
+
+    @Override
+    public Tenista1 save(Tenista1 tenista) {
+        return delegate.save(tenista);
+    }
+
+    @Override
+    public List<Tenista1> saveAll(Collection<Tenista1> tenistas) {
+        return delegate.saveAll(tenistas);
+    }
+
+    @Override
+    public boolean deleteById(Long id) {
+        volcando.lock();
+        try {
+            lock.lock();
+            try {
+                if (pendientes.remove(id) != null) {
+                    hayEspacio.signalAll();
+                }
+            } finally {
+                lock.unlock();
+            }
+            return delegate.deleteById(id);
+        } finally {
+            volcando.unlock();
+        }
+    }
+
+    /**
+     * Vuelca antes lo pendiente para que una actualización antigua no pise la fusión
+     */
+    @Override
+    public List<Tenista1> upsertAll(Collection<Tenista1> tenistas) {
+        flush();
+        return delegate.upsertAll(tenistas);
+    }
+
+    @Override
+    public int deleteAllById(Collection<Long> ids) {
+        volcando.lock();
+        try {
+            lock.lock();
+            try {
+                for (Long id : ids) {
+                    pendientes.remove(id);
+                }
+                hayEspacio.signalAll();
+            } finally {
+                lock.unlock();
+            }
+            return delegate.deleteAllById(ids);
+        } finally {
+            volcando.unlock();
+        }
+    }
+
+    @Override
+    public void deleteAll() {
+        volcando.lock();
+        try {
+            lock.lock();
+            try {
+                pendientes.clear();
+                hayEspacio.signalAll();
+            } finally {
+                lock.unlock();
+            }
+            delegate.deleteAll();
+        } finally {
+            volcando.unlock();
+        }
+    }
+
+    @Override
+    public long count() {
+        return delegate.count();
+    }
+
+    /**
+     * Número de actualizaciones aún no escritas en la base de datos
+     */
+    public int getPendientes() {
+        lock.lock();
+        try {
+            return pendientes.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Número de actualizaciones descartadas por llegar otra más reciente del mismo ID
+     */
+    public long getAgrupadas() {
+        return agrupadas.sum();
+    }
+
+    /**
+     * Número de filas escritas en la base de datos
+     */
+    public long getEscritas() {
+        return escritas.sum();
+    }
+
+    /**
+     * Número de actualizaciones descartadas sin escribir: rechazadas por sus datos o sin
+     * sitio en la cola al reintentar un volcado fallido
+     */
+    public long getDescartadas() {
+        return descartadas.sum();
+    }
+
+    /**
+     * Obtiene información del estado de la cola write-behind
+     */
+    public String getStats() {
+        return String.format("Write-behind - Pendientes: %d, Encoladas: %d, Agrupadas: %d, Escritas: %d, Volcados: %d, Descartadas: %d",
+                             getPendientes(), encoladas.sum(), agrupadas.sum(), escritas.sum(), volcados.sum(), descartadas.sum());
+    }
+
+    /**
+     * Detiene el hilo de volcado, escribe todo lo pendiente y cierra el delegado
+     */
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            if (cerrado) {
+                return;
+            }
+            cerrado = true;
+            hayTrabajo.signalAll();
+            hayEspacio.signalAll();
+        } finally {
+            lock.unlock();
+        }
+
+        try {
+            flusher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        try {
+            flush();
+            logger.info(getStats());
+        } finally {
+            delegate.close();
+        }
+    }
+}
@@ -0,0 +1,421 @@
+package com.torneo_tenis.server;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import com.torneo_tenis.analytics.ColumnarTenistas;
+import com.torneo_tenis.analytics.EstadisticasTenistas;
+import com.torneo_tenis.analytics.IndiceRanking;
+import com.torneo_tenis.analytics.InformeEstadisticas;
+import com.torneo_tenis.io.EscrituraTenistas;
+import com.torneo_tenis.io.JsonWriter;
+import com.torneo_tenis.metrics.Metricas;
+import com.torneo_tenis.model.Mano;
+import com.torneo_tenis.model.Tenista1;
+import com.torneo_tenis.repository.ITenistaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
+
+/**
+ * Servidor HTTP de consultas de solo lectura sobre el repositorio (con su caché) y el
+ * índice de ranking, basado en el servidor HTTP incluido en el JDK:
+ *
+ *   GET /tenistas/{id}            tenista por ID (404 si no existe)
+ *   GET /tenistas?pais=X          tenistas de un país
+ *   GET /tenistas?mano=X          tenistas por mano (DERECHA o IZQUIERDA)
+ *   GET /ranking?n=10[&pais=X]    top-N por puntos desde el índice de ranking
+ *   GET /estadisticas             estadísticas agregadas
+ *   GET /metricas                 instantánea del registro de métricas
+ *
+ * Las listas de tenistas se devuelven en el mismo formato que la exportación JSON y se
+ * codifican directamente sobre la respuesta (chunked), sin construir el cuerpo en memoria.
+ * El ETag de cada respuesta es la versión de los datos (VersionadoTenistaRepository#getVersion),
+ * que avanza con cada escritura: mientras no haya escrituras, un GET con If-None-Match se
+ * responde con 304 sin consultar nada.
+ */
+public class ServidorConsultas implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(ServidorConsultas.class);
+    private static final int TOP_POR_DEFECTO = 10;
+    private static final int TOP_MAXIMO = 1000;
+
+    static {
+        // Sin TCP_NODELAY (desactivado por defecto en el servidor del JDK) el cuerpo que sigue
+        // a las cabeceras espera al ACK retardado del cliente: ~40 ms por petición con keep-alive.
+        // La propiedad se lee al crear el primer HttpServer.
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+    }
+
+    private final ITenistaRepository repository;
+    private final IndiceRanking ranking;
+    private final LongSupplier version;
+    private final Metricas metricas;
+    private final HttpServer servidor;
+    private final ExecutorService hilos;
+    // Distingue los ETag de distintas ejecuciones, cuyas versiones vuelven a empezar en 0
+    private final String prefijoEtag = Long.toString(System.currentTimeMillis(), 36);
+    // Las estadísticas recorren todos los tenistas: se calculan una vez por versión
+    private final AtomicReference<EstadisticasVersion> estadisticas = new AtomicReference<>();
+
+    /**
+     * @param version Versión de los datos; debe cambiar con cada escritura y leerse antes de consultar
+     * @param puerto Puerto de escucha; 0 para uno libre cualquiera
+     * @param numeroHilos Hilos que atienden peticiones
+     */
+    public ServidorConsultas(ITenistaRepository repository, IndiceRanking ranking, LongSupplier version,
+                             int puerto, int numeroHilos) throws IOException {
+        if (numeroHilos <= 0) {
+            throw new IllegalArgumentException("El número de hilos debe ser mayor que 0");
+        }
+        this.repository = repository;
+        this.ranking = ranking;
+        this.version = version;
+        this.metricas = Metricas.global();
+
+        AtomicInteger contador = new AtomicInteger();
+        this.hilos = Executors.newFixedThreadPool(numeroHilos, r -> {
+            Thread hilo = new Thread(r, "servidor-consultas-" + contador.incrementAndGet());
+            hilo.setDaemon(true);
+            return hilo;
+        });
+        this.servidor = HttpServer.create(new InetSocketAddress(puerto), 0);
+        servidor.setExecutor(hilos);
+        servidor.createContext("/tenistas", manejador("tenistas", true, this::tenistas));
+        servidor.createContext("/ranking", manejador("ranking", true, this::ranking));
+        servidor.createContext("/estadisticas", manejador("estadisticas", true, this::estadisticas));
+        servidor.createContext("/metricas", manejador("metricas", false, this::metricas));
+    }
+
+    /**
+     * Crea el servidor con server.port y server.threads
+     */
+    public static ServidorConsultas fromProperties(ITenistaRepository repository, IndiceRanking ranking,
+                                                   LongSupplier version, Properties props) throws IOException {
+        return new ServidorConsultas(repository, ranking, version,
+                Integer.parseInt(props.getProperty("server.port", "8080")),
+                Integer.parseInt(props.getProperty("server.threads", "8")));
+    }
+
+    public void iniciar() {
+        servidor.start();
+        logger.info("Servidor de consultas escuchando en el puerto " + getPuerto());
+    }
+
+    public int getPuerto() {
+        return servidor.getAddress().getPort();
+    }
+
+    /**
+     * Deja de aceptar peticiones, espera hasta 1 s a las que están en curso y para los hilos
+     */
+    @Override
+    public void close() {
+        servidor.stop(1);
+        hilos.shutdown();
+        try {
+            if (!hilos.awaitTermination(5, TimeUnit.SECONDS)) {
+                hilos.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            hilos.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        logger.info("Servidor de consultas detenido");
+    }
+
+    @FunctionalInterface
+    private interface Consulta {
+        void responder(HttpExchange intercambio, Map<String, String> parametros, String etag) throws IOException;
+    }
+
+    /**
+     * Envuelve una consulta con lo común a todas: solo GET, respuesta 304 si el ETag del
+     * cliente coincide con la versión actual, errores de parámetros como 400 y tiempos
+     * en el temporizador servidor.&lt;nombre&gt;
+     */
+    private HttpHandler manejador(String nombre, boolean versionada, Consulta consulta) {
+        return intercambio -> {
+            long inicio = System.nanoTime();
+            try {
+                if (!"GET".equals(intercambio.getRequestMethod())) {
+                    intercambio.getResponseHeaders().set("Allow", "GET");
+                    enviarError(intercambio, 405, "Método no permitido: " + intercambio.getRequestMethod());
+                    return;
+                }
+
+                String etag = null;
+                if (versionada) {
+                    etag = "\"" + prefijoEtag + "-" + version.getAsLong() + "\"";
+                    if (coincideEtag(intercambio.getRequestHeaders().getFirst("If-None-Match"), etag)) {
+                        intercambio.getResponseHeaders().set("ETag", etag);
+                        intercambio.sendResponseHeaders(304, -1);
+                        metricas.contador("servidor.no_modificado").incrementar();
+                        return;
+                    }
+                }
+
+                try {
+                    consulta.responder(intercambio, parametros(intercambio.getRequestURI().getRawQuery()), etag);
+                } catch (IllegalArgumentException e) {
+                    enviarError(intercambio, 400, e.getMessage());
+                }
+            } catch (IOException e) {
+                // El cliente cerró la conexión a mitad de respuesta
+                logger.debug("Respuesta interrumpida en " + intercambio.getRequestURI() + ": " + e.getMessage());
+            } catch (RuntimeException e) {
+                logger.error("Error al atender " + intercambio.getRequestURI(), e);
+                try {
+                    enviarError(intercambio, 500, "Error interno del servidor");
+                } catch (IOException | RuntimeException ignorado) {
+                    // Las cabeceras ya se habían enviado: solo queda cortar la respuesta
+                }
+            } finally {
+                intercambio.close();
+                metricas.temporizador("servidor." + nombre).registrarDesde(inicio);
+            }
+        };
+    }
+
+    private void tenistas(HttpExchange intercambio, Map<String, String> parametros, String etag) throws IOException {
+        String ruta = intercambio.getRequestURI().getPath();
+        if (ruta.startsWith("/tenistas/")) {
+            long id = parsearLong("id", ruta.substring("/tenistas/".length()));
+            Optional<Tenista1> tenista = repository.findById(id);
+            if (tenista.isEmpty()) {
+                enviarError(intercambio, 404, "No existe el tenista con ID " + id);
+                return;
+            }
+            enviarTenistas(intercambio, etag, tenista.stream());
+        } else if (!ruta.equals("/tenistas")) {
+            enviarError(intercambio, 404, "Ruta no encontrada: " + ruta);
+        } else if (parametros.containsKey("pais")) {
+            try (Stream<Tenista1> tenistas = repository.streamByPais(parametros.get("pais"))) {
+                enviarTenistas(intercambio, etag, tenistas);
+            }
+        } else if (parametros.containsKey("mano")) {
+            Mano mano = parsearMano(parametros.get("mano"));
+            try (Stream<Tenista1> tenistas = repository.streamByMano(mano)) {
+                enviarTenistas(intercambio, etag, tenistas);
+            }
+        } else {
+            throw new IllegalArgumentException("Indica un ID en la ruta o el parámetro pais o mano");
+        }
+    }
+
+    private void ranking(HttpExchange intercambio, Map<String, String> parametros, String etag) throws IOException {
+        int n = parametros.containsKey("n") ? (int) parsearLong("n", parametros.get("n")) : TOP_POR_DEFECTO;
+        if (n <= 0 || n > TOP_MAXIMO) {
+            throw new IllegalArgumentException("n debe estar entre 1 y " + TOP_MAXIMO + ": " + n);
+        }
+        String pais = parametros.get("pais");
+        enviarTenistas(intercambio, etag, (pais == null ? ranking.top(n) : ranking.top(pais, n)).stream());
+    }
+
+    private void estadisticas(HttpExchange intercambio, Map<String, String> parametros, String etag) throws IOException {
+        long actual = version.getAsLong();
+        EstadisticasVersion calculadas = estadisticas.get();
+        if (calculadas == null || calculadas.version() != actual) {
+            calculadas = new EstadisticasVersion(actual, aJson(EstadisticasTenistas.calcular(ColumnarTenistas.desde(repository))));
+            estadisticas.set(calculadas);
+        }
+        enviarJson(intercambio, 200, etag, calculadas.json());
+    }
+
+    private void metricas(HttpExchange intercambio, Map<String, String> parametros, String etag) throws IOException {
+        enviarJson(intercambio, 200, null, metricas.aJson(Map.of(), 0));
+    }
+
+    /**
+     * Codifica los tenistas con JsonWriter directamente sobre el cuerpo de la respuesta,
+     * a medida que llegan: con un stream del repositorio la memoria no depende del número
+     * de filas, a cambio de ocupar una conexión del pool hasta enviar la última
+     */
+    private void enviarTenistas(HttpExchange intercambio, String etag, Stream<Tenista1> tenistas) throws IOException {
+        cabecerasJson(intercambio, etag);
+        intercambio.sendResponseHeaders(200, 0);
+        OutputStreamWriter cuerpo = new OutputStreamWriter(intercambio.getResponseBody(), StandardCharsets.UTF_8);
+        long filas = 0;
+        try (EscrituraTenistas escritura = new JsonWriter().abrir(cuerpo, intercambio.getRequestURI().toString())) {
+            Iterator<Tenista1> it = tenistas.iterator();
+            while (it.hasNext()) {
+                escritura.escribir(it.next());
+                filas++;
+            }
+        }
+        metricas.histograma("servidor.tenistas.filas").registrar(filas);
+    }
+
+    private static void enviarJson(HttpExchange intercambio, int estado, String etag, String json) throws IOException {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        cabecerasJson(intercambio, etag);
+        intercambio.sendResponseHeaders(estado, bytes.length);
+        try (OutputStream cuerpo = intercambio.getResponseBody()) {
+            cuerpo.write(bytes);
+        }
+    }
+
+    private static void enviarError(HttpExchange intercambio, int estado, String mensaje) throws IOException {
+        enviarJson(intercambio, estado, null, "{\"error\": \"" + escapar(mensaje) + "\"}\n");
+    }
+
+    private static void cabecerasJson(HttpExchange intercambio, String etag) {
+        Headers cabeceras = intercambio.getResponseHeaders();
+        cabeceras.set("Content-Type", "application/json; charset=utf-8");
+        if (etag != null) {
+            cabeceras.set("ETag", etag);
+            // El cliente puede guardar la respuesta pero debe revalidarla con el ETag
+            cabeceras.set("Cache-Control", "no-cache");
+        }
+    }
+
+    /**
+     * Si la cabecera If-None-Match (lista de ETags separados por comas, débiles o no,
+     * o "*") incluye el ETag actual
+     */
+    static boolean coincideEtag(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidato : ifNoneMatch.split(",")) {
+            candidato = candidato.trim();
+            if (candidato.startsWith("W/")) {
+                candidato = candidato.substring(2);
+            }
+            if (candidato.equals("*") || candidato.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static Map<String, String> parametros(String consulta) {
+        Map<String, String> parametros = new HashMap<>();
+        if (consulta == null || consulta.isEmpty()) {
+            return parametros;
+        }
+        for (String par : consulta.split("&")) {
+            int igual = par.indexOf('=');
+            String clave = igual < 0 ? par : par.substring(0, igual);
+            String valor = igual < 0 ? "" : par.substring(igual + 1);
+            parametros.put(URLDecoder.decode(clave, StandardCharsets.UTF_8),
+                           URLDecoder.decode(valor, StandardCharsets.UTF_8));
+        }
+        return parametros;
+    }
+
+    private static long parsearLong(String nombre, String valor) {
+        try {
+            return Long.parseLong(valor);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Valor numérico inválido para " + nombre + ": " + valor);
+        }
+    }
+
+    private static Mano parsearMano(String valor) {
+        try {
+            return Mano.valueOf(valor.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Mano inválida: " + valor);
+        }
+    }
+
+    /**
+     * Resumen del informe sin las listas completas de nombres (el ranking completo se
+     * consulta en /ranking)
+     */
+    static String aJson(InformeEstadisticas informe) {
+        StringBuilder json = new StringBuilder();
+        json.append("{\n  \"total\": ").append(informe.total())
+            .append(",\n  \"mediaAltura\": ").append(redondear(informe.mediaAltura()))
+            .append(",\n  \"mediaPeso\": ").append(redondear(informe.mediaPeso()))
+            .append(",\n  \"masAlto\": ");
+        destacado(json, informe.masAlto());
+        json.append(",\n  \"porPais\": [");
+        List<InformeEstadisticas.GrupoPais> paises = informe.paisesPorPuntos();
+        for (int i = 0; i < paises.size(); i++) {
+            InformeEstadisticas.GrupoPais grupo = paises.get(i);
+            json.append(i == 0 ? "\n" : ",\n")
+                .append("    { \"pais\": \"").append(escapar(grupo.pais()))
+                .append("\", \"tenistas\": ").append(grupo.tenistas())
+                .append(", \"puntos\": ").append(grupo.puntos()).append(" }");
+        }
+        json.append(paises.isEmpty() ? "]" : "\n  ]").append(",\n  \"porMano\": [");
+        boolean primero = true;
+        for (InformeEstadisticas.GrupoMano grupo : informe.porMano().values()) {
+            json.append(primero ? "\n" : ",\n")
+                .append("    { \"mano\": \"").append(grupo.mano().name())
+                .append("\", \"tenistas\": ").append(grupo.tenistas())
+                .append(", \"puntos\": ").append(grupo.puntos())
+                .append(", \"mediaPuntos\": ").append(redondear(grupo.mediaPuntos())).append(" }");
+            primero = false;
+        }
+        json.append(primero ? "]" : "\n  ]")
+            .append(",\n  \"paisDestacado\": \"").append(escapar(informe.paisDestacado()))
+            .append("\",\n  \"tenistasPaisDestacado\": ").append(informe.tenistasPaisDestacado().size())
+            .append(",\n  \"mejorPaisDestacado\": ");
+        destacado(json, informe.mejorPaisDestacado());
+        return json.append("\n}\n").toString();
+    }
+
+    private static void destacado(StringBuilder json, Optional<InformeEstadisticas.Destacado> destacado) {
+        if (destacado.isEmpty()) {
+            json.append("null");
+            return;
+        }
+        InformeEstadisticas.Destacado d = destacado.get();
+        json.append("{ \"id\": ").append(d.id())
+            .append(", \"nombre\": \"").append(escapar(d.nombre()))
+            .append("\", \"valor\": ").append(d.valor()).append(" }");
+    }
+
+    private static String redondear(double valor) {
+        return String.format(Locale.ROOT, "%.2f", valor);
+    }
+
+    private static String escapar(String valor) {
+        StringBuilder escapado = new StringBuilder(valor.length());
+        for (int i = 0; i < valor.length(); i++) {
+            char c = valor.charAt(i);
+            switch (c) {
+                case '"' -> escapado.append("\\\"");
+                case '\\' -> escapado.append("\\\\");
+                case '\n' -> escapado.append("\\n");
+                case '\r' -> escapado.append("\\r");
+                case '\t' -> escapado.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        escapado.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        escapado.append(c);
+                    }
+                }
+            }
+        }
+        return escapado.toString();
+    }
+
+    private record EstadisticasVersion(long version, String json) { }
+}
@@ -0,0 +1,54 @@
+package com.torneo_tenis.validator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Colector de errores de validación reutilizable. La lista solo se crea con el
+ * primer error, así que validar un registro correcto no reserva memoria; un mismo
+ * colector puede reutilizarse entre registros llamando a limpiar().
+ */
+public final class ErroresValidacion {
+    private List<String> errores;
+
+    public void agregar(String error) {
+        if (errores == null) {
+            errores = new ArrayList<>(4);
+        }
+        errores.add(error);
+    }
+
+    public boolean isEmpty() {
+        return errores == null || errores.isEmpty();
+    }
+
+    public int size() {
+        return errores == null ? 0 : errores.size();
+    }
+
+    public void limpiar() {
+        if (errores != null) {
+            errores.clear();
+        }
+    }
+
+    /**
+     * Vista de solo lectura de los errores acumulados
+     */
+    public List<String> getErrores() {
+        return errores == null ? List.of() : Collections.unmodifiableList(errores);
+    }
+
+    /**
+     * Errores separados por comas, como en los mensajes de las excepciones
+     */
+    public String unir() {
+        return errores == null ? "" : String.join(", ", errores);
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(getErrores());
+    }
+}
@@ -0,0 +1,109 @@
+package com.torneo_tenis.validator;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Objects;
+
+/**
+ * Vigila un archivo de reglas de validación y, cuando cambia su fecha de
+ * modificación o su tamaño, compila el nuevo conjunto y lo publica en
+ * TenistaValidator. Si el archivo nuevo no es válido se registra el error y se
+ * mantienen las reglas anteriores.
+ */
+public class RecargaReglas implements Closeable {
+    private static final Logger logger = LoggerFactory.getLogger(RecargaReglas.class);
+
+    private final Path archivo;
+    private final long intervaloMs;
+    private final Thread vigilante;
+    private volatile boolean cerrado;
+
+    private FileTime ultimaModificacion;
+    private long ultimoTamanio = -1;
+
+    /**
+     * Carga las reglas del archivo (fallando si no son válidas) y empieza a vigilarlo
+     * @param intervaloMs Cada cuánto se comprueba el archivo; 0 para no vigilarlo
+     */
+    public RecargaReglas(Path archivo, long intervaloMs) throws IOException {
+        if (intervaloMs < 0) {
+            throw new IllegalArgumentException("Intervalo de recarga inválido: " + intervaloMs);
+        }
+        this.archivo = Objects.requireNonNull(archivo);
+        this.intervaloMs = intervaloMs;
+
+        ultimaModificacion = Files.getLastModifiedTime(archivo);
+        ultimoTamanio = Files.size(archivo);
+        TenistaValidator.setReglas(ReglasValidacion.cargar(archivo));
+
+        if (intervaloMs > 0) {
+            this.vigilante = new Thread(this::bucleVigilancia, "validacion-reload");
+            this.vigilante.setDaemon(true);
+            this.vigilante.start();
+            logger.info("Recarga de reglas activada para " + archivo + " (cada " + intervaloMs + " ms)");
+        } else {
+            this.vigilante = null;
+        }
+    }
+
+    private void bucleVigilancia() {
+        while (!cerrado) {
+            try {
+                Thread.sleep(intervaloMs);
+            } catch (InterruptedException e) {
+                return;
+            }
+            comprobar();
+        }
+    }
+
+    /**
+     * Recarga las reglas si el archivo ha cambiado desde la última carga.
+     * Devuelve true si se publicó un conjunto nuevo.
+     */
+    public synchronized boolean comprobar() {
+        FileTime modificacion;
+        long tamanio;
+        try {
+            modificacion = Files.getLastModifiedTime(archivo);
+            tamanio = Files.size(archivo);
+        } catch (IOException e) {
+            logger.warn("No se pudo consultar el archivo de reglas " + archivo + ": " + e.getMessage());
+            return false;
+        }
+        if (modificacion.equals(ultimaModificacion) && tamanio == ultimoTamanio) {
+            return false;
+        }
+
+        ultimaModificacion = modificacion;
+        ultimoTamanio = tamanio;
+        try {
+            TenistaValidator.setReglas(ReglasValidacion.cargar(archivo));
+            logger.info("Reglas de validación recargadas desde " + archivo);
+            return true;
+        } catch (IOException | IllegalArgumentException e) {
+            logger.error("Reglas de validación no válidas en " + archivo + "; se mantienen las anteriores: "
+                         + e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        cerrado = true;
+        if (vigilante != null) {
+            vigilante.interrupt();
+            try {
+                vigilante.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
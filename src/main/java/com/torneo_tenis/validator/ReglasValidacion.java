@@ -0,0 +1,464 @@
+package com.torneo_tenis.validator;
+
+import com.torneo_tenis.metrics.Contador;
+import com.torneo_tenis.metrics.Metricas;
+import com.torneo_tenis.model.Mano;
+import com.torneo_tenis.model.Tenista1;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.StringJoiner;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Conjunto de reglas de validación compilado a partir de propiedades (ver
+ * validacion.properties). Al compilar, cada regla se convierte en un predicado y los
+ * juegos de caracteres en una tabla de bits sobre todo el BMP, así que validar un
+ * tenista es recorrer un array de predicados sin expresiones regulares ni mapas.
+ * Es inmutable: para cambiar las reglas se compila un conjunto nuevo y se publica con
+ * TenistaValidator.setReglas().
+ */
+public final class ReglasValidacion {
+
+    /** Recurso del classpath con las reglas por defecto */
+    public static final String RECURSO = "/validacion.properties";
+
+    private static final Map<String, String> VALORES_POR_DEFECTO = Map.ofEntries(
+        Map.entry("nombre.longitud.min", "2"),
+        Map.entry("nombre.longitud.max", "100"),
+        Map.entry("nombre.caracteres", "a-zA-ZÀ-ÿ\\s'-"),
+        Map.entry("pais.longitud.min", "2"),
+        Map.entry("pais.longitud.max", "50"),
+        Map.entry("pais.caracteres", "a-zA-ZÀ-ÿ\\s'-"),
+        Map.entry("altura.min", "140"),
+        Map.entry("altura.max", "230"),
+        Map.entry("peso.min", "40"),
+        Map.entry("peso.max", "150"),
+        Map.entry("puntos.min", "0"),
+        Map.entry("puntos.max", "20000"),
+        Map.entry("edad.min", "16"),
+        Map.entry("edad.max", "60"),
+        Map.entry("mano.alias.DERECHA", "DIESTRO,DERECHA,RIGHT"),
+        Map.entry("mano.alias.IZQUIERDA", "ZURDO,IZQUIERDA,LEFT")
+    );
+
+    /**
+     * Predicado compilado. Con errores == null no construye mensajes (camino rápido)
+     */
+    @FunctionalInterface
+    interface Regla {
+        boolean comprobar(Tenista1 tenista, ErroresValidacion errores);
+    }
+
+    // Rechazos por regla (validacion.rechazos.<campo>), en el mismo orden que reglas
+    private static final String[] CAMPOS = {"nombre", "pais", "altura", "peso", "puntos", "mano", "fecha_nacimiento"};
+    private static final Contador[] RECHAZOS = new Contador[CAMPOS.length];
+
+    static {
+        for (int i = 0; i < CAMPOS.length; i++) {
+            RECHAZOS[i] = Metricas.global().contador("validacion.rechazos." + CAMPOS[i]);
+        }
+    }
+
+    private final ReglaTexto nombre;
+    private final ReglaTexto pais;
+    private final ReglaRango altura;
+    private final ReglaRango peso;
+    private final ReglaRango puntos;
+    private final ReglaEdad edad;
+    private final Regla[] reglas;
+    private final Map<String, Mano> aliasMano;
+    private final Map<Mano, List<String>> aliasPorMano;
+    private final String descripcionAlias;
+    private final String descripcion;
+
+    private ReglasValidacion(Properties props) {
+        this.nombre = new ReglaTexto("El nombre", entero(props, "nombre.longitud.min"),
+                                     entero(props, "nombre.longitud.max"), caracteres(props, "nombre.caracteres"));
+        this.pais = new ReglaTexto("El país", entero(props, "pais.longitud.min"),
+                                   entero(props, "pais.longitud.max"), caracteres(props, "pais.caracteres"));
+        this.altura = new ReglaRango(entero(props, "altura.min"), entero(props, "altura.max"),
+                                     "La altura debe ser mayor a %d cm", "La altura debe ser menor a %d cm");
+        this.peso = new ReglaRango(entero(props, "peso.min"), entero(props, "peso.max"),
+                                   "El peso debe ser mayor a %d kg", "El peso debe ser menor a %d kg");
+        int minPuntos = entero(props, "puntos.min");
+        this.puntos = new ReglaRango(minPuntos, entero(props, "puntos.max"),
+                                     minPuntos == 0 ? "Los puntos no pueden ser negativos" : "Los puntos deben ser al menos %d",
+                                     "Los puntos no pueden exceder %d");
+        this.edad = new ReglaEdad(entero(props, "edad.min"), entero(props, "edad.max"));
+
+        this.reglas = new Regla[] {
+            texto(nombre, Tenista1::getNombre),
+            texto(pais, Tenista1::getPais),
+            rango(altura, Tenista1::getAltura),
+            rango(peso, Tenista1::getPeso),
+            rango(puntos, Tenista1::getPuntos),
+            (t, errores) -> comprobarMano(t.getMano(), errores),
+            (t, errores) -> edad.comprobar(t.getFecha_nacimiento(), errores)
+        };
+
+        this.aliasMano = new HashMap<>();
+        this.aliasPorMano = new EnumMap<>(Mano.class);
+        for (Mano mano : Mano.values()) {
+            String valor = valor(props, "mano.alias." + mano.name());
+            List<String> alias = valor == null ? List.of() : List.of(valor.toUpperCase(Locale.ROOT).split("\\s*,\\s*"));
+            for (String a : alias) {
+                if (a.isEmpty() || aliasMano.putIfAbsent(a, mano) != null) {
+                    throw new IllegalArgumentException("Alias de mano vacío o repetido: '" + a + "'");
+                }
+            }
+            aliasPorMano.put(mano, alias);
+        }
+
+        this.descripcionAlias = describirAlias(aliasPorMano);
+        this.descripcion = "Reglas de validación - nombre " + nombre + ", país " + pais + ", altura " + altura
+                           + ", peso " + peso + ", puntos " + puntos + ", edad " + edad + ", mano " + aliasPorMano;
+    }
+
+    /**
+     * Reglas del recurso validacion.properties, o las predefinidas si no existe
+     */
+    public static ReglasValidacion porDefecto() {
+        try (InputStream in = ReglasValidacion.class.getResourceAsStream(RECURSO)) {
+            Properties props = new Properties();
+            if (in != null) {
+                props.load(new InputStreamReader(in, StandardCharsets.UTF_8));
+            }
+            return desde(props);
+        } catch (IOException e) {
+            throw new IllegalStateException("No se pudo leer " + RECURSO, e);
+        }
+    }
+
+    /**
+     * Compila las reglas de un archivo de propiedades (UTF-8)
+     */
+    public static ReglasValidacion cargar(Path archivo) throws IOException {
+        try (Reader reader = Files.newBufferedReader(archivo, StandardCharsets.UTF_8)) {
+            Properties props = new Properties();
+            props.load(reader);
+            return desde(props);
+        }
+    }
+
+    /**
+     * Compila las reglas; las claves ausentes toman el valor predefinido.
+     * @throws IllegalArgumentException si algún valor no es válido
+     */
+    public static ReglasValidacion desde(Properties props) {
+        return new ReglasValidacion(props);
+    }
+
+    /**
+     * Aplica todas las reglas. Con errores == null se detiene en el primer fallo; si no,
+     * cuenta cada regla que falla en sus métricas de rechazos
+     */
+    boolean comprobar(Tenista1 tenista, ErroresValidacion errores) {
+        boolean valido = true;
+        for (int i = 0; i < reglas.length; i++) {
+            if (!reglas[i].comprobar(tenista, errores)) {
+                if (errores == null) {
+                    return false;
+                }
+                RECHAZOS[i].incrementar();
+                valido = false;
+            }
+        }
+        return valido;
+    }
+
+    boolean comprobarNombre(String valor, ErroresValidacion errores) {
+        return nombre.comprobar(valor, errores);
+    }
+
+    boolean comprobarPais(String valor, ErroresValidacion errores) {
+        return pais.comprobar(valor, errores);
+    }
+
+    boolean comprobarAltura(int valor, ErroresValidacion errores) {
+        return altura.comprobar(valor, errores);
+    }
+
+    boolean comprobarPeso(int valor, ErroresValidacion errores) {
+        return peso.comprobar(valor, errores);
+    }
+
+    boolean comprobarPuntos(int valor, ErroresValidacion errores) {
+        return puntos.comprobar(valor, errores);
+    }
+
+    boolean comprobarMano(Mano mano, ErroresValidacion errores) {
+        return mano != null || error(errores, "La mano no puede ser nula");
+    }
+
+    boolean comprobarFechaNacimiento(LocalDate fecha, ErroresValidacion errores) {
+        return edad.comprobar(fecha, errores);
+    }
+
+    /**
+     * Mano correspondiente a un alias (sin distinguir mayúsculas), o null si no se reconoce
+     */
+    public Mano mano(String alias) {
+        return aliasMano.get(alias.trim().toUpperCase(Locale.ROOT));
+    }
+
+    /**
+     * Alias configurados para una mano, en mayúsculas
+     */
+    public List<String> aliasDe(Mano mano) {
+        return aliasPorMano.get(mano);
+    }
+
+    /**
+     * Alias de todas las manos para los mensajes de error, p. ej. "DIESTRO/ZURDO o DERECHA/IZQUIERDA"
+     */
+    String describirAliasMano() {
+        return descripcionAlias;
+    }
+
+    @Override
+    public String toString() {
+        return descripcion;
+    }
+
+    /**
+     * Empareja los alias de cada posición: [DIESTRO, DERECHA] y [ZURDO, IZQUIERDA] -> "DIESTRO/ZURDO o DERECHA/IZQUIERDA"
+     */
+    private static String describirAlias(Map<Mano, List<String>> aliasPorMano) {
+        List<String> grupos = new ArrayList<>();
+        for (int i = 0; ; i++) {
+            StringJoiner grupo = new StringJoiner("/");
+            for (List<String> alias : aliasPorMano.values()) {
+                if (i < alias.size()) {
+                    grupo.add(alias.get(i));
+                }
+            }
+            if (grupo.length() == 0) {
+                return String.join(" o ", grupos);
+            }
+            grupos.add(grupo.toString());
+        }
+    }
+
+    private static Regla texto(ReglaTexto regla, Function<Tenista1, String> campo) {
+        return (t, errores) -> regla.comprobar(campo.apply(t), errores);
+    }
+
+    private static Regla rango(ReglaRango regla, ToIntFunction<Tenista1> campo) {
+        return (t, errores) -> regla.comprobar(campo.applyAsInt(t), errores);
+    }
+
+    private static boolean error(ErroresValidacion errores, String mensaje) {
+        if (errores != null) {
+            errores.agregar(mensaje);
+        }
+        return false;
+    }
+
+    private static String valor(Properties props, String clave) {
+        String valor = props.getProperty(clave, VALORES_POR_DEFECTO.get(clave));
+        return valor == null ? null : valor.trim();
+    }
+
+    private static int entero(Properties props, String clave) {
+        String valor = valor(props, clave);
+        try {
+            return Integer.parseInt(valor);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Valor entero inválido para " + clave + ": " + valor);
+        }
+    }
+
+    /**
+     * Compila una clase de caracteres de regex (sin corchetes) a una tabla de bits del BMP
+     */
+    private static long[] caracteres(Properties props, String clave) {
+        String clase = valor(props, clave);
+        Matcher matcher;
+        try {
+            matcher = Pattern.compile("[" + clase + "]").matcher("");
+        } catch (PatternSyntaxException e) {
+            throw new IllegalArgumentException("Clase de caracteres inválida para " + clave + ": " + clase);
+        }
+        long[] tabla = new long[(Character.MAX_VALUE + 1) / 64];
+        for (int c = 0; c <= Character.MAX_VALUE; c++) {
+            if (matcher.reset(String.valueOf((char) c)).matches()) {
+                tabla[c >>> 6] |= 1L << c;
+            }
+        }
+        return tabla;
+    }
+
+    /**
+     * Longitud (sin espacios en los extremos) y juego de caracteres de un campo de texto
+     */
+    private static final class ReglaTexto {
+        private final String campo;
+        private final int minimo;
+        private final int maximo;
+        private final long[] permitidos;
+
+        ReglaTexto(String campo, int minimo, int maximo, long[] permitidos) {
+            if (minimo < 1 || maximo < minimo) {
+                throw new IllegalArgumentException("Longitudes inválidas para " + campo + ": " + minimo + "-" + maximo);
+            }
+            this.campo = campo;
+            this.minimo = minimo;
+            this.maximo = maximo;
+            this.permitidos = permitidos;
+        }
+
+        boolean comprobar(String valor, ErroresValidacion errores) {
+            if (valor == null) {
+                return error(errores, campo + " no puede estar vacío");
+            }
+            int longitud = longitudSinEspacios(valor);
+            if (longitud == 0) {
+                return error(errores, campo + " no puede estar vacío");
+            } else if (longitud < minimo) {
+                return error(errores, campo + " debe tener al menos " + minimo + " caracteres");
+            } else if (longitud > maximo) {
+                return error(errores, campo + " no puede exceder " + maximo + " caracteres");
+            } else if (!caracteresPermitidos(valor)) {
+                return error(errores, campo + " solo puede contener letras, espacios, apostrofes y guiones");
+            }
+            return true;
+        }
+
+        /**
+         * Longitud que tendría valor.trim(), sin crear la cadena
+         */
+        private static int longitudSinEspacios(String valor) {
+            int inicio = 0;
+            int fin = valor.length();
+            while (inicio < fin && valor.charAt(inicio) <= ' ') {
+                inicio++;
+            }
+            while (fin > inicio && valor.charAt(fin - 1) <= ' ') {
+                fin--;
+            }
+            return fin - inicio;
+        }
+
+        private boolean caracteresPermitidos(String valor) {
+            for (int i = 0, n = valor.length(); i < n; i++) {
+                char c = valor.charAt(i);
+                if ((permitidos[c >>> 6] & (1L << c)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public String toString() {
+            return minimo + "-" + maximo + " caracteres";
+        }
+    }
+
+    /**
+     * Entero dentro de [minimo, maximo]
+     */
+    private static final class ReglaRango {
+        private final int minimo;
+        private final int maximo;
+        private final String mensajeMinimo;
+        private final String mensajeMaximo;
+
+        ReglaRango(int minimo, int maximo, String formatoMinimo, String formatoMaximo) {
+            if (maximo < minimo) {
+                throw new IllegalArgumentException("Rango inválido: " + minimo + "-" + maximo);
+            }
+            this.minimo = minimo;
+            this.maximo = maximo;
+            // Los mensajes se formatean una vez al compilar
+            this.mensajeMinimo = String.format(formatoMinimo, minimo);
+            this.mensajeMaximo = String.format(formatoMaximo, maximo);
+        }
+
+        boolean comprobar(int valor, ErroresValidacion errores) {
+            if (valor < minimo) {
+                return error(errores, mensajeMinimo);
+            } else if (valor > maximo) {
+                return error(errores, mensajeMaximo);
+            }
+            return true;
+        }
+
+        @Override
+        public String toString() {
+            return minimo + "-" + maximo;
+        }
+    }
+
+    /**
+     * Edad en años cumplidos dentro de [minima, maxima]; los límites de fecha se
+     * recalculan solo al cambiar de día
+     */
+    private static final class ReglaEdad {
+        private record Limites(LocalDate minima, LocalDate maxima, long validoHasta) { }
+
+        private final int edadMinima;
+        private final int edadMaxima;
+        private final String mensajeMinimo;
+        private final String mensajeMaximo;
+        private volatile Limites limites;
+
+        ReglaEdad(int edadMinima, int edadMaxima) {
+            if (edadMinima < 0 || edadMaxima < edadMinima) {
+                throw new IllegalArgumentException("Rango de edad inválido: " + edadMinima + "-" + edadMaxima);
+            }
+            this.edadMinima = edadMinima;
+            this.edadMaxima = edadMaxima;
+            this.mensajeMinimo = "El tenista debe tener al menos " + edadMinima + " años";
+            this.mensajeMaximo = "El tenista no puede tener más de " + edadMaxima + " años";
+        }
+
+        boolean comprobar(LocalDate fecha, ErroresValidacion errores) {
+            if (fecha == null) {
+                return error(errores, "La fecha de nacimiento no puede ser nula");
+            }
+            Limites actuales = limites();
+            if (fecha.isBefore(actuales.minima())) {
+                return error(errores, mensajeMaximo);
+            } else if (fecha.isAfter(actuales.maxima())) {
+                return error(errores, mensajeMinimo);
+            }
+            return true;
+        }
+
+        private Limites limites() {
+            Limites actuales = limites;
+            if (actuales == null || System.currentTimeMillis() >= actuales.validoHasta()) {
+                LocalDate hoy = LocalDate.now();
+                long manana = hoy.plusDays(1).atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli();
+                actuales = new Limites(hoy.minusYears(edadMaxima), hoy.minusYears(edadMinima), manana);
+                limites = actuales;
+            }
+            return actuales;
+        }
+
+        @Override
+        public String toString() {
+            return edadMinima + "-" + edadMaxima + " años";
+        }
+    }
+}
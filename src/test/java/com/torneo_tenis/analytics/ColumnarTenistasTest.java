@@ -0,0 +1,113 @@
+package com.torneo_tenis.analytics;
+
+import com.torneo_tenis.analytics.ColumnarTenistas.Columna;
+import com.torneo_tenis.model.Mano;
+import com.torneo_tenis.model.Tenista1;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests de la instantánea columnar comparando con las mismas consultas sobre la lista
+ */
+public class ColumnarTenistasTest {
+
+    private static final String[] PAISES = {"España", "Serbia", "Suiza", "Austria", "Italia"};
+
+    private static List<Tenista1> tenistas(int n) {
+        Random random = new Random(42);
+        LocalDateTime ahora = LocalDateTime.of(2024, 1, 1, 0, 0);
+        List<Tenista1> tenistas = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            tenistas.add(new Tenista1((long) i + 1, "Jugador " + i, PAISES[random.nextInt(PAISES.length)],
+                                      160 + random.nextInt(50), 60 + random.nextInt(40), random.nextInt(12_000),
+                                      random.nextInt(4) == 0 ? Mano.IZQUIERDA : Mano.DERECHA,
+                                      LocalDate.of(1980, 1, 1).plusDays(random.nextInt(9000)), ahora, ahora));
+        }
+        return tenistas;
+    }
+
+    @Test
+    public void testAgregadosCoincidenConStreams() {
+        List<Tenista1> tenistas = tenistas(1_000);
+        ColumnarTenistas columnar = ColumnarTenistas.desde(tenistas);
+
+        assertEquals(1_000, columnar.size());
+        assertEquals(tenistas.stream().mapToInt(Tenista1::getAltura).average().orElseThrow(),
+                     columnar.media(Columna.ALTURA), 1e-9);
+        assertEquals(tenistas.stream().mapToLong(Tenista1::getPuntos).sum(), columnar.suma(Columna.PUNTOS));
+
+        Tenista1 masAlto = tenistas.stream().max(Comparator.comparing(Tenista1::getAltura)).orElseThrow();
+        assertEquals(masAlto.getId(), columnar.id(columnar.filaDelMaximo(Columna.ALTURA)));
+
+        Map<String, Integer> puntosPorPais = tenistas.stream()
+                .collect(Collectors.groupingBy(Tenista1::getPais, Collectors.summingInt(Tenista1::getPuntos)));
+        Map<String, Long> cuentaPorPais = tenistas.stream()
+                .collect(Collectors.groupingBy(Tenista1::getPais, Collectors.counting()));
+        long[] sumas = columnar.sumaPorPais(Columna.PUNTOS);
+        int[] cuentas = columnar.cuentaPorPais();
+        for (int codigo = 0; codigo < columnar.numeroPaises(); codigo++) {
+            String pais = columnar.paisDeCodigo(codigo);
+            assertEquals(codigo, columnar.codigoDePais(pais));
+            assertEquals(puntosPorPais.get(pais).longValue(), sumas[codigo]);
+            assertEquals(cuentaPorPais.get(pais).intValue(), cuentas[codigo]);
+        }
+
+        for (Mano mano : Mano.values()) {
+            List<Tenista1> deMano = tenistas.stream().filter(t -> t.getMano() == mano).toList();
+            assertEquals(deMano.size(), columnar.cuentaPorMano()[mano.ordinal()]);
+            assertEquals(deMano.stream().mapToLong(Tenista1::getPuntos).sum(),
+                         columnar.sumaPorMano(Columna.PUNTOS)[mano.ordinal()]);
+        }
+    }
+
+    @Test
+    public void testRankingYFiltroPorPais() {
+        List<Tenista1> tenistas = tenistas(300);
+        ColumnarTenistas columnar = ColumnarTenistas.desde(tenistas);
+
+        List<Long> esperado = tenistas.stream()
+                .sorted((t1, t2) -> Integer.compare(t2.getPuntos(), t1.getPuntos()))
+                .map(Tenista1::getId)
+                .toList();
+        List<Long> ranking = new ArrayList<>();
+        for (int fila : columnar.rankingPorPuntos()) {
+            ranking.add(columnar.id(fila));
+        }
+        assertEquals(esperado, ranking);
+
+        int[] espanoles = columnar.filasDePais("ESPAÑA");
+        assertEquals(tenistas.stream().filter(t -> t.getPais().equals("España")).count(), espanoles.length);
+        Tenista1 mejor = tenistas.stream().filter(t -> t.getPais().equals("España"))
+                .max(Comparator.comparing(Tenista1::getPuntos)).orElseThrow();
+        assertEquals(mejor.getId(), columnar.id(columnar.filaDelMaximo(Columna.PUNTOS, espanoles)));
+    }
+
+    @Test
+    public void testValoresPorFila() {
+        List<Tenista1> tenistas = tenistas(130);
+        ColumnarTenistas columnar = ColumnarTenistas.desde(tenistas);
+
+        for (int fila = 0; fila < tenistas.size(); fila++) {
+            Tenista1 tenista = tenistas.get(fila);
+            assertEquals(tenista.getPais(), columnar.pais(fila));
+            assertEquals(tenista.getMano(), columnar.mano(fila));
+            assertEquals(tenista.getFecha_nacimiento(), columnar.fechaNacimiento(fila));
+            assertEquals(tenista.getPeso(), columnar.valor(Columna.PESO, fila));
+        }
+
+        ColumnarTenistas vacio = ColumnarTenistas.desde(List.of());
+        assertEquals(0.0, vacio.media(Columna.PUNTOS));
+        assertEquals(-1, vacio.filaDelMaximo(Columna.ALTURA));
+        assertEquals(0, vacio.rankingPorPuntos().length);
+    }
+}
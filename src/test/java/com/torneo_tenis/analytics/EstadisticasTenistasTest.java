@@ -0,0 +1,109 @@
+package com.torneo_tenis.analytics;
+
+import com.torneo_tenis.model.Mano;
+import com.torneo_tenis.model.Tenista1;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests del motor de estadísticas en una pasada
+ */
+public class EstadisticasTenistasTest {
+
+    private static final String[] PAISES = {"España", "Serbia", "Suiza", "Austria", "Italia", "ESPAÑA"};
+
+    private static List<Tenista1> tenistas(int n) {
+        Random random = new Random(7);
+        LocalDateTime ahora = LocalDateTime.of(2024, 1, 1, 0, 0);
+        List<Tenista1> tenistas = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            // Pocos valores distintos para forzar empates en máximos y ranking
+            tenistas.add(new Tenista1((long) i + 1, "Jugador " + i, PAISES[random.nextInt(PAISES.length)],
+                                      170 + random.nextInt(20), 60 + random.nextInt(40), random.nextInt(100) * 100,
+                                      random.nextInt(3) == 0 ? Mano.IZQUIERDA : Mano.DERECHA,
+                                      LocalDate.of(1990, 1, 1), ahora, ahora));
+        }
+        return tenistas;
+    }
+
+    @Test
+    public void testParaleloIgualQueSecuencial() {
+        List<Tenista1> tenistas = tenistas(50_000);
+
+        InformeEstadisticas secuencial = EstadisticasTenistas.calcular(tenistas.stream());
+        InformeEstadisticas streamParalelo = tenistas.parallelStream().collect(EstadisticasTenistas.collector());
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            InformeEstadisticas columnar = EstadisticasTenistas.calcular(ColumnarTenistas.desde(tenistas), pool);
+            assertEquals(secuencial, columnar);
+        } finally {
+            pool.shutdown();
+        }
+        assertEquals(secuencial, streamParalelo);
+    }
+
+    @Test
+    public void testColumnarConOtroPaisDestacado() {
+        List<Tenista1> tenistas = tenistas(40_000);
+
+        InformeEstadisticas secuencial = tenistas.stream()
+                .collect(() -> new EstadisticasTenistas("serbia"), EstadisticasTenistas::agregar, EstadisticasTenistas::combinar)
+                .informe();
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            InformeEstadisticas columnar = EstadisticasTenistas.calcular(ColumnarTenistas.desde(tenistas), "serbia", pool);
+            assertEquals(secuencial, columnar);
+            assertEquals("serbia", columnar.paisDestacado());
+            assertEquals(tenistas.stream().filter(t -> t.getPais().equals("Serbia")).count(),
+                         columnar.tenistasPaisDestacado().size());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testValoresDelInforme() {
+        List<Tenista1> tenistas = tenistas(2_000);
+        InformeEstadisticas informe = EstadisticasTenistas.calcular(tenistas.stream());
+
+        assertEquals(2_000, informe.total());
+        assertEquals(tenistas.stream().mapToInt(Tenista1::getPeso).average().orElseThrow(), informe.mediaPeso(), 1e-9);
+
+        Tenista1 masAlto = tenistas.stream().max(Comparator.comparing(Tenista1::getAltura)).orElseThrow();
+        assertEquals(masAlto.getId(), informe.masAlto().orElseThrow().id());
+
+        // El país destacado se compara sin mayúsculas, como en el informe original
+        List<Tenista1> espanoles = tenistas.stream().filter(t -> t.getPais().equalsIgnoreCase("España")).toList();
+        assertEquals(espanoles.stream().map(Tenista1::getNombre).toList(), informe.tenistasPaisDestacado());
+        Tenista1 mejor = espanoles.stream().max(Comparator.comparing(Tenista1::getPuntos)).orElseThrow();
+        assertEquals(mejor.getId(), informe.mejorPaisDestacado().orElseThrow().id());
+
+        long puntosSerbia = tenistas.stream().filter(t -> t.getPais().equals("Serbia")).mapToLong(Tenista1::getPuntos).sum();
+        assertEquals(puntosSerbia, informe.porPais().stream()
+                .filter(g -> g.pais().equals("Serbia")).findFirst().orElseThrow().puntos());
+        assertEquals(informe.paisesPorPuntos().get(0), informe.paisConMasPuntos().orElseThrow());
+
+        long zurdos = tenistas.stream().filter(t -> t.getMano() == Mano.IZQUIERDA).count();
+        assertEquals(zurdos, informe.porMano().get(Mano.IZQUIERDA).tenistas());
+    }
+
+    @Test
+    public void testSinTenistas() {
+        InformeEstadisticas informe = EstadisticasTenistas.calcular(ColumnarTenistas.desde(List.of()));
+
+        assertEquals(0, informe.total());
+        assertEquals(0.0, informe.mediaAltura());
+        assertTrue(informe.masAlto().isEmpty());
+        assertTrue(informe.porMano().isEmpty());
+        assertTrue(informe.paisConMasPuntos().isEmpty());
+    }
+}
@@ -0,0 +1,144 @@
+package com.torneo_tenis.analytics;
+
+import com.torneo_tenis.model.Mano;
+import com.torneo_tenis.model.Tenista1;
+import com.torneo_tenis.repository.BaseDatosPrueba;
+import com.torneo_tenis.repository.RankingTenistaRepository;
+import com.torneo_tenis.repository.TenistaRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests del índice de ranking incremental, comparando con una ordenación completa
+ */
+public class IndiceRankingTest {
+
+    private static final String[] PAISES = {"España", "Italia", "Suiza", "Serbia"};
+    private static final Comparator<Tenista1> ORDEN_RANKING =
+            Comparator.comparingInt(Tenista1::getPuntos).reversed().thenComparing(Tenista1::getId);
+
+    private static Tenista1 tenista(long id, String pais, int puntos) {
+        return BaseDatosPrueba.tenista(id, "Jugador " + id, pais, puntos, Mano.DERECHA, LocalDate.of(1990, 1, 1));
+    }
+
+    private static List<Long> ids(List<Tenista1> tenistas) {
+        return tenistas.stream().map(Tenista1::getId).collect(Collectors.toList());
+    }
+
+    @Test
+    public void testCoincideConOrdenacionTrasCambiosAleatorios() {
+        IndiceRanking indice = new IndiceRanking();
+        Map<Long, Tenista1> esperados = new HashMap<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 5_000; i++) {
+            long id = random.nextInt(500);
+            if (random.nextInt(4) == 0) {
+                assertEquals(esperados.remove(id) != null, indice.eliminar(id));
+            } else {
+                // Pocos valores de puntos distintos para forzar empates
+                Tenista1 t = tenista(id, PAISES[random.nextInt(PAISES.length)], random.nextInt(50) * 100);
+                esperados.put(id, t);
+                indice.actualizar(t);
+            }
+        }
+
+        List<Tenista1> ordenados = new ArrayList<>(esperados.values());
+        ordenados.sort(ORDEN_RANKING);
+        assertEquals(ordenados.size(), indice.size());
+        assertEquals(ids(ordenados), ids(indice.top(Integer.MAX_VALUE)));
+        assertEquals(ids(ordenados.subList(0, 10)), ids(indice.top(10)));
+
+        for (int i = 0; i < ordenados.size(); i++) {
+            long id = ordenados.get(i).getId();
+            assertEquals(i + 1, indice.posicion(id).orElseThrow());
+            assertEquals(id, indice.enPosicion(i + 1).orElseThrow().getId());
+        }
+        assertTrue(indice.enPosicion(0).isEmpty());
+        assertTrue(indice.enPosicion(ordenados.size() + 1).isEmpty());
+
+        List<Tenista1> enRango = ordenados.stream()
+                .filter(t -> t.getPuntos() >= 1_000 && t.getPuntos() <= 2_500)
+                .collect(Collectors.toList());
+        assertEquals(ids(enRango), ids(indice.entrePuntos(1_000, 2_500)));
+    }
+
+    @Test
+    public void testRankingPorPais() {
+        IndiceRanking indice = new IndiceRanking();
+        indice.actualizar(tenista(1, "España", 500));
+        indice.actualizar(tenista(2, "España", 900));
+        indice.actualizar(tenista(3, "Italia", 700));
+        indice.actualizar(tenista(4, "España", 900));
+
+        assertEquals(List.of(2L, 4L, 1L), ids(indice.top("España", 10)));
+        assertEquals(3, indice.posicionEnPais(1).orElseThrow());
+        assertEquals(4, indice.posicion(1).orElseThrow());
+        assertEquals(List.of(3L), ids(indice.entrePuntos("Italia", 0, 1_000)));
+
+        // Cambio de país y de puntos: sale del árbol anterior
+        indice.actualizar(tenista(2, "Italia", 100));
+        assertEquals(List.of(4L, 1L), ids(indice.top("España", 10)));
+        assertEquals(2, indice.posicionEnPais(2).orElseThrow());
+        assertEquals(4, indice.posicion(2).orElseThrow());
+
+        indice.eliminar(3);
+        indice.eliminar(2);
+        assertTrue(indice.top("Italia", 10).isEmpty());
+        assertTrue(indice.posicion(3).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> indice.actualizar(new Tenista1()));
+    }
+
+    @Test
+    public void testDevuelveCopias() {
+        IndiceRanking indice = new IndiceRanking();
+        Tenista1 indexado = tenista(1, "España", 500);
+        indice.actualizar(indexado);
+        indice.actualizar(tenista(2, "España", 300));
+
+        // Ni el objeto indexado ni los devueltos comparten estado con el índice
+        indexado.setNombre("Cambiado");
+        indice.top(1).get(0).setPuntos(0);
+        indice.enPosicion(1).orElseThrow().setNombre("Otro");
+
+        Tenista1 lider = indice.top(1).get(0);
+        assertEquals("Jugador 1", lider.getNombre());
+        assertEquals(500, lider.getPuntos());
+        assertNotSame(lider, indice.entrePuntos(0, 1_000).get(0));
+    }
+
+    @Test
+    public void testDecoradorMantieneElIndice() {
+        try (BaseDatosPrueba prueba = new BaseDatosPrueba("ranking_repo")) {
+            TenistaRepository baseDatos = prueba.getRepository();
+            Tenista1 previo = baseDatos.save(tenista(0, "España", 300));
+            RankingTenistaRepository repository = new RankingTenistaRepository(baseDatos);
+            IndiceRanking indice = repository.getIndice();
+            assertEquals(1, indice.size());
+
+            Tenista1 a = repository.save(BaseDatosPrueba.tenista("A", "Suiza", 800));
+            assertEquals(1, indice.posicion(a.getId()).orElseThrow());
+
+            a.setPuntos(100);
+            repository.update(a);
+            assertEquals(2, indice.posicion(a.getId()).orElseThrow());
+            assertEquals(ids(baseDatos.findByPuntosGreaterThan(50)), ids(repository.findByPuntosGreaterThan(50)));
+
+            repository.deleteById(previo.getId());
+            assertEquals(1, indice.posicion(a.getId()).orElseThrow());
+
+            repository.deleteAll();
+            assertEquals(0, indice.size());
+        }
+    }
+}
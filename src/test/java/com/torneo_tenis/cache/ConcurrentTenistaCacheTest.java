@@ -0,0 +1,105 @@
+package com.torneo_tenis.cache;
+
+import com.torneo_tenis.model.Mano;
+import com.torneo_tenis.model.Tenista1;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests de la caché concurrente LRU / W-TinyLFU
+ */
+public class ConcurrentTenistaCacheTest {
+
+    private static Tenista1 tenista(long id) {
+        LocalDateTime ahora = LocalDateTime.now();
+        return new Tenista1(id, "Jugador", "Pais", 180, 80, 1000, Mano.DERECHA,
+                            LocalDate.of(1990, 1, 1), ahora, ahora);
+    }
+
+    @Test
+    public void testLruExpulsaMenosReciente() {
+        ConcurrentTenistaCache cache = new ConcurrentTenistaCache(3, PoliticaCache.LRU);
+        cache.put(1L, tenista(1));
+        cache.put(2L, tenista(2));
+        cache.put(3L, tenista(3));
+        cache.get(1L);
+        cache.put(4L, tenista(4));
+
+        assertTrue(cache.contains(1L));
+        assertFalse(cache.contains(2L));
+        assertEquals(3, cache.size());
+        assertEquals(1, cache.getEvictions());
+    }
+
+    @Test
+    public void testTinyLfuConservaTenistasFrecuentes() {
+        ConcurrentTenistaCache cache = new ConcurrentTenistaCache(8, PoliticaCache.W_TINYLFU);
+        for (long id = 1; id <= 4; id++) {
+            cache.put(id, tenista(id));
+            for (int i = 0; i < 5; i++) {
+                cache.get(id);
+            }
+        }
+
+        // Ráfaga de accesos únicos que no debe desplazar a los frecuentes
+        for (long id = 100; id < 200; id++) {
+            cache.put(id, tenista(id));
+        }
+
+        for (long id = 1; id <= 4; id++) {
+            assertTrue(cache.contains(id), "Tenista frecuente expulsado: " + id);
+        }
+        assertTrue(cache.size() <= 8);
+    }
+
+    @Test
+    public void testEstadisticas() {
+        ConcurrentTenistaCache cache = new ConcurrentTenistaCache(10);
+        cache.put(1L, tenista(1));
+        cache.get(1L);
+        cache.get(1L);
+        cache.get(2L);
+
+        assertEquals(2, cache.getHits());
+        assertEquals(1, cache.getMisses());
+        assertEquals(2.0 / 3, cache.getHitRatio(), 1e-9);
+        assertTrue(cache.getStats().contains("Ratio"));
+    }
+
+    @Test
+    public void testAccesoConcurrente() throws Exception {
+        ConcurrentTenistaCache cache = new ConcurrentTenistaCache(256, PoliticaCache.W_TINYLFU);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futuros = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                int hilo = t;
+                futuros.add(executor.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        long id = (i * 31L + hilo) % 1000;
+                        if (cache.get(id).isEmpty()) {
+                            cache.put(id, tenista(id));
+                        }
+                    }
+                }));
+            }
+            for (Future<?> futuro : futuros) {
+                futuro.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertTrue(cache.size() <= 256);
+        assertEquals(80_000, cache.getHits() + cache.getMisses());
+    }
+}
@@ -0,0 +1,75 @@
+package com.torneo_tenis.database;
+
+import com.torneo_tenis.model.Tenista1;
+import com.torneo_tenis.repository.BaseDatosPrueba;
+import com.torneo_tenis.repository.TenistaRepository;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.torneo_tenis.repository.BaseDatosPrueba.tenista;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests del pool de conexiones y del repositorio bajo concurrencia
+ */
+public class ConnectionPoolTest {
+
+    private static ConnectionPool nuevoPool(String nombre, int max, long maxWaitMs) {
+        return new ConnectionPool("jdbc:h2:mem:" + nombre + ";DB_CLOSE_DELAY=-1;MODE=MySQL",
+                                  "sa", "", 1, max, 60_000, maxWaitMs, "SELECT 1");
+    }
+
+    @Test
+    public void testConexionDevueltaAlPool() throws SQLException {
+        try (ConnectionPool pool = nuevoPool("pool_devolucion", 2, 1000)) {
+            Connection conn = pool.getConnection();
+            assertEquals(1, pool.getActive());
+            conn.close();
+            assertEquals(0, pool.getActive());
+            assertEquals(1, pool.getIdle());
+            assertTrue(conn.isClosed());
+        }
+    }
+
+    @Test
+    public void testTimeoutCuandoPoolAgotado() throws SQLException {
+        try (ConnectionPool pool = nuevoPool("pool_timeout", 1, 50)) {
+            try (Connection ignored = pool.getConnection()) {
+                assertThrows(SQLException.class, pool::getConnection);
+            }
+            assertEquals(1, pool.getTimeouts());
+        }
+    }
+
+    @Test
+    public void testRepositorioConcurrente() throws Exception {
+        BaseDatosPrueba baseDatos = new BaseDatosPrueba("pool_concurrente", 4, 5000);
+        TenistaRepository repository = baseDatos.getRepository();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Tenista1>> futuros = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                int n = i;
+                futuros.add(executor.submit(() -> {
+                    Tenista1 guardado = repository.save(tenista("Jugador " + n, n));
+                    return repository.findById(guardado.getId()).orElseThrow();
+                }));
+            }
+            for (Future<Tenista1> futuro : futuros) {
+                assertNotNull(futuro.get().getId());
+            }
+            assertEquals(200, repository.count());
+            assertEquals(0, baseDatos.getPool().getActive());
+        } finally {
+            executor.shutdownNow();
+            baseDatos.close();
+        }
+    }
+}
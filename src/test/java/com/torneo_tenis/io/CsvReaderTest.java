@@ -0,0 +1,90 @@
+package com.torneo_tenis.io;
+
+import com.torneo_tenis.model.Tenista1;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests de la lectura en streaming del lector CSV
+ */
+public class CsvReaderTest {
+    private static final String HEADER = "nombre,pais,altura,peso,puntos,mano,fecha_nacimiento\n";
+
+    @TempDir
+    Path tempDir;
+
+    private String crearCsv(String contenido) throws IOException {
+        Path archivo = tempDir.resolve("tenistas.csv");
+        Files.writeString(archivo, contenido, StandardCharsets.UTF_8);
+        return archivo.toString();
+    }
+
+    @Test
+    public void testLecturaPerezosa() throws IOException {
+        String archivo = crearCsv(HEADER
+                + "Rafael Nadal,Espana,185,85,9500,DERECHA,1986-06-03\n"
+                + "Roger Federer,Suiza,185,85,11000,DERECHA,1981-08-08\n"
+                + "linea,rota\n");
+        List<String> errores = new ArrayList<>();
+
+        try (Stream<Tenista1> tenistas = CsvReader.streamTenistas(archivo, errores::add)) {
+            Iterator<Tenista1> it = tenistas.iterator();
+            assertEquals("Rafael Nadal", it.next().getNombre());
+            // La línea rota aún no se ha leído
+            assertTrue(errores.isEmpty());
+
+            assertEquals("Roger Federer", it.next().getNombre());
+            assertFalse(it.hasNext());
+            assertEquals(1, errores.size());
+        }
+    }
+
+    @Test
+    public void testLineasInvalidasAlSumidero() throws IOException {
+        String archivo = crearCsv(HEADER
+                + "Rafael Nadal,Espana,185,85,9500,DERECHA,1986-06-03\n"
+                + "\n"
+                + "Andy Murray,Reino Unido,xx,84,8000,DERECHA,1987-05-15\n"
+                + "Bajito,Espana,100,70,100,DERECHA,1990-01-01\n"
+                + "Novak Djokovic,Serbia,188,80,12000,DERECHA,1987-05-22\n");
+        List<String> errores = new ArrayList<>();
+
+        List<Tenista1> leidos;
+        try (Stream<Tenista1> tenistas = CsvReader.streamTenistas(archivo, errores::add)) {
+            leidos = tenistas.toList();
+        }
+
+        assertEquals(List.of("Rafael Nadal", "Novak Djokovic"), leidos.stream().map(Tenista1::getNombre).toList());
+        assertEquals(2, errores.size());
+        assertTrue(errores.get(0).startsWith("Error en línea 4:"), errores.get(0));
+        assertTrue(errores.get(1).startsWith("Error en línea 5:"), errores.get(1));
+    }
+
+    @Test
+    public void testCerrarLiberaElArchivo() throws IOException {
+        String archivo = crearCsv(HEADER
+                + "Rafael Nadal,Espana,185,85,9500,DERECHA,1986-06-03\n"
+                + "Roger Federer,Suiza,185,85,11000,DERECHA,1981-08-08\n");
+
+        Stream<Tenista1> tenistas = CsvReader.streamTenistas(archivo, error -> { });
+        Iterator<Tenista1> it = tenistas.iterator();
+        it.next();
+        tenistas.close();
+
+        // El lector subyacente está cerrado: seguir avanzando falla en lugar de leer
+        UncheckedIOException e = assertThrows(UncheckedIOException.class, it::hasNext);
+        assertEquals("Stream closed", e.getCause().getMessage());
+    }
+}
@@ -0,0 +1,173 @@
+package com.torneo_tenis.io;
+
+import com.torneo_tenis.model.Mano;
+import com.torneo_tenis.model.Tenista1;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests del lector CSV mapeado en memoria
+ */
+public class MappedCsvReaderTest {
+    private static final String HEADER = "nombre,pais,altura,peso,puntos,mano,fecha_nacimiento\n";
+
+    @TempDir
+    Path tempDir;
+
+    private String crearCsv(String contenido) throws IOException {
+        Path archivo = tempDir.resolve("tenistas.csv");
+        Files.writeString(archivo, contenido, StandardCharsets.UTF_8);
+        return archivo.toString();
+    }
+
+    @Test
+    public void testMismoResultadoQueCsvReader() throws IOException {
+        String archivo = crearCsv(HEADER
+                + "Rafael Nadal,Espana,185,85,9500,DIESTRO,1986-06-03\n"
+                + "\n"
+                + "Dominic Thiem, Austria , 185 , 82 , 7200 , zurdo , 1993-09-03\r\n"
+                + "Andy Murray,Reino Unido,191,84,8000,DERECHA,1987-05-15");
+
+        List<Tenista1> esperados = CsvReader.leerTenistas(archivo);
+        List<Tenista1> leidos = MappedCsvReader.leerTenistas(archivo);
+
+        assertEquals(esperados.size(), leidos.size());
+        for (int i = 0; i < esperados.size(); i++) {
+            Tenista1 a = esperados.get(i);
+            Tenista1 b = leidos.get(i);
+            assertEquals(a.getNombre(), b.getNombre());
+            assertEquals(a.getPais(), b.getPais());
+            assertEquals(a.getAltura(), b.getAltura());
+            assertEquals(a.getPeso(), b.getPeso());
+            assertEquals(a.getPuntos(), b.getPuntos());
+            assertEquals(a.getMano(), b.getMano());
+            assertEquals(a.getFecha_nacimiento(), b.getFecha_nacimiento());
+        }
+    }
+
+    @Test
+    public void testCamposEntrecomillados() throws IOException {
+        String archivo = crearCsv(HEADER
+                + "\"Juan Martín del Potro\",\"Argentina\",198,97,\"5000\",DIESTRO,1988-09-23\n");
+
+        List<Tenista1> leidos = MappedCsvReader.leerTenistas(archivo);
+
+        assertEquals(1, leidos.size());
+        assertEquals("Juan Martín del Potro", leidos.get(0).getNombre());
+        assertEquals("Argentina", leidos.get(0).getPais());
+        assertEquals(5000, leidos.get(0).getPuntos());
+        assertEquals(Mano.DERECHA, leidos.get(0).getMano());
+        assertEquals(LocalDate.of(1988, 9, 23), leidos.get(0).getFecha_nacimiento());
+    }
+
+    @Test
+    public void testErroresConNumeroDeLinea() throws IOException {
+        String archivo = crearCsv(HEADER
+                + "Rafael Nadal,España,185,85,9500,DIESTRO,1986-06-03\n"
+                + "\"Nombre \"\"con\n salto\"\"\",España,185,85,9500,DIESTRO,1986-06-03\n"
+                + "Novak Djokovic,Serbia,abc,80,12000,DIESTRO,1987-05-22\n"
+                + "Carlos Alcaraz,España,183,74,8700,DIESTRO,2003-13-05\n"
+                + "Roger Federer,Suiza,185,81\n");
+
+        List<String> errores = new ArrayList<>();
+        List<Tenista1> leidos;
+        try (Stream<Tenista1> stream = MappedCsvReader.streamTenistas(archivo, errores::add)) {
+            leidos = stream.toList();
+        }
+
+        assertEquals(1, leidos.size());
+        assertEquals(4, errores.size());
+        assertTrue(errores.get(0).startsWith("Error en línea 3:"));
+        assertTrue(errores.get(1).startsWith("Error en línea 5:"));
+        assertTrue(errores.get(1).contains("altura"));
+        assertTrue(errores.get(2).startsWith("Error en línea 6:"));
+        assertTrue(errores.get(2).contains("fecha"));
+        assertTrue(errores.get(3).startsWith("Error en línea 7:"));
+    }
+
+    private static final String LINEA_NADAL = "Rafael Nadal,Espana,185,85,9500,DIESTRO,1986-06-03\n";
+    private static final String LINEA_FEDERER = "Roger Federer,Suiza,185,85,11000,DIESTRO,1981-08-08\n";
+    private static final String LINEA_POTRO = "\"Juan Martin del Potro\",Argentina,198,97,5000,DIESTRO,1988-09-23\n";
+
+    private static List<String> nombres(String archivo, long ventana, List<String> errores) throws IOException {
+        try (Stream<Tenista1> stream = MappedCsvReader.streamTenistas(archivo, errores::add, ventana)) {
+            return stream.map(Tenista1::getNombre).toList();
+        }
+    }
+
+    @Test
+    public void testVentanaTerminaJustoEnSaltoDeLinea() throws IOException {
+        // Tres líneas de la misma longitud
+        String archivo = crearCsv(HEADER + LINEA_NADAL + LINEA_NADAL.replace("Rafael", "Carlos")
+                                  + LINEA_NADAL.replace("Rafael", "Andres"));
+        List<String> errores = new ArrayList<>();
+
+        // Cada ventana contiene exactamente la primera línea y termina en su \n
+        List<String> leidos = nombres(archivo, LINEA_NADAL.length(), errores);
+
+        assertEquals(List.of("Rafael Nadal", "Carlos Nadal", "Andres Nadal"), leidos);
+        assertTrue(errores.isEmpty());
+    }
+
+    @Test
+    public void testVentanaCortaUnCampoEntrecomillado() throws IOException {
+        String archivo = crearCsv(HEADER + LINEA_NADAL + LINEA_POTRO + LINEA_FEDERER);
+        List<String> errores = new ArrayList<>();
+
+        // Con ventanas del tamaño del registro más largo, el primer corte cae entre las comillas
+        long ventana = LINEA_POTRO.length();
+        assertTrue(ventana - LINEA_NADAL.length() < LINEA_POTRO.indexOf("\","));
+        List<String> leidos = nombres(archivo, ventana, errores);
+
+        assertEquals(List.of("Rafael Nadal", "Juan Martin del Potro", "Roger Federer"), leidos);
+        assertTrue(errores.isEmpty());
+    }
+
+    @Test
+    public void testVentanaCortaUnRegistroYConservaLineas() throws IOException {
+        String archivo = crearCsv(HEADER + LINEA_NADAL + LINEA_FEDERER + "Roto,Suiza,abc,85,100,DIESTRO,1990-01-01\n");
+        List<String> errores = new ArrayList<>();
+
+        List<String> leidos = nombres(archivo, LINEA_NADAL.length() + 10, errores);
+
+        assertEquals(List.of("Rafael Nadal", "Roger Federer"), leidos);
+        assertEquals(1, errores.size());
+        assertTrue(errores.get(0).startsWith("Error en línea 4:"), errores.get(0));
+    }
+
+    @Test
+    public void testCualquierTamanioDeVentanaDaElMismoResultado() throws IOException {
+        String contenido = HEADER + LINEA_NADAL + "\n" + LINEA_POTRO + LINEA_FEDERER + LINEA_NADAL;
+        String archivo = crearCsv(contenido);
+        List<String> erroresEsperados = new ArrayList<>();
+        List<String> esperados = nombres(archivo, MappedCsvReader.MAX_WINDOW, erroresEsperados);
+        assertEquals(4, esperados.size(), erroresEsperados.toString());
+
+        for (long ventana = LINEA_POTRO.length(); ventana <= contenido.length(); ventana++) {
+            List<String> errores = new ArrayList<>();
+            assertEquals(esperados, nombres(archivo, ventana, errores), "ventana de " + ventana + " bytes");
+            assertTrue(errores.isEmpty(), "ventana de " + ventana + " bytes: " + errores);
+        }
+    }
+
+    @Test
+    public void testRegistroMayorQueLaVentana() throws IOException {
+        String archivo = crearCsv(HEADER + LINEA_NADAL + LINEA_POTRO);
+
+        UncheckedIOException e = assertThrows(UncheckedIOException.class,
+                () -> nombres(archivo, 10, new ArrayList<>()));
+        assertTrue(e.getCause().getMessage().startsWith("Registro mayor que la ventana"), e.getCause().getMessage());
+    }
+}
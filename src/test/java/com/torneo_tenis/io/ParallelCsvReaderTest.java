@@ -0,0 +1,108 @@
+package com.torneo_tenis.io;
+
+import com.torneo_tenis.model.Tenista1;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests del lector CSV paralelo por fragmentos
+ */
+public class ParallelCsvReaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    private String crearCsv(int filas) throws IOException {
+        StringBuilder csv = new StringBuilder("nombre,pais,altura,peso,puntos,mano,fecha_nacimiento\n");
+        for (int i = 0; i < filas; i++) {
+            if (i % 50 == 7) {
+                csv.append("Jugador Roto,Pais,xx,80,100,DIESTRO,1990-01-01\n");
+            } else if (i % 50 == 13) {
+                csv.append("\"Jugador\nPartido\",\"Pais\",180,80,").append(i).append(",ZURDO,1990-01-01\n");
+            } else {
+                csv.append("Jugador ").append((char) ('a' + i % 26)).append(",Pais,180,80,")
+                   .append(i).append(",DIESTRO,1990-01-01\n");
+            }
+        }
+        Path archivo = tempDir.resolve("tenistas.csv");
+        Files.writeString(archivo, csv.toString(), StandardCharsets.UTF_8);
+        return archivo.toString();
+    }
+
+    @Test
+    public void testOrdenadoIgualQueSecuencial() throws IOException {
+        String archivo = crearCsv(500);
+
+        List<String> erroresSecuencial = new ArrayList<>();
+        List<Tenista1> secuencial = new ArrayList<>();
+        try (var stream = MappedCsvReader.streamTenistas(archivo, erroresSecuencial::add)) {
+            stream.forEach(secuencial::add);
+        }
+
+        List<String> erroresParalelo = new ArrayList<>();
+        List<Tenista1> paralelo = new ArrayList<>();
+        InformeIngesta informe;
+        try (ParallelCsvReader lector = new ParallelCsvReader(4, 256, 16)) {
+            informe = lector.leer(archivo, paralelo::addAll, erroresParalelo::add, true);
+        }
+
+        assertTrue(informe.getFragmentos() > 1);
+        assertEquals(secuencial.size(), informe.getFilas());
+        assertEquals(erroresSecuencial, erroresParalelo);
+        assertEquals(secuencial.size(), paralelo.size());
+        for (int i = 0; i < secuencial.size(); i++) {
+            assertEquals(secuencial.get(i).getNombre(), paralelo.get(i).getNombre());
+            assertEquals(secuencial.get(i).getPuntos(), paralelo.get(i).getPuntos());
+        }
+    }
+
+    @Test
+    public void testNoOrdenadoEntregaTodasLasFilas() throws IOException {
+        String archivo = crearCsv(500);
+
+        List<Tenista1> paralelo = Collections.synchronizedList(new ArrayList<>());
+        List<String> errores = Collections.synchronizedList(new ArrayList<>());
+        try (ParallelCsvReader lector = new ParallelCsvReader(4, 300, 10)) {
+            InformeIngesta informe = lector.leer(archivo, paralelo::addAll, errores::add, false);
+            assertEquals(paralelo.size(), informe.getFilas());
+            assertEquals(errores.size(), informe.getErrores());
+        }
+
+        assertEquals(490, paralelo.size());
+        assertEquals(10, errores.size());
+    }
+
+    @Test
+    public void testOrdenadoEntregaSinEsperarAlFinal() throws IOException {
+        String archivo = crearCsv(2000);
+        long antes = CsvReader.FILAS.getValor();
+        long[] parseadasAlPrimerLote = {-1};
+
+        List<Tenista1> leidos = new ArrayList<>();
+        InformeIngesta informe;
+        try (ParallelCsvReader lector = new ParallelCsvReader(2, 256, 4, 2)) {
+            informe = lector.leer(archivo, lote -> {
+                if (parseadasAlPrimerLote[0] < 0) {
+                    parseadasAlPrimerLote[0] = CsvReader.FILAS.getValor() - antes;
+                }
+                leidos.addAll(lote);
+            }, error -> { }, true);
+        }
+
+        assertEquals(informe.getFilas(), leidos.size());
+        assertTrue(informe.getFragmentos() > 100);
+        // Con 2 fragmentos en curso, el primer lote sale con solo unos pocos fragmentos parseados
+        assertTrue(parseadasAlPrimerLote[0] < informe.getFilas() / 10,
+                   "Filas parseadas al entregar el primer lote: " + parseadasAlPrimerLote[0]);
+    }
+}
@@ -0,0 +1,85 @@
+package com.torneo_tenis.io;
+
+import com.torneo_tenis.model.Mano;
+import com.torneo_tenis.model.Tenista1;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Mide bytes asignados y tiempo por registro de cada escritor en los modos TEXTO y BUFFER,
+ * escribiendo a un Writer nulo para aislar la codificación de la E/S.
+ *
+ * Ejecución: mvn test-compile y después
+ * java -cp target/classes:target/test-classes:&lt;dependencias&gt; com.torneo_tenis.io.TenistaWriterBenchmark
+ */
+public class TenistaWriterBenchmark {
+    private static final int REGISTROS = 10_000;
+    private static final int CALENTAMIENTO = 20;
+    private static final int RONDAS = 20;
+
+    public static void main(String[] args) throws IOException {
+        List<Tenista1> tenistas = generarTenistas(REGISTROS);
+        System.out.printf("%-10s %-7s %14s %12s%n", "Formato", "Modo", "bytes/registro", "ns/registro");
+
+        for (ModoCodificacion modo : ModoCodificacion.values()) {
+            for (ITenistaTextWriter writer : List.of(new CsvWriter(modo), new JsonWriter(modo), new XmlWriter(modo))) {
+                Medida medida = medir(writer, tenistas, CALENTAMIENTO, RONDAS);
+                System.out.printf("%-10s %-7s %14.1f %12.1f%n", writer.getClass().getSimpleName(), modo,
+                                  medida.bytesPorRegistro(), medida.nanosPorRegistro());
+            }
+        }
+    }
+
+    record Medida(double bytesPorRegistro, double nanosPorRegistro) { }
+
+    /**
+     * Escribe la lista varias veces tras un calentamiento y promedia por registro
+     */
+    static Medida medir(ITenistaTextWriter writer, List<Tenista1> tenistas, int calentamiento, int rondas) throws IOException {
+        for (int i = 0; i < calentamiento; i++) {
+            escribir(writer, tenistas);
+        }
+
+        long bytesAntes = bytesAsignados();
+        long inicio = System.nanoTime();
+        for (int i = 0; i < rondas; i++) {
+            escribir(writer, tenistas);
+        }
+        long nanos = System.nanoTime() - inicio;
+        long bytes = bytesAsignados() - bytesAntes;
+
+        double registros = (double) rondas * tenistas.size();
+        return new Medida(bytes / registros, nanos / registros);
+    }
+
+    private static void escribir(ITenistaTextWriter writer, List<Tenista1> tenistas) throws IOException {
+        try (EscrituraTenistas escritura = writer.abrir(Writer.nullWriter(), "benchmark")) {
+            for (Tenista1 tenista : tenistas) {
+                escritura.escribir(tenista);
+            }
+        }
+    }
+
+    private static long bytesAsignados() {
+        com.sun.management.ThreadMXBean mx = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        return mx.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    static List<Tenista1> generarTenistas(int n) {
+        LocalDateTime fecha = LocalDateTime.of(2024, 3, 15, 9, 30, 5, 123_456_000);
+        List<Tenista1> tenistas = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            String nombre = i % 10 == 0 ? "Jugador \"" + i + "\", <Jr> & Cía" : "Jugador " + i;
+            tenistas.add(new Tenista1((long) i + 1, nombre, "España", 170 + i % 30, 60 + i % 40, i * 7,
+                                      i % 2 == 0 ? Mano.DERECHA : Mano.IZQUIERDA,
+                                      LocalDate.of(1980 + i % 25, 1 + i % 12, 1 + i % 28), fecha, fecha.plusDays(i % 365)));
+        }
+        return tenistas;
+    }
+}
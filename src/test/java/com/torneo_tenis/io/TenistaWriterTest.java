@@ -0,0 +1,141 @@
+package com.torneo_tenis.io;
+
+import com.torneo_tenis.model.Mano;
+import com.torneo_tenis.model.Tenista1;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests de la escritura incremental de los escritores CSV, JSON y XML (y del contrato
+ * común con el escritor binario TNB)
+ */
+public class TenistaWriterTest {
+
+    @TempDir
+    Path tempDir;
+
+    private static List<Tenista1> tenistas(int n) {
+        LocalDateTime fecha = LocalDateTime.of(2024, 1, 1, 10, 0);
+        List<Tenista1> tenistas = new ArrayList<>();
+        for (long i = 1; i <= n; i++) {
+            tenistas.add(new Tenista1(i, "Jugador, \"" + i + "\"", "Pais", 180, 80, (int) i * 10, Mano.DERECHA,
+                                      LocalDate.of(1990, 1, 1), fecha, fecha));
+        }
+        return tenistas;
+    }
+
+    @Test
+    public void testStreamEquivaleALista() throws Exception {
+        for (ITenistaWriter writer : List.of(new CsvWriter(), new JsonWriter(), new XmlWriter())) {
+            Path lista = tempDir.resolve("lista.out");
+            Path stream = tempDir.resolve("stream.out");
+            List<Tenista1> tenistas = tenistas(5);
+
+            writer.escribir(tenistas, lista.toString());
+            long escritos = writer.escribir(tenistas.stream(), stream.toString());
+
+            assertEquals(5, escritos);
+            assertEquals(Files.readString(lista), Files.readString(stream), writer.getClass().getSimpleName());
+        }
+    }
+
+    @Test
+    public void testJsonSinComaFinal() throws Exception {
+        Path archivo = tempDir.resolve("tenistas.json");
+        JsonWriter writer = new JsonWriter();
+
+        writer.escribir(tenistas(3).stream(), archivo.toString());
+        String json = Files.readString(archivo);
+        assertEquals(2, json.split("\\},\n").length - 1);
+        assertTrue(json.endsWith("    }\n  ]\n}\n"));
+
+        writer.escribir(Stream.empty(), archivo.toString());
+        assertEquals("{\n  \"tenistas\": [\n  ]\n}\n", Files.readString(archivo));
+    }
+
+    @Test
+    public void testEscrituraIncremental() throws Exception {
+        Path archivo = tempDir.resolve("tenistas.xml");
+
+        try (EscrituraTenistas escritura = new XmlWriter().abrir(archivo.toString())) {
+            for (Tenista1 tenista : tenistas(2)) {
+                escritura.escribir(tenista);
+            }
+            assertEquals(2, escritura.getEscritos());
+        }
+
+        String xml = Files.readString(archivo);
+        assertTrue(xml.startsWith("<?xml"));
+        assertTrue(xml.endsWith("</tenistas>\n"));
+        assertTrue(xml.contains("<nombre>Jugador, &quot;2&quot;</nombre>"));
+    }
+
+    @Test
+    public void testModoBufferEquivaleATexto() throws Exception {
+        List<Tenista1> tenistas = new ArrayList<>(TenistaWriterBenchmark.generarTenistas(200));
+        LocalDateTime fecha = LocalDateTime.of(2024, 1, 1, 0, 0, 0, 7_000);
+        tenistas.add(new Tenista1(null, "Tab\t\\barra\r\n\"x\"", "O'Neil <&>", 190, 90, -5, Mano.IZQUIERDA,
+                                  LocalDate.of(205, 2, 3), fecha, fecha));
+
+        assertEquals(escribir(new CsvWriter(ModoCodificacion.TEXTO), tenistas), escribir(new CsvWriter(), tenistas));
+        assertEquals(escribir(new JsonWriter(ModoCodificacion.TEXTO), tenistas), escribir(new JsonWriter(), tenistas));
+        assertEquals(escribir(new XmlWriter(ModoCodificacion.TEXTO), tenistas), escribir(new XmlWriter(), tenistas));
+    }
+
+    @Test
+    public void testModoBufferReduceAsignaciones() throws Exception {
+        List<Tenista1> tenistas = TenistaWriterBenchmark.generarTenistas(2_000);
+
+        double texto = TenistaWriterBenchmark.medir(new JsonWriter(ModoCodificacion.TEXTO), tenistas, 5, 5).bytesPorRegistro();
+        double buffer = TenistaWriterBenchmark.medir(new JsonWriter(ModoCodificacion.BUFFER), tenistas, 5, 5).bytesPorRegistro();
+        assertTrue(buffer * 4 < texto, "TEXTO: " + texto + " bytes/registro, BUFFER: " + buffer);
+    }
+
+    @Test
+    public void testTodosLosFormatosSobreOutputStream() throws Exception {
+        List<Tenista1> tenistas = tenistas(3);
+        for (ITenistaWriter writer : List.of(new CsvWriter(), new JsonWriter(), new XmlWriter(), new TnbWriter())) {
+            ByteArrayOutputStream destino = new ByteArrayOutputStream();
+            try (EscrituraTenistas escritura = writer.abrir(destino, "memoria")) {
+                for (Tenista1 tenista : tenistas) {
+                    escritura.escribir(tenista);
+                }
+                assertEquals(3, escritura.getEscritos());
+            }
+            assertTrue(destino.size() > 0, writer.getFormato());
+
+            if (writer instanceof ITenistaTextWriter texto) {
+                assertEquals(escribir(texto, tenistas), destino.toString(Charset.defaultCharset()), writer.getFormato());
+            } else {
+                try (Stream<Tenista1> leidos = TnbReader.streamTenistas(new ByteArrayInputStream(destino.toByteArray()), "memoria")) {
+                    assertEquals(tenistas.stream().map(Tenista1::getNombre).toList(),
+                                 leidos.map(Tenista1::getNombre).toList());
+                }
+            }
+        }
+    }
+
+    private static String escribir(ITenistaTextWriter writer, List<Tenista1> tenistas) throws Exception {
+        StringWriter destino = new StringWriter();
+        try (EscrituraTenistas escritura = writer.abrir(destino, "memoria")) {
+            for (Tenista1 tenista : tenistas) {
+                escritura.escribir(tenista);
+            }
+        }
+        return destino.toString();
+    }
+}
@@ -0,0 +1,99 @@
+package com.torneo_tenis.io;
+
+import com.torneo_tenis.model.Mano;
+import com.torneo_tenis.model.Tenista1;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests de ida y vuelta del formato binario .tnb
+ */
+public class TnbFormatTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testIdaYVueltaTodosLosCampos() throws Exception {
+        List<Tenista1> tenistas = new ArrayList<>(List.of(
+            new Tenista1(1L, "Rafael Nadal", "España", 185, 85, 9_850, Mano.IZQUIERDA,
+                         LocalDate.of(1986, 6, 3), LocalDateTime.of(2024, 1, 1, 10, 15, 30, 123_456_000),
+                         LocalDateTime.of(2024, 2, 1, 8, 0, 0, 1_000)),
+            new Tenista1(2L, "Novak Đoković 🎾", "Serbia", 188, 77, 11_245, Mano.DERECHA,
+                         LocalDate.of(1987, 5, 22), LocalDateTime.of(1969, 12, 31, 23, 59, 59, 999_999_000),
+                         LocalDateTime.of(1969, 12, 31, 23, 59, 59, 999_999_000)),
+            new Tenista1(1_000_000_000_000L, "Carlos, \"Carlitos\"\n", "España", 183, 74, -1, Mano.DERECHA,
+                         LocalDate.of(1850, 1, 1), LocalDateTime.of(2003, 5, 5, 0, 0), LocalDateTime.of(2003, 5, 4, 0, 0)),
+            new Tenista1(null, "", "Serbia", Integer.MAX_VALUE, Integer.MIN_VALUE, 0, Mano.IZQUIERDA,
+                         LocalDate.of(2024, 2, 29), LocalDateTime.of(2024, 1, 1, 0, 0), LocalDateTime.of(2024, 1, 1, 0, 0))
+        ));
+        Path archivo = tempDir.resolve("tenistas.tnb");
+
+        new TnbWriter().escribir(tenistas, archivo.toString());
+        List<Tenista1> leidos = TnbReader.leerTenistas(archivo.toString());
+
+        assertEquals(tenistas.size(), leidos.size());
+        for (int i = 0; i < tenistas.size(); i++) {
+            Tenista1 esperado = tenistas.get(i);
+            Tenista1 leido = leidos.get(i);
+            assertEquals(esperado.getId(), leido.getId());
+            assertEquals(esperado.getNombre(), leido.getNombre());
+            assertEquals(esperado.getPais(), leido.getPais());
+            assertEquals(esperado.getAltura(), leido.getAltura());
+            assertEquals(esperado.getPeso(), leido.getPeso());
+            assertEquals(esperado.getPuntos(), leido.getPuntos());
+            assertEquals(esperado.getMano(), leido.getMano());
+            assertEquals(esperado.getFecha_nacimiento(), leido.getFecha_nacimiento());
+            assertEquals(esperado.getCreated_at(), leido.getCreated_at());
+            assertEquals(esperado.getUpdated_at(), leido.getUpdated_at());
+        }
+    }
+
+    @Test
+    public void testMasCompactoQueJson() throws Exception {
+        List<Tenista1> tenistas = TenistaWriterBenchmark.generarTenistas(5_000);
+        Path tnb = tempDir.resolve("tenistas.tnb");
+        Path json = tempDir.resolve("tenistas.json");
+
+        new TnbWriter().escribir(tenistas, tnb.toString());
+        new JsonWriter().escribir(tenistas, json.toString());
+
+        assertTrue(Files.size(tnb) * 5 < Files.size(json), Files.size(tnb) + " vs " + Files.size(json));
+        assertEquals(5_000, TnbReader.leerTenistas(tnb.toString()).size());
+    }
+
+    @Test
+    public void testDetectaArchivoTruncadoOInvalido() throws Exception {
+        Path archivo = tempDir.resolve("tenistas.tnb");
+        new TnbWriter().escribir(TenistaWriterBenchmark.generarTenistas(10), archivo.toString());
+        byte[] bytes = Files.readAllBytes(archivo);
+
+        Files.write(archivo, Arrays.copyOf(bytes, bytes.length - 20));
+        assertThrows(IOException.class, () -> TnbReader.leerTenistas(archivo.toString()));
+
+        Files.writeString(archivo, "id,nombre\n");
+        assertThrows(IOException.class, () -> TnbReader.leerTenistas(archivo.toString()));
+
+        // Prefijos de longitud que al pasar a int quedarían negativos o desmedidos
+        byte[] cabecera = Arrays.copyOf(bytes, 4);
+        for (byte[] prefijo : List.of(new byte[]{(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x0F},
+                                      new byte[]{(byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, 0x08},
+                                      new byte[]{(byte) 0x80, (byte) 0x80, (byte) 0x80, 0x40})) {
+            byte[] corrupto = Arrays.copyOf(cabecera, cabecera.length + prefijo.length);
+            System.arraycopy(prefijo, 0, corrupto, cabecera.length, prefijo.length);
+            Files.write(archivo, corrupto);
+            assertThrows(IOException.class, () -> TnbReader.leerTenistas(archivo.toString()));
+        }
+    }
+}
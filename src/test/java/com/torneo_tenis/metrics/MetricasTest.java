@@ -0,0 +1,136 @@
+package com.torneo_tenis.metrics;
+
+import com.torneo_tenis.model.Mano;
+import com.torneo_tenis.model.Tenista1;
+import com.torneo_tenis.validator.TenistaValidator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests del registro de métricas, los histogramas y su exportación
+ */
+public class MetricasTest {
+
+    @TempDir
+    Path directorio;
+
+    @Test
+    public void testHistogramaPercentilesDentroDelError() {
+        Histograma histograma = new Histograma();
+        for (long v = 1; v <= 100_000; v++) {
+            histograma.registrar(v);
+        }
+
+        assertEquals(100_000, histograma.getCuenta());
+        assertEquals(100_000, histograma.getMaximo());
+        assertEquals(50_000.5, histograma.getMedia(), 1e-9);
+        Histograma.Resumen resumen = histograma.resumen();
+        assertEquals(50_000, resumen.p50(), 50_000 * 0.016);
+        assertEquals(90_000, resumen.p90(), 90_000 * 0.016);
+        assertEquals(99_000, resumen.p99(), 99_000 * 0.016);
+        assertEquals(99_900, resumen.p999(), 99_900 * 0.016);
+        assertTrue(resumen.p999() <= resumen.maximo());
+    }
+
+    @Test
+    public void testHistogramaCubetas() {
+        // Hasta 127 cada valor tiene su cubeta; por encima, el límite superior cubre el valor
+        for (long v : new long[] {0, 1, 127, 128, 129, 1_000, 123_456_789L, Long.MAX_VALUE}) {
+            int indice = Histograma.indice(v);
+            assertTrue(Histograma.limiteSuperior(indice) >= v, "valor " + v);
+            if (indice > 0) {
+                assertTrue(Histograma.limiteSuperior(indice - 1) < v, "valor " + v);
+            }
+        }
+        assertEquals(127, Histograma.limiteSuperior(Histograma.indice(127)));
+
+        Histograma vacio = new Histograma();
+        assertEquals(0, vacio.percentil(99));
+        assertEquals(0.0, vacio.getMedia());
+    }
+
+    @Test
+    public void testRegistroDevuelveLaMismaMetrica() {
+        Metricas metricas = new Metricas();
+        metricas.contador("a").incrementar();
+        metricas.contador("a").sumar(4);
+        metricas.medidor("b", () -> 7);
+
+        assertSame(metricas.temporizador("t"), metricas.temporizador("t"));
+        assertEquals(Map.of("a", 5L, "b", 7L), metricas.valores());
+    }
+
+    @Test
+    public void testInstantaneaJsonConTasas() {
+        Metricas metricas = new Metricas();
+        metricas.contador("csv.filas").sumar(300);
+        metricas.temporizador("repositorio.findById").registrar(2_000_000);
+
+        String json = metricas.aJson(Map.of("csv.filas", 100L), 2.0);
+
+        assertTrue(json.contains("\"csv.filas\": {\"valor\": 300, \"porSegundo\": 100.0}"), json);
+        assertTrue(json.contains("\"repositorio.findById\": {\"cuenta\": 1"), json);
+        assertTrue(json.contains("\"max\": 2.0"), json);
+    }
+
+    @Test
+    public void testExportadorEscribeAlCerrar() throws Exception {
+        Metricas metricas = new Metricas();
+        Path archivo = directorio.resolve("sub/metricas.json");
+
+        try (ExportadorMetricas exportador = new ExportadorMetricas(metricas, archivo, 0)) {
+            metricas.contador("escritura.csv.bytes").sumar(1024);
+        }
+
+        String json = Files.readString(archivo, StandardCharsets.UTF_8);
+        assertTrue(json.contains("\"escritura.csv.bytes\": {\"valor\": 1024"), json);
+        try (var restos = Files.list(archivo.getParent())) {
+            assertEquals(1, restos.count(), "No deben quedar archivos temporales");
+        }
+    }
+
+    @Test
+    public void testMBeanExponeLasMetricas() throws Exception {
+        Metricas metricas = new Metricas();
+        metricas.contador("cache.hits").sumar(3);
+        metricas.histograma("repositorio.findAll.filas").registrar(42);
+
+        ObjectName nombre = MetricasJmx.registrar(metricas);
+        try {
+            MBeanServer servidor = ManagementFactory.getPlatformMBeanServer();
+            assertEquals(3L, servidor.getAttribute(nombre, "cache.hits"));
+            assertEquals(1L, servidor.getAttribute(nombre, "repositorio.findAll.filas.cuenta"));
+            assertEquals(42.0, servidor.getAttribute(nombre, "repositorio.findAll.filas.max"));
+        } finally {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(nombre);
+        }
+    }
+
+    @Test
+    public void testRechazosPorRegla() {
+        Contador altura = Metricas.global().contador("validacion.rechazos.altura");
+        Contador nombre = Metricas.global().contador("validacion.rechazos.nombre");
+        long alturaAntes = altura.getValor();
+        long nombreAntes = nombre.getValor();
+
+        LocalDateTime ahora = LocalDateTime.now();
+        Tenista1 tenista = new Tenista1(0L, "Rafael Nadal", "España", 20, 80, 1000, Mano.DERECHA,
+                                        LocalDate.now().minusYears(25), ahora, ahora);
+        assertFalse(TenistaValidator.validar(tenista).isEmpty());
+
+        assertEquals(alturaAntes + 1, altura.getValor());
+        assertEquals(nombreAntes, nombre.getValor());
+    }
+}
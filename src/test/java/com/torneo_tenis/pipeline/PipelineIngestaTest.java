@@ -0,0 +1,138 @@
+package com.torneo_tenis.pipeline;
+
+import com.torneo_tenis.io.InformeIngesta;
+import com.torneo_tenis.model.Mano;
+import com.torneo_tenis.model.Tenista1;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests de la ingesta por etapas concurrentes
+ */
+@Timeout(value = 30, unit = TimeUnit.SECONDS)
+public class PipelineIngestaTest {
+
+    private static Tenista1 tenista(int i, int altura) {
+        LocalDateTime ahora = LocalDateTime.now();
+        return new Tenista1((long) i, "Jugador " + (char) ('a' + i % 26), "España", altura, 80, i, Mano.DERECHA,
+                            LocalDate.now().minusYears(25), ahora, ahora);
+    }
+
+    private static List<Tenista1> tenistas(int n) {
+        return IntStream.range(0, n).mapToObj(i -> tenista(i, 180)).toList();
+    }
+
+    @Test
+    public void testUnHiloPorEtapaConservaElOrden() throws IOException {
+        List<Tenista1> entrada = new ArrayList<>(tenistas(95));
+        entrada.set(10, tenista(10, 20)); // altura inválida
+        List<List<Tenista1>> guardados = Collections.synchronizedList(new ArrayList<>());
+
+        InformeIngesta informe = new PipelineIngesta(1, 1, 2, 20).ejecutar((lotes, errores) -> {
+            errores.accept("Error en línea 3");
+            PipelineIngesta.porLotes(entrada.iterator(), 7, lotes);
+        }, guardados::add, 1234);
+
+        List<Tenista1> todos = guardados.stream().flatMap(List::stream).toList();
+        assertEquals(94, todos.size());
+        assertEquals(94, informe.getFilas());
+        assertEquals(1, informe.getErrores());
+        assertEquals(1234, informe.getBytes());
+        assertFalse(todos.contains(entrada.get(10)));
+        for (int i = 1; i < todos.size(); i++) {
+            assertTrue(todos.get(i - 1).getPuntos() < todos.get(i).getPuntos(), "Orden del archivo");
+        }
+        // La persistencia reagrupa en lotes de al menos 20 salvo el último
+        for (int i = 0; i < guardados.size() - 1; i++) {
+            assertTrue(guardados.get(i).size() >= 20);
+        }
+    }
+
+    @Test
+    public void testVariosHilosGuardanTodo() throws IOException {
+        List<Tenista1> entrada = tenistas(5_000);
+        AtomicInteger guardados = new AtomicInteger();
+
+        InformeIngesta informe = new PipelineIngesta(3, 2, 4, 100).ejecutar(
+                (lotes, errores) -> PipelineIngesta.porLotes(entrada.iterator(), 50, lotes),
+                lote -> guardados.addAndGet(lote.size()), 0);
+
+        assertEquals(5_000, guardados.get());
+        assertEquals(5_000, informe.getFilas());
+    }
+
+    @Test
+    public void testContrapresionLimitaLosLotesEnVuelo() throws IOException {
+        AtomicInteger leidos = new AtomicInteger();
+        AtomicInteger guardados = new AtomicInteger();
+        AtomicInteger maximoEnVuelo = new AtomicInteger();
+
+        new PipelineIngesta(1, 1, 1, 1).ejecutar((lotes, errores) -> {
+            for (int i = 0; i < 40; i++) {
+                lotes.accept(new ArrayList<>(List.of(tenista(i, 180))));
+                int enVuelo = leidos.incrementAndGet() - guardados.get();
+                maximoEnVuelo.accumulateAndGet(enVuelo, Math::max);
+            }
+        }, lote -> {
+            try {
+                Thread.sleep(2);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            guardados.incrementAndGet();
+        }, 0);
+
+        assertEquals(40, guardados.get());
+        // Dos colas de un lote, un lote en validación y otro guardándose, más el recién leído
+        assertTrue(maximoEnVuelo.get() <= 5, "En vuelo: " + maximoEnVuelo.get());
+    }
+
+    @Test
+    public void testErrorAlGuardarDetieneElPipeline() {
+        AtomicInteger leidos = new AtomicInteger();
+        PipelineIngesta pipeline = new PipelineIngesta(2, 1, 1, 10);
+
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> pipeline.ejecutar((lotes, errores) -> {
+            for (int i = 0; i < 100_000; i++) {
+                lotes.accept(new ArrayList<>(List.of(tenista(i, 180))));
+                leidos.incrementAndGet();
+            }
+        }, lote -> {
+            throw new IllegalStateException("Base de datos caída");
+        }, 0));
+
+        assertEquals("Base de datos caída", e.getMessage());
+        assertTrue(leidos.get() < 100_000, "La lectura debe cancelarse");
+    }
+
+    @Test
+    public void testErrorDeLecturaSePropaga() {
+        AtomicInteger guardados = new AtomicInteger();
+        PipelineIngesta pipeline = new PipelineIngesta(1, 1, 4, 10);
+
+        IOException e = assertThrows(IOException.class, () -> pipeline.ejecutar((lotes, errores) -> {
+            lotes.accept(new ArrayList<>(tenistas(5)));
+            throw new IOException("Archivo truncado");
+        }, lote -> guardados.addAndGet(lote.size()), 0));
+
+        assertEquals("Archivo truncado", e.getMessage());
+    }
+
+    @Test
+    public void testParametrosInvalidos() {
+        assertThrows(IllegalArgumentException.class, () -> new PipelineIngesta(0, 1, 1, 1));
+        assertThrows(IllegalArgumentException.class, () -> new PipelineIngesta(1, 1, 0, 1));
+    }
+}
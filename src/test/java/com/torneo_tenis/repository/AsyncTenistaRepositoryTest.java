@@ -0,0 +1,101 @@
+package com.torneo_tenis.repository;
+
+import com.torneo_tenis.model.Tenista1;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static com.torneo_tenis.repository.BaseDatosPrueba.tenista;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests de la fachada asíncrona del repositorio
+ */
+public class AsyncTenistaRepositoryTest {
+
+    private BaseDatosPrueba baseDatos;
+    private TenistaRepository repository;
+    private AsyncTenistaRepository async;
+
+    @BeforeEach
+    public void setUp() {
+        baseDatos = new BaseDatosPrueba("async_tenistas", 3, 200);
+        repository = baseDatos.getRepository();
+        async = new AsyncTenistaRepository(repository);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        async.close();
+        baseDatos.close();
+    }
+
+    @Test
+    public void testUsaHilosVirtualesSiElJdkLosTiene() {
+        assertEquals(Runtime.version().feature() >= 21, async.isHilosVirtuales());
+        assertEquals(3, async.getMaxConcurrencia());
+    }
+
+    @Test
+    public void testMuchasConsultasConcurrentesSinAgotarElPool() {
+        List<Tenista1> guardados = repository.saveAll(List.of(
+                tenista("Ana", "España", 1000), tenista("Bea", "Italia", 1000), tenista("Carla", "España", 1000)));
+
+        // Muchas más consultas que conexiones y una espera del pool de solo 200 ms
+        List<CompletableFuture<Optional<Tenista1>>> porId = new ArrayList<>();
+        List<CompletableFuture<List<Tenista1>>> porPais = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            porId.add(async.findById(guardados.get(i % 3).getId()));
+            porPais.add(async.findByPais("España"));
+        }
+
+        for (int i = 0; i < porId.size(); i++) {
+            assertEquals(guardados.get(i % 3).getNombre(), porId.get(i).join().orElseThrow().getNombre());
+            assertEquals(2, porPais.get(i).join().size());
+        }
+        assertEquals(0, repository.getPool().getTimeouts());
+        assertEquals(3L, async.count().join());
+    }
+
+    @Test
+    public void testLimitaLasOperacionesSimultaneas() {
+        AtomicInteger enCurso = new AtomicInteger();
+        AtomicInteger maximo = new AtomicInteger();
+
+        CompletableFuture<?>[] operaciones = IntStream.range(0, 50).mapToObj(i -> async.ejecutar(r -> {
+            maximo.accumulateAndGet(enCurso.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            enCurso.decrementAndGet();
+            return r.count();
+        })).toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(operaciones).join();
+
+        assertTrue(maximo.get() <= 3, "Máximo simultáneo: " + maximo.get());
+        assertEquals(0, async.getEnCurso());
+    }
+
+    @Test
+    public void testErroresCompletanElFuturo() {
+        CompletableFuture<Long> fallida = async.ejecutar(r -> {
+            throw new IllegalStateException("Consulta inválida");
+        });
+
+        CompletionException e = assertThrows(CompletionException.class, fallida::join);
+        assertInstanceOf(IllegalStateException.class, e.getCause());
+        // El permiso se devuelve aunque la operación falle
+        assertEquals(0L, async.count().join());
+        assertEquals(0, async.getEnCurso());
+    }
+}
@@ -0,0 +1,104 @@
+package com.torneo_tenis.repository;
+
+import com.torneo_tenis.database.ConnectionPool;
+import com.torneo_tenis.model.Mano;
+import com.torneo_tenis.model.Tenista1;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Base de datos H2 en memoria para los tests, con su pool y su TenistaRepository.
+ * Cada instancia usa una base de datos con nombre propio, de modo que ningún test ve
+ * los datos de otro, y close() cierra los repositorios abiertos y la elimina.
+ *
+ * Incluye también la factoría de tenistas de prueba compartida por los tests.
+ */
+public class BaseDatosPrueba implements AutoCloseable {
+    private static final AtomicInteger CONTADOR = new AtomicInteger();
+
+    private final String url;
+    private final int maxConexiones;
+    private final long maxEsperaMs;
+    private final List<TenistaRepository> abiertos = new ArrayList<>();
+    private final TenistaRepository repository;
+
+    public BaseDatosPrueba(String nombre) {
+        this(nombre, 4, 5_000);
+    }
+
+    /**
+     * @param nombre Prefijo del nombre de la base de datos, para identificarla en los logs
+     * @param maxConexiones Tamaño máximo del pool
+     * @param maxEsperaMs Espera máxima por una conexión libre
+     */
+    public BaseDatosPrueba(String nombre, int maxConexiones, long maxEsperaMs) {
+        this.url = "jdbc:h2:mem:" + nombre + "_" + CONTADOR.incrementAndGet() + ";DB_CLOSE_DELAY=-1;MODE=MySQL";
+        this.maxConexiones = maxConexiones;
+        this.maxEsperaMs = maxEsperaMs;
+        this.repository = nuevoRepositorio();
+    }
+
+    /**
+     * Repositorio principal, creado junto con la base de datos
+     */
+    public TenistaRepository getRepository() {
+        return repository;
+    }
+
+    public ConnectionPool getPool() {
+        return repository.getPool();
+    }
+
+    /**
+     * Abre otro repositorio, con su propio pool, sobre la misma base de datos; por ejemplo,
+     * para comprobar lo escrito después de cerrar el principal
+     */
+    public TenistaRepository nuevoRepositorio() {
+        ConnectionPool pool = new ConnectionPool(url, "sa", "", 1, maxConexiones, 60_000, maxEsperaMs, "SELECT 1");
+        TenistaRepository nuevo = new TenistaRepository(pool);
+        abiertos.add(nuevo);
+        return nuevo;
+    }
+
+    /**
+     * Cierra los pools de todos los repositorios abiertos y elimina la base de datos
+     */
+    @Override
+    public void close() {
+        abiertos.forEach(TenistaRepository::close);
+        try (Connection connection = DriverManager.getConnection(url, "sa", "");
+             Statement stmt = connection.createStatement()) {
+            stmt.execute("SHUTDOWN");
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Tenista sin guardar con todos los campos que suelen variar entre tests
+     */
+    public static Tenista1 tenista(Long id, String nombre, String pais, int puntos, Mano mano, LocalDate fechaNacimiento) {
+        LocalDateTime ahora = LocalDateTime.now();
+        return new Tenista1(id, nombre, pais, 180, 80, puntos, mano, fechaNacimiento, ahora, ahora);
+    }
+
+    public static Tenista1 tenista(String nombre, String pais, int puntos, Mano mano) {
+        return tenista(null, nombre, pais, puntos, mano, LocalDate.of(1990, 1, 1));
+    }
+
+    public static Tenista1 tenista(String nombre, String pais, int puntos) {
+        return tenista(nombre, pais, puntos, Mano.DERECHA);
+    }
+
+    public static Tenista1 tenista(String nombre, int puntos) {
+        return tenista(nombre, "Pais", puntos);
+    }
+}
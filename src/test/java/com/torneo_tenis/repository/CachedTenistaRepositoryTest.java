@@ -0,0 +1,146 @@
+package com.torneo_tenis.repository;
+
+import com.torneo_tenis.cache.ConcurrentTenistaCache;
+import com.torneo_tenis.model.CambioTenista;
+import com.torneo_tenis.model.Mano;
+import com.torneo_tenis.model.Tenista1;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static com.torneo_tenis.repository.BaseDatosPrueba.tenista;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests del decorador de repositorio con caché
+ */
+public class CachedTenistaRepositoryTest {
+
+    private BaseDatosPrueba prueba;
+    private TenistaRepository baseDatos;
+    private ConcurrentTenistaCache cache;
+    private CachedTenistaRepository repository;
+
+    @BeforeEach
+    public void setUp() {
+        prueba = new BaseDatosPrueba("cached_repo", 8, 5_000);
+        baseDatos = prueba.getRepository();
+        cache = new ConcurrentTenistaCache(100);
+        repository = new CachedTenistaRepository(baseDatos, cache);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        repository.close();
+        prueba.close();
+    }
+
+    @Test
+    public void testEscrituraYLecturaATravesDeCache() {
+        Tenista1 guardado = repository.save(tenista("Jugador", 100));
+        assertTrue(cache.contains(guardado.getId()));
+
+        guardado.setPuntos(200);
+        repository.update(guardado);
+        assertEquals(200, cache.get(guardado.getId()).orElseThrow().getPuntos());
+
+        cache.clear();
+        assertEquals(200, repository.findById(guardado.getId()).orElseThrow().getPuntos());
+        assertTrue(cache.contains(guardado.getId()));
+    }
+
+    @Test
+    public void testInvalidacionEnBorrados() {
+        Tenista1 a = repository.save(tenista("Jugador A", 100));
+        Tenista1 b = repository.save(tenista("Jugador B", 100));
+
+        repository.deleteById(a.getId());
+        assertFalse(cache.contains(a.getId()));
+        assertTrue(repository.findById(a.getId()).isEmpty());
+
+        repository.deleteAll();
+        assertFalse(cache.contains(b.getId()));
+    }
+
+    @Test
+    public void testFallosConcurrentesAgrupados() throws Exception {
+        AtomicInteger consultas = new AtomicInteger();
+        CountDownLatch bloqueo = new CountDownLatch(1);
+        Tenista1 guardado = baseDatos.save(tenista("Jugador", 100));
+
+        ITenistaRepository lento = new CachedTenistaRepository(new TenistaRepositoryEnvoltorio(baseDatos) {
+            @Override
+            public Optional<Tenista1> findById(Long id) {
+                consultas.incrementAndGet();
+                try {
+                    bloqueo.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.findById(id);
+            }
+        }, cache);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Optional<Tenista1>>> futuros = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futuros.add(executor.submit(() -> lento.findById(guardado.getId())));
+            }
+            Thread.sleep(200);
+            bloqueo.countDown();
+            for (Future<Optional<Tenista1>> futuro : futuros) {
+                assertTrue(futuro.get().isPresent());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, consultas.get());
+    }
+
+    /**
+     * Envoltorio que delega todo en otro repositorio, para sobrescribir métodos concretos
+     */
+    private static class TenistaRepositoryEnvoltorio implements ITenistaRepository {
+        private final ITenistaRepository delegate;
+
+        TenistaRepositoryEnvoltorio(ITenistaRepository delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override public List<Tenista1> findAll() { return delegate.findAll(); }
+        @Override public Optional<Tenista1> findById(Long id) { return delegate.findById(id); }
+        @Override public Tenista1 save(Tenista1 tenista) { return delegate.save(tenista); }
+        @Override public List<Tenista1> saveAll(Collection<Tenista1> tenistas) { return delegate.saveAll(tenistas); }
+        @Override public Tenista1 update(Tenista1 tenista) { return delegate.update(tenista); }
+        @Override public List<Tenista1> updateAll(Collection<Tenista1> tenistas) { return delegate.updateAll(tenistas); }
+        @Override public boolean deleteById(Long id) { return delegate.deleteById(id); }
+        @Override public void deleteAll() { delegate.deleteAll(); }
+        @Override public List<Tenista1> upsertAll(Collection<Tenista1> tenistas) { return delegate.upsertAll(tenistas); }
+        @Override public int deleteAllById(Collection<Long> ids) { return delegate.deleteAllById(ids); }
+        @Override public List<Tenista1> findByPais(String pais) { return delegate.findByPais(pais); }
+        @Override public List<Tenista1> findByMano(Mano mano) { return delegate.findByMano(mano); }
+        @Override public List<Tenista1> findByPuntosGreaterThan(int puntos) { return delegate.findByPuntosGreaterThan(puntos); }
+        @Override public long count() { return delegate.count(); }
+        @Override public List<Tenista1> findPageAfterId(long ultimoId, int limite) { return delegate.findPageAfterId(ultimoId, limite); }
+        @Override public List<Tenista1> findPageByPuntos(int ultimosPuntos, long ultimoId, int limite) { return delegate.findPageByPuntos(ultimosPuntos, ultimoId, limite); }
+        @Override public List<CambioTenista> findCambiosDesde(long secuencia, int limite) { return delegate.findCambiosDesde(secuencia, limite); }
+        @Override public Stream<Tenista1> streamAll() { return delegate.streamAll(); }
+        @Override public Stream<Tenista1> streamByPais(String pais) { return delegate.streamByPais(pais); }
+        @Override public Stream<Tenista1> streamByMano(Mano mano) { return delegate.streamByMano(mano); }
+        @Override public Stream<Tenista1> streamByPuntosGreaterThan(int puntos) { return delegate.streamByPuntosGreaterThan(puntos); }
+        @Override public void close() { }
+    }
+}
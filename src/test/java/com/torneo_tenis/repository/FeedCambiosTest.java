@@ -0,0 +1,170 @@
+package com.torneo_tenis.repository;
+
+import com.torneo_tenis.model.CambioTenista;
+import com.torneo_tenis.model.Tenista1;
+import com.torneo_tenis.model.TipoCambio;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import static com.torneo_tenis.repository.BaseDatosPrueba.tenista;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests del registro de cambios y su feed
+ */
+public class FeedCambiosTest {
+
+    private BaseDatosPrueba baseDatos;
+    private TenistaRepository repository;
+
+    @BeforeEach
+    public void setUp() {
+        baseDatos = new BaseDatosPrueba("feed_cambios");
+        repository = baseDatos.getRepository();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        baseDatos.close();
+    }
+
+    private static List<TipoCambio> tipos(List<CambioTenista> cambios) {
+        return cambios.stream().map(CambioTenista::tipo).collect(Collectors.toList());
+    }
+
+    @Test
+    public void testCapturaTodasLasEscrituras() {
+        long inicio = repository.getUltimaSecuenciaCambios();
+        Tenista1 a = repository.save(tenista("Ana", 100));
+        Tenista1 b = repository.saveAll(List.of(tenista("Bea", 200))).get(0);
+        a.setPuntos(150);
+        repository.update(a);
+        repository.upsertAll(List.of(tenista("Bea", 250), tenista("Carla", 300)));
+        repository.deleteById(b.getId());
+
+        List<CambioTenista> cambios = repository.findCambiosDesde(inicio, 100);
+        assertEquals(List.of(TipoCambio.INSERT, TipoCambio.INSERT, TipoCambio.UPDATE,
+                             TipoCambio.UPDATE, TipoCambio.INSERT, TipoCambio.DELETE), tipos(cambios));
+        for (int i = 1; i < cambios.size(); i++) {
+            assertTrue(cambios.get(i).secuencia() > cambios.get(i - 1).secuencia());
+        }
+        // Cada evento conserva la fila tal como quedó, aunque después cambie o se borre
+        assertEquals(100, cambios.get(0).tenista().getPuntos());
+        assertEquals(150, cambios.get(2).tenista().getPuntos());
+        assertEquals(200, cambios.get(1).tenista().getPuntos());
+        assertEquals(250, cambios.get(3).tenista().getPuntos());
+        assertEquals(b.getId(), cambios.get(5).tenistaId());
+        assertEquals("Bea", cambios.get(5).tenista().getNombre());
+    }
+
+    @Test
+    public void testFeedPorLotesYReanudacion() {
+        for (int i = 0; i < 5; i++) {
+            repository.save(tenista("Jugador " + i, i));
+        }
+
+        FeedCambios feed = new FeedCambios(repository, 0, 2);
+        List<Integer> tamanios = new ArrayList<>();
+        assertEquals(5, feed.procesarPendientes(lote -> tamanios.add(lote.size())));
+        assertEquals(List.of(2, 2, 1), tamanios);
+        assertTrue(feed.siguienteLote().isEmpty());
+
+        long posicion = feed.getUltimaSecuencia();
+        repository.deleteAll();
+        FeedCambios reanudado = new FeedCambios(repository, posicion, 100);
+        List<CambioTenista> vaciado = reanudado.siguienteLote();
+        assertEquals(List.of(TipoCambio.DELETE_ALL), tipos(vaciado));
+        assertNull(vaciado.get(0).tenista());
+
+        assertEquals(5, repository.purgarCambiosHasta(posicion));
+        assertEquals(1, repository.findCambiosDesde(0, 100).size());
+    }
+
+    @Test
+    public void testEscritoresConcurrentesNoDejanHuecos() throws Exception {
+        int hilos = 4;
+        int porHilo = 50;
+        List<CambioTenista> recibidos = new CopyOnWriteArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(hilos);
+        try (FeedCambios feed = new FeedCambios(repository, repository.getUltimaSecuenciaCambios(), 7)) {
+            feed.escuchar(recibidos::addAll, 1);
+            List<Future<?>> futuros = new ArrayList<>();
+            for (int h = 0; h < hilos; h++) {
+                int hilo = h;
+                futuros.add(executor.submit(() -> {
+                    for (int i = 0; i < porHilo; i++) {
+                        if (i % 2 == 0) {
+                            repository.save(tenista("Jugador " + hilo + "-" + i, i));
+                        } else {
+                            repository.saveAll(List.of(tenista("Lote " + hilo + "-" + i, i)));
+                        }
+                    }
+                }));
+            }
+            for (Future<?> futuro : futuros) {
+                futuro.get();
+            }
+            long limite = System.currentTimeMillis() + 5_000;
+            while (recibidos.size() < hilos * porHilo && System.currentTimeMillis() < limite) {
+                Thread.sleep(10);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // El consumidor, leyendo mientras se escribía, no se salta ningún evento
+        assertEquals(hilos * porHilo, recibidos.size());
+        assertEquals(hilos * porHilo, recibidos.stream().map(CambioTenista::tenistaId).distinct().count());
+    }
+
+    @Test
+    public void testTransaccionLentaNoQuedaDetrasDeLaPosicionLeida() throws Exception {
+        long inicio = repository.getUltimaSecuenciaCambios();
+        try (Connection lenta = baseDatos.getPool().getConnection();
+             PreparedStatement stmt = lenta.prepareStatement(
+                 "INSERT INTO tenistas (id, nombre, pais, altura, peso, puntos, mano, fecha_nacimiento) "
+                 + "VALUES (NEXT VALUE FOR seq_tenistas, 'Lenta', 'Pais', 180, 80, 10, 'DERECHA', DATE '1990-01-01')")) {
+            // Se inserta antes, pero se confirma después que el save
+            lenta.setAutoCommit(false);
+            stmt.executeUpdate();
+            repository.save(tenista("Rapida", 20));
+
+            FeedCambios feed = new FeedCambios(repository, inicio, 100);
+            List<CambioTenista> primero = feed.siguienteLote();
+            assertEquals(1, primero.size());
+            assertEquals("Rapida", primero.get(0).tenista().getNombre());
+
+            repository.confirmar(lenta);
+            List<CambioTenista> segundo = feed.siguienteLote();
+            assertEquals(1, segundo.size());
+            assertEquals("Lenta", segundo.get(0).tenista().getNombre());
+            assertTrue(segundo.get(0).secuencia() > primero.get(0).secuencia());
+        }
+    }
+
+    @Test
+    public void testEscuchaEnSegundoPlano() throws Exception {
+        List<CambioTenista> recibidos = new CopyOnWriteArrayList<>();
+        try (FeedCambios feed = new FeedCambios(repository, repository.getUltimaSecuenciaCambios(), 10)) {
+            feed.escuchar(recibidos::addAll, 10);
+            repository.save(tenista("Ana", 100));
+            long limite = System.currentTimeMillis() + 5_000;
+            while (recibidos.isEmpty() && System.currentTimeMillis() < limite) {
+                Thread.sleep(10);
+            }
+        }
+        assertEquals(1, recibidos.size());
+        assertEquals("Ana", recibidos.get(0).tenista().getNombre());
+    }
+}
@@ -0,0 +1,97 @@
+package com.torneo_tenis.repository;
+
+import com.torneo_tenis.model.Mano;
+import com.torneo_tenis.model.Tenista1;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests de la importación incremental con upsertAll
+ */
+public class ImportacionIncrementalTest {
+
+    private BaseDatosPrueba baseDatos;
+    private TenistaRepository repository;
+
+    @BeforeEach
+    public void setUp() {
+        baseDatos = new BaseDatosPrueba("importacion");
+        repository = baseDatos.getRepository();
+        repository.setBatchSize(2);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        baseDatos.close();
+    }
+
+    // La clave natural es (nombre, fecha_nacimiento): basta con variar el año
+    private static Tenista1 tenista(String nombre, int anio, int puntos) {
+        return BaseDatosPrueba.tenista(0L, nombre, "España", puntos, Mano.DERECHA, LocalDate.of(anio, 1, 1));
+    }
+
+    private ImportacionIncremental.Resultado importar(List<Tenista1> tenistas) {
+        ImportacionIncremental importacion = new ImportacionIncremental(repository, 2);
+        importacion.procesarTodos(tenistas);
+        return importacion.terminar(true);
+    }
+
+    private Map<String, Tenista1> porNombre() {
+        return repository.findAll().stream().collect(Collectors.toMap(Tenista1::getNombre, Function.identity()));
+    }
+
+    @Test
+    public void testFusionConservaIdsYCuentaCambios() {
+        ImportacionIncremental.Resultado primera = importar(List.of(
+                tenista("Ana", 1995, 100), tenista("Bea", 1996, 200), tenista("Carla", 1997, 300)));
+        assertEquals(new ImportacionIncremental.Resultado(3, 0, 0, 0), primera);
+        Map<String, Tenista1> antes = porNombre();
+
+        ImportacionIncremental.Resultado segunda = importar(List.of(
+                tenista("Ana", 1995, 100), tenista("Bea", 1996, 250), tenista("Dora", 1998, 400)));
+        assertEquals(new ImportacionIncremental.Resultado(1, 1, 1, 1), segunda);
+
+        Map<String, Tenista1> despues = porNombre();
+        assertEquals(List.of("Ana", "Bea", "Dora"), despues.keySet().stream().sorted().toList());
+        assertEquals(antes.get("Ana").getId(), despues.get("Ana").getId());
+        assertEquals(antes.get("Bea").getId(), despues.get("Bea").getId());
+        assertEquals(250, despues.get("Bea").getPuntos());
+        assertEquals(antes.get("Bea").getCreated_at(), despues.get("Bea").getCreated_at());
+    }
+
+    @Test
+    public void testMismaClaveConOtraFechaEsOtroTenista() {
+        importar(List.of(tenista("Ana", 1995, 100)));
+        ImportacionIncremental.Resultado resultado = importar(List.of(
+                tenista("Ana", 1995, 100), tenista("Ana", 2000, 100), tenista("Ana", 2000, 150)));
+
+        assertEquals(new ImportacionIncremental.Resultado(1, 1, 1, 0), resultado);
+        assertEquals(2, repository.count());
+        assertEquals(150, repository.findAll().stream()
+                .filter(t -> t.getFecha_nacimiento().getYear() == 2000).findFirst().orElseThrow().getPuntos());
+    }
+
+    @Test
+    public void testUpsertAsignaIdsDeFilasExistentesYNuevas() {
+        Tenista1 existente = repository.save(tenista("Ana", 1995, 100));
+        Tenista1 cambiado = tenista("Ana", 1995, 500);
+        Tenista1 nuevo = tenista("Bea", 1996, 200);
+
+        repository.upsertAll(List.of(cambiado, nuevo));
+        assertEquals(existente.getId(), cambiado.getId());
+        assertNotEquals(existente.getId(), nuevo.getId());
+        assertEquals(500, repository.findById(existente.getId()).orElseThrow().getPuntos());
+
+        assertEquals(2, repository.deleteAllById(List.of(cambiado.getId(), nuevo.getId(), -1L)));
+        assertEquals(0, repository.count());
+    }
+}
@@ -0,0 +1,189 @@
+package com.torneo_tenis.repository;
+
+import com.torneo_tenis.database.ConnectionPool;
+import com.torneo_tenis.model.CambioTenista;
+import com.torneo_tenis.model.Mano;
+import com.torneo_tenis.model.Tenista1;
+import com.torneo_tenis.model.TipoCambio;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static com.torneo_tenis.repository.BaseDatosPrueba.tenista;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests del repositorio JDBC sobre H2 en memoria
+ */
+public class TenistaRepositoryTest {
+
+    private BaseDatosPrueba baseDatos;
+    private ConnectionPool pool;
+    private TenistaRepository repository;
+
+    @BeforeEach
+    public void setUp() {
+        baseDatos = new BaseDatosPrueba("tenista_repo");
+        repository = baseDatos.getRepository();
+        pool = baseDatos.getPool();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        baseDatos.close();
+    }
+
+    @Test
+    public void testSaveAllAsignaIds() {
+        repository.setBatchSize(3);
+        List<Tenista1> tenistas = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            tenistas.add(tenista("Jugador " + (char) ('a' + i), "Pais", i, Mano.DERECHA));
+        }
+
+        List<Tenista1> guardados = repository.saveAll(tenistas);
+
+        assertEquals(10, guardados.size());
+        assertEquals(10, repository.count());
+        for (Tenista1 guardado : guardados) {
+            assertEquals(guardado.getNombre(), repository.findById(guardado.getId()).orElseThrow().getNombre());
+        }
+    }
+
+    @Test
+    public void testClaveNaturalUnica() {
+        repository.save(tenista("Carlos", "España", 8700, Mano.DERECHA));
+        assertThrows(RuntimeException.class, () -> repository.save(tenista("Carlos", "Italia", 100, Mano.DERECHA)));
+        assertEquals(1, repository.count());
+    }
+
+    @Test
+    public void testMigracionEliminaDuplicadosDeLaClaveNatural() throws Exception {
+        Tenista1 original = repository.save(tenista("Carlos", "España", 8700, Mano.DERECHA));
+        // Base de datos anterior a la clave única, con un duplicado
+        try (Connection connection = pool.getConnection();
+             Statement stmt = connection.createStatement()) {
+            stmt.execute("DROP INDEX uk_tenistas_nombre_fecha");
+            stmt.execute("CREATE INDEX idx_tenistas_nombre_fecha ON tenistas (nombre, fecha_nacimiento)");
+            stmt.execute("DELETE FROM schema_version WHERE version >= 20");
+        }
+        Tenista1 duplicado = repository.save(tenista("Carlos", "Italia", 100, Mano.DERECHA));
+        long secuencia = repository.getUltimaSecuenciaCambios();
+
+        TenistaRepository migrado = baseDatos.nuevoRepositorio();
+        assertEquals(List.of(original.getId()), migrado.findAll().stream().map(Tenista1::getId).toList());
+        assertThrows(RuntimeException.class, () -> migrado.save(tenista("Carlos", "Italia", 100, Mano.DERECHA)));
+
+        // El borrado llega al registro de cambios como cualquier otra escritura
+        List<CambioTenista> cambios = migrado.findCambiosDesde(secuencia, 10);
+        assertEquals(1, cambios.size());
+        assertEquals(TipoCambio.DELETE, cambios.get(0).tipo());
+        assertEquals(duplicado.getId(), cambios.get(0).tenistaId());
+    }
+
+    @Test
+    public void testFindersUsanIndices() {
+        Map<String, String> planes = repository.explainFinders();
+
+        assertTrue(planes.get("findByPais").toUpperCase().contains("IDX_TENISTAS_PAIS_NOMBRE"), planes.get("findByPais"));
+        assertTrue(planes.get("findByMano").toUpperCase().contains("IDX_TENISTAS_MANO_NOMBRE"), planes.get("findByMano"));
+        assertTrue(planes.get("findByPuntosGreaterThan").toUpperCase().contains("IDX_TENISTAS_PUNTOS_ID"),
+                   planes.get("findByPuntosGreaterThan"));
+    }
+
+    @Test
+    public void testSinIndiceRedundanteDePuntos() throws Exception {
+        try (Connection connection = pool.getConnection();
+             Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT INDEX_NAME FROM INFORMATION_SCHEMA.INDEXES "
+                                              + "WHERE TABLE_NAME = 'TENISTAS' AND INDEX_NAME LIKE 'IDX_TENISTAS_PUNTOS%'")) {
+            List<String> indices = new ArrayList<>();
+            while (rs.next()) {
+                indices.add(rs.getString(1));
+            }
+            assertEquals(List.of("IDX_TENISTAS_PUNTOS_ID"), indices);
+        }
+    }
+
+    @Test
+    public void testFindersConIndices() {
+        repository.saveAll(List.of(
+            tenista("Carlos", "España", 8700, Mano.DERECHA),
+            tenista("Alberto", "España", 3000, Mano.IZQUIERDA),
+            tenista("Novak", "Serbia", 12000, Mano.DERECHA)
+        ));
+
+        List<Tenista1> espanoles = repository.findByPais("España");
+        assertEquals(List.of("Alberto", "Carlos"), espanoles.stream().map(Tenista1::getNombre).toList());
+
+        List<Tenista1> ranking = repository.findByPuntosGreaterThan(5000);
+        assertEquals(List.of("Novak", "Carlos"), ranking.stream().map(Tenista1::getNombre).toList());
+    }
+
+    @Test
+    public void testPaginacionPorClave() {
+        List<Tenista1> tenistas = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            tenistas.add(tenista("Jugador " + i, "Pais", (i % 5) * 100, Mano.DERECHA));
+        }
+        repository.saveAll(tenistas);
+
+        List<Long> porId = new ArrayList<>();
+        List<Tenista1> pagina = repository.findPageAfterId(0, 10);
+        while (!pagina.isEmpty()) {
+            pagina.forEach(t -> porId.add(t.getId()));
+            pagina = repository.findPageAfterId(pagina.get(pagina.size() - 1).getId(), 10);
+        }
+        assertEquals(repository.findAll().stream().map(Tenista1::getId).toList(), porId);
+
+        List<Tenista1> porPuntos = new ArrayList<>();
+        pagina = repository.findPageByPuntos(Integer.MAX_VALUE, 0, 7);
+        while (!pagina.isEmpty()) {
+            porPuntos.addAll(pagina);
+            Tenista1 ultimo = pagina.get(pagina.size() - 1);
+            pagina = repository.findPageByPuntos(ultimo.getPuntos(), ultimo.getId(), 7);
+        }
+        assertEquals(25, porPuntos.size());
+        for (int i = 1; i < porPuntos.size(); i++) {
+            Tenista1 anterior = porPuntos.get(i - 1);
+            Tenista1 actual = porPuntos.get(i);
+            assertTrue(anterior.getPuntos() > actual.getPuntos() ||
+                       (anterior.getPuntos() == actual.getPuntos() && anterior.getId() < actual.getId()));
+        }
+    }
+
+    @Test
+    public void testStreamLiberaLaConexion() {
+        List<Tenista1> tenistas = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            tenistas.add(tenista("Jugador " + i, i % 2 == 0 ? "España" : "Serbia", i, Mano.DERECHA));
+        }
+        repository.saveAll(tenistas);
+        repository.setFetchSize(8);
+
+        try (Stream<Tenista1> stream = repository.streamAll()) {
+            assertEquals(50, stream.count());
+        }
+        assertEquals(0, pool.getActive());
+
+        // Cerrar el stream sin consumirlo entero también devuelve la conexión
+        try (Stream<Tenista1> stream = repository.streamByPais("España")) {
+            assertEquals(3, stream.limit(3).count());
+            assertEquals(1, pool.getActive());
+        }
+        assertEquals(0, pool.getActive());
+
+        try (Stream<Tenista1> stream = repository.streamByPuntosGreaterThan(44)) {
+            assertEquals(List.of(49, 48, 47, 46, 45), stream.map(Tenista1::getPuntos).toList());
+        }
+        assertEquals(0, pool.getActive());
+    }
+}
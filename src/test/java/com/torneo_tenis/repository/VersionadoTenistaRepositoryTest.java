@@ -0,0 +1,95 @@
+package com.torneo_tenis.repository;
+
+import com.torneo_tenis.analytics.IndiceRanking;
+import com.torneo_tenis.cache.ConcurrentTenistaCache;
+import com.torneo_tenis.model.Tenista1;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static com.torneo_tenis.repository.BaseDatosPrueba.tenista;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests de la versión de los datos sobre la cadena de decoradores
+ */
+public class VersionadoTenistaRepositoryTest {
+
+    private BaseDatosPrueba prueba;
+    private CountDownLatch escribiendoEnCache;
+    private CountDownLatch continuar;
+    private VersionadoTenistaRepository repository;
+
+    @BeforeEach
+    public void setUp() {
+        prueba = new BaseDatosPrueba("versionado_repo");
+        // Caché que, una vez armada, detiene la escritura justo antes de actualizarse
+        ConcurrentTenistaCache cache = new ConcurrentTenistaCache(100) {
+            @Override
+            public void put(Long id, Tenista1 tenista) {
+                if (continuar != null) {
+                    escribiendoEnCache.countDown();
+                    try {
+                        continuar.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                super.put(id, tenista);
+            }
+        };
+        RankingTenistaRepository ranking = new RankingTenistaRepository(prueba.getRepository(), new IndiceRanking());
+        repository = new VersionadoTenistaRepository(new CachedTenistaRepository(ranking, cache));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        prueba.close();
+    }
+
+    @Test
+    public void testCadaEscrituraAvanzaLaVersion() {
+        long inicial = repository.getVersion();
+        Tenista1 guardado = repository.save(tenista("Ana", 100));
+        repository.saveAll(List.of(tenista("Bea", 200)));
+        repository.deleteById(guardado.getId());
+        repository.deleteAll();
+        assertEquals(inicial + 4, repository.getVersion());
+    }
+
+    @Test
+    public void testEscrituraEnCursoNoAvanzaLaVersionAntesDeLaCache() throws Exception {
+        Tenista1 guardado = repository.save(tenista("Ana", 100));
+        Tenista1 cambiado = tenista(guardado.getId(), "Ana", "Pais", 500, guardado.getMano(), guardado.getFecha_nacimiento());
+
+        escribiendoEnCache = new CountDownLatch(1);
+        continuar = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            long antes = repository.getVersion();
+            Future<Tenista1> escritura = executor.submit(() -> repository.update(cambiado));
+            assertTrue(escribiendoEnCache.await(5, TimeUnit.SECONDS));
+
+            // Base de datos e índice ya cambiados, caché aún no: la versión no debe haber avanzado,
+            // o una lectura asociaría los puntos antiguos de la caché a la versión nueva
+            long version = repository.getVersion();
+            assertEquals(100, repository.findById(guardado.getId()).orElseThrow().getPuntos());
+            assertEquals(antes, version);
+
+            continuar.countDown();
+            escritura.get(5, TimeUnit.SECONDS);
+            assertTrue(repository.getVersion() > version);
+            assertEquals(500, repository.findById(guardado.getId()).orElseThrow().getPuntos());
+        } finally {
+            continuar.countDown();
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.torneo_tenis.repository;
+
+import com.torneo_tenis.model.Tenista1;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.torneo_tenis.repository.BaseDatosPrueba.tenista;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests del repositorio con escritura diferida
+ */
+public class WriteBehindTenistaRepositoryTest {
+
+    private BaseDatosPrueba prueba;
+    private TenistaRepository baseDatos;
+
+    @BeforeEach
+    public void setUp() {
+        prueba = new BaseDatosPrueba("write_behind");
+        baseDatos = prueba.getRepository();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        prueba.close();
+    }
+
+    private Tenista1 guardar(String nombre) {
+        return baseDatos.save(tenista(nombre, 0));
+    }
+
+    @Test
+    public void testActualizacionesAgrupadasYVolcadasAlCerrar() {
+        Tenista1 tenista = guardar("Jugador");
+        WriteBehindTenistaRepository repository = new WriteBehindTenistaRepository(baseDatos, 100, 60_000, 1000);
+
+        for (int puntos = 1; puntos <= 500; puntos++) {
+            Tenista1 copia = tenista.copy();
+            copia.setPuntos(puntos);
+            repository.update(copia);
+        }
+
+        // Pendiente en memoria pero visible para findById
+        assertEquals(1, repository.getPendientes());
+        assertEquals(500, repository.findById(tenista.getId()).orElseThrow().getPuntos());
+        assertEquals(499, repository.getAgrupadas());
+
+        repository.close();
+        assertEquals(1, repository.getEscritas());
+
+        // close() también cerró el repositorio delegado: se comprueba con otro sobre la misma base de datos
+        TenistaRepository comprobacion = prueba.nuevoRepositorio();
+        assertEquals(500, comprobacion.findById(tenista.getId()).orElseThrow().getPuntos());
+    }
+
+    @Test
+    public void testVolcadoPorTamanioEIntervalo() throws InterruptedException {
+        WriteBehindTenistaRepository repository = new WriteBehindTenistaRepository(baseDatos, 5, 100, 10);
+        try {
+            for (int i = 0; i < 12; i++) {
+                Tenista1 tenista = guardar("Jugador " + (char) ('a' + i));
+                tenista.setPuntos(1000 + i);
+                repository.update(tenista);
+            }
+
+            long limite = System.currentTimeMillis() + 5_000;
+            while (repository.getPendientes() > 0 && System.currentTimeMillis() < limite) {
+                Thread.sleep(20);
+            }
+
+            assertEquals(0, repository.getPendientes());
+            assertEquals(12, repository.findByPuntosGreaterThan(999).size());
+        } finally {
+            repository.close();
+        }
+    }
+
+    @Test
+    public void testFilaConDatosInvalidosSeDescartaSinPerderElLote() {
+        Tenista1 a = guardar("Jugador A");
+        Tenista1 b = guardar("Jugador B");
+        Tenista1 c = guardar("Jugador C");
+        WriteBehindTenistaRepository repository = new WriteBehindTenistaRepository(baseDatos, 100, 60_000, 1000);
+        try {
+            a.setPuntos(10);
+            b.setPais("X".repeat(150));
+            c.setPuntos(30);
+            repository.update(a);
+            repository.update(b);
+            repository.update(c);
+
+            // El lote falla por la fila de b; las demás se escriben una a una y b no vuelve a la cola
+            repository.flush();
+            assertEquals(0, repository.getPendientes());
+            assertEquals(2, repository.getEscritas());
+            assertEquals(1, repository.getDescartadas());
+            assertEquals(10, baseDatos.findById(a.getId()).orElseThrow().getPuntos());
+            assertEquals(30, baseDatos.findById(c.getId()).orElseThrow().getPuntos());
+            assertEquals("Pais", baseDatos.findById(b.getId()).orElseThrow().getPais());
+        } finally {
+            repository.close();
+        }
+    }
+
+    @Test
+    public void testErrorTransitorioReencolaSinSuperarLaCapacidad() {
+        AtomicBoolean caida = new AtomicBoolean(true);
+        AtomicReference<WriteBehindTenistaRepository> diferido = new AtomicReference<>();
+        List<Tenista1> nuevas = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            nuevas.add(guardar("Nuevo " + i));
+        }
+        // Base de datos caída; mientras falla el volcado, otros hilos llenan la cola
+        TenistaRepository inestable = new TenistaRepository(prueba.getPool()) {
+            @Override
+            public List<Tenista1> updateAll(Collection<Tenista1> tenistas) {
+                if (caida.get()) {
+                    nuevas.forEach(diferido.get()::update);
+                    throw new RuntimeException("Base de datos no disponible");
+                }
+                return super.updateAll(tenistas);
+            }
+
+            @Override
+            public Tenista1 update(Tenista1 tenista) {
+                if (caida.get()) {
+                    throw new RuntimeException("Base de datos no disponible");
+                }
+                return super.update(tenista);
+            }
+        };
+        WriteBehindTenistaRepository repository = new WriteBehindTenistaRepository(inestable, 5, 60_000, 5);
+        diferido.set(repository);
+        try {
+            Tenista1 a = guardar("Jugador A");
+            Tenista1 b = guardar("Jugador B");
+            repository.update(a);
+            repository.update(b);
+
+            // Tras el fallo vuelven a la cola las que caben: las 4 nuevas y solo una del lote
+            assertThrows(RuntimeException.class, repository::flush);
+            assertEquals(5, repository.getPendientes());
+            assertEquals(1, repository.getDescartadas());
+            assertEquals(0, repository.getEscritas());
+
+            caida.set(false);
+            repository.flush();
+            assertEquals(0, repository.getPendientes());
+            assertEquals(5, repository.getEscritas());
+        } finally {
+            repository.close();
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.torneo_tenis.server;
+
+import com.torneo_tenis.metrics.Histograma;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Prueba de carga del servidor de consultas: varios clientes repiten en bucle cerrado
+ * las rutas indicadas durante un tiempo fijo y al final se muestran peticiones por
+ * segundo y latencias (p50, p99) por ruta. Con condicional=true cada cliente reenvía
+ * el último ETag recibido, para medir el camino de las respuestas 304.
+ *
+ * Ejecución: arrancar la aplicación con server.enabled=true, mvn test-compile y después
+ * java -cp target/classes:target/test-classes:&lt;dependencias&gt; com.torneo_tenis.server.PruebaCargaServidor
+ *      [url_base] [clientes] [segundos] [condicional] [ruta...]
+ */
+public class PruebaCargaServidor {
+    private static final List<String> RUTAS_POR_DEFECTO = List.of(
+            "/tenistas/{lider}", "/tenistas?pais=Espa%C3%B1a", "/tenistas?mano=IZQUIERDA", "/ranking?n=10", "/estadisticas");
+    private static final int SEGUNDOS_CALENTAMIENTO = 2;
+
+    public static void main(String[] args) throws Exception {
+        String base = args.length > 0 ? args[0] : "http://localhost:8080";
+        int clientes = args.length > 1 ? Integer.parseInt(args[1]) : 8;
+        int segundos = args.length > 2 ? Integer.parseInt(args[2]) : 10;
+        boolean condicional = args.length > 3 && Boolean.parseBoolean(args[3]);
+        List<String> rutas = args.length > 4 ? List.of(args).subList(4, args.length) : RUTAS_POR_DEFECTO;
+
+        HttpClient cliente = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        rutas = resolverLider(cliente, base, rutas);
+        System.out.printf("Calentando %d s...%n", SEGUNDOS_CALENTAMIENTO);
+        ejecutar(cliente, base, rutas, clientes, SEGUNDOS_CALENTAMIENTO, condicional);
+
+        Resultado resultado = ejecutar(cliente, base, rutas, clientes, segundos, condicional);
+        System.out.printf("%d clientes, %d s, condicional=%s%n", clientes, segundos, condicional);
+        System.out.printf("%-32s %10s %10s %10s %10s %8s%n", "Ruta", "peticiones", "req/s", "p50 ms", "p99 ms", "errores");
+        long total = 0;
+        for (String ruta : rutas) {
+            Histograma latencias = resultado.latencias().get(ruta);
+            total += latencias.getCuenta();
+            System.out.printf("%-32s %10d %10.1f %10.3f %10.3f %8d%n", ruta, latencias.getCuenta(),
+                              latencias.getCuenta() / resultado.segundos(),
+                              latencias.percentil(50) / 1e6, latencias.percentil(99) / 1e6,
+                              resultado.errores().get(ruta).get());
+        }
+        System.out.printf("%-32s %10d %10.1f%n", "TOTAL", total, total / resultado.segundos());
+    }
+
+    /**
+     * Sustituye {lider} por el ID del primero del ranking, que existe seguro
+     */
+    static List<String> resolverLider(HttpClient cliente, String base, List<String> rutas) throws Exception {
+        String cuerpo = cliente.send(HttpRequest.newBuilder(URI.create(base + "/ranking?n=1")).build(),
+                                     HttpResponse.BodyHandlers.ofString()).body();
+        Matcher id = Pattern.compile("\"id\": (\\d+)").matcher(cuerpo);
+        String lider = id.find() ? id.group(1) : "1";
+        return rutas.stream().map(ruta -> ruta.replace("{lider}", lider)).toList();
+    }
+
+    record Resultado(Map<String, Histograma> latencias, Map<String, AtomicLong> errores, double segundos) { }
+
+    /**
+     * Cada cliente recorre las rutas en orden hasta agotar el tiempo; las latencias se
+     * registran en nanosegundos, incluida la lectura completa del cuerpo
+     */
+    static Resultado ejecutar(HttpClient cliente, String base, List<String> rutas, int clientes, int segundos,
+                              boolean condicional) throws InterruptedException {
+        Map<String, Histograma> latencias = new ConcurrentHashMap<>();
+        Map<String, AtomicLong> errores = new ConcurrentHashMap<>();
+        for (String ruta : rutas) {
+            latencias.put(ruta, new Histograma());
+            errores.put(ruta, new AtomicLong());
+        }
+
+        long inicio = System.nanoTime();
+        long fin = inicio + segundos * 1_000_000_000L;
+        List<Thread> hilos = new ArrayList<>(clientes);
+        for (int c = 0; c < clientes; c++) {
+            int desplazamiento = c;
+            Thread hilo = new Thread(() -> {
+                Map<String, String> etags = new ConcurrentHashMap<>();
+                for (int i = desplazamiento; System.nanoTime() < fin; i++) {
+                    String ruta = rutas.get(i % rutas.size());
+                    HttpRequest.Builder peticion = HttpRequest.newBuilder(URI.create(base + ruta));
+                    String etag = etags.get(ruta);
+                    if (condicional && etag != null) {
+                        peticion.header("If-None-Match", etag);
+                    }
+                    long antes = System.nanoTime();
+                    try {
+                        HttpResponse<byte[]> respuesta = cliente.send(peticion.build(), HttpResponse.BodyHandlers.ofByteArray());
+                        latencias.get(ruta).registrar(System.nanoTime() - antes);
+                        if (respuesta.statusCode() != 200 && respuesta.statusCode() != 304) {
+                            errores.get(ruta).incrementAndGet();
+                        }
+                        respuesta.headers().firstValue("ETag").ifPresent(e -> etags.put(ruta, e));
+                    } catch (Exception e) {
+                        if (errores.get(ruta).incrementAndGet() == 1) {
+                            System.err.println("Primer error en " + ruta + ": " + e);
+                        }
+                    }
+                }
+            }, "carga-" + c);
+            hilos.add(hilo);
+            hilo.start();
+        }
+        for (Thread hilo : hilos) {
+            hilo.join();
+        }
+        return new Resultado(latencias, errores, (System.nanoTime() - inicio) / 1e9);
+    }
+}
@@ -0,0 +1,184 @@
+package com.torneo_tenis.server;
+
+import com.torneo_tenis.analytics.IndiceRanking;
+import com.torneo_tenis.model.Mano;
+import com.torneo_tenis.model.Tenista1;
+import com.torneo_tenis.repository.BaseDatosPrueba;
+import com.torneo_tenis.repository.RankingTenistaRepository;
+import com.torneo_tenis.repository.TenistaRepository;
+import com.torneo_tenis.repository.VersionadoTenistaRepository;
+import com.torneo_tenis.repository.WriteBehindTenistaRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+
+import static com.torneo_tenis.repository.BaseDatosPrueba.tenista;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests del servidor HTTP de consultas
+ */
+public class ServidorConsultasTest {
+
+    private BaseDatosPrueba prueba;
+    private TenistaRepository baseDatos;
+    private RankingTenistaRepository ranking;
+    private VersionadoTenistaRepository repository;
+    private ServidorConsultas servidor;
+    private HttpClient cliente;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        prueba = new BaseDatosPrueba("servidor_tenistas", 3, 200);
+        baseDatos = prueba.getRepository();
+        ranking = new RankingTenistaRepository(baseDatos, new IndiceRanking());
+        repository = new VersionadoTenistaRepository(ranking);
+        repository.save(tenista("Rafael Nadal", "España", 9000, Mano.IZQUIERDA));
+        repository.save(tenista("Carlos Alcaraz", "España", 8000, Mano.DERECHA));
+        repository.save(tenista("Novak Djokovic", "Serbia", 9500, Mano.DERECHA));
+
+        servidor = new ServidorConsultas(repository, ranking.getIndice(),
+                                         repository::getVersion, 0, 2);
+        servidor.iniciar();
+        cliente = HttpClient.newHttpClient();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        servidor.close();
+        prueba.close();
+    }
+
+    private HttpResponse<String> get(String ruta, String... cabeceras) throws Exception {
+        HttpRequest.Builder peticion = HttpRequest.newBuilder(URI.create("http://localhost:" + servidor.getPuerto() + ruta));
+        if (cabeceras.length > 0) {
+            peticion.headers(cabeceras);
+        }
+        return cliente.send(peticion.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    @Test
+    public void testConsultasDeTenistas() throws Exception {
+        long id = repository.findByPais("Serbia").get(0).getId();
+
+        HttpResponse<String> porId = get("/tenistas/" + id);
+        assertEquals(200, porId.statusCode());
+        assertTrue(porId.body().contains("\"nombre\": \"Novak Djokovic\""));
+        assertEquals("application/json; charset=utf-8", porId.headers().firstValue("Content-Type").orElse(null));
+
+        HttpResponse<String> porPais = get("/tenistas?pais=" + URLEncoder.encode("España", StandardCharsets.UTF_8));
+        assertEquals(200, porPais.statusCode());
+        assertTrue(porPais.body().contains("Rafael Nadal"));
+        assertTrue(porPais.body().contains("Carlos Alcaraz"));
+        assertFalse(porPais.body().contains("Djokovic"));
+
+        HttpResponse<String> porMano = get("/tenistas?mano=izquierda");
+        assertTrue(porMano.body().contains("Rafael Nadal"));
+        assertFalse(porMano.body().contains("Alcaraz"));
+    }
+
+    @Test
+    public void testListasEnStreamingDevuelvenLaConexion() throws Exception {
+        // El pool tiene 3 conexiones: si el stream no se cerrara, la cuarta petición fallaría
+        for (int i = 0; i < 10; i++) {
+            HttpResponse<String> porPais = get("/tenistas?pais=Serbia");
+            assertEquals(200, porPais.statusCode());
+            assertTrue(porPais.body().contains("Novak Djokovic"));
+            assertEquals(200, get("/tenistas?mano=DERECHA").statusCode());
+        }
+        assertEquals("{\"tenistas\":[]}", get("/tenistas?pais=Nadie").body().replaceAll("\\s", ""));
+    }
+
+    @Test
+    public void testRankingYEstadisticas() throws Exception {
+        String top = get("/ranking?n=2").body();
+        assertTrue(top.indexOf("Novak Djokovic") < top.indexOf("Rafael Nadal"));
+        assertFalse(top.contains("Alcaraz"));
+
+        String topEspana = get("/ranking?n=1&pais=" + URLEncoder.encode("España", StandardCharsets.UTF_8)).body();
+        assertTrue(topEspana.contains("Rafael Nadal"));
+        assertFalse(topEspana.contains("Alcaraz"));
+
+        HttpResponse<String> estadisticas = get("/estadisticas");
+        assertEquals(200, estadisticas.statusCode());
+        assertTrue(estadisticas.body().contains("\"total\": 3"));
+        assertTrue(estadisticas.body().contains("{ \"pais\": \"España\", \"tenistas\": 2, \"puntos\": 17000 }"));
+    }
+
+    @Test
+    public void testEtagYPeticionCondicional() throws Exception {
+        HttpResponse<String> primera = get("/ranking?n=3");
+        String etag = primera.headers().firstValue("ETag").orElseThrow();
+
+        HttpResponse<String> condicional = get("/ranking?n=3", "If-None-Match", etag);
+        assertEquals(304, condicional.statusCode());
+        assertTrue(condicional.body().isEmpty());
+
+        // Una escritura avanza la versión y cambia el ETag
+        repository.save(tenista("Jannik Sinner", "Italia", 9800, Mano.DERECHA));
+        HttpResponse<String> cambiada = get("/ranking?n=3", "If-None-Match", etag);
+        assertEquals(200, cambiada.statusCode());
+        assertNotEquals(etag, cambiada.headers().firstValue("ETag").orElseThrow());
+        assertTrue(cambiada.body().contains("Jannik Sinner"));
+        assertTrue(get("/estadisticas").body().contains("\"total\": 4"));
+    }
+
+    @Test
+    public void testEtagConEscrituraDiferida() throws Exception {
+        WriteBehindTenistaRepository diferido = new WriteBehindTenistaRepository(baseDatos, 100, 60_000, 1000);
+        RankingTenistaRepository indexado = new RankingTenistaRepository(diferido, new IndiceRanking());
+        VersionadoTenistaRepository versionado = new VersionadoTenistaRepository(indexado);
+        try (ServidorConsultas otro = new ServidorConsultas(versionado, indexado.getIndice(), versionado::getVersion, 0, 1)) {
+            otro.iniciar();
+            URI uri = URI.create("http://localhost:" + otro.getPuerto() + "/ranking?n=1");
+            String etag = cliente.send(HttpRequest.newBuilder(uri).build(), HttpResponse.BodyHandlers.ofString())
+                    .headers().firstValue("ETag").orElseThrow();
+
+            // La actualización queda en memoria sin llegar a la base de datos, pero el ETag cambia igual
+            long secuencia = baseDatos.getUltimaSecuenciaCambios();
+            Tenista1 nadal = versionado.findByPais("España").stream()
+                    .filter(t -> t.getNombre().equals("Rafael Nadal")).findFirst().orElseThrow();
+            nadal.setPuntos(9900);
+            versionado.update(nadal);
+            assertEquals(secuencia, baseDatos.getUltimaSecuenciaCambios());
+
+            HttpResponse<String> cambiada = cliente.send(HttpRequest.newBuilder(uri).header("If-None-Match", etag).build(),
+                                                         HttpResponse.BodyHandlers.ofString());
+            assertEquals(200, cambiada.statusCode());
+            assertTrue(cambiada.body().contains("Rafael Nadal"));
+        } finally {
+            diferido.close();
+        }
+    }
+
+    @Test
+    public void testErrores() throws Exception {
+        assertEquals(404, get("/tenistas/999999").statusCode());
+        assertEquals(400, get("/tenistas/abc").statusCode());
+        assertEquals(400, get("/tenistas?mano=AMBAS").statusCode());
+        assertEquals(400, get("/ranking?n=0").statusCode());
+
+        HttpResponse<String> post = cliente.send(HttpRequest.newBuilder(
+                        URI.create("http://localhost:" + servidor.getPuerto() + "/tenistas"))
+                .POST(HttpRequest.BodyPublishers.noBody()).build(), HttpResponse.BodyHandlers.ofString());
+        assertEquals(405, post.statusCode());
+        assertEquals("GET", post.headers().firstValue("Allow").orElse(null));
+    }
+
+    @Test
+    public void testCoincideEtag() {
+        assertTrue(ServidorConsultas.coincideEtag("\"a-1\"", "\"a-1\""));
+        assertTrue(ServidorConsultas.coincideEtag("\"x\", W/\"a-1\"", "\"a-1\""));
+        assertTrue(ServidorConsultas.coincideEtag("*", "\"a-1\""));
+        assertFalse(ServidorConsultas.coincideEtag("\"a-2\"", "\"a-1\""));
+        assertFalse(ServidorConsultas.coincideEtag(null, "\"a-1\""));
+    }
+}
@@ -0,0 +1,92 @@
+package com.torneo_tenis.validator;
+
+import com.torneo_tenis.model.Mano;
+import com.torneo_tenis.model.Tenista1;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests de las reglas de validación configurables y su recarga
+ */
+public class ReglasValidacionTest {
+
+    @TempDir
+    Path directorio;
+
+    @AfterEach
+    public void restaurarReglas() {
+        TenistaValidator.setReglas(ReglasValidacion.porDefecto());
+    }
+
+    private static Tenista1 tenista(int altura) {
+        LocalDateTime ahora = LocalDateTime.now();
+        return new Tenista1(0L, "Rafael Nadal", "España", altura, 80, 1000, Mano.DERECHA,
+                            LocalDate.now().minusYears(25), ahora, ahora);
+    }
+
+    @Test
+    public void testReglasDesdePropiedades() {
+        Properties props = new Properties();
+        props.setProperty("altura.max", "190");
+        props.setProperty("nombre.caracteres", "a-zA-Z\\s");
+        props.setProperty("mano.alias.IZQUIERDA", "zurdo, lefty");
+        ReglasValidacion reglas = ReglasValidacion.desde(props);
+        TenistaValidator.setReglas(reglas);
+
+        assertEquals(List.of("La altura debe ser menor a 190 cm"), TenistaValidator.validar(tenista(200)));
+        assertTrue(TenistaValidator.validar(tenista(185)).isEmpty());
+        assertEquals(1, TenistaValidator.validarNombre("Gaël Monfils").size());
+        assertEquals(Mano.IZQUIERDA, TenistaValidator.validarYConvertirMano(" Lefty "));
+        assertThrows(IllegalArgumentException.class, () -> TenistaValidator.validarYConvertirMano("LEFT"));
+        // Las claves ausentes conservan su valor predefinido
+        assertEquals(Mano.DERECHA, TenistaValidator.validarYConvertirMano("diestro"));
+    }
+
+    @Test
+    public void testConfiguracionInvalida() {
+        Properties props = new Properties();
+        props.setProperty("peso.min", "abc");
+        assertThrows(IllegalArgumentException.class, () -> ReglasValidacion.desde(props));
+
+        props.setProperty("peso.min", "200");
+        assertThrows(IllegalArgumentException.class, () -> ReglasValidacion.desde(props));
+
+        Properties repetidos = new Properties();
+        repetidos.setProperty("mano.alias.IZQUIERDA", "DIESTRO");
+        assertThrows(IllegalArgumentException.class, () -> ReglasValidacion.desde(repetidos));
+    }
+
+    @Test
+    public void testRecargaEnCaliente() throws Exception {
+        Path archivo = directorio.resolve("reglas.properties");
+        Files.writeString(archivo, "altura.max=190\n", StandardCharsets.UTF_8);
+
+        try (RecargaReglas recarga = new RecargaReglas(archivo, 0)) {
+            assertFalse(TenistaValidator.validar(tenista(200)).isEmpty());
+
+            Files.writeString(archivo, "altura.max=210\n", StandardCharsets.UTF_8);
+            Files.setLastModifiedTime(archivo, FileTime.fromMillis(System.currentTimeMillis() + 2_000));
+            assertTrue(recarga.comprobar());
+            assertTrue(TenistaValidator.validar(tenista(200)).isEmpty());
+            assertFalse(recarga.comprobar());
+
+            // Un archivo roto no sustituye a las reglas vigentes
+            Files.writeString(archivo, "altura.max=x\n", StandardCharsets.UTF_8);
+            Files.setLastModifiedTime(archivo, FileTime.fromMillis(System.currentTimeMillis() + 4_000));
+            assertFalse(recarga.comprobar());
+            assertTrue(TenistaValidator.validar(tenista(205)).isEmpty());
+        }
+    }
+}
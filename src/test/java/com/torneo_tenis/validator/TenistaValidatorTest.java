@@ -0,0 +1,67 @@
+package com.torneo_tenis.validator;
+
+import com.torneo_tenis.model.Mano;
+import com.torneo_tenis.model.Tenista1;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests del validador de tenistas
+ */
+public class TenistaValidatorTest {
+
+    private static final String PATRON_ORIGINAL = "^[a-zA-ZÀ-ÿ\\u00f1\\u00d1\\s'-]+$";
+
+    private static Tenista1 tenista(String nombre, int altura) {
+        LocalDateTime ahora = LocalDateTime.now();
+        return new Tenista1(0L, nombre, "España", altura, 80, 1000, Mano.DERECHA,
+                            LocalDate.now().minusYears(25), ahora, ahora);
+    }
+
+    @Test
+    public void testTablaDeCaracteresEquivaleAlPatron() {
+        for (char c = 0; c < 0x3000; c++) {
+            String nombre = "Ab" + c;
+            boolean esperado = nombre.matches(PATRON_ORIGINAL);
+            assertEquals(esperado, TenistaValidator.validarNombre(nombre).isEmpty(),
+                         "Carácter U+" + Integer.toHexString(c));
+        }
+        assertEquals(List.of("El nombre debe tener al menos 2 caracteres"), TenistaValidator.validarNombre("  a "));
+        assertEquals(List.of("El país no puede estar vacío"), TenistaValidator.validarPais(" \t"));
+    }
+
+    @Test
+    public void testAcumulaErroresEnElColector() {
+        ErroresValidacion errores = new ErroresValidacion();
+        assertFalse(TenistaValidator.validar(tenista("R2-D2", 100), errores));
+        assertEquals(List.of("El nombre solo puede contener letras, espacios, apostrofes y guiones",
+                             "La altura debe ser mayor a 140 cm"), errores.getErrores());
+
+        errores.limpiar();
+        assertTrue(TenistaValidator.validar(tenista("Rafael Nadal", 185), errores));
+        assertTrue(errores.isEmpty());
+        assertEquals(TenistaValidator.validar(tenista("R2-D2", 100)), List.of(
+                "El nombre solo puede contener letras, espacios, apostrofes y guiones",
+                "La altura debe ser mayor a 140 cm"));
+    }
+
+    @Test
+    public void testMarcaDeValidacion() {
+        Tenista1 tenista = tenista("Carlos Alcaraz", 183);
+        assertFalse(tenista.isValidado());
+        assertTrue(TenistaValidator.validar(tenista).isEmpty());
+        assertTrue(tenista.isValidado());
+        assertTrue(tenista.copy().isValidado());
+
+        // Un cambio en los datos obliga a validar de nuevo
+        tenista.setAltura(300);
+        assertFalse(tenista.isValidado());
+        assertEquals(List.of("La altura debe ser menor a 230 cm"), TenistaValidator.validar(tenista));
+        assertFalse(tenista.isValidado());
+    }
+}